@@ -0,0 +1,74 @@
+package com.bestvike.linq.benchmark;
+
+import com.bestvike.linq.IEnumerable;
+import com.bestvike.linq.IEnumerator;
+import com.bestvike.linq.Linq;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Created by 许崇雷 on 2026-10-17.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public abstract class AbstractBenchmark {
+    @Param({"array", "list", "iterable", "range"})
+    public String shape;
+
+    @Param({"10", "1000", "100000", "10000000"})
+    public int size;
+
+    protected IEnumerable<Integer> source;
+
+    @Setup
+    public void setup() {
+        this.source = createSource(this.shape, this.size, 42);
+    }
+
+    // array, list and iterable hold the same random values in [0, size), range yields 0 until size in order.
+    protected static IEnumerable<Integer> createSource(String shape, int size, long seed) {
+        if ("range".equals(shape))
+            return Linq.range(0, size);
+
+        Random random = new Random(seed);
+        List<Integer> list = new ArrayList<>(size);
+        for (int i = 0; i < size; i++)
+            list.add(random.nextInt(size));
+        switch (shape) {
+            case "array":
+                return Linq.of(list.toArray(new Integer[0]));
+            case "list":
+                return Linq.of(list);
+            case "iterable":
+                return Linq.of((Iterable<Integer>) list::iterator);
+            default:
+                throw new IllegalArgumentException("shape");
+        }
+    }
+
+    // Enumerates every element, so that lazy operators are measured without a terminal operator.
+    protected static <T> void consume(IEnumerable<T> source, Blackhole blackhole) {
+        try (IEnumerator<T> e = source.enumerator()) {
+            while (e.moveNext())
+                blackhole.consume(e.current());
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.bestvike.linq.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+
+/**
+ * Created by 许崇雷 on 2026-10-17.
+ */
+public class AggregateBenchmark extends AbstractBenchmark {
+    @Benchmark
+    public long sumLong() {
+        return this.source.sumLong(x -> (long) x);
+    }
+
+    @Benchmark
+    public int minInt() {
+        return this.source.minInt();
+    }
+
+    @Benchmark
+    public int maxInt() {
+        return this.source.maxInt();
+    }
+
+    @Benchmark
+    public double averageInt() {
+        return this.source.averageInt();
+    }
+
+    @Benchmark
+    public int count() {
+        return this.source.count(x -> (x & 1) == 0);
+    }
+
+    @Benchmark
+    public long aggregate() {
+        return this.source.aggregate(0L, (acc, x) -> acc + x);
+    }
+}
@@ -0,0 +1,29 @@
+package com.bestvike.linq.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Created by 许崇雷 on 2026-10-17.
+ */
+public class ConcatBenchmark extends AbstractBenchmark {
+    @Benchmark
+    public void concat(Blackhole blackhole) {
+        consume(this.source.concat(this.source), blackhole);
+    }
+
+    @Benchmark
+    public void concatMany(Blackhole blackhole) {
+        consume(this.source.concat(this.source).concat(this.source).concat(this.source), blackhole);
+    }
+
+    @Benchmark
+    public Object concatToArray() {
+        return this.source.concat(this.source).toArray();
+    }
+
+    @Benchmark
+    public Object concatToList() {
+        return this.source.concat(this.source).concat(this.source).concat(this.source).toList();
+    }
+}
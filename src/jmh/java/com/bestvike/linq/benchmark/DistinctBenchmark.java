@@ -0,0 +1,58 @@
+package com.bestvike.linq.benchmark;
+
+import com.bestvike.linq.IEnumerable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Created by 许崇雷 on 2026-10-17.
+ */
+public class DistinctBenchmark extends AbstractBenchmark {
+    private IEnumerable<Integer> second;
+
+    @Setup
+    public void setupSecond() {
+        this.second = createSource(this.shape, Math.max(1, this.size / 2), 7);
+    }
+
+    @Benchmark
+    public void distinct(Blackhole blackhole) {
+        consume(this.source.distinct(), blackhole);
+    }
+
+    @Benchmark
+    public Object distinctToArray() {
+        return this.source.distinct().toArray();
+    }
+
+    @Benchmark
+    public int distinctCount() {
+        return this.source.distinct().count();
+    }
+
+    @Benchmark
+    public void distinctBy(Blackhole blackhole) {
+        consume(this.source.distinctBy(x -> x / 3), blackhole);
+    }
+
+    @Benchmark
+    public void distinctByInt(Blackhole blackhole) {
+        consume(this.source.distinctByInt(x -> x / 3), blackhole);
+    }
+
+    @Benchmark
+    public void union(Blackhole blackhole) {
+        consume(this.source.union(this.second), blackhole);
+    }
+
+    @Benchmark
+    public void except(Blackhole blackhole) {
+        consume(this.source.except(this.second), blackhole);
+    }
+
+    @Benchmark
+    public void intersect(Blackhole blackhole) {
+        consume(this.source.intersect(this.second), blackhole);
+    }
+}
@@ -0,0 +1,65 @@
+package com.bestvike.linq.benchmark;
+
+import com.bestvike.linq.IGrouping;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Created by 许崇雷 on 2026-10-17.
+ */
+public class GroupByBenchmark extends AbstractBenchmark {
+    @Benchmark
+    public void groupByFewKeys(Blackhole blackhole) {
+        consume(this.source.groupBy(x -> x % 100), blackhole);
+    }
+
+    @Benchmark
+    public void groupByManyKeys(Blackhole blackhole) {
+        consume(this.source.groupBy(x -> x / 2), blackhole);
+    }
+
+    @Benchmark
+    public void groupByIntManyKeys(Blackhole blackhole) {
+        consume(this.source.groupByInt(x -> x / 2), blackhole);
+    }
+
+    @Benchmark
+    public void groupByElementSelector(Blackhole blackhole) {
+        consume(this.source.groupBy(x -> x % 100, x -> x * 2), blackhole);
+    }
+
+    @Benchmark
+    public Object groupByResultSelector() {
+        return this.source.groupBy(x -> x % 100, (k, g) -> g.count()).toArray();
+    }
+
+    @Benchmark
+    public Object groupByToArray() {
+        return this.source.groupBy(x -> x % 100).select(IGrouping::getKey).toArray();
+    }
+
+    @Benchmark
+    public Object groupByParallelManyKeys() {
+        return this.source.asParallel().groupBy(x -> x / 2).toArray();
+    }
+
+    @Benchmark
+    public Object groupBySumLong() {
+        return this.source.groupBy(x -> x % 100).select(g -> g.sumLong(x -> (long) x)).toArray();
+    }
+
+    @Benchmark
+    public Object sumLongBy() {
+        return this.source.sumLongBy(x -> x % 100, x -> (long) x).toArray();
+    }
+
+    @Benchmark
+    public Object countByManyKeys() {
+        return this.source.countBy(x -> x / 2).toArray();
+    }
+
+    @Benchmark
+    public Object toLookup() {
+        return this.source.toLookup(x -> x % 100);
+    }
+}
@@ -0,0 +1,108 @@
+package com.bestvike.linq.benchmark;
+
+import com.bestvike.linq.IEnumerable;
+import com.bestvike.linq.ISerializer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * Created by 许崇雷 on 2026-10-17.
+ */
+public class JoinBenchmark extends AbstractBenchmark {
+    private static final ISerializer<Integer> IntSerializer = new ISerializer<Integer>() {
+        @Override
+        public void write(DataOutput output, Integer value) throws IOException {
+            output.writeInt(value);
+        }
+
+        @Override
+        public Integer read(DataInput input) throws IOException {
+            return input.readInt();
+        }
+    };
+    private IEnumerable<Integer> inner;
+    private IEnumerable<Integer> sortedSource;
+    private IEnumerable<Integer> sortedInner;
+
+    @Setup
+    public void setupInner() {
+        this.inner = createSource(this.shape, Math.max(1, this.size / 10), 7);
+        this.sortedSource = this.source.orderByInt(x -> x).toArray();
+        this.sortedInner = this.inner.orderByInt(x -> x).toArray();
+    }
+
+    @Benchmark
+    public void join(Blackhole blackhole) {
+        consume(this.source.join(this.inner, x -> x % 1000, y -> y % 1000, (x, y) -> x + y), blackhole);
+    }
+
+    @Benchmark
+    public void joinUniqueKeys(Blackhole blackhole) {
+        consume(this.source.join(this.inner, x -> x, y -> y, (x, y) -> x + y), blackhole);
+    }
+
+    @Benchmark
+    public void joinParallel(Blackhole blackhole) {
+        consume(this.source.asParallel().asOrdered().join(this.inner, x -> x % 1000, y -> y % 1000, (x, y) -> x + y), blackhole);
+    }
+
+    @Benchmark
+    public void joinIntUniqueKeys(Blackhole blackhole) {
+        consume(this.source.joinInt(this.inner, x -> x, y -> y, (x, y) -> x + y), blackhole);
+    }
+
+    @Benchmark
+    public void leftJoin(Blackhole blackhole) {
+        consume(this.source.leftJoin(this.inner, x -> x, y -> y, (x, y) -> y == null ? x : x + y), blackhole);
+    }
+
+    @Benchmark
+    public void fullJoin(Blackhole blackhole) {
+        consume(this.source.fullJoin(this.inner, x -> x, y -> y, (x, y) -> x == null ? y : x), blackhole);
+    }
+
+    @Benchmark
+    public void groupJoin(Blackhole blackhole) {
+        consume(this.inner.groupJoin(this.source, x -> x, y -> y, (x, g) -> g.count()), blackhole);
+    }
+
+    @Benchmark
+    public void joinSorted(Blackhole blackhole) {
+        consume(this.sortedSource.join(this.sortedInner, x -> x, y -> y, (x, y) -> x + y), blackhole);
+    }
+
+    @Benchmark
+    public void mergeJoinSorted(Blackhole blackhole) {
+        consume(this.sortedSource.mergeJoin(this.sortedInner, x -> x, y -> y, (x, y) -> x + y), blackhole);
+    }
+
+    @Benchmark
+    public void mergeFullJoinSorted(Blackhole blackhole) {
+        consume(this.sortedSource.mergeFullJoin(this.sortedInner, x -> x, y -> y, (x, y) -> x == null ? y : x), blackhole);
+    }
+
+    @Benchmark
+    public void semiJoin(Blackhole blackhole) {
+        consume(this.source.semiJoin(this.inner, x -> x, y -> y * 7), blackhole);
+    }
+
+    @Benchmark
+    public void semiJoinBloomFilter(Blackhole blackhole) {
+        consume(this.source.semiJoin(this.inner, x -> x, y -> y * 7, 0.01), blackhole);
+    }
+
+    @Benchmark
+    public void joinSmallOuter(Blackhole blackhole) {
+        consume(this.sortedInner.join(this.sortedSource, x -> x, y -> y, (x, y) -> x + y), blackhole);
+    }
+
+    @Benchmark
+    public void graceJoin(Blackhole blackhole) {
+        consume(this.source.graceJoin(this.inner, x -> x, y -> y, (x, y) -> x + y, IntSerializer, IntSerializer, 16), blackhole);
+    }
+}
@@ -0,0 +1,64 @@
+package com.bestvike.linq.benchmark;
+
+import com.bestvike.collections.generic.StringComparer;
+import org.openjdk.jmh.annotations.Benchmark;
+
+/**
+ * Created by 许崇雷 on 2026-10-17.
+ */
+public class OrderByBenchmark extends AbstractBenchmark {
+    @Benchmark
+    public Object orderBy() {
+        return this.source.orderBy(x -> x).toArray();
+    }
+
+    @Benchmark
+    public Object orderByInt() {
+        return this.source.orderByInt(x -> x).toArray();
+    }
+
+    @Benchmark
+    public Object orderByParallel() {
+        return this.source.asParallel().orderBy(x -> x).toArray();
+    }
+
+    @Benchmark
+    public Object orderByString() {
+        return this.source.orderBy(String::valueOf).toArray();
+    }
+
+    @Benchmark
+    public Object orderByStringIgnoreCase() {
+        return this.source.orderBy(String::valueOf, StringComparer.CurrentCultureIgnoreCase).toArray();
+    }
+
+    @Benchmark
+    public Object orderByDescending() {
+        return this.source.orderByDescending(x -> x).toArray();
+    }
+
+    @Benchmark
+    public Object orderByThenBy() {
+        return this.source.orderBy(x -> x % 100).thenByDescending(x -> x).toArray();
+    }
+
+    @Benchmark
+    public Object orderByIntThenBy() {
+        return this.source.orderByInt(x -> x % 100).thenByIntDescending(x -> x).toArray();
+    }
+
+    @Benchmark
+    public Object orderByTake() {
+        return this.source.orderBy(x -> x).take(10).toArray();
+    }
+
+    @Benchmark
+    public Object orderBySkipTake() {
+        return this.source.orderBy(x -> x).skip(this.size / 2).take(10).toArray();
+    }
+
+    @Benchmark
+    public Object orderByFirst() {
+        return this.source.orderBy(x -> x).first();
+    }
+}
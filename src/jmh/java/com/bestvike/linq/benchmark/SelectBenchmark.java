@@ -0,0 +1,39 @@
+package com.bestvike.linq.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Created by 许崇雷 on 2026-10-17.
+ */
+public class SelectBenchmark extends AbstractBenchmark {
+    @Benchmark
+    public void select(Blackhole blackhole) {
+        consume(this.source.select(x -> x * 2), blackhole);
+    }
+
+    @Benchmark
+    public void selectSelect(Blackhole blackhole) {
+        consume(this.source.select(x -> x * 2).select(x -> x + 1), blackhole);
+    }
+
+    @Benchmark
+    public void selectIndex(Blackhole blackhole) {
+        consume(this.source.select((x, i) -> x + i), blackhole);
+    }
+
+    @Benchmark
+    public Object selectToArray() {
+        return this.source.select(x -> x * 2).toArray();
+    }
+
+    @Benchmark
+    public Object selectToList() {
+        return this.source.select(x -> x * 2).toList();
+    }
+
+    @Benchmark
+    public Object selectSkipTakeToArray() {
+        return this.source.select(x -> x * 2).skip(this.size / 4).take(this.size / 2).toArray();
+    }
+}
@@ -0,0 +1,25 @@
+package com.bestvike.linq.benchmark;
+
+import com.bestvike.linq.Linq;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Created by 许崇雷 on 2026-10-17.
+ */
+public class SelectManyBenchmark extends AbstractBenchmark {
+    @Benchmark
+    public void selectMany(Blackhole blackhole) {
+        consume(this.source.selectMany(x -> Linq.repeat(x, 3)), blackhole);
+    }
+
+    @Benchmark
+    public void selectManyResultSelector(Blackhole blackhole) {
+        consume(this.source.selectMany(x -> Linq.range(0, 3), (x, y) -> x + y), blackhole);
+    }
+
+    @Benchmark
+    public Object selectManyToArray() {
+        return this.source.selectMany(x -> Linq.repeat(x, 3)).toArray();
+    }
+}
@@ -0,0 +1,67 @@
+package com.bestvike.linq.benchmark;
+
+import com.bestvike.linq.IEnumerable;
+import com.bestvike.linq.Linq;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Created by 许崇雷 on 2026-10-17.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class SetBenchmark {
+    // 5M random values in [0, 2.5M), about 2.16M of them distinct.
+    private static final int Size = 5_000_000;
+    private static final int Bound = 2_500_000;
+
+    private IEnumerable<Integer> array;
+    private IEnumerable<Integer> iterable;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(42);
+        Integer[] values = new Integer[Size];
+        for (int i = 0; i < Size; i++)
+            values[i] = random.nextInt(Bound);
+        List<Integer> list = Arrays.asList(values);
+        this.array = Linq.of(values);
+        this.iterable = Linq.of((Iterable<Integer>) list::iterator);
+    }
+
+    // The array reports its count, so the set starts from the capacity hint.
+    @Benchmark
+    public Object presized() {
+        return this.array.distinct().toArray();
+    }
+
+    // The iterable has no cheap count, so the set grows from the default capacity.
+    @Benchmark
+    public Object growing() {
+        return this.iterable.distinct().toArray();
+    }
+
+    // Lazy distinct never presizes, whatever the source.
+    @Benchmark
+    public void lazy(Blackhole blackhole) {
+        AbstractBenchmark.consume(this.array.distinct(), blackhole);
+    }
+}
@@ -0,0 +1,62 @@
+package com.bestvike.linq.benchmark;
+
+import com.bestvike.linq.IColumnTable;
+import com.bestvike.linq.IEnumerable;
+import com.bestvike.linq.Linq;
+import com.bestvike.linq.enumerable.Column;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Setup;
+
+/**
+ * Created by 许崇雷 on 2026-10-17.
+ */
+public class ToCollectionBenchmark extends AbstractBenchmark {
+    private IEnumerable<Integer> list;
+    private IColumnTable columns;
+
+    @Setup
+    public void setupMaterialized() {
+        this.list = Linq.of(this.source.toList());
+        this.columns = this.source.toColumns(Column.ofInt("value", x -> x));
+    }
+
+    @Benchmark
+    public Object toArray() {
+        return this.source.toArray();
+    }
+
+    @Benchmark
+    public Object toArrayClass() {
+        return this.source.toArray(Integer.class);
+    }
+
+    @Benchmark
+    public Object toList() {
+        return this.source.toList();
+    }
+
+    @Benchmark
+    public Object toSet() {
+        return this.source.toSet();
+    }
+
+    @Benchmark
+    public Object toMap() {
+        return this.source.distinct().toMap(x -> x);
+    }
+
+    @Benchmark
+    public Object toColumns() {
+        return this.source.toColumns(Column.ofInt("value", x -> x));
+    }
+
+    @Benchmark
+    public int listWhereSum() {
+        return this.list.where(x -> (x & 1) == 0).sumInt(x -> x & 1023);
+    }
+
+    @Benchmark
+    public int columnWhereSum() {
+        return this.columns.intColumn("value").where(x -> (x & 1) == 0).select(x -> x & 1023).sum();
+    }
+}
@@ -0,0 +1,99 @@
+package com.bestvike.linq.benchmark;
+
+import com.bestvike.ValueType;
+import com.bestvike.linq.IEnumerable;
+import com.bestvike.linq.Linq;
+import com.bestvike.linq.enumerable.Values;
+import com.bestvike.linq.util.ReflectionUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.lang.reflect.Field;
+
+/**
+ * Created by 许崇雷 on 2026-10-17.
+ */
+public class ValueTypeBenchmark extends AbstractBenchmark {
+    private Key[] keys;
+    private IEnumerable<Key> keySource;
+
+    @Setup
+    public void setupKeys() {
+        this.keys = this.source.select(x -> new Key(x % 1000, x * 31L, "name" + (x % 100))).toArray(Key.class);
+        this.keySource = Linq.of(this.keys);
+        // The baseline must compute the same hash as Values, or the two benchmarks measure different work.
+        Field[] fields = ReflectionUtils.getFields(Key.class);
+        for (Key key : this.keys) {
+            if (hashCodeByFieldGet(key, fields) != key.hashCode())
+                throw new IllegalStateException("hashCodeByFieldGet differs from Values.hashCode for " + key);
+        }
+    }
+
+    // The hash Values computed before getters were cached, reading every field with Field.get.
+    private static int hashCodeByFieldGet(Key key, Field[] fields) {
+        try {
+            int hash = 1;
+            for (Field field : fields)
+                hash = 31 * hash + Values.hashCode(field.get(key));
+            return hash;
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Benchmark
+    public int hashCodeAll() {
+        int result = 0;
+        for (Key key : this.keys)
+            result += key.hashCode();
+        return result;
+    }
+
+    @Benchmark
+    public int hashCodeAllByFieldGet() {
+        int result = 0;
+        Field[] fields = ReflectionUtils.getFields(Key.class);
+        for (Key key : this.keys)
+            result += hashCodeByFieldGet(key, fields);
+        return result;
+    }
+
+    @Benchmark
+    public int equalsAll() {
+        int result = 0;
+        for (int i = 1; i < this.keys.length; i++) {
+            if (this.keys[i].equals(this.keys[i - 1]))
+                result++;
+        }
+        return result;
+    }
+
+    @Benchmark
+    public void distinct(Blackhole blackhole) {
+        consume(this.keySource.distinct(), blackhole);
+    }
+
+    @Benchmark
+    public void groupBy(Blackhole blackhole) {
+        consume(this.keySource.groupBy(x -> x), blackhole);
+    }
+
+    @Benchmark
+    public Object toStringFirst() {
+        return this.keys.length == 0 ? null : this.keys[0].toString();
+    }
+
+
+    public static final class Key extends ValueType {
+        private final int id;
+        private final long amount;
+        private final String name;
+
+        Key(int id, long amount, String name) {
+            this.id = id;
+            this.amount = amount;
+            this.name = name;
+        }
+    }
+}
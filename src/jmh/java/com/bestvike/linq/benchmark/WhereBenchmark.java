@@ -0,0 +1,34 @@
+package com.bestvike.linq.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Created by 许崇雷 on 2026-10-17.
+ */
+public class WhereBenchmark extends AbstractBenchmark {
+    @Benchmark
+    public void where(Blackhole blackhole) {
+        consume(this.source.where(x -> (x & 1) == 0), blackhole);
+    }
+
+    @Benchmark
+    public void whereWhere(Blackhole blackhole) {
+        consume(this.source.where(x -> (x & 1) == 0).where(x -> x % 3 == 0), blackhole);
+    }
+
+    @Benchmark
+    public void whereSelect(Blackhole blackhole) {
+        consume(this.source.where(x -> (x & 1) == 0).select(x -> x * 2), blackhole);
+    }
+
+    @Benchmark
+    public Object whereToArray() {
+        return this.source.where(x -> (x & 1) == 0).toArray();
+    }
+
+    @Benchmark
+    public Object whereToList() {
+        return this.source.where(x -> (x & 1) == 0).toList();
+    }
+}
@@ -0,0 +1,37 @@
+package com.bestvike;
+
+import com.bestvike.linq.enumerable.Values;
+
+/**
+ * Created by 许崇雷 on 2026-10-17.
+ */
+// A ValueType whose fields never change after construction, so its hash is computed once and kept,
+// also when it is nested in another ValueType, an array, a collection or a map.
+public abstract class ImmutableValueType extends ValueType {
+    private int hash;   // 0 until computed, not a field of the value
+
+    protected ImmutableValueType() {
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj)
+            return true;
+        if (obj == null || this.getClass() != obj.getClass())
+            return false;
+        int hash = this.hash;
+        int otherHash = ((ImmutableValueType) obj).hash;
+        if (hash != 0 && otherHash != 0 && hash != otherHash)
+            return false;
+        return Values.fieldsEquals(this, obj);
+    }
+
+    // Racy like String.hashCode, threads that race compute the same value.
+    @Override
+    public int hashCode() {
+        int hash = this.hash;
+        if (hash == 0)
+            this.hash = hash = Values.fieldsHashCode(this);
+        return hash;
+    }
+}
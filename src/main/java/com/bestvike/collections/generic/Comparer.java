@@ -11,7 +11,7 @@ import java.util.Comparator;
 /**
  * Created by 许崇雷 on 2017-07-18.
  */
-public final class Comparer<T> implements Comparator<T> {
+public final class Comparer<T> implements Comparator<T>, ICollatorComparer {
     private static final Comparer DEFAULT = new Comparer(null);
     private static final Comparer DEFAULT_INVARIANT = new Comparer(CultureInfo.getInvariantCulture());
 
@@ -43,6 +43,16 @@ public final class Comparer<T> implements Comparator<T> {
         return new ComparisonComparer<>(comparison);
     }
 
+    @Override
+    public Collator getCollator() {
+        return this.collator == null ? CultureInfo.getCurrentCulture() : this.collator;
+    }
+
+    @Override
+    public boolean isIgnoreCase() {
+        return false;
+    }
+
     @Override
     public int compare(T x, T y) {
         if (x == y)
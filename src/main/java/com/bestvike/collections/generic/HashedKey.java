@@ -0,0 +1,75 @@
+package com.bestvike.collections.generic;
+
+import com.bestvike.linq.enumerable.Values;
+
+/**
+ * Created by 许崇雷 on 2026-10-17.
+ */
+public final class HashedKey<T> {
+    private static final IEqualityComparer<Object> VALUES = new IEqualityComparer<Object>() {
+        @Override
+        public boolean equals(Object x, Object y) {
+            return Values.equals(x, y);
+        }
+
+        @Override
+        public int hashCode(Object obj) {
+            return Values.hashCode(obj);
+        }
+    };
+    private final T value;
+    private final IEqualityComparer<T> comparer;
+    private final int hashCode;
+
+    private HashedKey(T value, IEqualityComparer<T> comparer) {
+        this.value = value;
+        this.comparer = comparer;
+        this.hashCode = value == null ? 0 : comparer.hashCode(value);
+    }
+
+    // Wraps value with its hash computed once, for keys probed many times by distinct, groupBy, join or contains.
+    public static <T> HashedKey<T> of(T value) {
+        return new HashedKey<>(value, EqualityComparer.Default());
+    }
+
+    // Keys compare with comparer, wrap both sides with the same comparer.
+    public static <T> HashedKey<T> of(T value, IEqualityComparer<T> comparer) {
+        return new HashedKey<>(value, comparer == null ? EqualityComparer.Default() : comparer);
+    }
+
+    // Keys compare like Values, arrays, collections and maps by elements and BigDecimal by numeric value.
+    public static <T> HashedKey<T> ofValue(T value) {
+        //noinspection unchecked
+        return new HashedKey<>(value, (IEqualityComparer<T>) VALUES);
+    }
+
+    public T getValue() {
+        return this.value;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj)
+            return true;
+        if (!(obj instanceof HashedKey))
+            return false;
+        //noinspection unchecked
+        HashedKey<T> that = (HashedKey<T>) obj;
+        if (this.hashCode != that.hashCode)
+            return false;
+        //noinspection ObjectEquality
+        if (this.value == that.value)
+            return true;
+        return this.value != null && that.value != null && this.comparer.equals(this.value, that.value);
+    }
+
+    @Override
+    public int hashCode() {
+        return this.hashCode;
+    }
+
+    @Override
+    public String toString() {
+        return String.valueOf(this.value);
+    }
+}
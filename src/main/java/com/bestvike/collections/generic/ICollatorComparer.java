@@ -0,0 +1,14 @@
+package com.bestvike.collections.generic;
+
+import java.text.Collator;
+
+/**
+ * Created by 许崇雷 on 2026-10-17.
+ */
+public interface ICollatorComparer {
+    // The collator non null strings are compared with, the current culture is resolved at the time of the call.
+    Collator getCollator();
+
+    // Whether strings are upper cased before they are collated.
+    boolean isIgnoreCase();
+}
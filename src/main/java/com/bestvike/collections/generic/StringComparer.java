@@ -27,8 +27,28 @@ public abstract class StringComparer implements Comparator<String>, IEqualityCom
         return ignoreCase ? new CultureAwareIgnoreCaseComparer(collator) : new CultureAwareCaseSensitiveComparer(collator);
     }
 
+    // Folds case per code point the way equalsIgnoreCase does, so strings it equates hash alike without upper casing a copy.
+    // The fold does not depend on the default locale.
+    static int hashCodeIgnoreCase(String s) {
+        int h = 0;
+        for (int i = 0, length = s.length(); i < length; ) {
+            int c = s.charAt(i);
+            if (c < 0x80) {
+                if (c >= 'A' && c <= 'Z')
+                    c += 'a' - 'A';
+                i++;
+            } else {
+                c = s.codePointAt(i);
+                i += Character.charCount(c);
+                c = Character.toLowerCase(Character.toUpperCase(c));
+            }
+            h = 31 * h + c;
+        }
+        return h;
+    }
+
 
-    private static class CultureAwareComparer extends StringComparer {
+    private static class CultureAwareComparer extends StringComparer implements ICollatorComparer {
         final Collator collator;
         final boolean ignoreCase;
 
@@ -37,6 +57,16 @@ public abstract class StringComparer implements Comparator<String>, IEqualityCom
             this.ignoreCase = ignoreCase;
         }
 
+        @Override
+        public Collator getCollator() {
+            return this.collator == null ? CultureInfo.getCurrentCulture() : this.collator;
+        }
+
+        @Override
+        public boolean isIgnoreCase() {
+            return this.ignoreCase;
+        }
+
         @Override
         public boolean equals(String x, String y) {
             //noinspection StringEquality
@@ -49,7 +79,7 @@ public abstract class StringComparer implements Comparator<String>, IEqualityCom
 
         @Override
         public int hashCode(String obj) {
-            return obj == null ? 0 : (this.ignoreCase ? obj.toUpperCase().hashCode() : obj.hashCode());
+            return obj == null ? 0 : (this.ignoreCase ? hashCodeIgnoreCase(obj) : obj.hashCode());
         }
 
         @Override
@@ -118,7 +148,7 @@ public abstract class StringComparer implements Comparator<String>, IEqualityCom
 
         @Override
         public int hashCode(String obj) {
-            return obj == null ? 0 : obj.toUpperCase().hashCode();
+            return obj == null ? 0 : hashCodeIgnoreCase(obj);
         }
 
         @Override
@@ -154,7 +184,7 @@ public abstract class StringComparer implements Comparator<String>, IEqualityCom
 
         @Override
         public int hashCode(String obj) {
-            return obj == null ? 0 : (this.ignoreCase ? obj.toUpperCase().hashCode() : obj.hashCode());
+            return obj == null ? 0 : (this.ignoreCase ? hashCodeIgnoreCase(obj) : obj.hashCode());
         }
 
         @Override
@@ -222,7 +252,7 @@ public abstract class StringComparer implements Comparator<String>, IEqualityCom
 
         @Override
         public int hashCode(String obj) {
-            return obj == null ? 0 : obj.toUpperCase().hashCode();
+            return obj == null ? 0 : hashCodeIgnoreCase(obj);
         }
 
         @Override
@@ -0,0 +1,9 @@
+package com.bestvike.function;
+
+/**
+ * Created by 许崇雷 on 2026-10-17.
+ */
+@FunctionalInterface
+public interface DoublePredicate1 {
+    boolean apply(double arg);
+}
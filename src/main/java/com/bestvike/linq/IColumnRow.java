@@ -0,0 +1,24 @@
+package com.bestvike.linq;
+
+/**
+ * Created by 许崇雷 on 2026-10-17.
+ */
+public interface IColumnRow {
+    int getIndex();
+
+    int getInt(int column);
+
+    int getInt(String name);
+
+    long getLong(int column);
+
+    long getLong(String name);
+
+    double getDouble(int column);
+
+    double getDouble(String name);
+
+    String getString(int column);
+
+    String getString(String name);
+}
@@ -0,0 +1,22 @@
+package com.bestvike.linq;
+
+/**
+ * Created by 许崇雷 on 2026-10-17.
+ */
+public interface IColumnTable extends IEnumerable<IColumnRow> {
+    int getRowCount();
+
+    int getColumnCount();
+
+    String getColumnName(int column);
+
+    int getColumnIndex(String name);
+
+    IIntEnumerable intColumn(String name);
+
+    ILongEnumerable longColumn(String name);
+
+    IDoubleEnumerable doubleColumn(String name);
+
+    IEnumerable<String> stringColumn(String name);
+}
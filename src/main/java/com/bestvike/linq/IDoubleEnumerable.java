@@ -0,0 +1,60 @@
+package com.bestvike.linq;
+
+import com.bestvike.function.DoublePredicate1;
+import com.bestvike.function.DoubleUnaryFunc1;
+import com.bestvike.linq.enumerable.DoubleEnumerable;
+
+/**
+ * Created by 许崇雷 on 2026-10-17.
+ */
+public interface IDoubleEnumerable {
+    IDoubleEnumerator enumerator();
+
+    default double average() {
+        return DoubleEnumerable.average(this);
+    }
+
+    default IEnumerable<Double> boxed() {
+        return DoubleEnumerable.boxed(this);
+    }
+
+    default int count() {
+        return DoubleEnumerable.count(this);
+    }
+
+    default IDoubleEnumerable distinct() {
+        return DoubleEnumerable.distinct(this);
+    }
+
+    default double max() {
+        return DoubleEnumerable.max(this);
+    }
+
+    default double min() {
+        return DoubleEnumerable.min(this);
+    }
+
+    default IDoubleEnumerable select(DoubleUnaryFunc1 selector) {
+        return DoubleEnumerable.select(this, selector);
+    }
+
+    default IDoubleEnumerable skip(int count) {
+        return DoubleEnumerable.skip(this, count);
+    }
+
+    default double sum() {
+        return DoubleEnumerable.sum(this);
+    }
+
+    default IDoubleEnumerable take(int count) {
+        return DoubleEnumerable.take(this, count);
+    }
+
+    default double[] toArray() {
+        return DoubleEnumerable.toArray(this);
+    }
+
+    default IDoubleEnumerable where(DoublePredicate1 predicate) {
+        return DoubleEnumerable.where(this, predicate);
+    }
+}
@@ -0,0 +1,20 @@
+package com.bestvike.linq;
+
+import com.bestvike.IDisposable;
+
+import java.util.PrimitiveIterator;
+
+/**
+ * Created by 许崇雷 on 2026-10-17.
+ */
+public interface IDoubleEnumerator extends PrimitiveIterator.OfDouble, IDisposable {
+    boolean moveNext();
+
+    double current();
+
+    boolean hasNext();
+
+    double nextDouble();
+
+    void close();
+}
@@ -5,6 +5,7 @@ import com.bestvike.collections.generic.IEqualityComparer;
 import com.bestvike.function.DecimalFunc1;
 import com.bestvike.function.DoubleFunc1;
 import com.bestvike.function.FloatFunc1;
+import com.bestvike.function.Func0;
 import com.bestvike.function.Func1;
 import com.bestvike.function.Func2;
 import com.bestvike.function.IndexFunc2;
@@ -18,38 +19,47 @@ import com.bestvike.function.NullableIntFunc1;
 import com.bestvike.function.NullableLongFunc1;
 import com.bestvike.function.Predicate1;
 import com.bestvike.linq.enumerable.Aggregate;
+import com.bestvike.linq.enumerable.AggregateBy;
 import com.bestvike.linq.enumerable.AnyAll;
 import com.bestvike.linq.enumerable.AppendPrepend;
 import com.bestvike.linq.enumerable.Average;
 import com.bestvike.linq.enumerable.Cast;
+import com.bestvike.linq.enumerable.Column;
 import com.bestvike.linq.enumerable.Concat;
 import com.bestvike.linq.enumerable.Contains;
 import com.bestvike.linq.enumerable.Count;
 import com.bestvike.linq.enumerable.DefaultIfEmpty;
 import com.bestvike.linq.enumerable.Distinct;
 import com.bestvike.linq.enumerable.DistinctBy;
+import com.bestvike.linq.enumerable.DoubleEnumerable;
 import com.bestvike.linq.enumerable.ElementAt;
 import com.bestvike.linq.enumerable.Except;
 import com.bestvike.linq.enumerable.ExceptBy;
 import com.bestvike.linq.enumerable.FindIndex;
 import com.bestvike.linq.enumerable.First;
 import com.bestvike.linq.enumerable.Format;
+import com.bestvike.linq.enumerable.GraceJoin;
 import com.bestvike.linq.enumerable.GroupBy;
 import com.bestvike.linq.enumerable.GroupJoin;
 import com.bestvike.linq.enumerable.IndexOf;
+import com.bestvike.linq.enumerable.IntEnumerable;
 import com.bestvike.linq.enumerable.Intersect;
 import com.bestvike.linq.enumerable.IntersectBy;
 import com.bestvike.linq.enumerable.Join;
 import com.bestvike.linq.enumerable.Last;
+import com.bestvike.linq.enumerable.LongEnumerable;
 import com.bestvike.linq.enumerable.Max;
 import com.bestvike.linq.enumerable.MaxBy;
+import com.bestvike.linq.enumerable.MergeJoin;
 import com.bestvike.linq.enumerable.Min;
 import com.bestvike.linq.enumerable.MinBy;
 import com.bestvike.linq.enumerable.OrderBy;
+import com.bestvike.linq.enumerable.ParallelEnumerable;
 import com.bestvike.linq.enumerable.Reverse;
 import com.bestvike.linq.enumerable.RunOnce;
 import com.bestvike.linq.enumerable.Select;
 import com.bestvike.linq.enumerable.SelectMany;
+import com.bestvike.linq.enumerable.SemiJoin;
 import com.bestvike.linq.enumerable.SequenceEqual;
 import com.bestvike.linq.enumerable.Shuffle;
 import com.bestvike.linq.enumerable.Single;
@@ -57,6 +67,7 @@ import com.bestvike.linq.enumerable.Skip;
 import com.bestvike.linq.enumerable.Sum;
 import com.bestvike.linq.enumerable.Take;
 import com.bestvike.linq.enumerable.ToCollection;
+import com.bestvike.linq.enumerable.ToColumns;
 import com.bestvike.linq.enumerable.ToEnumeration;
 import com.bestvike.linq.enumerable.ToLookup;
 import com.bestvike.linq.enumerable.ToSpliterator;
@@ -71,6 +82,7 @@ import com.bestvike.linq.util.Formatter;
 import com.bestvike.tuple.Tuple2;
 
 import java.math.BigDecimal;
+import java.nio.file.Path;
 import java.util.Comparator;
 import java.util.Enumeration;
 import java.util.Iterator;
@@ -130,6 +142,14 @@ public interface IEnumerable<TSource> extends Iterable<TSource> {
         return Aggregate.aggregate(this, seed, (Func2<TAccumulate, TSource, TAccumulate>) func, (Func1<TAccumulate, TResult>) resultSelector);
     }
 
+    default <TKey, TAccumulate> IEnumerable<Tuple2<TKey, TAccumulate>> aggregateBy(Func1<? super TSource, ? extends TKey> keySelector, Func0<? extends TAccumulate> seedFactory, Func2<? super TAccumulate, ? super TSource, ? extends TAccumulate> func) {
+        return AggregateBy.aggregateBy(this, (Func1<TSource, TKey>) keySelector, (Func0<TAccumulate>) seedFactory, (Func2<TAccumulate, TSource, TAccumulate>) func);
+    }
+
+    default <TKey, TAccumulate> IEnumerable<Tuple2<TKey, TAccumulate>> aggregateBy(Func1<? super TSource, ? extends TKey> keySelector, Func0<? extends TAccumulate> seedFactory, Func2<? super TAccumulate, ? super TSource, ? extends TAccumulate> func, IEqualityComparer<? super TKey> comparer) {
+        return AggregateBy.aggregateBy(this, (Func1<TSource, TKey>) keySelector, (Func0<TAccumulate>) seedFactory, (Func2<TAccumulate, TSource, TAccumulate>) func, (IEqualityComparer<TKey>) comparer);
+    }
+
     default boolean all(Predicate1<? super TSource> predicate) {
         return AnyAll.all(this, (Predicate1<TSource>) predicate);
     }
@@ -142,6 +162,22 @@ public interface IEnumerable<TSource> extends Iterable<TSource> {
         return AnyAll.any(this, (Predicate1<TSource>) predicate);
     }
 
+    default <TInner, TKey> IEnumerable<TSource> antiJoin(IEnumerable<? extends TInner> inner, Func1<? super TSource, ? extends TKey> outerKeySelector, Func1<? super TInner, ? extends TKey> innerKeySelector) {
+        return SemiJoin.antiJoin(this, (IEnumerable<TInner>) inner, (Func1<TSource, TKey>) outerKeySelector, (Func1<TInner, TKey>) innerKeySelector);
+    }
+
+    default <TInner, TKey> IEnumerable<TSource> antiJoin(IEnumerable<? extends TInner> inner, Func1<? super TSource, ? extends TKey> outerKeySelector, Func1<? super TInner, ? extends TKey> innerKeySelector, IEqualityComparer<? super TKey> comparer) {
+        return SemiJoin.antiJoin(this, (IEnumerable<TInner>) inner, (Func1<TSource, TKey>) outerKeySelector, (Func1<TInner, TKey>) innerKeySelector, (IEqualityComparer<TKey>) comparer);
+    }
+
+    default <TInner, TKey> IEnumerable<TSource> antiJoin(IEnumerable<? extends TInner> inner, Func1<? super TSource, ? extends TKey> outerKeySelector, Func1<? super TInner, ? extends TKey> innerKeySelector, double falsePositiveRate) {
+        return SemiJoin.antiJoin(this, (IEnumerable<TInner>) inner, (Func1<TSource, TKey>) outerKeySelector, (Func1<TInner, TKey>) innerKeySelector, falsePositiveRate);
+    }
+
+    default <TInner, TKey> IEnumerable<TSource> antiJoin(IEnumerable<? extends TInner> inner, Func1<? super TSource, ? extends TKey> outerKeySelector, Func1<? super TInner, ? extends TKey> innerKeySelector, double falsePositiveRate, IEqualityComparer<? super TKey> comparer) {
+        return SemiJoin.antiJoin(this, (IEnumerable<TInner>) inner, (Func1<TSource, TKey>) outerKeySelector, (Func1<TInner, TKey>) innerKeySelector, falsePositiveRate, (IEqualityComparer<TKey>) comparer);
+    }
+
     default IEnumerable<TSource> append(TSource element) {
         return AppendPrepend.append(this, element);
     }
@@ -150,6 +186,10 @@ public interface IEnumerable<TSource> extends Iterable<TSource> {
         return this;
     }
 
+    default IParallelEnumerable<TSource> asParallel() {
+        return ParallelEnumerable.asParallel(this);
+    }
+
     default double averageInt() {
         return Average.averageInt((IEnumerable<Integer>) this);
     }
@@ -254,6 +294,14 @@ public interface IEnumerable<TSource> extends Iterable<TSource> {
         return Count.count(this, (Predicate1<TSource>) predicate);
     }
 
+    default <TKey> IEnumerable<Tuple2<TKey, Integer>> countBy(Func1<? super TSource, ? extends TKey> keySelector) {
+        return AggregateBy.countBy(this, (Func1<TSource, TKey>) keySelector);
+    }
+
+    default <TKey> IEnumerable<Tuple2<TKey, Integer>> countBy(Func1<? super TSource, ? extends TKey> keySelector, IEqualityComparer<? super TKey> comparer) {
+        return AggregateBy.countBy(this, (Func1<TSource, TKey>) keySelector, (IEqualityComparer<TKey>) comparer);
+    }
+
     default <TInner, TResult> IEnumerable<TResult> crossJoin(IEnumerable<? extends TInner> inner, Func2<? super TSource, ? super TInner, ? extends TResult> resultSelector) {
         return Join.crossJoin(this, (IEnumerable<TInner>) inner, (Func2<TSource, TInner, TResult>) resultSelector);
     }
@@ -282,6 +330,14 @@ public interface IEnumerable<TSource> extends Iterable<TSource> {
         return DistinctBy.distinctBy(this, (Func1<TSource, TKey>) keySelector, (IEqualityComparer<TKey>) comparer);
     }
 
+    default IEnumerable<TSource> distinctByInt(IntFunc1<? super TSource> keySelector) {
+        return DistinctBy.distinctByInt(this, (IntFunc1<TSource>) keySelector);
+    }
+
+    default IEnumerable<TSource> distinctByLong(LongFunc1<? super TSource> keySelector) {
+        return DistinctBy.distinctByLong(this, (LongFunc1<TSource>) keySelector);
+    }
+
     default TSource elementAt(int index) {
         return ElementAt.elementAt(this, index);
     }
@@ -354,6 +410,22 @@ public interface IEnumerable<TSource> extends Iterable<TSource> {
         return Join.fullJoin(this, (IEnumerable<TInner>) inner, (Func1<TSource, TKey>) outerKeySelector, (Func1<TInner, TKey>) innerKeySelector, defaultOuter, defaultInner, (Func2<TSource, TInner, TResult>) resultSelector, (IEqualityComparer<TKey>) comparer);
     }
 
+    default <TInner, TKey, TResult> IEnumerable<TResult> graceJoin(IEnumerable<? extends TInner> inner, Func1<? super TSource, ? extends TKey> outerKeySelector, Func1<? super TInner, ? extends TKey> innerKeySelector, Func2<? super TSource, ? super TInner, ? extends TResult> resultSelector, ISerializer<TSource> outerSerializer, ISerializer<TInner> innerSerializer, int partitionCount) {
+        return GraceJoin.graceJoin(this, (IEnumerable<TInner>) inner, (Func1<TSource, TKey>) outerKeySelector, (Func1<TInner, TKey>) innerKeySelector, (Func2<TSource, TInner, TResult>) resultSelector, outerSerializer, innerSerializer, partitionCount);
+    }
+
+    default <TInner, TKey, TResult> IEnumerable<TResult> graceJoin(IEnumerable<? extends TInner> inner, Func1<? super TSource, ? extends TKey> outerKeySelector, Func1<? super TInner, ? extends TKey> innerKeySelector, Func2<? super TSource, ? super TInner, ? extends TResult> resultSelector, ISerializer<TSource> outerSerializer, ISerializer<TInner> innerSerializer, int partitionCount, IEqualityComparer<? super TKey> comparer) {
+        return GraceJoin.graceJoin(this, (IEnumerable<TInner>) inner, (Func1<TSource, TKey>) outerKeySelector, (Func1<TInner, TKey>) innerKeySelector, (Func2<TSource, TInner, TResult>) resultSelector, outerSerializer, innerSerializer, partitionCount, (IEqualityComparer<TKey>) comparer);
+    }
+
+    default <TInner, TKey, TResult> IEnumerable<TResult> graceJoin(IEnumerable<? extends TInner> inner, Func1<? super TSource, ? extends TKey> outerKeySelector, Func1<? super TInner, ? extends TKey> innerKeySelector, Func2<? super TSource, ? super TInner, ? extends TResult> resultSelector, ISerializer<TSource> outerSerializer, ISerializer<TInner> innerSerializer, Path tempDir, int partitionCount) {
+        return GraceJoin.graceJoin(this, (IEnumerable<TInner>) inner, (Func1<TSource, TKey>) outerKeySelector, (Func1<TInner, TKey>) innerKeySelector, (Func2<TSource, TInner, TResult>) resultSelector, outerSerializer, innerSerializer, tempDir, partitionCount);
+    }
+
+    default <TInner, TKey, TResult> IEnumerable<TResult> graceJoin(IEnumerable<? extends TInner> inner, Func1<? super TSource, ? extends TKey> outerKeySelector, Func1<? super TInner, ? extends TKey> innerKeySelector, Func2<? super TSource, ? super TInner, ? extends TResult> resultSelector, ISerializer<TSource> outerSerializer, ISerializer<TInner> innerSerializer, Path tempDir, int partitionCount, IEqualityComparer<? super TKey> comparer) {
+        return GraceJoin.graceJoin(this, (IEnumerable<TInner>) inner, (Func1<TSource, TKey>) outerKeySelector, (Func1<TInner, TKey>) innerKeySelector, (Func2<TSource, TInner, TResult>) resultSelector, outerSerializer, innerSerializer, tempDir, partitionCount, (IEqualityComparer<TKey>) comparer);
+    }
+
     default <TKey> IEnumerable<IGrouping<TKey, TSource>> groupBy(Func1<? super TSource, ? extends TKey> keySelector) {
         return GroupBy.groupBy(this, (Func1<TSource, TKey>) keySelector);
     }
@@ -370,6 +442,14 @@ public interface IEnumerable<TSource> extends Iterable<TSource> {
         return GroupBy.groupBy(this, (Func1<TSource, TKey>) keySelector, (Func1<TSource, TElement>) elementSelector, (IEqualityComparer<TKey>) comparer);
     }
 
+    default <TKey> IEnumerable<IGrouping<TKey, TSource>> groupBy(Func1<? super TSource, ? extends TKey> keySelector, IEqualityComparer<? super TKey> comparer, int expectedKeyCount, int expectedGroupSize) {
+        return GroupBy.groupBy(this, (Func1<TSource, TKey>) keySelector, (IEqualityComparer<TKey>) comparer, expectedKeyCount, expectedGroupSize);
+    }
+
+    default <TKey, TElement> IEnumerable<IGrouping<TKey, TElement>> groupBy(Func1<? super TSource, ? extends TKey> keySelector, Func1<? super TSource, ? extends TElement> elementSelector, IEqualityComparer<? super TKey> comparer, int expectedKeyCount, int expectedGroupSize) {
+        return GroupBy.groupBy(this, (Func1<TSource, TKey>) keySelector, (Func1<TSource, TElement>) elementSelector, (IEqualityComparer<TKey>) comparer, expectedKeyCount, expectedGroupSize);
+    }
+
     default <TKey, TResult> IEnumerable<TResult> groupBy(Func1<? super TSource, ? extends TKey> keySelector, Func2<? super TKey, ? super IEnumerable<TSource>, ? extends TResult> resultSelector) {
         return GroupBy.groupBy(this, (Func1<TSource, TKey>) keySelector, (Func2<TKey, IEnumerable<TSource>, TResult>) resultSelector);
     }
@@ -386,6 +466,22 @@ public interface IEnumerable<TSource> extends Iterable<TSource> {
         return GroupBy.groupBy(this, (Func1<TSource, TKey>) keySelector, (Func1<TSource, TElement>) elementSelector, (Func2<TKey, IEnumerable<TElement>, TResult>) resultSelector, (IEqualityComparer<TKey>) comparer);
     }
 
+    default IEnumerable<IGrouping<Integer, TSource>> groupByInt(IntFunc1<? super TSource> keySelector) {
+        return GroupBy.groupByInt(this, (IntFunc1<TSource>) keySelector);
+    }
+
+    default <TElement> IEnumerable<IGrouping<Integer, TElement>> groupByInt(IntFunc1<? super TSource> keySelector, Func1<? super TSource, ? extends TElement> elementSelector) {
+        return GroupBy.groupByInt(this, (IntFunc1<TSource>) keySelector, (Func1<TSource, TElement>) elementSelector);
+    }
+
+    default IEnumerable<IGrouping<Long, TSource>> groupByLong(LongFunc1<? super TSource> keySelector) {
+        return GroupBy.groupByLong(this, (LongFunc1<TSource>) keySelector);
+    }
+
+    default <TElement> IEnumerable<IGrouping<Long, TElement>> groupByLong(LongFunc1<? super TSource> keySelector, Func1<? super TSource, ? extends TElement> elementSelector) {
+        return GroupBy.groupByLong(this, (LongFunc1<TSource>) keySelector, (Func1<TSource, TElement>) elementSelector);
+    }
+
     default <TInner, TKey, TResult> IEnumerable<TResult> groupJoin(IEnumerable<? extends TInner> inner, Func1<? super TSource, ? extends TKey> outerKeySelector, Func1<? super TInner, ? extends TKey> innerKeySelector, Func2<? super TSource, ? super IEnumerable<TInner>, ? extends TResult> resultSelector) {
         return GroupJoin.groupJoin(this, (IEnumerable<TInner>) inner, (Func1<TSource, TKey>) outerKeySelector, (Func1<TInner, TKey>) innerKeySelector, (Func2<TSource, IEnumerable<TInner>, TResult>) resultSelector);
     }
@@ -418,6 +514,14 @@ public interface IEnumerable<TSource> extends Iterable<TSource> {
         return IntersectBy.intersectBy(this, (IEnumerable<TSource>) second, (Func1<TSource, TKey>) keySelector, (IEqualityComparer<TKey>) comparer);
     }
 
+    default <TKey> IEnumerable<TSource> intersectBy(IEnumerable<? extends TSource> second, Func1<? super TSource, ? extends TKey> keySelector, double falsePositiveRate) {
+        return IntersectBy.intersectBy(this, (IEnumerable<TSource>) second, (Func1<TSource, TKey>) keySelector, falsePositiveRate);
+    }
+
+    default <TKey> IEnumerable<TSource> intersectBy(IEnumerable<? extends TSource> second, Func1<? super TSource, ? extends TKey> keySelector, double falsePositiveRate, IEqualityComparer<? super TKey> comparer) {
+        return IntersectBy.intersectBy(this, (IEnumerable<TSource>) second, (Func1<TSource, TKey>) keySelector, falsePositiveRate, (IEqualityComparer<TKey>) comparer);
+    }
+
     default <TInner, TKey, TResult> IEnumerable<TResult> join(IEnumerable<? extends TInner> inner, Func1<? super TSource, ? extends TKey> outerKeySelector, Func1<? super TInner, ? extends TKey> innerKeySelector, Func2<? super TSource, ? super TInner, ? extends TResult> resultSelector) {
         return Join.join(this, (IEnumerable<TInner>) inner, (Func1<TSource, TKey>) outerKeySelector, (Func1<TInner, TKey>) innerKeySelector, (Func2<TSource, TInner, TResult>) resultSelector);
     }
@@ -426,6 +530,14 @@ public interface IEnumerable<TSource> extends Iterable<TSource> {
         return Join.join(this, (IEnumerable<TInner>) inner, (Func1<TSource, TKey>) outerKeySelector, (Func1<TInner, TKey>) innerKeySelector, (Func2<TSource, TInner, TResult>) resultSelector, (IEqualityComparer<TKey>) comparer);
     }
 
+    default <TInner, TResult> IEnumerable<TResult> joinInt(IEnumerable<? extends TInner> inner, IntFunc1<? super TSource> outerKeySelector, IntFunc1<? super TInner> innerKeySelector, Func2<? super TSource, ? super TInner, ? extends TResult> resultSelector) {
+        return Join.joinInt(this, (IEnumerable<TInner>) inner, (IntFunc1<TSource>) outerKeySelector, (IntFunc1<TInner>) innerKeySelector, (Func2<TSource, TInner, TResult>) resultSelector);
+    }
+
+    default <TInner, TResult> IEnumerable<TResult> joinLong(IEnumerable<? extends TInner> inner, LongFunc1<? super TSource> outerKeySelector, LongFunc1<? super TInner> innerKeySelector, Func2<? super TSource, ? super TInner, ? extends TResult> resultSelector) {
+        return Join.joinLong(this, (IEnumerable<TInner>) inner, (LongFunc1<TSource>) outerKeySelector, (LongFunc1<TInner>) innerKeySelector, (Func2<TSource, TInner, TResult>) resultSelector);
+    }
+
     default TSource last() {
         return Last.last(this);
     }
@@ -610,6 +722,30 @@ public interface IEnumerable<TSource> extends Iterable<TSource> {
         return MaxBy.maxByDecimalNull(this, (NullableDecimalFunc1<TSource>) keySelector);
     }
 
+    default <TKey> IEnumerable<Tuple2<TKey, Integer>> maxIntBy(Func1<? super TSource, ? extends TKey> keySelector, IntFunc1<? super TSource> selector) {
+        return AggregateBy.maxIntBy(this, (Func1<TSource, TKey>) keySelector, (IntFunc1<TSource>) selector);
+    }
+
+    default <TKey> IEnumerable<Tuple2<TKey, Integer>> maxIntBy(Func1<? super TSource, ? extends TKey> keySelector, IntFunc1<? super TSource> selector, IEqualityComparer<? super TKey> comparer) {
+        return AggregateBy.maxIntBy(this, (Func1<TSource, TKey>) keySelector, (IntFunc1<TSource>) selector, (IEqualityComparer<TKey>) comparer);
+    }
+
+    default <TKey> IEnumerable<Tuple2<TKey, Long>> maxLongBy(Func1<? super TSource, ? extends TKey> keySelector, LongFunc1<? super TSource> selector) {
+        return AggregateBy.maxLongBy(this, (Func1<TSource, TKey>) keySelector, (LongFunc1<TSource>) selector);
+    }
+
+    default <TKey> IEnumerable<Tuple2<TKey, Long>> maxLongBy(Func1<? super TSource, ? extends TKey> keySelector, LongFunc1<? super TSource> selector, IEqualityComparer<? super TKey> comparer) {
+        return AggregateBy.maxLongBy(this, (Func1<TSource, TKey>) keySelector, (LongFunc1<TSource>) selector, (IEqualityComparer<TKey>) comparer);
+    }
+
+    default <TKey> IEnumerable<Tuple2<TKey, Double>> maxDoubleBy(Func1<? super TSource, ? extends TKey> keySelector, DoubleFunc1<? super TSource> selector) {
+        return AggregateBy.maxDoubleBy(this, (Func1<TSource, TKey>) keySelector, (DoubleFunc1<TSource>) selector);
+    }
+
+    default <TKey> IEnumerable<Tuple2<TKey, Double>> maxDoubleBy(Func1<? super TSource, ? extends TKey> keySelector, DoubleFunc1<? super TSource> selector, IEqualityComparer<? super TKey> comparer) {
+        return AggregateBy.maxDoubleBy(this, (Func1<TSource, TKey>) keySelector, (DoubleFunc1<TSource>) selector, (IEqualityComparer<TKey>) comparer);
+    }
+
     default <TKey> TSource maxBy(Func1<? super TSource, ? extends TKey> keySelector) {
         return MaxBy.maxBy(this, (Func1<TSource, TKey>) keySelector);
     }
@@ -658,6 +794,46 @@ public interface IEnumerable<TSource> extends Iterable<TSource> {
         return Min.minDecimalNull((IEnumerable<BigDecimal>) this);
     }
 
+    default <TInner, TKey, TResult> IEnumerable<TResult> mergeFullJoin(IEnumerable<? extends TInner> inner, Func1<? super TSource, ? extends TKey> outerKeySelector, Func1<? super TInner, ? extends TKey> innerKeySelector, Func2<? super TSource, ? super TInner, ? extends TResult> resultSelector) {
+        return MergeJoin.mergeFullJoin(this, (IEnumerable<TInner>) inner, (Func1<TSource, TKey>) outerKeySelector, (Func1<TInner, TKey>) innerKeySelector, (Func2<TSource, TInner, TResult>) resultSelector);
+    }
+
+    default <TInner, TKey, TResult> IEnumerable<TResult> mergeFullJoin(IEnumerable<? extends TInner> inner, Func1<? super TSource, ? extends TKey> outerKeySelector, Func1<? super TInner, ? extends TKey> innerKeySelector, TSource defaultOuter, TInner defaultInner, Func2<? super TSource, ? super TInner, ? extends TResult> resultSelector) {
+        return MergeJoin.mergeFullJoin(this, (IEnumerable<TInner>) inner, (Func1<TSource, TKey>) outerKeySelector, (Func1<TInner, TKey>) innerKeySelector, defaultOuter, defaultInner, (Func2<TSource, TInner, TResult>) resultSelector);
+    }
+
+    default <TInner, TKey, TResult> IEnumerable<TResult> mergeFullJoin(IEnumerable<? extends TInner> inner, Func1<? super TSource, ? extends TKey> outerKeySelector, Func1<? super TInner, ? extends TKey> innerKeySelector, Func2<? super TSource, ? super TInner, ? extends TResult> resultSelector, Comparator<? super TKey> comparer) {
+        return MergeJoin.mergeFullJoin(this, (IEnumerable<TInner>) inner, (Func1<TSource, TKey>) outerKeySelector, (Func1<TInner, TKey>) innerKeySelector, (Func2<TSource, TInner, TResult>) resultSelector, (Comparator<TKey>) comparer);
+    }
+
+    default <TInner, TKey, TResult> IEnumerable<TResult> mergeFullJoin(IEnumerable<? extends TInner> inner, Func1<? super TSource, ? extends TKey> outerKeySelector, Func1<? super TInner, ? extends TKey> innerKeySelector, TSource defaultOuter, TInner defaultInner, Func2<? super TSource, ? super TInner, ? extends TResult> resultSelector, Comparator<? super TKey> comparer) {
+        return MergeJoin.mergeFullJoin(this, (IEnumerable<TInner>) inner, (Func1<TSource, TKey>) outerKeySelector, (Func1<TInner, TKey>) innerKeySelector, defaultOuter, defaultInner, (Func2<TSource, TInner, TResult>) resultSelector, (Comparator<TKey>) comparer);
+    }
+
+    default <TInner, TKey, TResult> IEnumerable<TResult> mergeJoin(IEnumerable<? extends TInner> inner, Func1<? super TSource, ? extends TKey> outerKeySelector, Func1<? super TInner, ? extends TKey> innerKeySelector, Func2<? super TSource, ? super TInner, ? extends TResult> resultSelector) {
+        return MergeJoin.mergeJoin(this, (IEnumerable<TInner>) inner, (Func1<TSource, TKey>) outerKeySelector, (Func1<TInner, TKey>) innerKeySelector, (Func2<TSource, TInner, TResult>) resultSelector);
+    }
+
+    default <TInner, TKey, TResult> IEnumerable<TResult> mergeJoin(IEnumerable<? extends TInner> inner, Func1<? super TSource, ? extends TKey> outerKeySelector, Func1<? super TInner, ? extends TKey> innerKeySelector, Func2<? super TSource, ? super TInner, ? extends TResult> resultSelector, Comparator<? super TKey> comparer) {
+        return MergeJoin.mergeJoin(this, (IEnumerable<TInner>) inner, (Func1<TSource, TKey>) outerKeySelector, (Func1<TInner, TKey>) innerKeySelector, (Func2<TSource, TInner, TResult>) resultSelector, (Comparator<TKey>) comparer);
+    }
+
+    default <TInner, TKey, TResult> IEnumerable<TResult> mergeLeftJoin(IEnumerable<? extends TInner> inner, Func1<? super TSource, ? extends TKey> outerKeySelector, Func1<? super TInner, ? extends TKey> innerKeySelector, Func2<? super TSource, ? super TInner, ? extends TResult> resultSelector) {
+        return MergeJoin.mergeLeftJoin(this, (IEnumerable<TInner>) inner, (Func1<TSource, TKey>) outerKeySelector, (Func1<TInner, TKey>) innerKeySelector, (Func2<TSource, TInner, TResult>) resultSelector);
+    }
+
+    default <TInner, TKey, TResult> IEnumerable<TResult> mergeLeftJoin(IEnumerable<? extends TInner> inner, Func1<? super TSource, ? extends TKey> outerKeySelector, Func1<? super TInner, ? extends TKey> innerKeySelector, TInner defaultInner, Func2<? super TSource, ? super TInner, ? extends TResult> resultSelector) {
+        return MergeJoin.mergeLeftJoin(this, (IEnumerable<TInner>) inner, (Func1<TSource, TKey>) outerKeySelector, (Func1<TInner, TKey>) innerKeySelector, defaultInner, (Func2<TSource, TInner, TResult>) resultSelector);
+    }
+
+    default <TInner, TKey, TResult> IEnumerable<TResult> mergeLeftJoin(IEnumerable<? extends TInner> inner, Func1<? super TSource, ? extends TKey> outerKeySelector, Func1<? super TInner, ? extends TKey> innerKeySelector, Func2<? super TSource, ? super TInner, ? extends TResult> resultSelector, Comparator<? super TKey> comparer) {
+        return MergeJoin.mergeLeftJoin(this, (IEnumerable<TInner>) inner, (Func1<TSource, TKey>) outerKeySelector, (Func1<TInner, TKey>) innerKeySelector, (Func2<TSource, TInner, TResult>) resultSelector, (Comparator<TKey>) comparer);
+    }
+
+    default <TInner, TKey, TResult> IEnumerable<TResult> mergeLeftJoin(IEnumerable<? extends TInner> inner, Func1<? super TSource, ? extends TKey> outerKeySelector, Func1<? super TInner, ? extends TKey> innerKeySelector, TInner defaultInner, Func2<? super TSource, ? super TInner, ? extends TResult> resultSelector, Comparator<? super TKey> comparer) {
+        return MergeJoin.mergeLeftJoin(this, (IEnumerable<TInner>) inner, (Func1<TSource, TKey>) outerKeySelector, (Func1<TInner, TKey>) innerKeySelector, defaultInner, (Func2<TSource, TInner, TResult>) resultSelector, (Comparator<TKey>) comparer);
+    }
+
     default TSource min() {
         return Min.min(this);
     }
@@ -754,6 +930,30 @@ public interface IEnumerable<TSource> extends Iterable<TSource> {
         return MinBy.minByDecimalNull(this, (NullableDecimalFunc1<TSource>) keySelector);
     }
 
+    default <TKey> IEnumerable<Tuple2<TKey, Integer>> minIntBy(Func1<? super TSource, ? extends TKey> keySelector, IntFunc1<? super TSource> selector) {
+        return AggregateBy.minIntBy(this, (Func1<TSource, TKey>) keySelector, (IntFunc1<TSource>) selector);
+    }
+
+    default <TKey> IEnumerable<Tuple2<TKey, Integer>> minIntBy(Func1<? super TSource, ? extends TKey> keySelector, IntFunc1<? super TSource> selector, IEqualityComparer<? super TKey> comparer) {
+        return AggregateBy.minIntBy(this, (Func1<TSource, TKey>) keySelector, (IntFunc1<TSource>) selector, (IEqualityComparer<TKey>) comparer);
+    }
+
+    default <TKey> IEnumerable<Tuple2<TKey, Long>> minLongBy(Func1<? super TSource, ? extends TKey> keySelector, LongFunc1<? super TSource> selector) {
+        return AggregateBy.minLongBy(this, (Func1<TSource, TKey>) keySelector, (LongFunc1<TSource>) selector);
+    }
+
+    default <TKey> IEnumerable<Tuple2<TKey, Long>> minLongBy(Func1<? super TSource, ? extends TKey> keySelector, LongFunc1<? super TSource> selector, IEqualityComparer<? super TKey> comparer) {
+        return AggregateBy.minLongBy(this, (Func1<TSource, TKey>) keySelector, (LongFunc1<TSource>) selector, (IEqualityComparer<TKey>) comparer);
+    }
+
+    default <TKey> IEnumerable<Tuple2<TKey, Double>> minDoubleBy(Func1<? super TSource, ? extends TKey> keySelector, DoubleFunc1<? super TSource> selector) {
+        return AggregateBy.minDoubleBy(this, (Func1<TSource, TKey>) keySelector, (DoubleFunc1<TSource>) selector);
+    }
+
+    default <TKey> IEnumerable<Tuple2<TKey, Double>> minDoubleBy(Func1<? super TSource, ? extends TKey> keySelector, DoubleFunc1<? super TSource> selector, IEqualityComparer<? super TKey> comparer) {
+        return AggregateBy.minDoubleBy(this, (Func1<TSource, TKey>) keySelector, (DoubleFunc1<TSource>) selector, (IEqualityComparer<TKey>) comparer);
+    }
+
     default <TKey> TSource minBy(Func1<? super TSource, ? extends TKey> keySelector) {
         return MinBy.minBy(this, (Func1<TSource, TKey>) keySelector);
     }
@@ -782,6 +982,30 @@ public interface IEnumerable<TSource> extends Iterable<TSource> {
         return OrderBy.orderByDescending(this, (Func1<TSource, TKey>) keySelector, (Comparator<TKey>) comparer);
     }
 
+    default IOrderedEnumerable<TSource> orderByInt(IntFunc1<? super TSource> keySelector) {
+        return OrderBy.orderByInt(this, (IntFunc1<TSource>) keySelector);
+    }
+
+    default IOrderedEnumerable<TSource> orderByIntDescending(IntFunc1<? super TSource> keySelector) {
+        return OrderBy.orderByIntDescending(this, (IntFunc1<TSource>) keySelector);
+    }
+
+    default IOrderedEnumerable<TSource> orderByLong(LongFunc1<? super TSource> keySelector) {
+        return OrderBy.orderByLong(this, (LongFunc1<TSource>) keySelector);
+    }
+
+    default IOrderedEnumerable<TSource> orderByLongDescending(LongFunc1<? super TSource> keySelector) {
+        return OrderBy.orderByLongDescending(this, (LongFunc1<TSource>) keySelector);
+    }
+
+    default IOrderedEnumerable<TSource> orderByDouble(DoubleFunc1<? super TSource> keySelector) {
+        return OrderBy.orderByDouble(this, (DoubleFunc1<TSource>) keySelector);
+    }
+
+    default IOrderedEnumerable<TSource> orderByDoubleDescending(DoubleFunc1<? super TSource> keySelector) {
+        return OrderBy.orderByDoubleDescending(this, (DoubleFunc1<TSource>) keySelector);
+    }
+
     default IEnumerable<TSource> prepend(TSource element) {
         return AppendPrepend.prepend(this, element);
     }
@@ -818,6 +1042,18 @@ public interface IEnumerable<TSource> extends Iterable<TSource> {
         return Select.select(this, (IndexFunc2<TSource, TResult>) selector);
     }
 
+    default IDoubleEnumerable selectDouble(DoubleFunc1<? super TSource> selector) {
+        return DoubleEnumerable.selectDouble(this, (DoubleFunc1<TSource>) selector);
+    }
+
+    default IIntEnumerable selectInt(IntFunc1<? super TSource> selector) {
+        return IntEnumerable.selectInt(this, (IntFunc1<TSource>) selector);
+    }
+
+    default ILongEnumerable selectLong(LongFunc1<? super TSource> selector) {
+        return LongEnumerable.selectLong(this, (LongFunc1<TSource>) selector);
+    }
+
     default <TResult> IEnumerable<TResult> selectMany(Func1<? super TSource, ? extends IEnumerable<? extends TResult>> selector) {
         return SelectMany.selectMany(this, (Func1<TSource, IEnumerable<TResult>>) selector);
     }
@@ -834,6 +1070,22 @@ public interface IEnumerable<TSource> extends Iterable<TSource> {
         return SelectMany.selectMany(this, (IndexFunc2<TSource, IEnumerable<TCollection>>) collectionSelector, (Func2<TSource, TCollection, TResult>) resultSelector);
     }
 
+    default <TInner, TKey> IEnumerable<TSource> semiJoin(IEnumerable<? extends TInner> inner, Func1<? super TSource, ? extends TKey> outerKeySelector, Func1<? super TInner, ? extends TKey> innerKeySelector) {
+        return SemiJoin.semiJoin(this, (IEnumerable<TInner>) inner, (Func1<TSource, TKey>) outerKeySelector, (Func1<TInner, TKey>) innerKeySelector);
+    }
+
+    default <TInner, TKey> IEnumerable<TSource> semiJoin(IEnumerable<? extends TInner> inner, Func1<? super TSource, ? extends TKey> outerKeySelector, Func1<? super TInner, ? extends TKey> innerKeySelector, IEqualityComparer<? super TKey> comparer) {
+        return SemiJoin.semiJoin(this, (IEnumerable<TInner>) inner, (Func1<TSource, TKey>) outerKeySelector, (Func1<TInner, TKey>) innerKeySelector, (IEqualityComparer<TKey>) comparer);
+    }
+
+    default <TInner, TKey> IEnumerable<TSource> semiJoin(IEnumerable<? extends TInner> inner, Func1<? super TSource, ? extends TKey> outerKeySelector, Func1<? super TInner, ? extends TKey> innerKeySelector, double falsePositiveRate) {
+        return SemiJoin.semiJoin(this, (IEnumerable<TInner>) inner, (Func1<TSource, TKey>) outerKeySelector, (Func1<TInner, TKey>) innerKeySelector, falsePositiveRate);
+    }
+
+    default <TInner, TKey> IEnumerable<TSource> semiJoin(IEnumerable<? extends TInner> inner, Func1<? super TSource, ? extends TKey> outerKeySelector, Func1<? super TInner, ? extends TKey> innerKeySelector, double falsePositiveRate, IEqualityComparer<? super TKey> comparer) {
+        return SemiJoin.semiJoin(this, (IEnumerable<TInner>) inner, (Func1<TSource, TKey>) outerKeySelector, (Func1<TInner, TKey>) innerKeySelector, falsePositiveRate, (IEqualityComparer<TKey>) comparer);
+    }
+
     default boolean sequenceEqual(IEnumerable<? extends TSource> second) {
         return SequenceEqual.sequenceEqual(this, (IEnumerable<TSource>) second);
     }
@@ -962,6 +1214,30 @@ public interface IEnumerable<TSource> extends Iterable<TSource> {
         return Sum.sumDecimalNull(this, (NullableDecimalFunc1<TSource>) selector);
     }
 
+    default <TKey> IEnumerable<Tuple2<TKey, Integer>> sumIntBy(Func1<? super TSource, ? extends TKey> keySelector, IntFunc1<? super TSource> selector) {
+        return AggregateBy.sumIntBy(this, (Func1<TSource, TKey>) keySelector, (IntFunc1<TSource>) selector);
+    }
+
+    default <TKey> IEnumerable<Tuple2<TKey, Integer>> sumIntBy(Func1<? super TSource, ? extends TKey> keySelector, IntFunc1<? super TSource> selector, IEqualityComparer<? super TKey> comparer) {
+        return AggregateBy.sumIntBy(this, (Func1<TSource, TKey>) keySelector, (IntFunc1<TSource>) selector, (IEqualityComparer<TKey>) comparer);
+    }
+
+    default <TKey> IEnumerable<Tuple2<TKey, Long>> sumLongBy(Func1<? super TSource, ? extends TKey> keySelector, LongFunc1<? super TSource> selector) {
+        return AggregateBy.sumLongBy(this, (Func1<TSource, TKey>) keySelector, (LongFunc1<TSource>) selector);
+    }
+
+    default <TKey> IEnumerable<Tuple2<TKey, Long>> sumLongBy(Func1<? super TSource, ? extends TKey> keySelector, LongFunc1<? super TSource> selector, IEqualityComparer<? super TKey> comparer) {
+        return AggregateBy.sumLongBy(this, (Func1<TSource, TKey>) keySelector, (LongFunc1<TSource>) selector, (IEqualityComparer<TKey>) comparer);
+    }
+
+    default <TKey> IEnumerable<Tuple2<TKey, Double>> sumDoubleBy(Func1<? super TSource, ? extends TKey> keySelector, DoubleFunc1<? super TSource> selector) {
+        return AggregateBy.sumDoubleBy(this, (Func1<TSource, TKey>) keySelector, (DoubleFunc1<TSource>) selector);
+    }
+
+    default <TKey> IEnumerable<Tuple2<TKey, Double>> sumDoubleBy(Func1<? super TSource, ? extends TKey> keySelector, DoubleFunc1<? super TSource> selector, IEqualityComparer<? super TKey> comparer) {
+        return AggregateBy.sumDoubleBy(this, (Func1<TSource, TKey>) keySelector, (DoubleFunc1<TSource>) selector, (IEqualityComparer<TKey>) comparer);
+    }
+
     default IEnumerable<TSource> take(int count) {
         return Take.take(this, count);
     }
@@ -987,6 +1263,26 @@ public interface IEnumerable<TSource> extends Iterable<TSource> {
         return ToCollection.toArray(this, clazz);
     }
 
+    default IColumnTable toColumns(Column<TSource> column) {
+        return ToColumns.toColumns(this, column);
+    }
+
+    default IColumnTable toColumns(Column<TSource> column1, Column<TSource> column2) {
+        return ToColumns.toColumns(this, column1, column2);
+    }
+
+    default IColumnTable toColumns(Column<TSource> column1, Column<TSource> column2, Column<TSource> column3) {
+        return ToColumns.toColumns(this, column1, column2, column3);
+    }
+
+    default IColumnTable toColumns(Column<TSource> column1, Column<TSource> column2, Column<TSource> column3, Column<TSource> column4) {
+        return ToColumns.toColumns(this, column1, column2, column3, column4);
+    }
+
+    default IColumnTable toColumns(List<Column<TSource>> columns) {
+        return ToColumns.toColumns(this, columns);
+    }
+
     default Enumeration<TSource> toEnumeration() {
         return ToEnumeration.toEnumeration(this);
     }
@@ -1019,6 +1315,10 @@ public interface IEnumerable<TSource> extends Iterable<TSource> {
         return ToLookup.toLookup(this, (Func1<TSource, TKey>) keySelector, (IEqualityComparer<TKey>) comparer);
     }
 
+    default <TKey> ILookup<TKey, TSource> toLookup(Func1<? super TSource, ? extends TKey> keySelector, IEqualityComparer<? super TKey> comparer, int expectedKeyCount, int expectedGroupSize) {
+        return ToLookup.toLookup(this, (Func1<TSource, TKey>) keySelector, (IEqualityComparer<TKey>) comparer, expectedKeyCount, expectedGroupSize);
+    }
+
     default <TKey, TElement> ILookup<TKey, TElement> toLookup(Func1<? super TSource, ? extends TKey> keySelector, Func1<? super TSource, ? extends TElement> elementSelector) {
         return ToLookup.toLookup(this, (Func1<TSource, TKey>) keySelector, (Func1<TSource, TElement>) elementSelector);
     }
@@ -1027,6 +1327,10 @@ public interface IEnumerable<TSource> extends Iterable<TSource> {
         return ToLookup.toLookup(this, (Func1<TSource, TKey>) keySelector, (Func1<TSource, TElement>) elementSelector, (IEqualityComparer<TKey>) comparer);
     }
 
+    default <TKey, TElement> ILookup<TKey, TElement> toLookup(Func1<? super TSource, ? extends TKey> keySelector, Func1<? super TSource, ? extends TElement> elementSelector, IEqualityComparer<? super TKey> comparer, int expectedKeyCount, int expectedGroupSize) {
+        return ToLookup.toLookup(this, (Func1<TSource, TKey>) keySelector, (Func1<TSource, TElement>) elementSelector, (IEqualityComparer<TKey>) comparer, expectedKeyCount, expectedGroupSize);
+    }
+
     default <TKey> Map<TKey, TSource> toMap(Func1<? super TSource, ? extends TKey> keySelector) {
         return ToCollection.toMap(this, (Func1<TSource, TKey>) keySelector);
     }
@@ -0,0 +1,60 @@
+package com.bestvike.linq;
+
+import com.bestvike.function.IntPredicate1;
+import com.bestvike.function.IntUnaryFunc1;
+import com.bestvike.linq.enumerable.IntEnumerable;
+
+/**
+ * Created by 许崇雷 on 2026-10-17.
+ */
+public interface IIntEnumerable {
+    IIntEnumerator enumerator();
+
+    default double average() {
+        return IntEnumerable.average(this);
+    }
+
+    default IEnumerable<Integer> boxed() {
+        return IntEnumerable.boxed(this);
+    }
+
+    default int count() {
+        return IntEnumerable.count(this);
+    }
+
+    default IIntEnumerable distinct() {
+        return IntEnumerable.distinct(this);
+    }
+
+    default int max() {
+        return IntEnumerable.max(this);
+    }
+
+    default int min() {
+        return IntEnumerable.min(this);
+    }
+
+    default IIntEnumerable select(IntUnaryFunc1 selector) {
+        return IntEnumerable.select(this, selector);
+    }
+
+    default IIntEnumerable skip(int count) {
+        return IntEnumerable.skip(this, count);
+    }
+
+    default int sum() {
+        return IntEnumerable.sum(this);
+    }
+
+    default IIntEnumerable take(int count) {
+        return IntEnumerable.take(this, count);
+    }
+
+    default int[] toArray() {
+        return IntEnumerable.toArray(this);
+    }
+
+    default IIntEnumerable where(IntPredicate1 predicate) {
+        return IntEnumerable.where(this, predicate);
+    }
+}
@@ -0,0 +1,60 @@
+package com.bestvike.linq;
+
+import com.bestvike.function.LongPredicate1;
+import com.bestvike.function.LongUnaryFunc1;
+import com.bestvike.linq.enumerable.LongEnumerable;
+
+/**
+ * Created by 许崇雷 on 2026-10-17.
+ */
+public interface ILongEnumerable {
+    ILongEnumerator enumerator();
+
+    default double average() {
+        return LongEnumerable.average(this);
+    }
+
+    default IEnumerable<Long> boxed() {
+        return LongEnumerable.boxed(this);
+    }
+
+    default int count() {
+        return LongEnumerable.count(this);
+    }
+
+    default ILongEnumerable distinct() {
+        return LongEnumerable.distinct(this);
+    }
+
+    default long max() {
+        return LongEnumerable.max(this);
+    }
+
+    default long min() {
+        return LongEnumerable.min(this);
+    }
+
+    default ILongEnumerable select(LongUnaryFunc1 selector) {
+        return LongEnumerable.select(this, selector);
+    }
+
+    default ILongEnumerable skip(int count) {
+        return LongEnumerable.skip(this, count);
+    }
+
+    default long sum() {
+        return LongEnumerable.sum(this);
+    }
+
+    default ILongEnumerable take(int count) {
+        return LongEnumerable.take(this, count);
+    }
+
+    default long[] toArray() {
+        return LongEnumerable.toArray(this);
+    }
+
+    default ILongEnumerable where(LongPredicate1 predicate) {
+        return LongEnumerable.where(this, predicate);
+    }
+}
@@ -1,8 +1,12 @@
 package com.bestvike.linq;
 
+import com.bestvike.function.DoubleFunc1;
 import com.bestvike.function.Func1;
+import com.bestvike.function.IntFunc1;
+import com.bestvike.function.LongFunc1;
 import com.bestvike.linq.enumerable.OrderBy;
 
+import java.nio.file.Path;
 import java.util.Comparator;
 
 /**
@@ -27,4 +31,36 @@ public interface IOrderedEnumerable<TElement> extends IEnumerable<TElement> {
     default <TKey> IOrderedEnumerable<TElement> thenByDescending(Func1<? super TElement, ? extends TKey> keySelector, Comparator<? super TKey> comparer) {
         return OrderBy.thenByDescending(this, (Func1<TElement, TKey>) keySelector, (Comparator<TKey>) comparer);
     }
+
+    default IOrderedEnumerable<TElement> thenByInt(IntFunc1<? super TElement> keySelector) {
+        return OrderBy.thenByInt(this, (IntFunc1<TElement>) keySelector);
+    }
+
+    default IOrderedEnumerable<TElement> thenByIntDescending(IntFunc1<? super TElement> keySelector) {
+        return OrderBy.thenByIntDescending(this, (IntFunc1<TElement>) keySelector);
+    }
+
+    default IOrderedEnumerable<TElement> thenByLong(LongFunc1<? super TElement> keySelector) {
+        return OrderBy.thenByLong(this, (LongFunc1<TElement>) keySelector);
+    }
+
+    default IOrderedEnumerable<TElement> thenByLongDescending(LongFunc1<? super TElement> keySelector) {
+        return OrderBy.thenByLongDescending(this, (LongFunc1<TElement>) keySelector);
+    }
+
+    default IOrderedEnumerable<TElement> thenByDouble(DoubleFunc1<? super TElement> keySelector) {
+        return OrderBy.thenByDouble(this, (DoubleFunc1<TElement>) keySelector);
+    }
+
+    default IOrderedEnumerable<TElement> thenByDoubleDescending(DoubleFunc1<? super TElement> keySelector) {
+        return OrderBy.thenByDoubleDescending(this, (DoubleFunc1<TElement>) keySelector);
+    }
+
+    default IEnumerable<TElement> withSpill(ISerializer<TElement> serializer, int maxInMemoryRows) {
+        return OrderBy.withSpill(this, serializer, null, maxInMemoryRows);
+    }
+
+    default IEnumerable<TElement> withSpill(ISerializer<TElement> serializer, Path tempDir, int maxInMemoryRows) {
+        return OrderBy.withSpill(this, serializer, tempDir, maxInMemoryRows);
+    }
 }
@@ -0,0 +1,252 @@
+package com.bestvike.linq;
+
+import com.bestvike.collections.generic.Array;
+import com.bestvike.collections.generic.IEqualityComparer;
+import com.bestvike.function.DoubleFunc1;
+import com.bestvike.function.Func0;
+import com.bestvike.function.Func1;
+import com.bestvike.function.Func2;
+import com.bestvike.function.IntFunc1;
+import com.bestvike.function.LongFunc1;
+import com.bestvike.function.Predicate1;
+import com.bestvike.linq.enumerable.ParallelEnumerable;
+
+import java.util.Comparator;
+
+/**
+ * Created by 许崇雷 on 2026-10-17.
+ */
+@SuppressWarnings("unchecked")
+public interface IParallelEnumerable<TSource> extends IEnumerable<TSource> {
+    default TSource aggregate(Func2<? super TSource, ? super TSource, ? extends TSource> func) {
+        return ParallelEnumerable.aggregate(this, (Func2<TSource, TSource, TSource>) func);
+    }
+
+    default <TAccumulate> TAccumulate aggregate(Func0<? extends TAccumulate> seedFactory, Func2<? super TAccumulate, ? super TSource, ? extends TAccumulate> updateAccumulatorFunc, Func2<? super TAccumulate, ? super TAccumulate, ? extends TAccumulate> combineAccumulatorsFunc) {
+        return ParallelEnumerable.aggregate(this, (Func0<TAccumulate>) seedFactory, (Func2<TAccumulate, TSource, TAccumulate>) updateAccumulatorFunc, (Func2<TAccumulate, TAccumulate, TAccumulate>) combineAccumulatorsFunc);
+    }
+
+    default <TAccumulate, TResult> TResult aggregate(Func0<? extends TAccumulate> seedFactory, Func2<? super TAccumulate, ? super TSource, ? extends TAccumulate> updateAccumulatorFunc, Func2<? super TAccumulate, ? super TAccumulate, ? extends TAccumulate> combineAccumulatorsFunc, Func1<? super TAccumulate, ? extends TResult> resultSelector) {
+        return ParallelEnumerable.aggregate(this, (Func0<TAccumulate>) seedFactory, (Func2<TAccumulate, TSource, TAccumulate>) updateAccumulatorFunc, (Func2<TAccumulate, TAccumulate, TAccumulate>) combineAccumulatorsFunc, (Func1<TAccumulate, TResult>) resultSelector);
+    }
+
+    default IParallelEnumerable<TSource> asOrdered() {
+        return ParallelEnumerable.asOrdered(this);
+    }
+
+    default int count() {
+        return ParallelEnumerable.count(this);
+    }
+
+    default int count(Predicate1<? super TSource> predicate) {
+        return ParallelEnumerable.count(this, (Predicate1<TSource>) predicate);
+    }
+
+    default <TKey> IEnumerable<IGrouping<TKey, TSource>> groupBy(Func1<? super TSource, ? extends TKey> keySelector) {
+        return ParallelEnumerable.groupBy(this, (Func1<TSource, TKey>) keySelector);
+    }
+
+    default <TKey> IEnumerable<IGrouping<TKey, TSource>> groupBy(Func1<? super TSource, ? extends TKey> keySelector, IEqualityComparer<? super TKey> comparer) {
+        return ParallelEnumerable.groupBy(this, (Func1<TSource, TKey>) keySelector, (IEqualityComparer<TKey>) comparer);
+    }
+
+    default <TKey, TElement> IEnumerable<IGrouping<TKey, TElement>> groupBy(Func1<? super TSource, ? extends TKey> keySelector, Func1<? super TSource, ? extends TElement> elementSelector) {
+        return ParallelEnumerable.groupBy(this, (Func1<TSource, TKey>) keySelector, (Func1<TSource, TElement>) elementSelector);
+    }
+
+    default <TKey, TElement> IEnumerable<IGrouping<TKey, TElement>> groupBy(Func1<? super TSource, ? extends TKey> keySelector, Func1<? super TSource, ? extends TElement> elementSelector, IEqualityComparer<? super TKey> comparer) {
+        return ParallelEnumerable.groupBy(this, (Func1<TSource, TKey>) keySelector, (Func1<TSource, TElement>) elementSelector, (IEqualityComparer<TKey>) comparer);
+    }
+
+    default <TInner, TKey, TResult> IEnumerable<TResult> groupJoin(IEnumerable<? extends TInner> inner, Func1<? super TSource, ? extends TKey> outerKeySelector, Func1<? super TInner, ? extends TKey> innerKeySelector, Func2<? super TSource, ? super IEnumerable<TInner>, ? extends TResult> resultSelector) {
+        return ParallelEnumerable.groupJoin(this, (IEnumerable<TInner>) inner, (Func1<TSource, TKey>) outerKeySelector, (Func1<TInner, TKey>) innerKeySelector, (Func2<TSource, IEnumerable<TInner>, TResult>) resultSelector);
+    }
+
+    default <TInner, TKey, TResult> IEnumerable<TResult> groupJoin(IEnumerable<? extends TInner> inner, Func1<? super TSource, ? extends TKey> outerKeySelector, Func1<? super TInner, ? extends TKey> innerKeySelector, Func2<? super TSource, ? super IEnumerable<TInner>, ? extends TResult> resultSelector, IEqualityComparer<? super TKey> comparer) {
+        return ParallelEnumerable.groupJoin(this, (IEnumerable<TInner>) inner, (Func1<TSource, TKey>) outerKeySelector, (Func1<TInner, TKey>) innerKeySelector, (Func2<TSource, IEnumerable<TInner>, TResult>) resultSelector, (IEqualityComparer<TKey>) comparer);
+    }
+
+    default <TInner, TKey, TResult> IEnumerable<TResult> join(IEnumerable<? extends TInner> inner, Func1<? super TSource, ? extends TKey> outerKeySelector, Func1<? super TInner, ? extends TKey> innerKeySelector, Func2<? super TSource, ? super TInner, ? extends TResult> resultSelector) {
+        return ParallelEnumerable.join(this, (IEnumerable<TInner>) inner, (Func1<TSource, TKey>) outerKeySelector, (Func1<TInner, TKey>) innerKeySelector, (Func2<TSource, TInner, TResult>) resultSelector);
+    }
+
+    default <TInner, TKey, TResult> IEnumerable<TResult> join(IEnumerable<? extends TInner> inner, Func1<? super TSource, ? extends TKey> outerKeySelector, Func1<? super TInner, ? extends TKey> innerKeySelector, Func2<? super TSource, ? super TInner, ? extends TResult> resultSelector, IEqualityComparer<? super TKey> comparer) {
+        return ParallelEnumerable.join(this, (IEnumerable<TInner>) inner, (Func1<TSource, TKey>) outerKeySelector, (Func1<TInner, TKey>) innerKeySelector, (Func2<TSource, TInner, TResult>) resultSelector, (IEqualityComparer<TKey>) comparer);
+    }
+
+    default <TInner, TKey, TResult> IEnumerable<TResult> leftJoin(IEnumerable<? extends TInner> inner, Func1<? super TSource, ? extends TKey> outerKeySelector, Func1<? super TInner, ? extends TKey> innerKeySelector, Func2<? super TSource, ? super TInner, ? extends TResult> resultSelector) {
+        return ParallelEnumerable.leftJoin(this, (IEnumerable<TInner>) inner, (Func1<TSource, TKey>) outerKeySelector, (Func1<TInner, TKey>) innerKeySelector, (Func2<TSource, TInner, TResult>) resultSelector);
+    }
+
+    default <TInner, TKey, TResult> IEnumerable<TResult> leftJoin(IEnumerable<? extends TInner> inner, Func1<? super TSource, ? extends TKey> outerKeySelector, Func1<? super TInner, ? extends TKey> innerKeySelector, TInner defaultInner, Func2<? super TSource, ? super TInner, ? extends TResult> resultSelector) {
+        return ParallelEnumerable.leftJoin(this, (IEnumerable<TInner>) inner, (Func1<TSource, TKey>) outerKeySelector, (Func1<TInner, TKey>) innerKeySelector, defaultInner, (Func2<TSource, TInner, TResult>) resultSelector);
+    }
+
+    default <TInner, TKey, TResult> IEnumerable<TResult> leftJoin(IEnumerable<? extends TInner> inner, Func1<? super TSource, ? extends TKey> outerKeySelector, Func1<? super TInner, ? extends TKey> innerKeySelector, Func2<? super TSource, ? super TInner, ? extends TResult> resultSelector, IEqualityComparer<? super TKey> comparer) {
+        return ParallelEnumerable.leftJoin(this, (IEnumerable<TInner>) inner, (Func1<TSource, TKey>) outerKeySelector, (Func1<TInner, TKey>) innerKeySelector, (Func2<TSource, TInner, TResult>) resultSelector, (IEqualityComparer<TKey>) comparer);
+    }
+
+    default <TInner, TKey, TResult> IEnumerable<TResult> leftJoin(IEnumerable<? extends TInner> inner, Func1<? super TSource, ? extends TKey> outerKeySelector, Func1<? super TInner, ? extends TKey> innerKeySelector, TInner defaultInner, Func2<? super TSource, ? super TInner, ? extends TResult> resultSelector, IEqualityComparer<? super TKey> comparer) {
+        return ParallelEnumerable.leftJoin(this, (IEnumerable<TInner>) inner, (Func1<TSource, TKey>) outerKeySelector, (Func1<TInner, TKey>) innerKeySelector, defaultInner, (Func2<TSource, TInner, TResult>) resultSelector, (IEqualityComparer<TKey>) comparer);
+    }
+
+    default boolean isOrdered() {
+        return ParallelEnumerable.isOrdered(this);
+    }
+
+    default int maxInt() {
+        return ParallelEnumerable.maxInt((IParallelEnumerable<Integer>) this);
+    }
+
+    default long maxLong() {
+        return ParallelEnumerable.maxLong((IParallelEnumerable<Long>) this);
+    }
+
+    default double maxDouble() {
+        return ParallelEnumerable.maxDouble((IParallelEnumerable<Double>) this);
+    }
+
+    default int maxInt(IntFunc1<? super TSource> selector) {
+        return ParallelEnumerable.maxInt(this, (IntFunc1<TSource>) selector);
+    }
+
+    default long maxLong(LongFunc1<? super TSource> selector) {
+        return ParallelEnumerable.maxLong(this, (LongFunc1<TSource>) selector);
+    }
+
+    default double maxDouble(DoubleFunc1<? super TSource> selector) {
+        return ParallelEnumerable.maxDouble(this, (DoubleFunc1<TSource>) selector);
+    }
+
+    default int minInt() {
+        return ParallelEnumerable.minInt((IParallelEnumerable<Integer>) this);
+    }
+
+    default long minLong() {
+        return ParallelEnumerable.minLong((IParallelEnumerable<Long>) this);
+    }
+
+    default double minDouble() {
+        return ParallelEnumerable.minDouble((IParallelEnumerable<Double>) this);
+    }
+
+    default int minInt(IntFunc1<? super TSource> selector) {
+        return ParallelEnumerable.minInt(this, (IntFunc1<TSource>) selector);
+    }
+
+    default long minLong(LongFunc1<? super TSource> selector) {
+        return ParallelEnumerable.minLong(this, (LongFunc1<TSource>) selector);
+    }
+
+    default double minDouble(DoubleFunc1<? super TSource> selector) {
+        return ParallelEnumerable.minDouble(this, (DoubleFunc1<TSource>) selector);
+    }
+
+    default <TKey> IOrderedEnumerable<TSource> orderBy(Func1<? super TSource, ? extends TKey> keySelector) {
+        return ParallelEnumerable.orderBy(this, (Func1<TSource, TKey>) keySelector);
+    }
+
+    default <TKey> IOrderedEnumerable<TSource> orderBy(Func1<? super TSource, ? extends TKey> keySelector, Comparator<? super TKey> comparer) {
+        return ParallelEnumerable.orderBy(this, (Func1<TSource, TKey>) keySelector, (Comparator<TKey>) comparer);
+    }
+
+    default <TKey> IOrderedEnumerable<TSource> orderByDescending(Func1<? super TSource, ? extends TKey> keySelector) {
+        return ParallelEnumerable.orderByDescending(this, (Func1<TSource, TKey>) keySelector);
+    }
+
+    default <TKey> IOrderedEnumerable<TSource> orderByDescending(Func1<? super TSource, ? extends TKey> keySelector, Comparator<? super TKey> comparer) {
+        return ParallelEnumerable.orderByDescending(this, (Func1<TSource, TKey>) keySelector, (Comparator<TKey>) comparer);
+    }
+
+    default IOrderedEnumerable<TSource> orderByInt(IntFunc1<? super TSource> keySelector) {
+        return ParallelEnumerable.orderByInt(this, (IntFunc1<TSource>) keySelector);
+    }
+
+    default IOrderedEnumerable<TSource> orderByIntDescending(IntFunc1<? super TSource> keySelector) {
+        return ParallelEnumerable.orderByIntDescending(this, (IntFunc1<TSource>) keySelector);
+    }
+
+    default IOrderedEnumerable<TSource> orderByLong(LongFunc1<? super TSource> keySelector) {
+        return ParallelEnumerable.orderByLong(this, (LongFunc1<TSource>) keySelector);
+    }
+
+    default IOrderedEnumerable<TSource> orderByLongDescending(LongFunc1<? super TSource> keySelector) {
+        return ParallelEnumerable.orderByLongDescending(this, (LongFunc1<TSource>) keySelector);
+    }
+
+    default IOrderedEnumerable<TSource> orderByDouble(DoubleFunc1<? super TSource> keySelector) {
+        return ParallelEnumerable.orderByDouble(this, (DoubleFunc1<TSource>) keySelector);
+    }
+
+    default IOrderedEnumerable<TSource> orderByDoubleDescending(DoubleFunc1<? super TSource> keySelector) {
+        return ParallelEnumerable.orderByDoubleDescending(this, (DoubleFunc1<TSource>) keySelector);
+    }
+
+    default <TResult> IParallelEnumerable<TResult> select(Func1<? super TSource, ? extends TResult> selector) {
+        return ParallelEnumerable.select(this, (Func1<TSource, TResult>) selector);
+    }
+
+    default <TResult> IParallelEnumerable<TResult> selectMany(Func1<? super TSource, ? extends IEnumerable<? extends TResult>> selector) {
+        return ParallelEnumerable.selectMany(this, (Func1<TSource, IEnumerable<TResult>>) selector);
+    }
+
+    default <TCollection, TResult> IParallelEnumerable<TResult> selectMany(Func1<? super TSource, ? extends IEnumerable<? extends TCollection>> collectionSelector, Func2<? super TSource, ? super TCollection, ? extends TResult> resultSelector) {
+        return ParallelEnumerable.selectMany(this, (Func1<TSource, IEnumerable<TCollection>>) collectionSelector, (Func2<TSource, TCollection, TResult>) resultSelector);
+    }
+
+    default int sumInt() {
+        return ParallelEnumerable.sumInt((IParallelEnumerable<Integer>) this);
+    }
+
+    default long sumLong() {
+        return ParallelEnumerable.sumLong((IParallelEnumerable<Long>) this);
+    }
+
+    default double sumDouble() {
+        return ParallelEnumerable.sumDouble((IParallelEnumerable<Double>) this);
+    }
+
+    default int sumInt(IntFunc1<? super TSource> selector) {
+        return ParallelEnumerable.sumInt(this, (IntFunc1<TSource>) selector);
+    }
+
+    default long sumLong(LongFunc1<? super TSource> selector) {
+        return ParallelEnumerable.sumLong(this, (LongFunc1<TSource>) selector);
+    }
+
+    default double sumDouble(DoubleFunc1<? super TSource> selector) {
+        return ParallelEnumerable.sumDouble(this, (DoubleFunc1<TSource>) selector);
+    }
+
+    default Array<TSource> toArray() {
+        return ParallelEnumerable.toArray(this);
+    }
+
+    default TSource[] toArray(Class<TSource> clazz) {
+        return ParallelEnumerable.toArray(this, clazz);
+    }
+
+    default <TKey> ILookup<TKey, TSource> toLookup(Func1<? super TSource, ? extends TKey> keySelector) {
+        return ParallelEnumerable.toLookup(this, (Func1<TSource, TKey>) keySelector);
+    }
+
+    default <TKey> ILookup<TKey, TSource> toLookup(Func1<? super TSource, ? extends TKey> keySelector, IEqualityComparer<? super TKey> comparer) {
+        return ParallelEnumerable.toLookup(this, (Func1<TSource, TKey>) keySelector, (IEqualityComparer<TKey>) comparer);
+    }
+
+    default <TKey, TElement> ILookup<TKey, TElement> toLookup(Func1<? super TSource, ? extends TKey> keySelector, Func1<? super TSource, ? extends TElement> elementSelector) {
+        return ParallelEnumerable.toLookup(this, (Func1<TSource, TKey>) keySelector, (Func1<TSource, TElement>) elementSelector);
+    }
+
+    default <TKey, TElement> ILookup<TKey, TElement> toLookup(Func1<? super TSource, ? extends TKey> keySelector, Func1<? super TSource, ? extends TElement> elementSelector, IEqualityComparer<? super TKey> comparer) {
+        return ParallelEnumerable.toLookup(this, (Func1<TSource, TKey>) keySelector, (Func1<TSource, TElement>) elementSelector, (IEqualityComparer<TKey>) comparer);
+    }
+
+    default IParallelEnumerable<TSource> where(Predicate1<? super TSource> predicate) {
+        return ParallelEnumerable.where(this, (Predicate1<TSource>) predicate);
+    }
+
+    default IParallelEnumerable<TSource> withDegreeOfParallelism(int degreeOfParallelism) {
+        return ParallelEnumerable.withDegreeOfParallelism(this, degreeOfParallelism);
+    }
+}
@@ -0,0 +1,14 @@
+package com.bestvike.linq;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * Created by 许崇雷 on 2026-10-17.
+ */
+public interface ISerializer<T> {
+    void write(DataOutput output, T value) throws IOException;
+
+    T read(DataInput input) throws IOException;
+}
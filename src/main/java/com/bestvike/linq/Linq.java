@@ -1,9 +1,17 @@
 package com.bestvike.linq;
 
+import com.bestvike.function.Func1;
+import com.bestvike.linq.enumerable.DoubleEnumerable;
 import com.bestvike.linq.enumerable.Enumerable;
+import com.bestvike.linq.enumerable.IntEnumerable;
+import com.bestvike.linq.enumerable.LongEnumerable;
 import com.bestvike.linq.enumerable.Range;
 import com.bestvike.linq.enumerable.Repeat;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
 import java.util.Collection;
 import java.util.Enumeration;
 import java.util.Iterator;
@@ -94,6 +102,38 @@ public final class Linq {
         return Enumerable.of((Map<TKey, TValue>) source);
     }
 
+    public static IEnumerable<String> ofLines(Path path) {
+        return Enumerable.ofLines(path, StandardCharsets.UTF_8);
+    }
+
+    public static IEnumerable<String> ofLines(Path path, Charset charset) {
+        return Enumerable.ofLines(path, charset);
+    }
+
+    public static IEnumerable<String[]> ofRecords(Path path, char delimiter) {
+        return Enumerable.ofRecords(path, StandardCharsets.UTF_8, delimiter);
+    }
+
+    public static IEnumerable<String[]> ofRecords(Path path, Charset charset, char delimiter) {
+        return Enumerable.ofRecords(path, charset, delimiter);
+    }
+
+    public static <TSource> IEnumerable<TSource> ofRecords(Path path, int recordLength, Func1<ByteBuffer, TSource> decoder) {
+        return Enumerable.ofRecords(path, recordLength, decoder);
+    }
+
+    public static IIntEnumerable ofInt(int[] source) {
+        return IntEnumerable.of(source);
+    }
+
+    public static ILongEnumerable ofLong(long[] source) {
+        return LongEnumerable.of(source);
+    }
+
+    public static IDoubleEnumerable ofDouble(double[] source) {
+        return DoubleEnumerable.of(source);
+    }
+
     public static <TSource> IEnumerable<TSource> as(Object source) {
         return Enumerable.as(source);
     }
@@ -102,6 +142,10 @@ public final class Linq {
         return Range.range(start, count);
     }
 
+    public static IIntEnumerable rangeInt(int start, int count) {
+        return IntEnumerable.range(start, count);
+    }
+
     public static <TResult> IEnumerable<TResult> repeat(TResult element, int count) {
         return Repeat.repeat(element, count);
     }
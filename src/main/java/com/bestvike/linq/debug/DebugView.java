@@ -6,14 +6,26 @@ import com.bestvike.linq.ILookup;
 import com.bestvike.linq.exception.ExceptionArgument;
 import com.bestvike.linq.exception.ThrowHelper;
 
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.LinkedHashMap;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Created by 许崇雷 on 2019-06-18.
  */
 public final class DebugView {
-    private static final Map<Iterable<?>, IDebugView> DEBUG_VIEW_MAP = new ConcurrentHashMap<>();
+    static final int MaxCacheSize = 64;
+    static final int MaxElementCount = 1000;
+    private static final ReferenceQueue<Iterable<?>> QUEUE = new ReferenceQueue<>();
+    // Snapshots by identity of a weakly held source, least recently used ones are evicted.
+    private static final Map<IdentityKey, Object> PROXY_MAP = new LinkedHashMap<IdentityKey, Object>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<IdentityKey, Object> eldest) {
+            return this.size() > MaxCacheSize;
+        }
+    };
 
     private DebugView() {
     }
@@ -22,22 +34,66 @@ public final class DebugView {
         if (iterable == null)
             ThrowHelper.throwArgumentNullException(ExceptionArgument.iterable);
 
-        return DEBUG_VIEW_MAP.computeIfAbsent(iterable, x -> {
-            if (x instanceof ILookup)
-                return new LookupDebugView<>((ILookup<?, ?>) x);
-            if (x instanceof IGrouping)
-                return new GroupingDebugView<>((IGrouping<?, ?>) x);
-            if (x instanceof IEnumerable)
-                return new EnumerableDebugView<>((IEnumerable<?>) x);
-            return new IterableDebugView<>(x);
-        });
+        if (iterable instanceof ILookup)
+            return new LookupDebugView<>((ILookup<?, ?>) iterable);
+        if (iterable instanceof IGrouping)
+            return new GroupingDebugView<>((IGrouping<?, ?>) iterable);
+        if (iterable instanceof IEnumerable)
+            return new EnumerableDebugView<>((IEnumerable<?>) iterable);
+        return new IterableDebugView<>(iterable);
     }
 
     public static String getDebuggerDisplay(Iterable<?> iterable) {
         return getDebugView(iterable).getDebuggerDisplay();
     }
 
+    // The snapshot is taken once per source and kept while the source is reachable and recently used.
     public static Object getDebuggerTypeProxy(Iterable<?> iterable) {
-        return getDebugView(iterable).getDebuggerTypeProxy();
+        IDebugView debugView = getDebugView(iterable);
+        Object proxy;
+        synchronized (PROXY_MAP) {
+            expungeStaleEntries();
+            proxy = PROXY_MAP.get(new IdentityKey(iterable, null));
+        }
+        if (proxy != null)
+            return proxy;
+
+        proxy = debugView.getDebuggerTypeProxy();
+        synchronized (PROXY_MAP) {
+            Object existing = PROXY_MAP.putIfAbsent(new IdentityKey(iterable, QUEUE), proxy);
+            return existing == null ? proxy : existing;
+        }
+    }
+
+    private static void expungeStaleEntries() {
+        for (Reference<?> reference; (reference = QUEUE.poll()) != null; )
+            //noinspection SuspiciousMethodCalls
+            PROXY_MAP.remove(reference);
+    }
+
+
+    private static final class IdentityKey extends WeakReference<Iterable<?>> {
+        private final int hashCode;
+
+        IdentityKey(Iterable<?> referent, ReferenceQueue<Iterable<?>> queue) {
+            super(referent, queue);
+            this.hashCode = System.identityHashCode(referent);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj)
+                return true;
+            if (!(obj instanceof IdentityKey))
+                return false;
+            IdentityKey that = (IdentityKey) obj;
+            Iterable<?> referent = this.get();
+            return this.hashCode == that.hashCode && referent != null && referent == that.get();
+        }
+
+        @Override
+        public int hashCode() {
+            return this.hashCode;
+        }
     }
 }
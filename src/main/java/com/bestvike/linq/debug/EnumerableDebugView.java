@@ -8,7 +8,6 @@ import com.bestvike.linq.resources.SR;
  */
 final class EnumerableDebugView<TElement> implements IDebugView {
     private final IEnumerable<TElement> enumerable;
-    private Object[] cachedValues;
 
     EnumerableDebugView(IEnumerable<TElement> enumerable) {
         this.enumerable = enumerable;
@@ -21,10 +20,9 @@ final class EnumerableDebugView<TElement> implements IDebugView {
 
     @Override
     public Object getDebuggerTypeProxy() {
-        if (this.cachedValues == null)
-            this.cachedValues = this.enumerable.toArray().getArray();
-        return this.cachedValues.length == 0
+        Object[] values = this.enumerable.take(DebugView.MaxElementCount + 1).toArray().getArray();
+        return values.length == 0
                 ? SR.EmptyEnumerable
-                : this.cachedValues;
+                : this.markTruncated(values);
     }
 }
@@ -7,7 +7,6 @@ import com.bestvike.linq.IGrouping;
  */
 final class GroupingDebugView<TKey, TElement> implements IDebugView {
     private final IGrouping<TKey, TElement> grouping;
-    private Object[] cachedValues;
 
     GroupingDebugView(IGrouping<TKey, TElement> grouping) {
         this.grouping = grouping;
@@ -20,8 +19,6 @@ final class GroupingDebugView<TKey, TElement> implements IDebugView {
 
     @Override
     public Object[] getDebuggerTypeProxy() {
-        return this.cachedValues == null ?
-                (this.cachedValues = this.grouping.toArray().getArray())
-                : this.cachedValues;
+        return this.markTruncated(this.grouping.take(DebugView.MaxElementCount + 1).toArray().getArray());
     }
 }
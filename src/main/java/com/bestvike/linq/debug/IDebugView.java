@@ -1,5 +1,7 @@
 package com.bestvike.linq.debug;
 
+import com.bestvike.linq.resources.SR;
+
 /**
  * Created by 许崇雷 on 2019-06-18.
  */
@@ -24,4 +26,11 @@ interface IDebugView {
             return member.toString();
         return '{' + member.toString() + '}';
     }
+
+    // values holds at most MaxElementCount + 1 elements, the one past the cap is replaced by a marker.
+    default Object[] markTruncated(Object[] values) {
+        if (values.length > DebugView.MaxElementCount)
+            values[DebugView.MaxElementCount] = SR.MoreElementsNotShown;
+        return values;
+    }
 }
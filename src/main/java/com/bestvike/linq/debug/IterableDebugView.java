@@ -10,7 +10,6 @@ import java.util.List;
  */
 final class IterableDebugView<TElement> implements IDebugView {
     private final Iterable<TElement> iterable;
-    private Object[] cachedValues;
 
     IterableDebugView(Iterable<TElement> iterable) {
         this.iterable = iterable;
@@ -23,14 +22,14 @@ final class IterableDebugView<TElement> implements IDebugView {
 
     @Override
     public Object getDebuggerTypeProxy() {
-        if (this.cachedValues == null) {
-            List<TElement> list = new ArrayList<>();
-            for (TElement element : this.iterable)
-                list.add(element);
-            this.cachedValues = list.toArray();
+        List<TElement> list = new ArrayList<>();
+        for (TElement element : this.iterable) {
+            list.add(element);
+            if (list.size() > DebugView.MaxElementCount)
+                break;
         }
-        return this.cachedValues.length == 0
+        return list.isEmpty()
                 ? SR.EmptyIterable
-                : this.cachedValues;
+                : this.markTruncated(list.toArray());
     }
 }
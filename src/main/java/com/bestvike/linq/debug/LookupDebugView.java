@@ -7,7 +7,6 @@ import com.bestvike.linq.ILookup;
  */
 final class LookupDebugView<TKey, TElement> implements IDebugView {
     private final ILookup<TKey, TElement> lookup;
-    private Object[] cachedGroupings;
 
     LookupDebugView(ILookup<TKey, TElement> lookup) {
         this.lookup = lookup;
@@ -20,8 +19,6 @@ final class LookupDebugView<TKey, TElement> implements IDebugView {
 
     @Override
     public Object[] getDebuggerTypeProxy() {
-        return this.cachedGroupings == null ?
-                (this.cachedGroupings = this.lookup.toArray().getArray())
-                : this.cachedGroupings;
+        return this.markTruncated(this.lookup.take(DebugView.MaxElementCount + 1).toArray().getArray());
     }
 }
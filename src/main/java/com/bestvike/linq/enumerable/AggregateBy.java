@@ -0,0 +1,475 @@
+package com.bestvike.linq.enumerable;
+
+import com.bestvike.collections.generic.IEqualityComparer;
+import com.bestvike.function.DoubleFunc1;
+import com.bestvike.function.Func0;
+import com.bestvike.function.Func1;
+import com.bestvike.function.Func2;
+import com.bestvike.function.IntFunc1;
+import com.bestvike.function.LongFunc1;
+import com.bestvike.linq.IEnumerable;
+import com.bestvike.linq.IEnumerator;
+import com.bestvike.linq.exception.ExceptionArgument;
+import com.bestvike.linq.exception.ThrowHelper;
+import com.bestvike.tuple.Tuple2;
+
+import java.util.Arrays;
+
+/**
+ * Created by 许崇雷 on 2026-10-17.
+ */
+public final class AggregateBy {
+    private AggregateBy() {
+    }
+
+    public static <TSource, TKey> IEnumerable<Tuple2<TKey, Integer>> countBy(IEnumerable<TSource> source, Func1<TSource, TKey> keySelector) {
+        return countBy(source, keySelector, null);
+    }
+
+    public static <TSource, TKey> IEnumerable<Tuple2<TKey, Integer>> countBy(IEnumerable<TSource> source, Func1<TSource, TKey> keySelector, IEqualityComparer<TKey> comparer) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+        if (keySelector == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.keySelector);
+
+        return new CountByIterator<>(source, keySelector, comparer);
+    }
+
+    public static <TSource, TKey> IEnumerable<Tuple2<TKey, Integer>> sumIntBy(IEnumerable<TSource> source, Func1<TSource, TKey> keySelector, IntFunc1<TSource> selector) {
+        return sumIntBy(source, keySelector, selector, null);
+    }
+
+    public static <TSource, TKey> IEnumerable<Tuple2<TKey, Integer>> sumIntBy(IEnumerable<TSource> source, Func1<TSource, TKey> keySelector, IntFunc1<TSource> selector, IEqualityComparer<TKey> comparer) {
+        checkArguments(source, keySelector, selector);
+        return new IntAggregateByIterator<>(source, keySelector, selector, comparer, IntAggregateByIterator.SUM);
+    }
+
+    public static <TSource, TKey> IEnumerable<Tuple2<TKey, Integer>> minIntBy(IEnumerable<TSource> source, Func1<TSource, TKey> keySelector, IntFunc1<TSource> selector) {
+        return minIntBy(source, keySelector, selector, null);
+    }
+
+    public static <TSource, TKey> IEnumerable<Tuple2<TKey, Integer>> minIntBy(IEnumerable<TSource> source, Func1<TSource, TKey> keySelector, IntFunc1<TSource> selector, IEqualityComparer<TKey> comparer) {
+        checkArguments(source, keySelector, selector);
+        return new IntAggregateByIterator<>(source, keySelector, selector, comparer, IntAggregateByIterator.MIN);
+    }
+
+    public static <TSource, TKey> IEnumerable<Tuple2<TKey, Integer>> maxIntBy(IEnumerable<TSource> source, Func1<TSource, TKey> keySelector, IntFunc1<TSource> selector) {
+        return maxIntBy(source, keySelector, selector, null);
+    }
+
+    public static <TSource, TKey> IEnumerable<Tuple2<TKey, Integer>> maxIntBy(IEnumerable<TSource> source, Func1<TSource, TKey> keySelector, IntFunc1<TSource> selector, IEqualityComparer<TKey> comparer) {
+        checkArguments(source, keySelector, selector);
+        return new IntAggregateByIterator<>(source, keySelector, selector, comparer, IntAggregateByIterator.MAX);
+    }
+
+    public static <TSource, TKey> IEnumerable<Tuple2<TKey, Long>> sumLongBy(IEnumerable<TSource> source, Func1<TSource, TKey> keySelector, LongFunc1<TSource> selector) {
+        return sumLongBy(source, keySelector, selector, null);
+    }
+
+    public static <TSource, TKey> IEnumerable<Tuple2<TKey, Long>> sumLongBy(IEnumerable<TSource> source, Func1<TSource, TKey> keySelector, LongFunc1<TSource> selector, IEqualityComparer<TKey> comparer) {
+        checkArguments(source, keySelector, selector);
+        return new LongAggregateByIterator<>(source, keySelector, selector, comparer, LongAggregateByIterator.SUM);
+    }
+
+    public static <TSource, TKey> IEnumerable<Tuple2<TKey, Long>> minLongBy(IEnumerable<TSource> source, Func1<TSource, TKey> keySelector, LongFunc1<TSource> selector) {
+        return minLongBy(source, keySelector, selector, null);
+    }
+
+    public static <TSource, TKey> IEnumerable<Tuple2<TKey, Long>> minLongBy(IEnumerable<TSource> source, Func1<TSource, TKey> keySelector, LongFunc1<TSource> selector, IEqualityComparer<TKey> comparer) {
+        checkArguments(source, keySelector, selector);
+        return new LongAggregateByIterator<>(source, keySelector, selector, comparer, LongAggregateByIterator.MIN);
+    }
+
+    public static <TSource, TKey> IEnumerable<Tuple2<TKey, Long>> maxLongBy(IEnumerable<TSource> source, Func1<TSource, TKey> keySelector, LongFunc1<TSource> selector) {
+        return maxLongBy(source, keySelector, selector, null);
+    }
+
+    public static <TSource, TKey> IEnumerable<Tuple2<TKey, Long>> maxLongBy(IEnumerable<TSource> source, Func1<TSource, TKey> keySelector, LongFunc1<TSource> selector, IEqualityComparer<TKey> comparer) {
+        checkArguments(source, keySelector, selector);
+        return new LongAggregateByIterator<>(source, keySelector, selector, comparer, LongAggregateByIterator.MAX);
+    }
+
+    public static <TSource, TKey> IEnumerable<Tuple2<TKey, Double>> sumDoubleBy(IEnumerable<TSource> source, Func1<TSource, TKey> keySelector, DoubleFunc1<TSource> selector) {
+        return sumDoubleBy(source, keySelector, selector, null);
+    }
+
+    public static <TSource, TKey> IEnumerable<Tuple2<TKey, Double>> sumDoubleBy(IEnumerable<TSource> source, Func1<TSource, TKey> keySelector, DoubleFunc1<TSource> selector, IEqualityComparer<TKey> comparer) {
+        checkArguments(source, keySelector, selector);
+        return new DoubleAggregateByIterator<>(source, keySelector, selector, comparer, DoubleAggregateByIterator.SUM);
+    }
+
+    public static <TSource, TKey> IEnumerable<Tuple2<TKey, Double>> minDoubleBy(IEnumerable<TSource> source, Func1<TSource, TKey> keySelector, DoubleFunc1<TSource> selector) {
+        return minDoubleBy(source, keySelector, selector, null);
+    }
+
+    public static <TSource, TKey> IEnumerable<Tuple2<TKey, Double>> minDoubleBy(IEnumerable<TSource> source, Func1<TSource, TKey> keySelector, DoubleFunc1<TSource> selector, IEqualityComparer<TKey> comparer) {
+        checkArguments(source, keySelector, selector);
+        return new DoubleAggregateByIterator<>(source, keySelector, selector, comparer, DoubleAggregateByIterator.MIN);
+    }
+
+    public static <TSource, TKey> IEnumerable<Tuple2<TKey, Double>> maxDoubleBy(IEnumerable<TSource> source, Func1<TSource, TKey> keySelector, DoubleFunc1<TSource> selector) {
+        return maxDoubleBy(source, keySelector, selector, null);
+    }
+
+    public static <TSource, TKey> IEnumerable<Tuple2<TKey, Double>> maxDoubleBy(IEnumerable<TSource> source, Func1<TSource, TKey> keySelector, DoubleFunc1<TSource> selector, IEqualityComparer<TKey> comparer) {
+        checkArguments(source, keySelector, selector);
+        return new DoubleAggregateByIterator<>(source, keySelector, selector, comparer, DoubleAggregateByIterator.MAX);
+    }
+
+    public static <TSource, TKey, TAccumulate> IEnumerable<Tuple2<TKey, TAccumulate>> aggregateBy(IEnumerable<TSource> source, Func1<TSource, TKey> keySelector, Func0<TAccumulate> seedFactory, Func2<TAccumulate, TSource, TAccumulate> func) {
+        return aggregateBy(source, keySelector, seedFactory, func, null);
+    }
+
+    public static <TSource, TKey, TAccumulate> IEnumerable<Tuple2<TKey, TAccumulate>> aggregateBy(IEnumerable<TSource> source, Func1<TSource, TKey> keySelector, Func0<TAccumulate> seedFactory, Func2<TAccumulate, TSource, TAccumulate> func, IEqualityComparer<TKey> comparer) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+        if (keySelector == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.keySelector);
+        if (seedFactory == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.seedFactory);
+        if (func == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.func);
+
+        return new AggregateByIterator<>(source, keySelector, seedFactory, func, comparer);
+    }
+
+    private static void checkArguments(IEnumerable<?> source, Func1<?, ?> keySelector, Object selector) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+        if (keySelector == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.keySelector);
+        if (selector == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.selector);
+    }
+}
+
+
+// Keeps one accumulator slot per distinct key; slots are the insertion order of the key set.
+abstract class AbstractAggregateByIterator<TSource, TKey, TResult> extends Iterator<Tuple2<TKey, TResult>> {
+    static final int InitialCapacity = 8;
+    final IEnumerable<TSource> source;
+    final Func1<TSource, TKey> keySelector;
+    final IEqualityComparer<TKey> comparer;
+    private Object[] keys;
+    private int index;
+
+    AbstractAggregateByIterator(IEnumerable<TSource> source, Func1<TSource, TKey> keySelector, IEqualityComparer<TKey> comparer) {
+        assert source != null;
+        assert keySelector != null;
+        this.source = source;
+        this.keySelector = keySelector;
+        this.comparer = comparer;
+    }
+
+    // Folds element into slot; added is true for the first element of a key, and slot may be past the current capacity.
+    abstract void accumulate(int slot, boolean added, TSource element);
+
+    abstract TResult result(int slot);
+
+    // Drops accumulators once all results are yielded.
+    abstract void release();
+
+    static int grow(int length, int slot) {
+        return slot < length ? length : Math.max(length << 1, slot + 1);
+    }
+
+    @Override
+    public boolean moveNext() {
+        switch (this.state) {
+            case 1:
+                Set<TKey> set = new Set<>(this.comparer);
+                try (IEnumerator<TSource> e = this.source.enumerator()) {
+                    while (e.moveNext()) {
+                        TSource element = e.current();
+                        int count = set.getCount();
+                        int slot = set.addOrGetIndex(this.keySelector.apply(element));
+                        this.accumulate(slot, slot == count, element);
+                    }
+                }
+                this.keys = set.toArray();
+                this.index = 0;
+                this.state = 2;
+            case 2:
+                if (this.index < this.keys.length) {
+                    int slot = this.index++;
+                    //noinspection unchecked
+                    this.current = new Tuple2<>((TKey) this.keys[slot], this.result(slot));
+                    return true;
+                }
+                this.close();
+                return false;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    public void close() {
+        this.keys = null;
+        this.release();
+        super.close();
+    }
+}
+
+
+final class CountByIterator<TSource, TKey> extends AbstractAggregateByIterator<TSource, TKey, Integer> {
+    private int[] counts;
+
+    CountByIterator(IEnumerable<TSource> source, Func1<TSource, TKey> keySelector, IEqualityComparer<TKey> comparer) {
+        super(source, keySelector, comparer);
+    }
+
+    @Override
+    public Iterator<Tuple2<TKey, Integer>> clone() {
+        return new CountByIterator<>(this.source, this.keySelector, this.comparer);
+    }
+
+    @Override
+    void accumulate(int slot, boolean added, TSource element) {
+        if (added) {
+            if (this.counts == null)
+                this.counts = new int[InitialCapacity];
+            else if (slot >= this.counts.length)
+                this.counts = Arrays.copyOf(this.counts, grow(this.counts.length, slot));
+            this.counts[slot] = 1;
+            return;
+        }
+        this.counts[slot] = Math.addExact(this.counts[slot], 1);
+    }
+
+    @Override
+    Integer result(int slot) {
+        return this.counts[slot];
+    }
+
+    @Override
+    void release() {
+        this.counts = null;
+    }
+}
+
+
+final class IntAggregateByIterator<TSource, TKey> extends AbstractAggregateByIterator<TSource, TKey, Integer> {
+    static final int SUM = 0;
+    static final int MIN = 1;
+    static final int MAX = 2;
+    private final IntFunc1<TSource> selector;
+    private final int kind;
+    private int[] values;
+
+    IntAggregateByIterator(IEnumerable<TSource> source, Func1<TSource, TKey> keySelector, IntFunc1<TSource> selector, IEqualityComparer<TKey> comparer, int kind) {
+        super(source, keySelector, comparer);
+        assert selector != null;
+        this.selector = selector;
+        this.kind = kind;
+    }
+
+    @Override
+    public Iterator<Tuple2<TKey, Integer>> clone() {
+        return new IntAggregateByIterator<>(this.source, this.keySelector, this.selector, this.comparer, this.kind);
+    }
+
+    @Override
+    void accumulate(int slot, boolean added, TSource element) {
+        int x = this.selector.apply(element);
+        if (added) {
+            if (this.values == null)
+                this.values = new int[InitialCapacity];
+            else if (slot >= this.values.length)
+                this.values = Arrays.copyOf(this.values, grow(this.values.length, slot));
+            this.values[slot] = x;
+            return;
+        }
+        int value = this.values[slot];
+        switch (this.kind) {
+            case SUM:
+                this.values[slot] = Math.addExact(value, x);
+                break;
+            case MIN:
+                if (x < value)
+                    this.values[slot] = x;
+                break;
+            default:
+                if (x > value)
+                    this.values[slot] = x;
+                break;
+        }
+    }
+
+    @Override
+    Integer result(int slot) {
+        return this.values[slot];
+    }
+
+    @Override
+    void release() {
+        this.values = null;
+    }
+}
+
+
+final class LongAggregateByIterator<TSource, TKey> extends AbstractAggregateByIterator<TSource, TKey, Long> {
+    static final int SUM = 0;
+    static final int MIN = 1;
+    static final int MAX = 2;
+    private final LongFunc1<TSource> selector;
+    private final int kind;
+    private long[] values;
+
+    LongAggregateByIterator(IEnumerable<TSource> source, Func1<TSource, TKey> keySelector, LongFunc1<TSource> selector, IEqualityComparer<TKey> comparer, int kind) {
+        super(source, keySelector, comparer);
+        assert selector != null;
+        this.selector = selector;
+        this.kind = kind;
+    }
+
+    @Override
+    public Iterator<Tuple2<TKey, Long>> clone() {
+        return new LongAggregateByIterator<>(this.source, this.keySelector, this.selector, this.comparer, this.kind);
+    }
+
+    @Override
+    void accumulate(int slot, boolean added, TSource element) {
+        long x = this.selector.apply(element);
+        if (added) {
+            if (this.values == null)
+                this.values = new long[InitialCapacity];
+            else if (slot >= this.values.length)
+                this.values = Arrays.copyOf(this.values, grow(this.values.length, slot));
+            this.values[slot] = x;
+            return;
+        }
+        long value = this.values[slot];
+        switch (this.kind) {
+            case SUM:
+                this.values[slot] = Math.addExact(value, x);
+                break;
+            case MIN:
+                if (x < value)
+                    this.values[slot] = x;
+                break;
+            default:
+                if (x > value)
+                    this.values[slot] = x;
+                break;
+        }
+    }
+
+    @Override
+    Long result(int slot) {
+        return this.values[slot];
+    }
+
+    @Override
+    void release() {
+        this.values = null;
+    }
+}
+
+
+final class DoubleAggregateByIterator<TSource, TKey> extends AbstractAggregateByIterator<TSource, TKey, Double> {
+    static final int SUM = 0;
+    static final int MIN = 1;
+    static final int MAX = 2;
+    private final DoubleFunc1<TSource> selector;
+    private final int kind;
+    private double[] values;
+
+    DoubleAggregateByIterator(IEnumerable<TSource> source, Func1<TSource, TKey> keySelector, DoubleFunc1<TSource> selector, IEqualityComparer<TKey> comparer, int kind) {
+        super(source, keySelector, comparer);
+        assert selector != null;
+        this.selector = selector;
+        this.kind = kind;
+    }
+
+    @Override
+    public Iterator<Tuple2<TKey, Double>> clone() {
+        return new DoubleAggregateByIterator<>(this.source, this.keySelector, this.selector, this.comparer, this.kind);
+    }
+
+    @Override
+    void accumulate(int slot, boolean added, TSource element) {
+        double x = this.selector.apply(element);
+        if (added) {
+            if (this.values == null)
+                this.values = new double[InitialCapacity];
+            else if (slot >= this.values.length)
+                this.values = Arrays.copyOf(this.values, grow(this.values.length, slot));
+            this.values[slot] = x;
+            return;
+        }
+        double value = this.values[slot];
+        switch (this.kind) {
+            case SUM:
+                this.values[slot] = value + x;
+                break;
+            case MIN:
+                // NaN is less than any other value, same as minDouble
+                if (x < value || Double.isNaN(x))
+                    this.values[slot] = x;
+                break;
+            default:
+                // NaN only survives when every value of the key is NaN, same as maxDouble
+                if (x > value || Double.isNaN(value))
+                    this.values[slot] = x;
+                break;
+        }
+    }
+
+    @Override
+    Double result(int slot) {
+        return this.values[slot];
+    }
+
+    @Override
+    void release() {
+        this.values = null;
+    }
+}
+
+
+final class AggregateByIterator<TSource, TKey, TAccumulate> extends AbstractAggregateByIterator<TSource, TKey, TAccumulate> {
+    private final Func0<TAccumulate> seedFactory;
+    private final Func2<TAccumulate, TSource, TAccumulate> func;
+    private Object[] accumulates;
+
+    AggregateByIterator(IEnumerable<TSource> source, Func1<TSource, TKey> keySelector, Func0<TAccumulate> seedFactory, Func2<TAccumulate, TSource, TAccumulate> func, IEqualityComparer<TKey> comparer) {
+        super(source, keySelector, comparer);
+        assert seedFactory != null;
+        assert func != null;
+        this.seedFactory = seedFactory;
+        this.func = func;
+    }
+
+    @Override
+    public Iterator<Tuple2<TKey, TAccumulate>> clone() {
+        return new AggregateByIterator<>(this.source, this.keySelector, this.seedFactory, this.func, this.comparer);
+    }
+
+    @Override
+    void accumulate(int slot, boolean added, TSource element) {
+        TAccumulate value;
+        if (added) {
+            if (this.accumulates == null)
+                this.accumulates = new Object[InitialCapacity];
+            else if (slot >= this.accumulates.length)
+                this.accumulates = Arrays.copyOf(this.accumulates, grow(this.accumulates.length, slot));
+            value = this.seedFactory.apply();
+        } else {
+            //noinspection unchecked
+            value = (TAccumulate) this.accumulates[slot];
+        }
+        this.accumulates[slot] = this.func.apply(value, element);
+    }
+
+    @Override
+    TAccumulate result(int slot) {
+        //noinspection unchecked
+        return (TAccumulate) this.accumulates[slot];
+    }
+
+    @Override
+    void release() {
+        this.accumulates = null;
+    }
+}
@@ -0,0 +1,51 @@
+package com.bestvike.linq.enumerable;
+
+import com.bestvike.function.DoubleFunc1;
+import com.bestvike.function.Func1;
+import com.bestvike.function.IntFunc1;
+import com.bestvike.function.LongFunc1;
+import com.bestvike.linq.exception.ExceptionArgument;
+import com.bestvike.linq.exception.ThrowHelper;
+
+/**
+ * Created by 许崇雷 on 2026-10-17.
+ */
+public final class Column<TSource> {
+    static final int IntType = 0;
+    static final int LongType = 1;
+    static final int DoubleType = 2;
+    static final int StringType = 3;
+    final String name;
+    final int type;
+    final Object selector;
+
+    private Column(String name, int type, Object selector) {
+        if (name == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.name);
+        if (selector == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.selector);
+        this.name = name;
+        this.type = type;
+        this.selector = selector;
+    }
+
+    public static <TSource> Column<TSource> ofInt(String name, IntFunc1<TSource> selector) {
+        return new Column<>(name, IntType, selector);
+    }
+
+    public static <TSource> Column<TSource> ofLong(String name, LongFunc1<TSource> selector) {
+        return new Column<>(name, LongType, selector);
+    }
+
+    public static <TSource> Column<TSource> ofDouble(String name, DoubleFunc1<TSource> selector) {
+        return new Column<>(name, DoubleType, selector);
+    }
+
+    public static <TSource> Column<TSource> ofString(String name, Func1<TSource, String> selector) {
+        return new Column<>(name, StringType, selector);
+    }
+
+    public String getName() {
+        return this.name;
+    }
+}
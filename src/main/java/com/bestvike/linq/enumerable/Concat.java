@@ -11,6 +11,7 @@ import com.bestvike.out;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Spliterator;
 
 /**
  * Created by 许崇雷 on 2018-04-26.
@@ -34,7 +35,7 @@ public final class Concat {
 }
 
 
-abstract class ConcatIterator<TSource> extends Iterator<TSource> implements IIListProvider<TSource> {
+abstract class ConcatIterator<TSource> extends Iterator<TSource> implements IIListProvider<TSource>, ISpliteratorProvider<TSource> {
     private IEnumerator<TSource> enumerator;
 
     @Override
@@ -103,6 +104,29 @@ abstract class ConcatIterator<TSource> extends Iterator<TSource> implements IILi
 
         return list;
     }
+
+    @Override
+    public Spliterator<TSource> _spliterator() {
+        List<IEnumerable<TSource>> sources = new ArrayList<>();
+        for (int i = 0; ; i++) {
+            IEnumerable<TSource> source = this.getEnumerable(i);
+            if (source == null)
+                break;
+
+            sources.add(source);
+        }
+
+        return this.spliterator(sources, 0, sources.size());
+    }
+
+    // Builds a balanced tree, so each source can be split off and further split by its own spliterator.
+    private Spliterator<TSource> spliterator(List<IEnumerable<TSource>> sources, int lo, int hi) {
+        if (hi - lo == 1)
+            return ToSpliterator.spliterator(sources.get(lo));
+
+        int mid = (lo + hi) >>> 1;
+        return new ConcatSpliterator<>(this.spliterator(sources, lo, mid), this.spliterator(sources, mid, hi));
+    }
 }
 
 
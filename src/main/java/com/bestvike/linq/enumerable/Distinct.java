@@ -106,7 +106,7 @@ final class DistinctIterator<TSource> extends Iterator<TSource> implements IILis
     }
 
     private Set<TSource> fillSet() {
-        Set<TSource> set = new Set<>(this.comparer);
+        Set<TSource> set = new Set<>(this.comparer, Set.capacityOf(this.source));
         set.unionWith(this.source);
         return set;
     }
@@ -0,0 +1,701 @@
+package com.bestvike.linq.enumerable;
+
+import com.bestvike.function.DoubleFunc1;
+import com.bestvike.function.DoublePredicate1;
+import com.bestvike.function.DoubleUnaryFunc1;
+import com.bestvike.linq.IEnumerable;
+import com.bestvike.linq.IEnumerator;
+import com.bestvike.linq.IDoubleEnumerable;
+import com.bestvike.linq.IDoubleEnumerator;
+import com.bestvike.linq.exception.ExceptionArgument;
+import com.bestvike.linq.exception.ThrowHelper;
+
+import java.util.Arrays;
+
+/**
+ * Created by 许崇雷 on 2026-10-17.
+ */
+public final class DoubleEnumerable {
+    private static final double[] EMPTY = new double[0];
+
+    private DoubleEnumerable() {
+    }
+
+    public static IDoubleEnumerable empty() {
+        return new DoubleArrayIterator(EMPTY, 0, 0);
+    }
+
+    public static IDoubleEnumerable of(double[] source) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+
+        return new DoubleArrayIterator(source, 0, source.length);
+    }
+
+    public static <TSource> IDoubleEnumerable selectDouble(IEnumerable<TSource> source, DoubleFunc1<TSource> selector) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+        if (selector == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.selector);
+
+        return new SelectToDoubleIterator<>(source, selector);
+    }
+
+    public static IDoubleEnumerable where(IDoubleEnumerable source, DoublePredicate1 predicate) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+        if (predicate == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.predicate);
+
+        if (source instanceof AbstractDoubleIterator)
+            return ((AbstractDoubleIterator) source)._where(predicate);
+
+        return new WhereDoubleIterator(source, predicate);
+    }
+
+    public static IDoubleEnumerable select(IDoubleEnumerable source, DoubleUnaryFunc1 selector) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+        if (selector == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.selector);
+
+        if (source instanceof AbstractDoubleIterator)
+            return ((AbstractDoubleIterator) source)._select(selector);
+
+        return new SelectDoubleIterator(source, selector);
+    }
+
+    public static IDoubleEnumerable skip(IDoubleEnumerable source, int count) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+
+        if (count <= 0)
+            return source;
+
+        if (source instanceof IDoublePartition)
+            return ((IDoublePartition) source)._skip(count);
+
+        return new SkipDoubleIterator(source, count);
+    }
+
+    public static IDoubleEnumerable take(IDoubleEnumerable source, int count) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+
+        if (count <= 0)
+            return empty();
+
+        if (source instanceof IDoublePartition)
+            return ((IDoublePartition) source)._take(count);
+
+        return new TakeDoubleIterator(source, count);
+    }
+
+    public static IDoubleEnumerable distinct(IDoubleEnumerable source) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+
+        return new DistinctDoubleIterator(source);
+    }
+
+    public static IEnumerable<Double> boxed(IDoubleEnumerable source) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+
+        return new BoxDoubleIterator(source);
+    }
+
+    public static int count(IDoubleEnumerable source) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+
+        if (source instanceof IDoublePartition)
+            return ((IDoublePartition) source)._getCount();
+
+        int count = 0;
+        try (IDoubleEnumerator e = source.enumerator()) {
+            while (e.moveNext())
+                count = Math.addExact(count, 1);
+        }
+        return count;
+    }
+
+    public static double sum(IDoubleEnumerable source) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+
+        double sum = 0;
+        try (IDoubleEnumerator e = source.enumerator()) {
+            while (e.moveNext())
+                sum += e.current();
+        }
+        return sum;
+    }
+
+    public static double min(IDoubleEnumerable source) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+
+        double value;
+        try (IDoubleEnumerator e = source.enumerator()) {
+            if (!e.moveNext())
+                ThrowHelper.throwNoElementsException();
+
+            value = e.current();
+            if (Double.isNaN(value))
+                return value;
+
+            while (e.moveNext()) {
+                double x = e.current();
+                if (x < value)
+                    value = x;
+                else if (Double.isNaN(x))
+                    return x;
+            }
+        }
+        return value;
+    }
+
+    public static double max(IDoubleEnumerable source) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+
+        double value;
+        try (IDoubleEnumerator e = source.enumerator()) {
+            if (!e.moveNext())
+                ThrowHelper.throwNoElementsException();
+
+            value = e.current();
+            while (Double.isNaN(value)) {
+                if (!e.moveNext())
+                    return value;
+                value = e.current();
+            }
+
+            while (e.moveNext()) {
+                double x = e.current();
+                if (x > value)
+                    value = x;
+            }
+        }
+        return value;
+    }
+
+    public static double average(IDoubleEnumerable source) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+
+        try (IDoubleEnumerator e = source.enumerator()) {
+            if (!e.moveNext())
+                ThrowHelper.throwNoElementsException();
+
+            double sum = e.current();
+            long count = 1;
+            while (e.moveNext()) {
+                sum += e.current();
+                count = Math.addExact(count, 1);
+            }
+            return sum / count;
+        }
+    }
+
+    public static double[] toArray(IDoubleEnumerable source) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+
+        if (source instanceof IDoublePartition)
+            return ((IDoublePartition) source)._toArray();
+
+        double[] array = EMPTY;
+        int count = 0;
+        try (IDoubleEnumerator e = source.enumerator()) {
+            while (e.moveNext()) {
+                if (count == array.length)
+                    array = Arrays.copyOf(array, count == 0 ? 4 : Math.multiplyExact(count, 2));
+                array[count++] = e.current();
+            }
+        }
+        return count == array.length ? array : Arrays.copyOf(array, count);
+    }
+}
+
+
+interface IDoublePartition extends IDoubleEnumerable {
+    IDoubleEnumerable _skip(int count);
+
+    IDoubleEnumerable _take(int count);
+
+    int _getCount();
+
+    double[] _toArray();
+}
+
+
+abstract class AbstractDoubleIterator implements IDoubleEnumerable, IDoubleEnumerator {
+    private final long threadId;
+    protected int state;
+    protected double current;
+    private boolean checkedNext;
+    private boolean hasNext;
+
+    AbstractDoubleIterator() {
+        this.threadId = Thread.currentThread().getId();
+    }
+
+    @Override
+    public abstract AbstractDoubleIterator clone();
+
+    @Override
+    public IDoubleEnumerator enumerator() {
+        AbstractDoubleIterator enumerator = this.state == 0 && this.threadId == Thread.currentThread().getId() ? this : this.clone();
+        enumerator.state = 1;
+        return enumerator;
+    }
+
+    public IDoubleEnumerable _where(DoublePredicate1 predicate) {
+        return new WhereDoubleIterator(this, predicate);
+    }
+
+    public IDoubleEnumerable _select(DoubleUnaryFunc1 selector) {
+        return new SelectDoubleIterator(this, selector);
+    }
+
+    @Override
+    public abstract boolean moveNext();
+
+    @Override
+    public double current() {
+        return this.current;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (!this.checkedNext) {
+            this.hasNext = this.moveNext();
+            this.checkedNext = true;
+        }
+        return this.hasNext;
+    }
+
+    @Override
+    public double nextDouble() {
+        if (this.hasNext()) {
+            this.checkedNext = false;
+            return this.current;
+        }
+        ThrowHelper.throwNoSuchElementException();
+        return 0;
+    }
+
+    @Override
+    public void close() {
+        this.state = -1;
+    }
+}
+
+
+final class DoubleArrayIterator extends AbstractDoubleIterator implements IDoublePartition {
+    private final double[] source;
+    private final int start;
+    private final int end;
+
+    DoubleArrayIterator(double[] source, int start, int end) {
+        assert source != null;
+        assert 0 <= start && start <= end && end <= source.length;
+        this.source = source;
+        this.start = start;
+        this.end = end;
+    }
+
+    @Override
+    public AbstractDoubleIterator clone() {
+        return new DoubleArrayIterator(this.source, this.start, this.end);
+    }
+
+    @Override
+    public boolean moveNext() {
+        // state - 1 represents the zero-based offset from start.
+        if (this.state == -1)
+            return false;
+        int index = this.start + this.state - 1;
+        if (index < this.end) {
+            this.current = this.source[index];
+            ++this.state;
+            return true;
+        }
+
+        this.close();
+        return false;
+    }
+
+    @Override
+    public IDoubleEnumerable _skip(int count) {
+        return count >= this.end - this.start
+                ? DoubleEnumerable.empty()
+                : new DoubleArrayIterator(this.source, this.start + count, this.end);
+    }
+
+    @Override
+    public IDoubleEnumerable _take(int count) {
+        return count >= this.end - this.start
+                ? this
+                : new DoubleArrayIterator(this.source, this.start, this.start + count);
+    }
+
+    @Override
+    public int _getCount() {
+        return this.end - this.start;
+    }
+
+    @Override
+    public double[] _toArray() {
+        return Arrays.copyOfRange(this.source, this.start, this.end);
+    }
+}
+
+
+
+final class WhereDoubleIterator extends AbstractDoubleIterator {
+    private final IDoubleEnumerable source;
+    private final DoublePredicate1 predicate;
+    private IDoubleEnumerator enumerator;
+
+    WhereDoubleIterator(IDoubleEnumerable source, DoublePredicate1 predicate) {
+        assert source != null;
+        assert predicate != null;
+        this.source = source;
+        this.predicate = predicate;
+    }
+
+    @Override
+    public AbstractDoubleIterator clone() {
+        return new WhereDoubleIterator(this.source, this.predicate);
+    }
+
+    @Override
+    public boolean moveNext() {
+        switch (this.state) {
+            case 1:
+                this.enumerator = this.source.enumerator();
+                this.state = 2;
+            case 2:
+                while (this.enumerator.moveNext()) {
+                    double item = this.enumerator.current();
+                    if (this.predicate.apply(item)) {
+                        this.current = item;
+                        return true;
+                    }
+                }
+                this.close();
+                return false;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    public void close() {
+        if (this.enumerator != null) {
+            this.enumerator.close();
+            this.enumerator = null;
+        }
+        super.close();
+    }
+
+    @Override
+    public IDoubleEnumerable _where(DoublePredicate1 predicate) {
+        DoublePredicate1 first = this.predicate;
+        return new WhereDoubleIterator(this.source, x -> first.apply(x) && predicate.apply(x));
+    }
+}
+
+
+final class SelectDoubleIterator extends AbstractDoubleIterator {
+    private final IDoubleEnumerable source;
+    private final DoubleUnaryFunc1 selector;
+    private IDoubleEnumerator enumerator;
+
+    SelectDoubleIterator(IDoubleEnumerable source, DoubleUnaryFunc1 selector) {
+        assert source != null;
+        assert selector != null;
+        this.source = source;
+        this.selector = selector;
+    }
+
+    @Override
+    public AbstractDoubleIterator clone() {
+        return new SelectDoubleIterator(this.source, this.selector);
+    }
+
+    @Override
+    public boolean moveNext() {
+        switch (this.state) {
+            case 1:
+                this.enumerator = this.source.enumerator();
+                this.state = 2;
+            case 2:
+                if (this.enumerator.moveNext()) {
+                    this.current = this.selector.apply(this.enumerator.current());
+                    return true;
+                }
+                this.close();
+                return false;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    public void close() {
+        if (this.enumerator != null) {
+            this.enumerator.close();
+            this.enumerator = null;
+        }
+        super.close();
+    }
+
+    @Override
+    public IDoubleEnumerable _select(DoubleUnaryFunc1 selector) {
+        DoubleUnaryFunc1 first = this.selector;
+        return new SelectDoubleIterator(this.source, x -> selector.apply(first.apply(x)));
+    }
+}
+
+
+final class SkipDoubleIterator extends AbstractDoubleIterator {
+    private final IDoubleEnumerable source;
+    private final int count;
+    private IDoubleEnumerator enumerator;
+
+    SkipDoubleIterator(IDoubleEnumerable source, int count) {
+        assert source != null;
+        assert count > 0;
+        this.source = source;
+        this.count = count;
+    }
+
+    @Override
+    public AbstractDoubleIterator clone() {
+        return new SkipDoubleIterator(this.source, this.count);
+    }
+
+    @Override
+    public boolean moveNext() {
+        switch (this.state) {
+            case 1:
+                this.enumerator = this.source.enumerator();
+                for (int i = 0; i < this.count; i++) {
+                    if (!this.enumerator.moveNext()) {
+                        this.close();
+                        return false;
+                    }
+                }
+                this.state = 2;
+            case 2:
+                if (this.enumerator.moveNext()) {
+                    this.current = this.enumerator.current();
+                    return true;
+                }
+                this.close();
+                return false;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    public void close() {
+        if (this.enumerator != null) {
+            this.enumerator.close();
+            this.enumerator = null;
+        }
+        super.close();
+    }
+}
+
+
+final class TakeDoubleIterator extends AbstractDoubleIterator {
+    private final IDoubleEnumerable source;
+    private final int count;
+    private IDoubleEnumerator enumerator;
+    private int remaining;
+
+    TakeDoubleIterator(IDoubleEnumerable source, int count) {
+        assert source != null;
+        assert count > 0;
+        this.source = source;
+        this.count = count;
+    }
+
+    @Override
+    public AbstractDoubleIterator clone() {
+        return new TakeDoubleIterator(this.source, this.count);
+    }
+
+    @Override
+    public boolean moveNext() {
+        switch (this.state) {
+            case 1:
+                this.enumerator = this.source.enumerator();
+                this.remaining = this.count;
+                this.state = 2;
+            case 2:
+                if (this.remaining > 0 && this.enumerator.moveNext()) {
+                    this.remaining--;
+                    this.current = this.enumerator.current();
+                    return true;
+                }
+                this.close();
+                return false;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    public void close() {
+        if (this.enumerator != null) {
+            this.enumerator.close();
+            this.enumerator = null;
+        }
+        super.close();
+    }
+}
+
+
+final class DistinctDoubleIterator extends AbstractDoubleIterator {
+    private final IDoubleEnumerable source;
+    private IDoubleEnumerator enumerator;
+    private LongSet set;
+
+    DistinctDoubleIterator(IDoubleEnumerable source) {
+        assert source != null;
+        this.source = source;
+    }
+
+    @Override
+    public AbstractDoubleIterator clone() {
+        return new DistinctDoubleIterator(this.source);
+    }
+
+    @Override
+    public boolean moveNext() {
+        switch (this.state) {
+            case 1:
+                this.enumerator = this.source.enumerator();
+                this.set = new LongSet();
+                this.state = 2;
+            case 2:
+                while (this.enumerator.moveNext()) {
+                    double item = this.enumerator.current();
+                    if (this.set.add(Double.doubleToLongBits(item))) {
+                        this.current = item;
+                        return true;
+                    }
+                }
+                this.close();
+                return false;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    public void close() {
+        if (this.enumerator != null) {
+            this.enumerator.close();
+            this.enumerator = null;
+            this.set = null;
+        }
+        super.close();
+    }
+}
+
+
+final class SelectToDoubleIterator<TSource> extends AbstractDoubleIterator {
+    private final IEnumerable<TSource> source;
+    private final DoubleFunc1<TSource> selector;
+    private IEnumerator<TSource> enumerator;
+
+    SelectToDoubleIterator(IEnumerable<TSource> source, DoubleFunc1<TSource> selector) {
+        assert source != null;
+        assert selector != null;
+        this.source = source;
+        this.selector = selector;
+    }
+
+    @Override
+    public AbstractDoubleIterator clone() {
+        return new SelectToDoubleIterator<>(this.source, this.selector);
+    }
+
+    @Override
+    public boolean moveNext() {
+        switch (this.state) {
+            case 1:
+                this.enumerator = this.source.enumerator();
+                this.state = 2;
+            case 2:
+                if (this.enumerator.moveNext()) {
+                    this.current = this.selector.apply(this.enumerator.current());
+                    return true;
+                }
+                this.close();
+                return false;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    public void close() {
+        if (this.enumerator != null) {
+            this.enumerator.close();
+            this.enumerator = null;
+        }
+        super.close();
+    }
+}
+
+
+final class BoxDoubleIterator extends Iterator<Double> {
+    private final IDoubleEnumerable source;
+    private IDoubleEnumerator enumerator;
+
+    BoxDoubleIterator(IDoubleEnumerable source) {
+        assert source != null;
+        this.source = source;
+    }
+
+    @Override
+    public AbstractIterator<Double> clone() {
+        return new BoxDoubleIterator(this.source);
+    }
+
+    @Override
+    public boolean moveNext() {
+        switch (this.state) {
+            case 1:
+                this.enumerator = this.source.enumerator();
+                this.state = 2;
+            case 2:
+                if (this.enumerator.moveNext()) {
+                    this.current = this.enumerator.current();
+                    return true;
+                }
+                this.close();
+                return false;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    public void close() {
+        if (this.enumerator != null) {
+            this.enumerator.close();
+            this.enumerator = null;
+        }
+        super.close();
+    }
+}
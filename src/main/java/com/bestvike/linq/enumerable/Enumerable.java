@@ -1,5 +1,6 @@
 package com.bestvike.linq.enumerable;
 
+import com.bestvike.function.Func1;
 import com.bestvike.linq.IEnumerable;
 import com.bestvike.linq.adapter.enumerable.BooleanArrayEnumerable;
 import com.bestvike.linq.adapter.enumerable.ByteArrayEnumerable;
@@ -20,6 +21,10 @@ import com.bestvike.linq.adapter.enumerable.SingletonEnumerable;
 import com.bestvike.linq.exception.ExceptionArgument;
 import com.bestvike.linq.exception.ThrowHelper;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.file.Path;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Enumeration;
 import java.util.Iterator;
@@ -31,6 +36,8 @@ import java.util.Map;
  */
 @SuppressWarnings("unchecked")
 public final class Enumerable {
+    private static final byte[] LineFeed = {'\n'};
+
     private Enumerable() {
     }
 
@@ -161,6 +168,53 @@ public final class Enumerable {
         return new CollectionEnumerable<>(source.entrySet());
     }
 
+    // Nothing is read when the query is built. Every enumeration maps the file again, and count, elementAt, last,
+    // toArray and parallel chunks read the file as it is at that call.
+    public static IEnumerable<String> ofLines(Path path, Charset charset) {
+        if (path == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.path);
+        if (charset == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.charset);
+        // Lines are split on the byte 0x0A before decoding, which fails for charsets such as UTF-16.
+        if (!Arrays.equals("\n".getBytes(charset), LineFeed))
+            ThrowHelper.throwLineFeedNotSingleByteException(charset);
+
+        return new FileLinesPartition(path, charset);
+    }
+
+    public static IEnumerable<String[]> ofRecords(Path path, Charset charset, char delimiter) {
+        return Select.select(ofLines(path, charset), line -> split(line, delimiter));
+    }
+
+    public static <TSource> IEnumerable<TSource> ofRecords(Path path, int recordLength, Func1<ByteBuffer, TSource> decoder) {
+        if (path == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.path);
+        if (recordLength < 1 || recordLength > MappedFile.MaxRegionSize)
+            ThrowHelper.throwArgumentOutOfRangeException(ExceptionArgument.recordLength);
+        if (decoder == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.decoder);
+
+        return new FileRecordsPartition<>(path, recordLength, decoder);
+    }
+
+    // Splits on every delimiter and keeps empty fields, there is no quoting.
+    private static String[] split(String line, char delimiter) {
+        int count = 1;
+        for (int i = 0; i < line.length(); i++) {
+            if (line.charAt(i) == delimiter)
+                count++;
+        }
+        String[] fields = new String[count];
+        int start = 0;
+        for (int i = 0; i < count - 1; i++) {
+            int end = line.indexOf(delimiter, start);
+            fields[i] = line.substring(start, end);
+            start = end + 1;
+        }
+        fields[count - 1] = line.substring(start);
+        return fields;
+    }
+
     public static <TSource> IEnumerable<TSource> as(Object source) {
         if (source == null)
             return null;
@@ -50,7 +50,7 @@ final class ExceptIterator<TSource> extends AbstractIterator<TSource> {
     public boolean moveNext() {
         switch (this.state) {
             case 1:
-                this.set = new Set<>(this.comparer);
+                this.set = new Set<>(this.comparer, Set.capacityOf(this.second));
                 this.set.unionWith(this.second);
                 this.enumerator = this.first.enumerator();
                 this.state = 2;
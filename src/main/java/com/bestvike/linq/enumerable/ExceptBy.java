@@ -55,7 +55,7 @@ final class ExceptByIterator<TSource, TKey> extends AbstractIterator<TSource> {
     public boolean moveNext() {
         switch (this.state) {
             case 1:
-                this.set = new Set<>(this.comparer);
+                this.set = new Set<>(this.comparer, Set.capacityOf(this.second));
                 this.set.unionWith(this.second, this.keySelector);
                 this.enumerator = this.first.enumerator();
                 this.state = 2;
@@ -0,0 +1,296 @@
+package com.bestvike.linq.enumerable;
+
+import com.bestvike.collections.generic.EqualityComparer;
+import com.bestvike.collections.generic.IEqualityComparer;
+import com.bestvike.function.Func1;
+import com.bestvike.function.Func2;
+import com.bestvike.linq.IEnumerable;
+import com.bestvike.linq.IEnumerator;
+import com.bestvike.linq.ISerializer;
+import com.bestvike.linq.Linq;
+import com.bestvike.linq.exception.ExceptionArgument;
+import com.bestvike.linq.exception.ThrowHelper;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Created by 许崇雷 on 2026-10-17.
+ */
+public final class GraceJoin {
+    private GraceJoin() {
+    }
+
+    public static <TOuter, TInner, TKey, TResult> IEnumerable<TResult> graceJoin(IEnumerable<TOuter> outer, IEnumerable<TInner> inner, Func1<TOuter, TKey> outerKeySelector, Func1<TInner, TKey> innerKeySelector, Func2<TOuter, TInner, TResult> resultSelector, ISerializer<TOuter> outerSerializer, ISerializer<TInner> innerSerializer, int partitionCount) {
+        return graceJoin(outer, inner, outerKeySelector, innerKeySelector, resultSelector, outerSerializer, innerSerializer, null, partitionCount, null);
+    }
+
+    public static <TOuter, TInner, TKey, TResult> IEnumerable<TResult> graceJoin(IEnumerable<TOuter> outer, IEnumerable<TInner> inner, Func1<TOuter, TKey> outerKeySelector, Func1<TInner, TKey> innerKeySelector, Func2<TOuter, TInner, TResult> resultSelector, ISerializer<TOuter> outerSerializer, ISerializer<TInner> innerSerializer, int partitionCount, IEqualityComparer<TKey> comparer) {
+        return graceJoin(outer, inner, outerKeySelector, innerKeySelector, resultSelector, outerSerializer, innerSerializer, null, partitionCount, comparer);
+    }
+
+    public static <TOuter, TInner, TKey, TResult> IEnumerable<TResult> graceJoin(IEnumerable<TOuter> outer, IEnumerable<TInner> inner, Func1<TOuter, TKey> outerKeySelector, Func1<TInner, TKey> innerKeySelector, Func2<TOuter, TInner, TResult> resultSelector, ISerializer<TOuter> outerSerializer, ISerializer<TInner> innerSerializer, Path tempDir, int partitionCount) {
+        return graceJoin(outer, inner, outerKeySelector, innerKeySelector, resultSelector, outerSerializer, innerSerializer, tempDir, partitionCount, null);
+    }
+
+    public static <TOuter, TInner, TKey, TResult> IEnumerable<TResult> graceJoin(IEnumerable<TOuter> outer, IEnumerable<TInner> inner, Func1<TOuter, TKey> outerKeySelector, Func1<TInner, TKey> innerKeySelector, Func2<TOuter, TInner, TResult> resultSelector, ISerializer<TOuter> outerSerializer, ISerializer<TInner> innerSerializer, Path tempDir, int partitionCount, IEqualityComparer<TKey> comparer) {
+        if (outer == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.outer);
+        if (inner == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.inner);
+        if (outerKeySelector == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.outerKeySelector);
+        if (innerKeySelector == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.innerKeySelector);
+        if (resultSelector == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.resultSelector);
+        if (outerSerializer == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.outerSerializer);
+        if (innerSerializer == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.innerSerializer);
+        if (partitionCount < 1)
+            ThrowHelper.throwArgumentOutOfRangeException(ExceptionArgument.partitionCount);
+
+        return new GraceJoinIterator<>(outer, inner, outerKeySelector, innerKeySelector, resultSelector, outerSerializer, innerSerializer, tempDir, partitionCount, comparer);
+    }
+}
+
+
+// Hash partitions both sides by key into temp files, then joins partition by partition so only one partition of inner is in memory.
+// Partitions are yielded in partition order, within a partition outer order and inner order are kept like join.
+// Key selectors run once while partitioning and once more when a partition is read back.
+final class GraceJoinIterator<TOuter, TInner, TKey, TResult> extends AbstractIterator<TResult> {
+    private static final int BufferSize = 1 << 13;
+    private final IEnumerable<TOuter> outer;
+    private final IEnumerable<TInner> inner;
+    private final Func1<TOuter, TKey> outerKeySelector;
+    private final Func1<TInner, TKey> innerKeySelector;
+    private final Func2<TOuter, TInner, TResult> resultSelector;
+    private final ISerializer<TOuter> outerSerializer;
+    private final ISerializer<TInner> innerSerializer;
+    private final Path tempDir;
+    private final int partitionCount;
+    private final IEqualityComparer<TKey> comparer;
+    private Path[] outerPaths;
+    private Path[] innerPaths;
+    private int[] outerCounts;
+    private int[] innerCounts;
+    private int partition;
+    private DataInputStream input;
+    private int remaining;
+    private Lookup<TKey, TInner> lookup;
+    private TOuter item;
+    private Grouping<TKey, TInner> g;
+    private int index;
+
+    GraceJoinIterator(IEnumerable<TOuter> outer, IEnumerable<TInner> inner, Func1<TOuter, TKey> outerKeySelector, Func1<TInner, TKey> innerKeySelector, Func2<TOuter, TInner, TResult> resultSelector, ISerializer<TOuter> outerSerializer, ISerializer<TInner> innerSerializer, Path tempDir, int partitionCount, IEqualityComparer<TKey> comparer) {
+        this.outer = outer;
+        this.inner = inner;
+        this.outerKeySelector = outerKeySelector;
+        this.innerKeySelector = innerKeySelector;
+        this.resultSelector = resultSelector;
+        this.outerSerializer = outerSerializer;
+        this.innerSerializer = innerSerializer;
+        this.tempDir = tempDir;
+        this.partitionCount = partitionCount;
+        this.comparer = comparer == null ? EqualityComparer.Default() : comparer;
+    }
+
+    @Override
+    public AbstractIterator<TResult> clone() {
+        return new GraceJoinIterator<>(this.outer, this.inner, this.outerKeySelector, this.innerKeySelector, this.resultSelector, this.outerSerializer, this.innerSerializer, this.tempDir, this.partitionCount, this.comparer);
+    }
+
+    @Override
+    public boolean moveNext() {
+        try {
+            do {
+                switch (this.state) {
+                    case 1:
+                        this.innerPaths = new Path[this.partitionCount];
+                        this.innerCounts = new int[this.partitionCount];
+                        if (this.spill(this.inner, this.innerKeySelector, this.innerSerializer, this.innerPaths, this.innerCounts, null) == 0) {
+                            this.close();
+                            return false;
+                        }
+                        this.outerPaths = new Path[this.partitionCount];
+                        this.outerCounts = new int[this.partitionCount];
+                        this.spill(this.outer, this.outerKeySelector, this.outerSerializer, this.outerPaths, this.outerCounts, this.innerCounts);
+                        this.partition = -1;
+                        this.state = 2;
+                    case 2:
+                        this.closePartition();
+                        do {
+                            if (++this.partition == this.partitionCount) {
+                                this.close();
+                                return false;
+                            }
+                            if (this.outerCounts[this.partition] != 0)
+                                break;
+                            // No outer row can match, so the inner rows are never read.
+                            delete(this.innerPaths[this.partition]);
+                        } while (true);
+                        this.lookup = Lookup.createForJoin(this.readInner(), this.innerKeySelector, this.comparer);
+                        this.input = open(this.outerPaths[this.partition]);
+                        this.remaining = this.outerCounts[this.partition];
+                        this.state = 3;
+                    case 3:
+                        if (this.remaining == 0) {
+                            this.state = 2;
+                            break;
+                        }
+                        this.remaining--;
+                        this.item = this.outerSerializer.read(this.input);
+                        this.g = this.lookup.fetchGrouping(this.outerKeySelector.apply(this.item));
+                        if (this.g == null)
+                            break;
+                        this.index = -1;
+                        this.state = 4;
+                    case 4:
+                        this.index++;
+                        if (this.index < this.g._getCount()) {
+                            this.current = this.resultSelector.apply(this.item, this.g.get(this.index));
+                            return true;
+                        }
+                        this.state = 3;
+                        break;
+                    default:
+                        return false;
+                }
+            } while (true);
+        } catch (IOException e) {
+            this.close();
+            ThrowHelper.throwRuntimeException(e);
+            return false;
+        } catch (RuntimeException e) {
+            this.close();
+            throw e;
+        }
+    }
+
+    // Writes the rows of source with a key to the file of their partition and returns how many were written.
+    // Outer rows of partitions without inner rows can never match and are dropped here.
+    private <T> int spill(IEnumerable<T> source, Func1<T, TKey> keySelector, ISerializer<T> serializer, Path[] paths, int[] counts, int[] innerCounts) throws IOException {
+        DataOutputStream[] outputs = new DataOutputStream[this.partitionCount];
+        int total = 0;
+        Throwable failure = null;
+        try (IEnumerator<T> e = source.enumerator()) {
+            while (e.moveNext()) {
+                T item = e.current();
+                TKey key = keySelector.apply(item);
+                if (key == null)
+                    continue;
+                int partition = this.partitionOf(key);
+                if (innerCounts != null && innerCounts[partition] == 0)
+                    continue;
+                DataOutputStream output = outputs[partition];
+                if (output == null) {
+                    paths[partition] = this.tempDir == null ? Files.createTempFile("linq", ".part") : Files.createTempFile(this.tempDir, "linq", ".part");
+                    output = outputs[partition] = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(paths[partition]), BufferSize));
+                }
+                serializer.write(output, item);
+                counts[partition]++;
+                total++;
+            }
+        } catch (Throwable e) {
+            failure = e;
+            throw e;
+        } finally {
+            // A failure to close never hides the failure of the source, key selector or serializer.
+            IOException error = null;
+            for (DataOutputStream output : outputs) {
+                if (output == null)
+                    continue;
+                try {
+                    output.close();
+                } catch (IOException ex) {
+                    if (failure != null)
+                        failure.addSuppressed(ex);
+                    else if (error != null)
+                        error.addSuppressed(ex);
+                    else
+                        error = ex;
+                }
+            }
+            if (error != null)
+                //noinspection ThrowFromFinallyBlock
+                throw error;
+        }
+        return total;
+    }
+
+    // Uses the high bits of a multiplicative hash, the lookup of a partition indexes by the low bits.
+    private int partitionOf(TKey key) {
+        return partitionOf(this.comparer.hashCode(key), this.partitionCount);
+    }
+
+    static int partitionOf(int hashCode, int partitionCount) {
+        return (int) (((hashCode * 0x9E3779B9) & 0xFFFFFFFFL) * partitionCount >>> 32);
+    }
+
+    private IEnumerable<TInner> readInner() throws IOException {
+        int count = this.innerCounts[this.partition];
+        List<TInner> list = new ArrayList<>(count);
+        try (DataInputStream input = open(this.innerPaths[this.partition])) {
+            for (int i = 0; i < count; i++)
+                list.add(this.innerSerializer.read(input));
+        }
+        return Linq.of(list);
+    }
+
+    private static DataInputStream open(Path path) throws IOException {
+        return new DataInputStream(new BufferedInputStream(Files.newInputStream(path), BufferSize));
+    }
+
+    private void closePartition() {
+        if (this.input != null) {
+            try {
+                this.input.close();
+            } catch (IOException ignored) {
+                // best effort, the file is deleted below
+            }
+            this.input = null;
+        }
+        if (this.outerPaths != null && this.partition >= 0 && this.partition < this.partitionCount) {
+            delete(this.outerPaths[this.partition]);
+            delete(this.innerPaths[this.partition]);
+        }
+        this.lookup = null;
+        this.item = null;
+        this.g = null;
+    }
+
+    private static void delete(Path path) {
+        if (path == null)
+            return;
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException ignored) {
+            // best effort, the file stays in the temp dir
+        }
+    }
+
+    @Override
+    public void close() {
+        if (this.innerPaths != null) {
+            this.closePartition();
+            for (int i = 0; i < this.partitionCount; i++) {
+                delete(this.innerPaths[i]);
+                if (this.outerPaths != null)
+                    delete(this.outerPaths[i]);
+            }
+            this.innerPaths = null;
+            this.outerPaths = null;
+            this.innerCounts = null;
+            this.outerCounts = null;
+        }
+        super.close();
+    }
+}
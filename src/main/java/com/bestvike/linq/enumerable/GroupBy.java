@@ -1,8 +1,11 @@
 package com.bestvike.linq.enumerable;
 
 import com.bestvike.collections.generic.IEqualityComparer;
+import com.bestvike.function.Func0;
 import com.bestvike.function.Func1;
 import com.bestvike.function.Func2;
+import com.bestvike.function.IntFunc1;
+import com.bestvike.function.LongFunc1;
 import com.bestvike.linq.IEnumerable;
 import com.bestvike.linq.IEnumerator;
 import com.bestvike.linq.IGrouping;
@@ -34,6 +37,14 @@ public final class GroupBy {
         return new GroupedEnumerable2<>(source, keySelector, elementSelector, comparer);
     }
 
+    public static <TSource, TKey> IEnumerable<IGrouping<TKey, TSource>> groupBy(IEnumerable<TSource> source, Func1<TSource, TKey> keySelector, IEqualityComparer<TKey> comparer, int expectedKeyCount, int expectedGroupSize) {
+        return new GroupedEnumerable<>(source, keySelector, comparer, expectedKeyCount, expectedGroupSize);
+    }
+
+    public static <TSource, TKey, TElement> IEnumerable<IGrouping<TKey, TElement>> groupBy(IEnumerable<TSource> source, Func1<TSource, TKey> keySelector, Func1<TSource, TElement> elementSelector, IEqualityComparer<TKey> comparer, int expectedKeyCount, int expectedGroupSize) {
+        return new GroupedEnumerable2<>(source, keySelector, elementSelector, comparer, expectedKeyCount, expectedGroupSize);
+    }
+
     public static <TSource, TKey, TResult> IEnumerable<TResult> groupBy(IEnumerable<TSource> source, Func1<TSource, TKey> keySelector, Func2<TKey, IEnumerable<TSource>, TResult> resultSelector) {
         return new GroupedResultEnumerable<>(source, keySelector, resultSelector, null);
     }
@@ -49,6 +60,36 @@ public final class GroupBy {
     public static <TSource, TKey, TElement, TResult> IEnumerable<TResult> groupBy(IEnumerable<TSource> source, Func1<TSource, TKey> keySelector, Func1<TSource, TElement> elementSelector, Func2<TKey, IEnumerable<TElement>, TResult> resultSelector, IEqualityComparer<TKey> comparer) {
         return new GroupedResultEnumerable2<>(source, keySelector, elementSelector, resultSelector, comparer);
     }
+
+    public static <TSource> IEnumerable<IGrouping<Integer, TSource>> groupByInt(IEnumerable<TSource> source, IntFunc1<TSource> keySelector) {
+        return groupByInt(source, keySelector, x -> x);
+    }
+
+    public static <TSource, TElement> IEnumerable<IGrouping<Integer, TElement>> groupByInt(IEnumerable<TSource> source, IntFunc1<TSource> keySelector, Func1<TSource, TElement> elementSelector) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+        if (keySelector == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.keySelector);
+        if (elementSelector == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.elementSelector);
+
+        return new PrimitiveGroupedEnumerable<>(() -> Lookup.createForInt(source, keySelector, elementSelector));
+    }
+
+    public static <TSource> IEnumerable<IGrouping<Long, TSource>> groupByLong(IEnumerable<TSource> source, LongFunc1<TSource> keySelector) {
+        return groupByLong(source, keySelector, x -> x);
+    }
+
+    public static <TSource, TElement> IEnumerable<IGrouping<Long, TElement>> groupByLong(IEnumerable<TSource> source, LongFunc1<TSource> keySelector, Func1<TSource, TElement> elementSelector) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+        if (keySelector == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.keySelector);
+        if (elementSelector == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.elementSelector);
+
+        return new PrimitiveGroupedEnumerable<>(() -> Lookup.createForLong(source, keySelector, elementSelector));
+    }
 }
 
 
@@ -56,44 +97,56 @@ final class GroupedEnumerable<TSource, TKey> implements IIListProvider<IGrouping
     private final IEnumerable<TSource> source;
     private final Func1<TSource, TKey> keySelector;
     private final IEqualityComparer<TKey> comparer;
+    private final int expectedKeyCount;
+    private final int expectedGroupSize;
 
     GroupedEnumerable(IEnumerable<TSource> source, Func1<TSource, TKey> keySelector, IEqualityComparer<TKey> comparer) {
+        this(source, keySelector, comparer, 0, 0);
+    }
+
+    GroupedEnumerable(IEnumerable<TSource> source, Func1<TSource, TKey> keySelector, IEqualityComparer<TKey> comparer, int expectedKeyCount, int expectedGroupSize) {
         if (source == null)
             ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
         if (keySelector == null)
             ThrowHelper.throwArgumentNullException(ExceptionArgument.keySelector);
+        if (expectedKeyCount < 0)
+            ThrowHelper.throwArgumentOutOfRangeException(ExceptionArgument.expectedKeyCount);
+        if (expectedGroupSize < 0)
+            ThrowHelper.throwArgumentOutOfRangeException(ExceptionArgument.expectedGroupSize);
 
         this.source = source;
         this.keySelector = keySelector;
         this.comparer = comparer;
+        this.expectedKeyCount = expectedKeyCount;
+        this.expectedGroupSize = expectedGroupSize;
     }
 
     @Override
     public IEnumerator<IGrouping<TKey, TSource>> enumerator() {
-        return Lookup.create(this.source, this.keySelector, this.comparer).enumerator();
+        return Lookup.create(this.source, this.keySelector, this.comparer, this.expectedKeyCount, this.expectedGroupSize).enumerator();
     }
 
     @Override
     public IGrouping<TKey, TSource>[] _toArray(Class<IGrouping<TKey, TSource>> clazz) {
-        IIListProvider<IGrouping<TKey, TSource>> lookup = Lookup.create(this.source, this.keySelector, this.comparer);
+        IIListProvider<IGrouping<TKey, TSource>> lookup = Lookup.create(this.source, this.keySelector, this.comparer, this.expectedKeyCount, this.expectedGroupSize);
         return lookup._toArray(clazz);
     }
 
     @Override
     public Object[] _toArray() {
-        IIListProvider<IGrouping<TKey, TSource>> lookup = Lookup.create(this.source, this.keySelector, this.comparer);
+        IIListProvider<IGrouping<TKey, TSource>> lookup = Lookup.create(this.source, this.keySelector, this.comparer, this.expectedKeyCount, this.expectedGroupSize);
         return lookup._toArray();
     }
 
     @Override
     public List<IGrouping<TKey, TSource>> _toList() {
-        IIListProvider<IGrouping<TKey, TSource>> lookup = Lookup.create(this.source, this.keySelector, this.comparer);
+        IIListProvider<IGrouping<TKey, TSource>> lookup = Lookup.create(this.source, this.keySelector, this.comparer, this.expectedKeyCount, this.expectedGroupSize);
         return lookup._toList();
     }
 
     @Override
     public int _getCount(boolean onlyIfCheap) {
-        return onlyIfCheap ? -1 : Lookup.create(this.source, this.keySelector, this.comparer).getCount();
+        return onlyIfCheap ? -1 : Lookup.create(this.source, this.keySelector, this.comparer, this.expectedKeyCount, this.expectedGroupSize).getCount();
     }
 }
 
@@ -103,47 +156,59 @@ final class GroupedEnumerable2<TSource, TKey, TElement> implements IIListProvide
     private final Func1<TSource, TKey> keySelector;
     private final Func1<TSource, TElement> elementSelector;
     private final IEqualityComparer<TKey> comparer;
+    private final int expectedKeyCount;
+    private final int expectedGroupSize;
 
     GroupedEnumerable2(IEnumerable<TSource> source, Func1<TSource, TKey> keySelector, Func1<TSource, TElement> elementSelector, IEqualityComparer<TKey> comparer) {
+        this(source, keySelector, elementSelector, comparer, 0, 0);
+    }
+
+    GroupedEnumerable2(IEnumerable<TSource> source, Func1<TSource, TKey> keySelector, Func1<TSource, TElement> elementSelector, IEqualityComparer<TKey> comparer, int expectedKeyCount, int expectedGroupSize) {
         if (source == null)
             ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
         if (keySelector == null)
             ThrowHelper.throwArgumentNullException(ExceptionArgument.keySelector);
         if (elementSelector == null)
             ThrowHelper.throwArgumentNullException(ExceptionArgument.elementSelector);
+        if (expectedKeyCount < 0)
+            ThrowHelper.throwArgumentOutOfRangeException(ExceptionArgument.expectedKeyCount);
+        if (expectedGroupSize < 0)
+            ThrowHelper.throwArgumentOutOfRangeException(ExceptionArgument.expectedGroupSize);
 
         this.source = source;
         this.keySelector = keySelector;
         this.elementSelector = elementSelector;
         this.comparer = comparer;
+        this.expectedKeyCount = expectedKeyCount;
+        this.expectedGroupSize = expectedGroupSize;
     }
 
     @Override
     public IEnumerator<IGrouping<TKey, TElement>> enumerator() {
-        return Lookup.create(this.source, this.keySelector, this.elementSelector, this.comparer).enumerator();
+        return Lookup.create(this.source, this.keySelector, this.elementSelector, this.comparer, this.expectedKeyCount, this.expectedGroupSize).enumerator();
     }
 
     @Override
     public IGrouping<TKey, TElement>[] _toArray(Class<IGrouping<TKey, TElement>> clazz) {
-        IIListProvider<IGrouping<TKey, TElement>> lookup = Lookup.create(this.source, this.keySelector, this.elementSelector, this.comparer);
+        IIListProvider<IGrouping<TKey, TElement>> lookup = Lookup.create(this.source, this.keySelector, this.elementSelector, this.comparer, this.expectedKeyCount, this.expectedGroupSize);
         return lookup._toArray(clazz);
     }
 
     @Override
     public Object[] _toArray() {
-        IIListProvider<IGrouping<TKey, TElement>> lookup = Lookup.create(this.source, this.keySelector, this.elementSelector, this.comparer);
+        IIListProvider<IGrouping<TKey, TElement>> lookup = Lookup.create(this.source, this.keySelector, this.elementSelector, this.comparer, this.expectedKeyCount, this.expectedGroupSize);
         return lookup._toArray();
     }
 
     @Override
     public List<IGrouping<TKey, TElement>> _toList() {
-        IIListProvider<IGrouping<TKey, TElement>> lookup = Lookup.create(this.source, this.keySelector, this.elementSelector, this.comparer);
+        IIListProvider<IGrouping<TKey, TElement>> lookup = Lookup.create(this.source, this.keySelector, this.elementSelector, this.comparer, this.expectedKeyCount, this.expectedGroupSize);
         return lookup._toList();
     }
 
     @Override
     public int _getCount(boolean onlyIfCheap) {
-        return onlyIfCheap ? -1 : Lookup.create(this.source, this.keySelector, this.elementSelector, this.comparer).getCount();
+        return onlyIfCheap ? -1 : Lookup.create(this.source, this.keySelector, this.elementSelector, this.comparer, this.expectedKeyCount, this.expectedGroupSize).getCount();
     }
 }
 
@@ -246,3 +311,38 @@ final class GroupedResultEnumerable2<TSource, TKey, TElement, TResult> implement
         return onlyIfCheap ? -1 : Lookup.create(this.source, this.keySelector, this.elementSelector, this.comparer).getCount();
     }
 }
+
+
+// Groups by primitive keys, the lookup is built by createForInt or createForLong on every enumeration.
+final class PrimitiveGroupedEnumerable<TKey, TElement> implements IIListProvider<IGrouping<TKey, TElement>> {
+    private final Func0<Lookup<TKey, TElement>> lookupFactory;
+
+    PrimitiveGroupedEnumerable(Func0<Lookup<TKey, TElement>> lookupFactory) {
+        this.lookupFactory = lookupFactory;
+    }
+
+    @Override
+    public IEnumerator<IGrouping<TKey, TElement>> enumerator() {
+        return this.lookupFactory.apply().enumerator();
+    }
+
+    @Override
+    public IGrouping<TKey, TElement>[] _toArray(Class<IGrouping<TKey, TElement>> clazz) {
+        return this.lookupFactory.apply()._toArray(clazz);
+    }
+
+    @Override
+    public Object[] _toArray() {
+        return this.lookupFactory.apply()._toArray();
+    }
+
+    @Override
+    public List<IGrouping<TKey, TElement>> _toList() {
+        return this.lookupFactory.apply()._toList();
+    }
+
+    @Override
+    public int _getCount(boolean onlyIfCheap) {
+        return onlyIfCheap ? -1 : this.lookupFactory.apply().getCount();
+    }
+}
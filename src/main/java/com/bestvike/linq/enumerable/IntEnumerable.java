@@ -0,0 +1,757 @@
+package com.bestvike.linq.enumerable;
+
+import com.bestvike.function.IntFunc1;
+import com.bestvike.function.IntPredicate1;
+import com.bestvike.function.IntUnaryFunc1;
+import com.bestvike.linq.IEnumerable;
+import com.bestvike.linq.IEnumerator;
+import com.bestvike.linq.IIntEnumerable;
+import com.bestvike.linq.IIntEnumerator;
+import com.bestvike.linq.exception.ExceptionArgument;
+import com.bestvike.linq.exception.ThrowHelper;
+
+import java.util.Arrays;
+
+/**
+ * Created by 许崇雷 on 2026-10-17.
+ */
+public final class IntEnumerable {
+    private static final int[] EMPTY = new int[0];
+
+    private IntEnumerable() {
+    }
+
+    public static IIntEnumerable empty() {
+        return new IntArrayIterator(EMPTY, 0, 0);
+    }
+
+    public static IIntEnumerable of(int[] source) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+
+        return new IntArrayIterator(source, 0, source.length);
+    }
+
+    public static IIntEnumerable range(int start, int count) {
+        long max = (long) start + count - 1;
+        if (count < 0 || max > Integer.MAX_VALUE)
+            ThrowHelper.throwArgumentOutOfRangeException(ExceptionArgument.count);
+
+        return new IntRangeIterator(start, count);
+    }
+
+    public static <TSource> IIntEnumerable selectInt(IEnumerable<TSource> source, IntFunc1<TSource> selector) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+        if (selector == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.selector);
+
+        return new SelectToIntIterator<>(source, selector);
+    }
+
+    public static IIntEnumerable where(IIntEnumerable source, IntPredicate1 predicate) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+        if (predicate == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.predicate);
+
+        if (source instanceof AbstractIntIterator)
+            return ((AbstractIntIterator) source)._where(predicate);
+
+        return new WhereIntIterator(source, predicate);
+    }
+
+    public static IIntEnumerable select(IIntEnumerable source, IntUnaryFunc1 selector) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+        if (selector == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.selector);
+
+        if (source instanceof AbstractIntIterator)
+            return ((AbstractIntIterator) source)._select(selector);
+
+        return new SelectIntIterator(source, selector);
+    }
+
+    public static IIntEnumerable skip(IIntEnumerable source, int count) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+
+        if (count <= 0)
+            return source;
+
+        if (source instanceof IIntPartition)
+            return ((IIntPartition) source)._skip(count);
+
+        return new SkipIntIterator(source, count);
+    }
+
+    public static IIntEnumerable take(IIntEnumerable source, int count) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+
+        if (count <= 0)
+            return empty();
+
+        if (source instanceof IIntPartition)
+            return ((IIntPartition) source)._take(count);
+
+        return new TakeIntIterator(source, count);
+    }
+
+    public static IIntEnumerable distinct(IIntEnumerable source) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+
+        return new DistinctIntIterator(source);
+    }
+
+    public static IEnumerable<Integer> boxed(IIntEnumerable source) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+
+        return new BoxIntIterator(source);
+    }
+
+    public static int count(IIntEnumerable source) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+
+        if (source instanceof IIntPartition)
+            return ((IIntPartition) source)._getCount();
+
+        int count = 0;
+        try (IIntEnumerator e = source.enumerator()) {
+            while (e.moveNext())
+                count = Math.addExact(count, 1);
+        }
+        return count;
+    }
+
+    public static int sum(IIntEnumerable source) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+
+        int sum = 0;
+        try (IIntEnumerator e = source.enumerator()) {
+            while (e.moveNext())
+                sum = Math.addExact(sum, e.current());
+        }
+        return sum;
+    }
+
+    public static int min(IIntEnumerable source) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+
+        int value;
+        try (IIntEnumerator e = source.enumerator()) {
+            if (!e.moveNext())
+                ThrowHelper.throwNoElementsException();
+
+            value = e.current();
+            while (e.moveNext()) {
+                int x = e.current();
+                if (x < value)
+                    value = x;
+            }
+        }
+        return value;
+    }
+
+    public static int max(IIntEnumerable source) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+
+        int value;
+        try (IIntEnumerator e = source.enumerator()) {
+            if (!e.moveNext())
+                ThrowHelper.throwNoElementsException();
+
+            value = e.current();
+            while (e.moveNext()) {
+                int x = e.current();
+                if (x > value)
+                    value = x;
+            }
+        }
+        return value;
+    }
+
+    public static double average(IIntEnumerable source) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+
+        try (IIntEnumerator e = source.enumerator()) {
+            if (!e.moveNext())
+                ThrowHelper.throwNoElementsException();
+
+            long sum = e.current();
+            long count = 1;
+            while (e.moveNext()) {
+                sum = Math.addExact(sum, e.current());
+                count = Math.addExact(count, 1);
+            }
+            return (double) sum / count;
+        }
+    }
+
+    public static int[] toArray(IIntEnumerable source) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+
+        if (source instanceof IIntPartition)
+            return ((IIntPartition) source)._toArray();
+
+        int[] array = EMPTY;
+        int count = 0;
+        try (IIntEnumerator e = source.enumerator()) {
+            while (e.moveNext()) {
+                if (count == array.length)
+                    array = Arrays.copyOf(array, count == 0 ? 4 : Math.multiplyExact(count, 2));
+                array[count++] = e.current();
+            }
+        }
+        return count == array.length ? array : Arrays.copyOf(array, count);
+    }
+}
+
+
+interface IIntPartition extends IIntEnumerable {
+    IIntEnumerable _skip(int count);
+
+    IIntEnumerable _take(int count);
+
+    int _getCount();
+
+    int[] _toArray();
+}
+
+
+abstract class AbstractIntIterator implements IIntEnumerable, IIntEnumerator {
+    private final long threadId;
+    protected int state;
+    protected int current;
+    private boolean checkedNext;
+    private boolean hasNext;
+
+    AbstractIntIterator() {
+        this.threadId = Thread.currentThread().getId();
+    }
+
+    @Override
+    public abstract AbstractIntIterator clone();
+
+    @Override
+    public IIntEnumerator enumerator() {
+        AbstractIntIterator enumerator = this.state == 0 && this.threadId == Thread.currentThread().getId() ? this : this.clone();
+        enumerator.state = 1;
+        return enumerator;
+    }
+
+    public IIntEnumerable _where(IntPredicate1 predicate) {
+        return new WhereIntIterator(this, predicate);
+    }
+
+    public IIntEnumerable _select(IntUnaryFunc1 selector) {
+        return new SelectIntIterator(this, selector);
+    }
+
+    @Override
+    public abstract boolean moveNext();
+
+    @Override
+    public int current() {
+        return this.current;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (!this.checkedNext) {
+            this.hasNext = this.moveNext();
+            this.checkedNext = true;
+        }
+        return this.hasNext;
+    }
+
+    @Override
+    public int nextInt() {
+        if (this.hasNext()) {
+            this.checkedNext = false;
+            return this.current;
+        }
+        ThrowHelper.throwNoSuchElementException();
+        return 0;
+    }
+
+    @Override
+    public void close() {
+        this.state = -1;
+    }
+}
+
+
+final class IntArrayIterator extends AbstractIntIterator implements IIntPartition {
+    private final int[] source;
+    private final int start;
+    private final int end;
+
+    IntArrayIterator(int[] source, int start, int end) {
+        assert source != null;
+        assert 0 <= start && start <= end && end <= source.length;
+        this.source = source;
+        this.start = start;
+        this.end = end;
+    }
+
+    @Override
+    public AbstractIntIterator clone() {
+        return new IntArrayIterator(this.source, this.start, this.end);
+    }
+
+    @Override
+    public boolean moveNext() {
+        // state - 1 represents the zero-based offset from start.
+        if (this.state == -1)
+            return false;
+        int index = this.start + this.state - 1;
+        if (index < this.end) {
+            this.current = this.source[index];
+            ++this.state;
+            return true;
+        }
+
+        this.close();
+        return false;
+    }
+
+    @Override
+    public IIntEnumerable _skip(int count) {
+        return count >= this.end - this.start
+                ? IntEnumerable.empty()
+                : new IntArrayIterator(this.source, this.start + count, this.end);
+    }
+
+    @Override
+    public IIntEnumerable _take(int count) {
+        return count >= this.end - this.start
+                ? this
+                : new IntArrayIterator(this.source, this.start, this.start + count);
+    }
+
+    @Override
+    public int _getCount() {
+        return this.end - this.start;
+    }
+
+    @Override
+    public int[] _toArray() {
+        return Arrays.copyOfRange(this.source, this.start, this.end);
+    }
+}
+
+
+final class IntRangeIterator extends AbstractIntIterator implements IIntPartition {
+    private final int start;
+    private final int count;
+
+    IntRangeIterator(int start, int count) {
+        assert count >= 0;
+        this.start = start;
+        this.count = count;
+    }
+
+    @Override
+    public AbstractIntIterator clone() {
+        return new IntRangeIterator(this.start, this.count);
+    }
+
+    @Override
+    public boolean moveNext() {
+        // state - 1 represents the zero-based offset from start.
+        if (this.state == -1)
+            return false;
+        int index = this.state - 1;
+        if (index < this.count) {
+            this.current = this.start + index;
+            ++this.state;
+            return true;
+        }
+
+        this.close();
+        return false;
+    }
+
+    @Override
+    public IIntEnumerable _skip(int count) {
+        return count >= this.count
+                ? IntEnumerable.empty()
+                : new IntRangeIterator(this.start + count, this.count - count);
+    }
+
+    @Override
+    public IIntEnumerable _take(int count) {
+        return count >= this.count
+                ? this
+                : new IntRangeIterator(this.start, count);
+    }
+
+    @Override
+    public int _getCount() {
+        return this.count;
+    }
+
+    @Override
+    public int[] _toArray() {
+        int[] array = new int[this.count];
+        for (int i = 0; i < array.length; i++)
+            array[i] = this.start + i;
+        return array;
+    }
+}
+
+
+final class WhereIntIterator extends AbstractIntIterator {
+    private final IIntEnumerable source;
+    private final IntPredicate1 predicate;
+    private IIntEnumerator enumerator;
+
+    WhereIntIterator(IIntEnumerable source, IntPredicate1 predicate) {
+        assert source != null;
+        assert predicate != null;
+        this.source = source;
+        this.predicate = predicate;
+    }
+
+    @Override
+    public AbstractIntIterator clone() {
+        return new WhereIntIterator(this.source, this.predicate);
+    }
+
+    @Override
+    public boolean moveNext() {
+        switch (this.state) {
+            case 1:
+                this.enumerator = this.source.enumerator();
+                this.state = 2;
+            case 2:
+                while (this.enumerator.moveNext()) {
+                    int item = this.enumerator.current();
+                    if (this.predicate.apply(item)) {
+                        this.current = item;
+                        return true;
+                    }
+                }
+                this.close();
+                return false;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    public void close() {
+        if (this.enumerator != null) {
+            this.enumerator.close();
+            this.enumerator = null;
+        }
+        super.close();
+    }
+
+    @Override
+    public IIntEnumerable _where(IntPredicate1 predicate) {
+        IntPredicate1 first = this.predicate;
+        return new WhereIntIterator(this.source, x -> first.apply(x) && predicate.apply(x));
+    }
+}
+
+
+final class SelectIntIterator extends AbstractIntIterator {
+    private final IIntEnumerable source;
+    private final IntUnaryFunc1 selector;
+    private IIntEnumerator enumerator;
+
+    SelectIntIterator(IIntEnumerable source, IntUnaryFunc1 selector) {
+        assert source != null;
+        assert selector != null;
+        this.source = source;
+        this.selector = selector;
+    }
+
+    @Override
+    public AbstractIntIterator clone() {
+        return new SelectIntIterator(this.source, this.selector);
+    }
+
+    @Override
+    public boolean moveNext() {
+        switch (this.state) {
+            case 1:
+                this.enumerator = this.source.enumerator();
+                this.state = 2;
+            case 2:
+                if (this.enumerator.moveNext()) {
+                    this.current = this.selector.apply(this.enumerator.current());
+                    return true;
+                }
+                this.close();
+                return false;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    public void close() {
+        if (this.enumerator != null) {
+            this.enumerator.close();
+            this.enumerator = null;
+        }
+        super.close();
+    }
+
+    @Override
+    public IIntEnumerable _select(IntUnaryFunc1 selector) {
+        IntUnaryFunc1 first = this.selector;
+        return new SelectIntIterator(this.source, x -> selector.apply(first.apply(x)));
+    }
+}
+
+
+final class SkipIntIterator extends AbstractIntIterator {
+    private final IIntEnumerable source;
+    private final int count;
+    private IIntEnumerator enumerator;
+
+    SkipIntIterator(IIntEnumerable source, int count) {
+        assert source != null;
+        assert count > 0;
+        this.source = source;
+        this.count = count;
+    }
+
+    @Override
+    public AbstractIntIterator clone() {
+        return new SkipIntIterator(this.source, this.count);
+    }
+
+    @Override
+    public boolean moveNext() {
+        switch (this.state) {
+            case 1:
+                this.enumerator = this.source.enumerator();
+                for (int i = 0; i < this.count; i++) {
+                    if (!this.enumerator.moveNext()) {
+                        this.close();
+                        return false;
+                    }
+                }
+                this.state = 2;
+            case 2:
+                if (this.enumerator.moveNext()) {
+                    this.current = this.enumerator.current();
+                    return true;
+                }
+                this.close();
+                return false;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    public void close() {
+        if (this.enumerator != null) {
+            this.enumerator.close();
+            this.enumerator = null;
+        }
+        super.close();
+    }
+}
+
+
+final class TakeIntIterator extends AbstractIntIterator {
+    private final IIntEnumerable source;
+    private final int count;
+    private IIntEnumerator enumerator;
+    private int remaining;
+
+    TakeIntIterator(IIntEnumerable source, int count) {
+        assert source != null;
+        assert count > 0;
+        this.source = source;
+        this.count = count;
+    }
+
+    @Override
+    public AbstractIntIterator clone() {
+        return new TakeIntIterator(this.source, this.count);
+    }
+
+    @Override
+    public boolean moveNext() {
+        switch (this.state) {
+            case 1:
+                this.enumerator = this.source.enumerator();
+                this.remaining = this.count;
+                this.state = 2;
+            case 2:
+                if (this.remaining > 0 && this.enumerator.moveNext()) {
+                    this.remaining--;
+                    this.current = this.enumerator.current();
+                    return true;
+                }
+                this.close();
+                return false;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    public void close() {
+        if (this.enumerator != null) {
+            this.enumerator.close();
+            this.enumerator = null;
+        }
+        super.close();
+    }
+}
+
+
+final class DistinctIntIterator extends AbstractIntIterator {
+    private final IIntEnumerable source;
+    private IIntEnumerator enumerator;
+    private IntSet set;
+
+    DistinctIntIterator(IIntEnumerable source) {
+        assert source != null;
+        this.source = source;
+    }
+
+    @Override
+    public AbstractIntIterator clone() {
+        return new DistinctIntIterator(this.source);
+    }
+
+    @Override
+    public boolean moveNext() {
+        switch (this.state) {
+            case 1:
+                this.enumerator = this.source.enumerator();
+                this.set = new IntSet();
+                this.state = 2;
+            case 2:
+                while (this.enumerator.moveNext()) {
+                    int item = this.enumerator.current();
+                    if (this.set.add(item)) {
+                        this.current = item;
+                        return true;
+                    }
+                }
+                this.close();
+                return false;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    public void close() {
+        if (this.enumerator != null) {
+            this.enumerator.close();
+            this.enumerator = null;
+            this.set = null;
+        }
+        super.close();
+    }
+}
+
+
+final class SelectToIntIterator<TSource> extends AbstractIntIterator {
+    private final IEnumerable<TSource> source;
+    private final IntFunc1<TSource> selector;
+    private IEnumerator<TSource> enumerator;
+
+    SelectToIntIterator(IEnumerable<TSource> source, IntFunc1<TSource> selector) {
+        assert source != null;
+        assert selector != null;
+        this.source = source;
+        this.selector = selector;
+    }
+
+    @Override
+    public AbstractIntIterator clone() {
+        return new SelectToIntIterator<>(this.source, this.selector);
+    }
+
+    @Override
+    public boolean moveNext() {
+        switch (this.state) {
+            case 1:
+                this.enumerator = this.source.enumerator();
+                this.state = 2;
+            case 2:
+                if (this.enumerator.moveNext()) {
+                    this.current = this.selector.apply(this.enumerator.current());
+                    return true;
+                }
+                this.close();
+                return false;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    public void close() {
+        if (this.enumerator != null) {
+            this.enumerator.close();
+            this.enumerator = null;
+        }
+        super.close();
+    }
+}
+
+
+final class BoxIntIterator extends Iterator<Integer> {
+    private final IIntEnumerable source;
+    private IIntEnumerator enumerator;
+
+    BoxIntIterator(IIntEnumerable source) {
+        assert source != null;
+        this.source = source;
+    }
+
+    @Override
+    public AbstractIterator<Integer> clone() {
+        return new BoxIntIterator(this.source);
+    }
+
+    @Override
+    public boolean moveNext() {
+        switch (this.state) {
+            case 1:
+                this.enumerator = this.source.enumerator();
+                this.state = 2;
+            case 2:
+                if (this.enumerator.moveNext()) {
+                    this.current = this.enumerator.current();
+                    return true;
+                }
+                this.close();
+                return false;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    public void close() {
+        if (this.enumerator != null) {
+            this.enumerator.close();
+            this.enumerator = null;
+        }
+        super.close();
+    }
+}
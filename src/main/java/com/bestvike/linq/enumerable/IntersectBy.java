@@ -26,7 +26,23 @@ public final class IntersectBy {
         if (keySelector == null)
             ThrowHelper.throwArgumentNullException(ExceptionArgument.keySelector);
 
-        return new IntersectByIterator<>(first, second, keySelector, comparer);
+        return new IntersectByIterator<>(first, second, keySelector, 0, comparer);
+    }
+
+    public static <TSource, TKey> IEnumerable<TSource> intersectBy(IEnumerable<TSource> first, IEnumerable<TSource> second, Func1<TSource, TKey> keySelector, double falsePositiveRate) {
+        return intersectBy(first, second, keySelector, falsePositiveRate, null);
+    }
+
+    public static <TSource, TKey> IEnumerable<TSource> intersectBy(IEnumerable<TSource> first, IEnumerable<TSource> second, Func1<TSource, TKey> keySelector, double falsePositiveRate, IEqualityComparer<TKey> comparer) {
+        if (first == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.first);
+        if (second == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.second);
+        if (keySelector == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.keySelector);
+        SemiJoin.checkFalsePositiveRate(falsePositiveRate);
+
+        return new IntersectByIterator<>(first, second, keySelector, falsePositiveRate, comparer);
     }
 }
 
@@ -35,34 +51,40 @@ final class IntersectByIterator<TSource, TKey> extends AbstractIterator<TSource>
     private final IEnumerable<TSource> first;
     private final IEnumerable<TSource> second;
     private final Func1<TSource, TKey> keySelector;
+    private final double falsePositiveRate;
     private final IEqualityComparer<TKey> comparer;
     private Set<TKey> set;
+    private BloomFilter<TKey> filter;
     private IEnumerator<TSource> enumerator;
 
-    IntersectByIterator(IEnumerable<TSource> first, IEnumerable<TSource> second, Func1<TSource, TKey> keySelector, IEqualityComparer<TKey> comparer) {
+    IntersectByIterator(IEnumerable<TSource> first, IEnumerable<TSource> second, Func1<TSource, TKey> keySelector, double falsePositiveRate, IEqualityComparer<TKey> comparer) {
         this.first = first;
         this.second = second;
         this.keySelector = keySelector;
+        this.falsePositiveRate = falsePositiveRate;
         this.comparer = comparer;
     }
 
     @Override
     public AbstractIterator<TSource> clone() {
-        return new IntersectByIterator<>(this.first, this.second, this.keySelector, this.comparer);
+        return new IntersectByIterator<>(this.first, this.second, this.keySelector, this.falsePositiveRate, this.comparer);
     }
 
     @Override
     public boolean moveNext() {
         switch (this.state) {
             case 1:
-                this.set = new Set<>(this.comparer);
+                this.set = new Set<>(this.comparer, Set.capacityOf(this.second));
                 this.set.unionWith(this.second, this.keySelector);
+                if (this.falsePositiveRate > 0)
+                    this.filter = BloomFilter.of(this.set, this.comparer, this.falsePositiveRate);
                 this.enumerator = this.first.enumerator();
                 this.state = 2;
             case 2:
                 while (this.enumerator.moveNext()) {
                     TSource item = this.enumerator.current();
-                    if (this.set.remove(this.keySelector.apply(item))) {
+                    TKey key = this.keySelector.apply(item);
+                    if ((this.filter == null || this.filter.mightContain(key)) && this.set.remove(key)) {
                         this.current = item;
                         return true;
                     }
@@ -80,6 +102,7 @@ final class IntersectByIterator<TSource, TKey> extends AbstractIterator<TSource>
             this.enumerator.close();
             this.enumerator = null;
             this.set = null;
+            this.filter = null;
         }
         super.close();
     }
@@ -4,12 +4,16 @@ import com.bestvike.collections.generic.ICollection;
 import com.bestvike.collections.generic.IEqualityComparer;
 import com.bestvike.function.Func1;
 import com.bestvike.function.Func2;
+import com.bestvike.function.IntFunc1;
+import com.bestvike.function.LongFunc1;
 import com.bestvike.linq.IEnumerable;
 import com.bestvike.linq.IEnumerator;
 import com.bestvike.linq.exception.ExceptionArgument;
 import com.bestvike.linq.exception.ThrowHelper;
+import com.bestvike.out;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 /**
@@ -129,6 +133,67 @@ public final class Join {
 
         return new CrossJoinIterator<>(outer, inner, resultSelector);
     }
+
+    public static <TOuter, TInner, TResult> IEnumerable<TResult> joinInt(IEnumerable<TOuter> outer, IEnumerable<TInner> inner, IntFunc1<TOuter> outerKeySelector, IntFunc1<TInner> innerKeySelector, Func2<TOuter, TInner, TResult> resultSelector) {
+        if (outer == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.outer);
+        if (inner == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.inner);
+        if (outerKeySelector == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.outerKeySelector);
+        if (innerKeySelector == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.innerKeySelector);
+        if (resultSelector == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.resultSelector);
+
+        return new JoinIntIterator<>(outer, inner, outerKeySelector, innerKeySelector, resultSelector);
+    }
+
+    public static <TOuter, TInner, TResult> IEnumerable<TResult> joinLong(IEnumerable<TOuter> outer, IEnumerable<TInner> inner, LongFunc1<TOuter> outerKeySelector, LongFunc1<TInner> innerKeySelector, Func2<TOuter, TInner, TResult> resultSelector) {
+        if (outer == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.outer);
+        if (inner == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.inner);
+        if (outerKeySelector == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.outerKeySelector);
+        if (innerKeySelector == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.innerKeySelector);
+        if (resultSelector == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.resultSelector);
+
+        return new JoinLongIterator<>(outer, inner, outerKeySelector, innerKeySelector, resultSelector);
+    }
+
+    // Computes the keys of outer up front when it is a collection of less than half the rows of inner, otherwise returns null.
+    // The keys then filter inner before it is hashed, so the lookup holds only the rows which can match while the output order stays the same.
+    // Inner stays the build side. On this path outerKeySelector runs over all of outer before innerKeySelector runs, instead of once per outer
+    // row after the lookup is built, so its side effects and exceptions come first. The outer collection is also enumerated twice.
+    static <TOuter, TKey> Object[] probeKeysOf(IEnumerable<TOuter> outer, IEnumerable<?> inner, Func1<TOuter, TKey> outerKeySelector) {
+        if (!(outer instanceof ICollection))
+            return null;
+        int outerCount = ((ICollection<TOuter>) outer)._getCount();
+        out<Integer> innerCountRef = out.init();
+        if (!EnumerableHelpers.tryGetCount(inner, innerCountRef) || outerCount >= innerCountRef.value >> 1)
+            return null;
+
+        Object[] keys = new Object[outerCount];
+        int index = 0;
+        try (IEnumerator<TOuter> e = outer.enumerator()) {
+            while (index < outerCount && e.moveNext())
+                keys[index++] = outerKeySelector.apply(e.current());
+        }
+        return index == outerCount ? keys : Arrays.copyOf(keys, index);
+    }
+
+    static <TKey> Set<TKey> probeKeySet(Object[] keys, IEqualityComparer<TKey> comparer) {
+        Set<TKey> set = new Set<>(comparer, keys.length);
+        for (Object key : keys) {
+            if (key != null)
+                //noinspection unchecked
+                set.add((TKey) key);
+        }
+        return set;
+    }
 }
 
 
@@ -140,6 +205,8 @@ final class JoinIterator<TOuter, TInner, TKey, TResult> extends AbstractIterator
     private final Func2<TOuter, TInner, TResult> resultSelector;
     private final IEqualityComparer<TKey> comparer;
     private IEnumerator<TOuter> outerEnumerator;
+    private Object[] outerKeys;
+    private int outerIndex;
     private Lookup<TKey, TInner> lookup;
     private TOuter item;
     private Grouping<TKey, TInner> g;
@@ -169,7 +236,10 @@ final class JoinIterator<TOuter, TInner, TKey, TResult> extends AbstractIterator
                         this.close();
                         return false;
                     }
-                    this.lookup = Lookup.createForJoin(this.inner, this.innerKeySelector, this.comparer);
+                    this.outerKeys = Join.probeKeysOf(this.outer, this.inner, this.outerKeySelector);
+                    this.lookup = this.outerKeys == null
+                            ? Lookup.createForJoin(this.inner, this.innerKeySelector, this.comparer)
+                            : Lookup.createForJoin(this.inner, this.innerKeySelector, this.comparer, Join.probeKeySet(this.outerKeys, this.comparer));
                     if (this.lookup.getCount() == 0) {
                         this.close();
                         return false;
@@ -177,7 +247,8 @@ final class JoinIterator<TOuter, TInner, TKey, TResult> extends AbstractIterator
                     this.state = 2;
                 case 2:
                     this.item = this.outerEnumerator.current();
-                    this.g = this.lookup.fetchGrouping(this.outerKeySelector.apply(this.item));
+                    //noinspection unchecked
+                    this.g = this.lookup.fetchGrouping(this.outerKeys == null || this.outerIndex >= this.outerKeys.length ? this.outerKeySelector.apply(this.item) : (TKey) this.outerKeys[this.outerIndex++]);
                     if (this.g == null) {
                         this.state = 3;
                         break;
@@ -211,6 +282,7 @@ final class JoinIterator<TOuter, TInner, TKey, TResult> extends AbstractIterator
         if (this.outerEnumerator != null) {
             this.outerEnumerator.close();
             this.outerEnumerator = null;
+            this.outerKeys = null;
             this.lookup = null;
             this.item = null;
             this.g = null;
@@ -229,6 +301,8 @@ final class LeftJoinIterator<TOuter, TInner, TKey, TResult> extends AbstractIter
     private final Func2<TOuter, TInner, TResult> resultSelector;
     private final IEqualityComparer<TKey> comparer;
     private IEnumerator<TOuter> outerEnumerator;
+    private Object[] outerKeys;
+    private int outerIndex;
     private Lookup<TKey, TInner> lookup;
     private TOuter item;
     private Grouping<TKey, TInner> g;
@@ -259,11 +333,15 @@ final class LeftJoinIterator<TOuter, TInner, TKey, TResult> extends AbstractIter
                         this.close();
                         return false;
                     }
-                    this.lookup = Lookup.createForJoin(this.inner, this.innerKeySelector, this.comparer);
+                    this.outerKeys = Join.probeKeysOf(this.outer, this.inner, this.outerKeySelector);
+                    this.lookup = this.outerKeys == null
+                            ? Lookup.createForJoin(this.inner, this.innerKeySelector, this.comparer)
+                            : Lookup.createForJoin(this.inner, this.innerKeySelector, this.comparer, Join.probeKeySet(this.outerKeys, this.comparer));
                     this.state = 2;
                 case 2:
                     this.item = this.outerEnumerator.current();
-                    this.g = this.lookup.fetchGrouping(this.outerKeySelector.apply(this.item));
+                    //noinspection unchecked
+                    this.g = this.lookup.fetchGrouping(this.outerKeys == null || this.outerIndex >= this.outerKeys.length ? this.outerKeySelector.apply(this.item) : (TKey) this.outerKeys[this.outerIndex++]);
                     if (this.g == null) {
                         this.current = this.resultSelector.apply(this.item, this.defaultInner);
                         this.state = 3;
@@ -298,6 +376,7 @@ final class LeftJoinIterator<TOuter, TInner, TKey, TResult> extends AbstractIter
         if (this.outerEnumerator != null) {
             this.outerEnumerator.close();
             this.outerEnumerator = null;
+            this.outerKeys = null;
             this.lookup = null;
             this.item = null;
             this.g = null;
@@ -639,3 +718,215 @@ final class CrossJoinIterator<TOuter, TInner, TResult> extends Iterator<TResult>
         return count;
     }
 }
+
+
+// Like JoinIterator, inner is grouped by an open addressing table of int keys so no key is boxed.
+final class JoinIntIterator<TOuter, TInner, TResult> extends AbstractIterator<TResult> {
+    private final IEnumerable<TOuter> outer;
+    private final IEnumerable<TInner> inner;
+    private final IntFunc1<TOuter> outerKeySelector;
+    private final IntFunc1<TInner> innerKeySelector;
+    private final Func2<TOuter, TInner, TResult> resultSelector;
+    private IEnumerator<TOuter> outerEnumerator;
+    private IntMap<Grouping<Object, TInner>> map;
+    private TOuter item;
+    private Grouping<Object, TInner> g;
+    private int index;
+
+    JoinIntIterator(IEnumerable<TOuter> outer, IEnumerable<TInner> inner, IntFunc1<TOuter> outerKeySelector, IntFunc1<TInner> innerKeySelector, Func2<TOuter, TInner, TResult> resultSelector) {
+        this.outer = outer;
+        this.inner = inner;
+        this.outerKeySelector = outerKeySelector;
+        this.innerKeySelector = innerKeySelector;
+        this.resultSelector = resultSelector;
+    }
+
+    @Override
+    public AbstractIterator<TResult> clone() {
+        return new JoinIntIterator<>(this.outer, this.inner, this.outerKeySelector, this.innerKeySelector, this.resultSelector);
+    }
+
+    @Override
+    public boolean moveNext() {
+        do {
+            switch (this.state) {
+                case 1:
+                    this.outerEnumerator = this.outer.enumerator();
+                    if (!this.outerEnumerator.moveNext()) {
+                        this.close();
+                        return false;
+                    }
+                    this.map = this.createMap();
+                    if (this.map.getCount() == 0) {
+                        this.close();
+                        return false;
+                    }
+                    this.state = 2;
+                case 2:
+                    this.item = this.outerEnumerator.current();
+                    this.g = this.map.get(this.outerKeySelector.apply(this.item));
+                    if (this.g == null) {
+                        this.state = 3;
+                        break;
+                    }
+                    this.index = -1;
+                    this.state = 4;
+                    break;
+                case 3:
+                    if (!this.outerEnumerator.moveNext()) {
+                        this.close();
+                        return false;
+                    }
+                    this.state = 2;
+                    break;
+                case 4:
+                    this.index++;
+                    if (this.index < this.g._getCount()) {
+                        this.current = this.resultSelector.apply(this.item, this.g.get(this.index));
+                        return true;
+                    }
+                    this.state = 3;
+                    break;
+                default:
+                    return false;
+            }
+        } while (true);
+    }
+
+    private IntMap<Grouping<Object, TInner>> createMap() {
+        IntMap<Grouping<Object, TInner>> map = new IntMap<>();
+        GroupingArena arena = new GroupingArena(GroupingArena.capacityOf(this.inner, 0, 0));
+        try (IEnumerator<TInner> e = this.inner.enumerator()) {
+            while (e.moveNext()) {
+                TInner element = e.current();
+                int key = this.innerKeySelector.apply(element);
+                Grouping<Object, TInner> g = map.get(key);
+                if (g == null) {
+                    g = new Grouping<>();
+                    map.add(key, g);
+                }
+                arena.add(g, element);
+            }
+        }
+        arena.copyToGroupings();
+        return map;
+    }
+
+    @Override
+    public void close() {
+        if (this.outerEnumerator != null) {
+            this.outerEnumerator.close();
+            this.outerEnumerator = null;
+            this.map = null;
+            this.item = null;
+            this.g = null;
+        }
+        super.close();
+    }
+}
+
+
+// Like JoinIterator, inner is grouped by an open addressing table of long keys so no key is boxed.
+final class JoinLongIterator<TOuter, TInner, TResult> extends AbstractIterator<TResult> {
+    private final IEnumerable<TOuter> outer;
+    private final IEnumerable<TInner> inner;
+    private final LongFunc1<TOuter> outerKeySelector;
+    private final LongFunc1<TInner> innerKeySelector;
+    private final Func2<TOuter, TInner, TResult> resultSelector;
+    private IEnumerator<TOuter> outerEnumerator;
+    private LongMap<Grouping<Object, TInner>> map;
+    private TOuter item;
+    private Grouping<Object, TInner> g;
+    private int index;
+
+    JoinLongIterator(IEnumerable<TOuter> outer, IEnumerable<TInner> inner, LongFunc1<TOuter> outerKeySelector, LongFunc1<TInner> innerKeySelector, Func2<TOuter, TInner, TResult> resultSelector) {
+        this.outer = outer;
+        this.inner = inner;
+        this.outerKeySelector = outerKeySelector;
+        this.innerKeySelector = innerKeySelector;
+        this.resultSelector = resultSelector;
+    }
+
+    @Override
+    public AbstractIterator<TResult> clone() {
+        return new JoinLongIterator<>(this.outer, this.inner, this.outerKeySelector, this.innerKeySelector, this.resultSelector);
+    }
+
+    @Override
+    public boolean moveNext() {
+        do {
+            switch (this.state) {
+                case 1:
+                    this.outerEnumerator = this.outer.enumerator();
+                    if (!this.outerEnumerator.moveNext()) {
+                        this.close();
+                        return false;
+                    }
+                    this.map = this.createMap();
+                    if (this.map.getCount() == 0) {
+                        this.close();
+                        return false;
+                    }
+                    this.state = 2;
+                case 2:
+                    this.item = this.outerEnumerator.current();
+                    this.g = this.map.get(this.outerKeySelector.apply(this.item));
+                    if (this.g == null) {
+                        this.state = 3;
+                        break;
+                    }
+                    this.index = -1;
+                    this.state = 4;
+                    break;
+                case 3:
+                    if (!this.outerEnumerator.moveNext()) {
+                        this.close();
+                        return false;
+                    }
+                    this.state = 2;
+                    break;
+                case 4:
+                    this.index++;
+                    if (this.index < this.g._getCount()) {
+                        this.current = this.resultSelector.apply(this.item, this.g.get(this.index));
+                        return true;
+                    }
+                    this.state = 3;
+                    break;
+                default:
+                    return false;
+            }
+        } while (true);
+    }
+
+    private LongMap<Grouping<Object, TInner>> createMap() {
+        LongMap<Grouping<Object, TInner>> map = new LongMap<>();
+        GroupingArena arena = new GroupingArena(GroupingArena.capacityOf(this.inner, 0, 0));
+        try (IEnumerator<TInner> e = this.inner.enumerator()) {
+            while (e.moveNext()) {
+                TInner element = e.current();
+                long key = this.innerKeySelector.apply(element);
+                Grouping<Object, TInner> g = map.get(key);
+                if (g == null) {
+                    g = new Grouping<>();
+                    map.add(key, g);
+                }
+                arena.add(g, element);
+            }
+        }
+        arena.copyToGroupings();
+        return map;
+    }
+
+    @Override
+    public void close() {
+        if (this.outerEnumerator != null) {
+            this.outerEnumerator.close();
+            this.outerEnumerator = null;
+            this.map = null;
+            this.item = null;
+            this.g = null;
+        }
+        super.close();
+    }
+}
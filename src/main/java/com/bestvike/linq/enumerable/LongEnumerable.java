@@ -0,0 +1,690 @@
+package com.bestvike.linq.enumerable;
+
+import com.bestvike.function.LongFunc1;
+import com.bestvike.function.LongPredicate1;
+import com.bestvike.function.LongUnaryFunc1;
+import com.bestvike.linq.IEnumerable;
+import com.bestvike.linq.IEnumerator;
+import com.bestvike.linq.ILongEnumerable;
+import com.bestvike.linq.ILongEnumerator;
+import com.bestvike.linq.exception.ExceptionArgument;
+import com.bestvike.linq.exception.ThrowHelper;
+
+import java.util.Arrays;
+
+/**
+ * Created by 许崇雷 on 2026-10-17.
+ */
+public final class LongEnumerable {
+    private static final long[] EMPTY = new long[0];
+
+    private LongEnumerable() {
+    }
+
+    public static ILongEnumerable empty() {
+        return new LongArrayIterator(EMPTY, 0, 0);
+    }
+
+    public static ILongEnumerable of(long[] source) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+
+        return new LongArrayIterator(source, 0, source.length);
+    }
+
+    public static <TSource> ILongEnumerable selectLong(IEnumerable<TSource> source, LongFunc1<TSource> selector) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+        if (selector == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.selector);
+
+        return new SelectToLongIterator<>(source, selector);
+    }
+
+    public static ILongEnumerable where(ILongEnumerable source, LongPredicate1 predicate) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+        if (predicate == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.predicate);
+
+        if (source instanceof AbstractLongIterator)
+            return ((AbstractLongIterator) source)._where(predicate);
+
+        return new WhereLongIterator(source, predicate);
+    }
+
+    public static ILongEnumerable select(ILongEnumerable source, LongUnaryFunc1 selector) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+        if (selector == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.selector);
+
+        if (source instanceof AbstractLongIterator)
+            return ((AbstractLongIterator) source)._select(selector);
+
+        return new SelectLongIterator(source, selector);
+    }
+
+    public static ILongEnumerable skip(ILongEnumerable source, int count) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+
+        if (count <= 0)
+            return source;
+
+        if (source instanceof ILongPartition)
+            return ((ILongPartition) source)._skip(count);
+
+        return new SkipLongIterator(source, count);
+    }
+
+    public static ILongEnumerable take(ILongEnumerable source, int count) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+
+        if (count <= 0)
+            return empty();
+
+        if (source instanceof ILongPartition)
+            return ((ILongPartition) source)._take(count);
+
+        return new TakeLongIterator(source, count);
+    }
+
+    public static ILongEnumerable distinct(ILongEnumerable source) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+
+        return new DistinctLongIterator(source);
+    }
+
+    public static IEnumerable<Long> boxed(ILongEnumerable source) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+
+        return new BoxLongIterator(source);
+    }
+
+    public static int count(ILongEnumerable source) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+
+        if (source instanceof ILongPartition)
+            return ((ILongPartition) source)._getCount();
+
+        int count = 0;
+        try (ILongEnumerator e = source.enumerator()) {
+            while (e.moveNext())
+                count = Math.addExact(count, 1);
+        }
+        return count;
+    }
+
+    public static long sum(ILongEnumerable source) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+
+        long sum = 0;
+        try (ILongEnumerator e = source.enumerator()) {
+            while (e.moveNext())
+                sum = Math.addExact(sum, e.current());
+        }
+        return sum;
+    }
+
+    public static long min(ILongEnumerable source) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+
+        long value;
+        try (ILongEnumerator e = source.enumerator()) {
+            if (!e.moveNext())
+                ThrowHelper.throwNoElementsException();
+
+            value = e.current();
+            while (e.moveNext()) {
+                long x = e.current();
+                if (x < value)
+                    value = x;
+            }
+        }
+        return value;
+    }
+
+    public static long max(ILongEnumerable source) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+
+        long value;
+        try (ILongEnumerator e = source.enumerator()) {
+            if (!e.moveNext())
+                ThrowHelper.throwNoElementsException();
+
+            value = e.current();
+            while (e.moveNext()) {
+                long x = e.current();
+                if (x > value)
+                    value = x;
+            }
+        }
+        return value;
+    }
+
+    public static double average(ILongEnumerable source) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+
+        try (ILongEnumerator e = source.enumerator()) {
+            if (!e.moveNext())
+                ThrowHelper.throwNoElementsException();
+
+            long sum = e.current();
+            long count = 1;
+            while (e.moveNext()) {
+                sum = Math.addExact(sum, e.current());
+                count = Math.addExact(count, 1);
+            }
+            return (double) sum / count;
+        }
+    }
+
+    public static long[] toArray(ILongEnumerable source) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+
+        if (source instanceof ILongPartition)
+            return ((ILongPartition) source)._toArray();
+
+        long[] array = EMPTY;
+        int count = 0;
+        try (ILongEnumerator e = source.enumerator()) {
+            while (e.moveNext()) {
+                if (count == array.length)
+                    array = Arrays.copyOf(array, count == 0 ? 4 : Math.multiplyExact(count, 2));
+                array[count++] = e.current();
+            }
+        }
+        return count == array.length ? array : Arrays.copyOf(array, count);
+    }
+}
+
+
+interface ILongPartition extends ILongEnumerable {
+    ILongEnumerable _skip(int count);
+
+    ILongEnumerable _take(int count);
+
+    int _getCount();
+
+    long[] _toArray();
+}
+
+
+abstract class AbstractLongIterator implements ILongEnumerable, ILongEnumerator {
+    private final long threadId;
+    protected int state;
+    protected long current;
+    private boolean checkedNext;
+    private boolean hasNext;
+
+    AbstractLongIterator() {
+        this.threadId = Thread.currentThread().getId();
+    }
+
+    @Override
+    public abstract AbstractLongIterator clone();
+
+    @Override
+    public ILongEnumerator enumerator() {
+        AbstractLongIterator enumerator = this.state == 0 && this.threadId == Thread.currentThread().getId() ? this : this.clone();
+        enumerator.state = 1;
+        return enumerator;
+    }
+
+    public ILongEnumerable _where(LongPredicate1 predicate) {
+        return new WhereLongIterator(this, predicate);
+    }
+
+    public ILongEnumerable _select(LongUnaryFunc1 selector) {
+        return new SelectLongIterator(this, selector);
+    }
+
+    @Override
+    public abstract boolean moveNext();
+
+    @Override
+    public long current() {
+        return this.current;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (!this.checkedNext) {
+            this.hasNext = this.moveNext();
+            this.checkedNext = true;
+        }
+        return this.hasNext;
+    }
+
+    @Override
+    public long nextLong() {
+        if (this.hasNext()) {
+            this.checkedNext = false;
+            return this.current;
+        }
+        ThrowHelper.throwNoSuchElementException();
+        return 0;
+    }
+
+    @Override
+    public void close() {
+        this.state = -1;
+    }
+}
+
+
+final class LongArrayIterator extends AbstractLongIterator implements ILongPartition {
+    private final long[] source;
+    private final int start;
+    private final int end;
+
+    LongArrayIterator(long[] source, int start, int end) {
+        assert source != null;
+        assert 0 <= start && start <= end && end <= source.length;
+        this.source = source;
+        this.start = start;
+        this.end = end;
+    }
+
+    @Override
+    public AbstractLongIterator clone() {
+        return new LongArrayIterator(this.source, this.start, this.end);
+    }
+
+    @Override
+    public boolean moveNext() {
+        // state - 1 represents the zero-based offset from start.
+        if (this.state == -1)
+            return false;
+        int index = this.start + this.state - 1;
+        if (index < this.end) {
+            this.current = this.source[index];
+            ++this.state;
+            return true;
+        }
+
+        this.close();
+        return false;
+    }
+
+    @Override
+    public ILongEnumerable _skip(int count) {
+        return count >= this.end - this.start
+                ? LongEnumerable.empty()
+                : new LongArrayIterator(this.source, this.start + count, this.end);
+    }
+
+    @Override
+    public ILongEnumerable _take(int count) {
+        return count >= this.end - this.start
+                ? this
+                : new LongArrayIterator(this.source, this.start, this.start + count);
+    }
+
+    @Override
+    public int _getCount() {
+        return this.end - this.start;
+    }
+
+    @Override
+    public long[] _toArray() {
+        return Arrays.copyOfRange(this.source, this.start, this.end);
+    }
+}
+
+
+
+final class WhereLongIterator extends AbstractLongIterator {
+    private final ILongEnumerable source;
+    private final LongPredicate1 predicate;
+    private ILongEnumerator enumerator;
+
+    WhereLongIterator(ILongEnumerable source, LongPredicate1 predicate) {
+        assert source != null;
+        assert predicate != null;
+        this.source = source;
+        this.predicate = predicate;
+    }
+
+    @Override
+    public AbstractLongIterator clone() {
+        return new WhereLongIterator(this.source, this.predicate);
+    }
+
+    @Override
+    public boolean moveNext() {
+        switch (this.state) {
+            case 1:
+                this.enumerator = this.source.enumerator();
+                this.state = 2;
+            case 2:
+                while (this.enumerator.moveNext()) {
+                    long item = this.enumerator.current();
+                    if (this.predicate.apply(item)) {
+                        this.current = item;
+                        return true;
+                    }
+                }
+                this.close();
+                return false;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    public void close() {
+        if (this.enumerator != null) {
+            this.enumerator.close();
+            this.enumerator = null;
+        }
+        super.close();
+    }
+
+    @Override
+    public ILongEnumerable _where(LongPredicate1 predicate) {
+        LongPredicate1 first = this.predicate;
+        return new WhereLongIterator(this.source, x -> first.apply(x) && predicate.apply(x));
+    }
+}
+
+
+final class SelectLongIterator extends AbstractLongIterator {
+    private final ILongEnumerable source;
+    private final LongUnaryFunc1 selector;
+    private ILongEnumerator enumerator;
+
+    SelectLongIterator(ILongEnumerable source, LongUnaryFunc1 selector) {
+        assert source != null;
+        assert selector != null;
+        this.source = source;
+        this.selector = selector;
+    }
+
+    @Override
+    public AbstractLongIterator clone() {
+        return new SelectLongIterator(this.source, this.selector);
+    }
+
+    @Override
+    public boolean moveNext() {
+        switch (this.state) {
+            case 1:
+                this.enumerator = this.source.enumerator();
+                this.state = 2;
+            case 2:
+                if (this.enumerator.moveNext()) {
+                    this.current = this.selector.apply(this.enumerator.current());
+                    return true;
+                }
+                this.close();
+                return false;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    public void close() {
+        if (this.enumerator != null) {
+            this.enumerator.close();
+            this.enumerator = null;
+        }
+        super.close();
+    }
+
+    @Override
+    public ILongEnumerable _select(LongUnaryFunc1 selector) {
+        LongUnaryFunc1 first = this.selector;
+        return new SelectLongIterator(this.source, x -> selector.apply(first.apply(x)));
+    }
+}
+
+
+final class SkipLongIterator extends AbstractLongIterator {
+    private final ILongEnumerable source;
+    private final int count;
+    private ILongEnumerator enumerator;
+
+    SkipLongIterator(ILongEnumerable source, int count) {
+        assert source != null;
+        assert count > 0;
+        this.source = source;
+        this.count = count;
+    }
+
+    @Override
+    public AbstractLongIterator clone() {
+        return new SkipLongIterator(this.source, this.count);
+    }
+
+    @Override
+    public boolean moveNext() {
+        switch (this.state) {
+            case 1:
+                this.enumerator = this.source.enumerator();
+                for (int i = 0; i < this.count; i++) {
+                    if (!this.enumerator.moveNext()) {
+                        this.close();
+                        return false;
+                    }
+                }
+                this.state = 2;
+            case 2:
+                if (this.enumerator.moveNext()) {
+                    this.current = this.enumerator.current();
+                    return true;
+                }
+                this.close();
+                return false;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    public void close() {
+        if (this.enumerator != null) {
+            this.enumerator.close();
+            this.enumerator = null;
+        }
+        super.close();
+    }
+}
+
+
+final class TakeLongIterator extends AbstractLongIterator {
+    private final ILongEnumerable source;
+    private final int count;
+    private ILongEnumerator enumerator;
+    private int remaining;
+
+    TakeLongIterator(ILongEnumerable source, int count) {
+        assert source != null;
+        assert count > 0;
+        this.source = source;
+        this.count = count;
+    }
+
+    @Override
+    public AbstractLongIterator clone() {
+        return new TakeLongIterator(this.source, this.count);
+    }
+
+    @Override
+    public boolean moveNext() {
+        switch (this.state) {
+            case 1:
+                this.enumerator = this.source.enumerator();
+                this.remaining = this.count;
+                this.state = 2;
+            case 2:
+                if (this.remaining > 0 && this.enumerator.moveNext()) {
+                    this.remaining--;
+                    this.current = this.enumerator.current();
+                    return true;
+                }
+                this.close();
+                return false;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    public void close() {
+        if (this.enumerator != null) {
+            this.enumerator.close();
+            this.enumerator = null;
+        }
+        super.close();
+    }
+}
+
+
+final class DistinctLongIterator extends AbstractLongIterator {
+    private final ILongEnumerable source;
+    private ILongEnumerator enumerator;
+    private LongSet set;
+
+    DistinctLongIterator(ILongEnumerable source) {
+        assert source != null;
+        this.source = source;
+    }
+
+    @Override
+    public AbstractLongIterator clone() {
+        return new DistinctLongIterator(this.source);
+    }
+
+    @Override
+    public boolean moveNext() {
+        switch (this.state) {
+            case 1:
+                this.enumerator = this.source.enumerator();
+                this.set = new LongSet();
+                this.state = 2;
+            case 2:
+                while (this.enumerator.moveNext()) {
+                    long item = this.enumerator.current();
+                    if (this.set.add(item)) {
+                        this.current = item;
+                        return true;
+                    }
+                }
+                this.close();
+                return false;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    public void close() {
+        if (this.enumerator != null) {
+            this.enumerator.close();
+            this.enumerator = null;
+            this.set = null;
+        }
+        super.close();
+    }
+}
+
+
+final class SelectToLongIterator<TSource> extends AbstractLongIterator {
+    private final IEnumerable<TSource> source;
+    private final LongFunc1<TSource> selector;
+    private IEnumerator<TSource> enumerator;
+
+    SelectToLongIterator(IEnumerable<TSource> source, LongFunc1<TSource> selector) {
+        assert source != null;
+        assert selector != null;
+        this.source = source;
+        this.selector = selector;
+    }
+
+    @Override
+    public AbstractLongIterator clone() {
+        return new SelectToLongIterator<>(this.source, this.selector);
+    }
+
+    @Override
+    public boolean moveNext() {
+        switch (this.state) {
+            case 1:
+                this.enumerator = this.source.enumerator();
+                this.state = 2;
+            case 2:
+                if (this.enumerator.moveNext()) {
+                    this.current = this.selector.apply(this.enumerator.current());
+                    return true;
+                }
+                this.close();
+                return false;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    public void close() {
+        if (this.enumerator != null) {
+            this.enumerator.close();
+            this.enumerator = null;
+        }
+        super.close();
+    }
+}
+
+
+final class BoxLongIterator extends Iterator<Long> {
+    private final ILongEnumerable source;
+    private ILongEnumerator enumerator;
+
+    BoxLongIterator(ILongEnumerable source) {
+        assert source != null;
+        this.source = source;
+    }
+
+    @Override
+    public AbstractIterator<Long> clone() {
+        return new BoxLongIterator(this.source);
+    }
+
+    @Override
+    public boolean moveNext() {
+        switch (this.state) {
+            case 1:
+                this.enumerator = this.source.enumerator();
+                this.state = 2;
+            case 2:
+                if (this.enumerator.moveNext()) {
+                    this.current = this.enumerator.current();
+                    return true;
+                }
+                this.close();
+                return false;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    public void close() {
+        if (this.enumerator != null) {
+            this.enumerator.close();
+            this.enumerator = null;
+        }
+        super.close();
+    }
+}
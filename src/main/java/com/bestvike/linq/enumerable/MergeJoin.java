@@ -0,0 +1,255 @@
+package com.bestvike.linq.enumerable;
+
+import com.bestvike.collections.generic.Comparer;
+import com.bestvike.function.Func1;
+import com.bestvike.function.Func2;
+import com.bestvike.linq.IEnumerable;
+import com.bestvike.linq.IEnumerator;
+import com.bestvike.linq.exception.ExceptionArgument;
+import com.bestvike.linq.exception.ThrowHelper;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Created by 许崇雷 on 2026-10-17.
+ */
+public final class MergeJoin {
+    private MergeJoin() {
+    }
+
+    public static <TOuter, TInner, TKey, TResult> IEnumerable<TResult> mergeJoin(IEnumerable<TOuter> outer, IEnumerable<TInner> inner, Func1<TOuter, TKey> outerKeySelector, Func1<TInner, TKey> innerKeySelector, Func2<TOuter, TInner, TResult> resultSelector) {
+        return mergeJoin(outer, inner, outerKeySelector, innerKeySelector, resultSelector, null);
+    }
+
+    public static <TOuter, TInner, TKey, TResult> IEnumerable<TResult> mergeJoin(IEnumerable<TOuter> outer, IEnumerable<TInner> inner, Func1<TOuter, TKey> outerKeySelector, Func1<TInner, TKey> innerKeySelector, Func2<TOuter, TInner, TResult> resultSelector, Comparator<TKey> comparer) {
+        checkArguments(outer, inner, outerKeySelector, innerKeySelector, resultSelector);
+        return new MergeJoinIterator<>(outer, inner, outerKeySelector, innerKeySelector, null, null, resultSelector, comparer, MergeJoinIterator.Inner);
+    }
+
+    public static <TOuter, TInner, TKey, TResult> IEnumerable<TResult> mergeLeftJoin(IEnumerable<TOuter> outer, IEnumerable<TInner> inner, Func1<TOuter, TKey> outerKeySelector, Func1<TInner, TKey> innerKeySelector, Func2<TOuter, TInner, TResult> resultSelector) {
+        return mergeLeftJoin(outer, inner, outerKeySelector, innerKeySelector, null, resultSelector, null);
+    }
+
+    public static <TOuter, TInner, TKey, TResult> IEnumerable<TResult> mergeLeftJoin(IEnumerable<TOuter> outer, IEnumerable<TInner> inner, Func1<TOuter, TKey> outerKeySelector, Func1<TInner, TKey> innerKeySelector, TInner defaultInner, Func2<TOuter, TInner, TResult> resultSelector) {
+        return mergeLeftJoin(outer, inner, outerKeySelector, innerKeySelector, defaultInner, resultSelector, null);
+    }
+
+    public static <TOuter, TInner, TKey, TResult> IEnumerable<TResult> mergeLeftJoin(IEnumerable<TOuter> outer, IEnumerable<TInner> inner, Func1<TOuter, TKey> outerKeySelector, Func1<TInner, TKey> innerKeySelector, Func2<TOuter, TInner, TResult> resultSelector, Comparator<TKey> comparer) {
+        return mergeLeftJoin(outer, inner, outerKeySelector, innerKeySelector, null, resultSelector, comparer);
+    }
+
+    public static <TOuter, TInner, TKey, TResult> IEnumerable<TResult> mergeLeftJoin(IEnumerable<TOuter> outer, IEnumerable<TInner> inner, Func1<TOuter, TKey> outerKeySelector, Func1<TInner, TKey> innerKeySelector, TInner defaultInner, Func2<TOuter, TInner, TResult> resultSelector, Comparator<TKey> comparer) {
+        checkArguments(outer, inner, outerKeySelector, innerKeySelector, resultSelector);
+        return new MergeJoinIterator<>(outer, inner, outerKeySelector, innerKeySelector, null, defaultInner, resultSelector, comparer, MergeJoinIterator.Left);
+    }
+
+    public static <TOuter, TInner, TKey, TResult> IEnumerable<TResult> mergeFullJoin(IEnumerable<TOuter> outer, IEnumerable<TInner> inner, Func1<TOuter, TKey> outerKeySelector, Func1<TInner, TKey> innerKeySelector, Func2<TOuter, TInner, TResult> resultSelector) {
+        return mergeFullJoin(outer, inner, outerKeySelector, innerKeySelector, null, null, resultSelector, null);
+    }
+
+    public static <TOuter, TInner, TKey, TResult> IEnumerable<TResult> mergeFullJoin(IEnumerable<TOuter> outer, IEnumerable<TInner> inner, Func1<TOuter, TKey> outerKeySelector, Func1<TInner, TKey> innerKeySelector, TOuter defaultOuter, TInner defaultInner, Func2<TOuter, TInner, TResult> resultSelector) {
+        return mergeFullJoin(outer, inner, outerKeySelector, innerKeySelector, defaultOuter, defaultInner, resultSelector, null);
+    }
+
+    public static <TOuter, TInner, TKey, TResult> IEnumerable<TResult> mergeFullJoin(IEnumerable<TOuter> outer, IEnumerable<TInner> inner, Func1<TOuter, TKey> outerKeySelector, Func1<TInner, TKey> innerKeySelector, Func2<TOuter, TInner, TResult> resultSelector, Comparator<TKey> comparer) {
+        return mergeFullJoin(outer, inner, outerKeySelector, innerKeySelector, null, null, resultSelector, comparer);
+    }
+
+    public static <TOuter, TInner, TKey, TResult> IEnumerable<TResult> mergeFullJoin(IEnumerable<TOuter> outer, IEnumerable<TInner> inner, Func1<TOuter, TKey> outerKeySelector, Func1<TInner, TKey> innerKeySelector, TOuter defaultOuter, TInner defaultInner, Func2<TOuter, TInner, TResult> resultSelector, Comparator<TKey> comparer) {
+        checkArguments(outer, inner, outerKeySelector, innerKeySelector, resultSelector);
+        return new MergeJoinIterator<>(outer, inner, outerKeySelector, innerKeySelector, defaultOuter, defaultInner, resultSelector, comparer, MergeJoinIterator.Full);
+    }
+
+    private static void checkArguments(IEnumerable<?> outer, IEnumerable<?> inner, Func1<?, ?> outerKeySelector, Func1<?, ?> innerKeySelector, Func2<?, ?, ?> resultSelector) {
+        if (outer == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.outer);
+        if (inner == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.inner);
+        if (outerKeySelector == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.outerKeySelector);
+        if (innerKeySelector == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.innerKeySelector);
+        if (resultSelector == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.resultSelector);
+    }
+}
+
+
+// Both sides must be sorted ascending by key under comparer, which is checked as they stream.
+// Only the inner run of the current key is buffered. Null keys never match.
+final class MergeJoinIterator<TOuter, TInner, TKey, TResult> extends AbstractIterator<TResult> {
+    static final int Inner = 0;
+    static final int Left = 1;
+    static final int Full = 2;
+    private final IEnumerable<TOuter> outer;
+    private final IEnumerable<TInner> inner;
+    private final Func1<TOuter, TKey> outerKeySelector;
+    private final Func1<TInner, TKey> innerKeySelector;
+    private final TOuter defaultOuter;
+    private final TInner defaultInner;
+    private final Func2<TOuter, TInner, TResult> resultSelector;
+    private final Comparator<TKey> comparer;
+    private final int kind;
+    private IEnumerator<TOuter> outerEnumerator;
+    private IEnumerator<TInner> innerEnumerator;
+    private boolean hasInner;
+    private TInner innerItem;
+    private TKey innerKey;
+    private TKey lastInnerKey;
+    private TOuter item;
+    private TKey key;
+    private TKey lastKey;
+    private List<TInner> run;
+    private TKey runKey;
+    private int index;
+
+    MergeJoinIterator(IEnumerable<TOuter> outer, IEnumerable<TInner> inner, Func1<TOuter, TKey> outerKeySelector, Func1<TInner, TKey> innerKeySelector, TOuter defaultOuter, TInner defaultInner, Func2<TOuter, TInner, TResult> resultSelector, Comparator<TKey> comparer, int kind) {
+        this.outer = outer;
+        this.inner = inner;
+        this.outerKeySelector = outerKeySelector;
+        this.innerKeySelector = innerKeySelector;
+        this.defaultOuter = defaultOuter;
+        this.defaultInner = defaultInner;
+        this.resultSelector = resultSelector;
+        this.comparer = comparer == null ? Comparer.Default() : comparer;
+        this.kind = kind;
+    }
+
+    @Override
+    public AbstractIterator<TResult> clone() {
+        return new MergeJoinIterator<>(this.outer, this.inner, this.outerKeySelector, this.innerKeySelector, this.defaultOuter, this.defaultInner, this.resultSelector, this.comparer, this.kind);
+    }
+
+    // Moves to the next inner element, null keys included.
+    private void moveNextInner() {
+        this.hasInner = this.innerEnumerator.moveNext();
+        if (!this.hasInner) {
+            this.innerItem = null;
+            this.innerKey = null;
+            return;
+        }
+        this.innerItem = this.innerEnumerator.current();
+        this.innerKey = this.innerKeySelector.apply(this.innerItem);
+        if (this.innerKey == null)
+            return;
+        if (this.lastInnerKey != null && this.comparer.compare(this.lastInnerKey, this.innerKey) > 0)
+            ThrowHelper.throwNotSortedByKeyException();
+        this.lastInnerKey = this.innerKey;
+    }
+
+    @Override
+    public boolean moveNext() {
+        do {
+            switch (this.state) {
+                case 1:
+                    this.outerEnumerator = this.outer.enumerator();
+                    this.innerEnumerator = this.inner.enumerator();
+                    this.run = new ArrayList<>();
+                    this.moveNextInner();
+                    this.state = 2;
+                case 2:
+                    if (!this.outerEnumerator.moveNext()) {
+                        this.state = 6;
+                        break;
+                    }
+                    this.item = this.outerEnumerator.current();
+                    this.key = this.outerKeySelector.apply(this.item);
+                    if (this.key == null) {
+                        if (this.kind == Inner)
+                            break;
+                        this.current = this.resultSelector.apply(this.item, this.defaultInner);
+                        return true;
+                    }
+                    if (this.lastKey != null && this.comparer.compare(this.lastKey, this.key) > 0)
+                        ThrowHelper.throwNotSortedByKeyException();
+                    this.lastKey = this.key;
+                    if (this.runKey != null && this.comparer.compare(this.runKey, this.key) == 0) {
+                        this.index = -1;
+                        this.state = 4;
+                        break;
+                    }
+                    this.state = 3;
+                case 3:
+                    // skip inner keys less than the outer key, they have no match
+                    while (this.hasInner && (this.innerKey == null || this.comparer.compare(this.innerKey, this.key) < 0)) {
+                        TInner unmatched = this.innerItem;
+                        this.moveNextInner();
+                        if (this.kind == Full) {
+                            this.current = this.resultSelector.apply(this.defaultOuter, unmatched);
+                            return true;
+                        }
+                    }
+                    this.run.clear();
+                    this.runKey = null;
+                    if (this.hasInner && this.comparer.compare(this.innerKey, this.key) == 0) {
+                        this.runKey = this.key;
+                        this.state = 5;
+                        break;
+                    }
+                    this.state = 2;
+                    if (this.kind == Inner)
+                        break;
+                    this.current = this.resultSelector.apply(this.item, this.defaultInner);
+                    return true;
+                case 4:
+                    this.index++;
+                    if (this.index < this.run.size()) {
+                        this.current = this.resultSelector.apply(this.item, this.run.get(this.index));
+                        return true;
+                    }
+                    this.state = 2;
+                    break;
+                case 5:
+                    // buffer the inner run equal to the outer key
+                    while (this.hasInner && (this.innerKey == null || this.comparer.compare(this.innerKey, this.runKey) == 0)) {
+                        TInner element = this.innerItem;
+                        boolean matched = this.innerKey != null;
+                        this.moveNextInner();
+                        if (matched) {
+                            this.run.add(element);
+                        } else if (this.kind == Full) {
+                            this.current = this.resultSelector.apply(this.defaultOuter, element);
+                            return true;
+                        }
+                    }
+                    this.index = -1;
+                    this.state = 4;
+                    break;
+                case 6:
+                    if (this.kind == Full && this.hasInner) {
+                        TInner unmatched = this.innerItem;
+                        this.moveNextInner();
+                        this.current = this.resultSelector.apply(this.defaultOuter, unmatched);
+                        return true;
+                    }
+                    this.close();
+                    return false;
+                default:
+                    return false;
+            }
+        } while (true);
+    }
+
+    @Override
+    public void close() {
+        if (this.outerEnumerator != null) {
+            this.outerEnumerator.close();
+            this.outerEnumerator = null;
+        }
+        if (this.innerEnumerator != null) {
+            this.innerEnumerator.close();
+            this.innerEnumerator = null;
+        }
+        this.innerItem = null;
+        this.innerKey = null;
+        this.lastInnerKey = null;
+        this.item = null;
+        this.key = null;
+        this.lastKey = null;
+        this.run = null;
+        this.runKey = null;
+        super.close();
+    }
+}
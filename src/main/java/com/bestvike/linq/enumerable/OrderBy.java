@@ -1,11 +1,16 @@
 package com.bestvike.linq.enumerable;
 
+import com.bestvike.function.DoubleFunc1;
 import com.bestvike.function.Func1;
+import com.bestvike.function.IntFunc1;
+import com.bestvike.function.LongFunc1;
 import com.bestvike.linq.IEnumerable;
 import com.bestvike.linq.IOrderedEnumerable;
+import com.bestvike.linq.ISerializer;
 import com.bestvike.linq.exception.ExceptionArgument;
 import com.bestvike.linq.exception.ThrowHelper;
 
+import java.nio.file.Path;
 import java.util.Comparator;
 
 /**
@@ -31,6 +36,30 @@ public final class OrderBy {
         return new OrderedEnumerable<>(source, keySelector, comparer, true, null);
     }
 
+    public static <TSource> IOrderedEnumerable<TSource> orderByInt(IEnumerable<TSource> source, IntFunc1<TSource> keySelector) {
+        return new IntOrderedEnumerable<>(source, keySelector, false, null);
+    }
+
+    public static <TSource> IOrderedEnumerable<TSource> orderByIntDescending(IEnumerable<TSource> source, IntFunc1<TSource> keySelector) {
+        return new IntOrderedEnumerable<>(source, keySelector, true, null);
+    }
+
+    public static <TSource> IOrderedEnumerable<TSource> orderByLong(IEnumerable<TSource> source, LongFunc1<TSource> keySelector) {
+        return new LongOrderedEnumerable<>(source, keySelector, false, null);
+    }
+
+    public static <TSource> IOrderedEnumerable<TSource> orderByLongDescending(IEnumerable<TSource> source, LongFunc1<TSource> keySelector) {
+        return new LongOrderedEnumerable<>(source, keySelector, true, null);
+    }
+
+    public static <TSource> IOrderedEnumerable<TSource> orderByDouble(IEnumerable<TSource> source, DoubleFunc1<TSource> keySelector) {
+        return new DoubleOrderedEnumerable<>(source, keySelector, false, null);
+    }
+
+    public static <TSource> IOrderedEnumerable<TSource> orderByDoubleDescending(IEnumerable<TSource> source, DoubleFunc1<TSource> keySelector) {
+        return new DoubleOrderedEnumerable<>(source, keySelector, true, null);
+    }
+
     public static <TSource, TKey> IOrderedEnumerable<TSource> thenBy(IOrderedEnumerable<TSource> source, Func1<TSource, TKey> keySelector) {
         if (source == null)
             ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
@@ -58,4 +87,82 @@ public final class OrderBy {
 
         return source.createOrderedEnumerable(keySelector, comparer, true);
     }
+
+    public static <TSource> IOrderedEnumerable<TSource> thenByInt(IOrderedEnumerable<TSource> source, IntFunc1<TSource> keySelector) {
+        return thenByInt(source, keySelector, false);
+    }
+
+    public static <TSource> IOrderedEnumerable<TSource> thenByIntDescending(IOrderedEnumerable<TSource> source, IntFunc1<TSource> keySelector) {
+        return thenByInt(source, keySelector, true);
+    }
+
+    private static <TSource> IOrderedEnumerable<TSource> thenByInt(IOrderedEnumerable<TSource> source, IntFunc1<TSource> keySelector, boolean descending) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+        if (keySelector == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.keySelector);
+
+        if (source instanceof AbstractOrderedEnumerable) {
+            AbstractOrderedEnumerable<TSource> parent = (AbstractOrderedEnumerable<TSource>) source;
+            return new IntOrderedEnumerable<>(parent.source, keySelector, descending, parent);
+        }
+        return source.createOrderedEnumerable(keySelector::apply, null, descending);
+    }
+
+    public static <TSource> IOrderedEnumerable<TSource> thenByLong(IOrderedEnumerable<TSource> source, LongFunc1<TSource> keySelector) {
+        return thenByLong(source, keySelector, false);
+    }
+
+    public static <TSource> IOrderedEnumerable<TSource> thenByLongDescending(IOrderedEnumerable<TSource> source, LongFunc1<TSource> keySelector) {
+        return thenByLong(source, keySelector, true);
+    }
+
+    private static <TSource> IOrderedEnumerable<TSource> thenByLong(IOrderedEnumerable<TSource> source, LongFunc1<TSource> keySelector, boolean descending) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+        if (keySelector == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.keySelector);
+
+        if (source instanceof AbstractOrderedEnumerable) {
+            AbstractOrderedEnumerable<TSource> parent = (AbstractOrderedEnumerable<TSource>) source;
+            return new LongOrderedEnumerable<>(parent.source, keySelector, descending, parent);
+        }
+        return source.createOrderedEnumerable(keySelector::apply, null, descending);
+    }
+
+    public static <TSource> IOrderedEnumerable<TSource> thenByDouble(IOrderedEnumerable<TSource> source, DoubleFunc1<TSource> keySelector) {
+        return thenByDouble(source, keySelector, false);
+    }
+
+    public static <TSource> IOrderedEnumerable<TSource> thenByDoubleDescending(IOrderedEnumerable<TSource> source, DoubleFunc1<TSource> keySelector) {
+        return thenByDouble(source, keySelector, true);
+    }
+
+    private static <TSource> IOrderedEnumerable<TSource> thenByDouble(IOrderedEnumerable<TSource> source, DoubleFunc1<TSource> keySelector, boolean descending) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+        if (keySelector == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.keySelector);
+
+        if (source instanceof AbstractOrderedEnumerable) {
+            AbstractOrderedEnumerable<TSource> parent = (AbstractOrderedEnumerable<TSource>) source;
+            return new DoubleOrderedEnumerable<>(parent.source, keySelector, descending, parent);
+        }
+        return source.createOrderedEnumerable(keySelector::apply, null, descending);
+    }
+
+    public static <TSource> IEnumerable<TSource> withSpill(IOrderedEnumerable<TSource> source, ISerializer<TSource> serializer, Path tempDir, int maxInMemoryRows) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+        if (serializer == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.serializer);
+        if (maxInMemoryRows < 1)
+            ThrowHelper.throwArgumentOutOfRangeException(ExceptionArgument.maxInMemoryRows);
+
+        // Spilling needs the sorter of the ordered source, other implementations would sort entirely in memory.
+        if (!(source instanceof AbstractOrderedEnumerable))
+            ThrowHelper.throwNotSupportedException();
+
+        return new SpillSortIterator<>((AbstractOrderedEnumerable<TSource>) source, serializer, tempDir, maxInMemoryRows);
+    }
 }
@@ -0,0 +1,1042 @@
+package com.bestvike.linq.enumerable;
+
+import com.bestvike.collections.generic.Array;
+import com.bestvike.collections.generic.IEqualityComparer;
+import com.bestvike.collections.generic.IList;
+import com.bestvike.function.Action1;
+import com.bestvike.function.DoubleFunc1;
+import com.bestvike.function.Func0;
+import com.bestvike.function.Func1;
+import com.bestvike.function.Func2;
+import com.bestvike.function.IntFunc1;
+import com.bestvike.function.LongFunc1;
+import com.bestvike.function.Predicate1;
+import com.bestvike.linq.IEnumerable;
+import com.bestvike.linq.IEnumerator;
+import com.bestvike.linq.IGrouping;
+import com.bestvike.linq.ILookup;
+import com.bestvike.linq.IOrderedEnumerable;
+import com.bestvike.linq.IParallelEnumerable;
+import com.bestvike.linq.exception.ExceptionArgument;
+import com.bestvike.linq.exception.ThrowHelper;
+import com.bestvike.linq.util.ArrayUtils;
+import com.bestvike.out;
+
+import java.util.ArrayDeque;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Created by 许崇雷 on 2026-10-17.
+ */
+public final class ParallelEnumerable {
+    private static final int MaxSupportedDop = 512;
+    private static final Object None = new Object();
+
+    private ParallelEnumerable() {
+    }
+
+    public static <TSource> IParallelEnumerable<TSource> asParallel(IEnumerable<TSource> source) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+
+        return source instanceof IParallelEnumerable
+                ? (IParallelEnumerable<TSource>) source
+                : new ParallelQuery<TSource, TSource>(source, chunk -> chunk, 0, false);
+    }
+
+    public static <TSource> IParallelEnumerable<TSource> asOrdered(IParallelEnumerable<TSource> source) {
+        ParallelQuery<?, TSource> query = query(source);
+        return query.ordered ? query : query.with(query.degreeOfParallelism, true);
+    }
+
+    public static <TSource> boolean isOrdered(IParallelEnumerable<TSource> source) {
+        return query(source).ordered;
+    }
+
+    public static <TSource> IParallelEnumerable<TSource> withDegreeOfParallelism(IParallelEnumerable<TSource> source, int degreeOfParallelism) {
+        if (degreeOfParallelism < 1 || degreeOfParallelism > MaxSupportedDop)
+            ThrowHelper.throwArgumentOutOfRangeException(ExceptionArgument.degreeOfParallelism);
+
+        ParallelQuery<?, TSource> query = query(source);
+        return query.with(degreeOfParallelism, query.ordered);
+    }
+
+    public static <TSource> IParallelEnumerable<TSource> where(IParallelEnumerable<TSource> source, Predicate1<TSource> predicate) {
+        if (predicate == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.predicate);
+
+        return query(source).then(chunk -> Where.where(chunk, predicate));
+    }
+
+    public static <TSource, TResult> IParallelEnumerable<TResult> select(IParallelEnumerable<TSource> source, Func1<TSource, TResult> selector) {
+        if (selector == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.selector);
+
+        return query(source).then(chunk -> Select.select(chunk, selector));
+    }
+
+    public static <TSource, TResult> IParallelEnumerable<TResult> selectMany(IParallelEnumerable<TSource> source, Func1<TSource, IEnumerable<TResult>> selector) {
+        if (selector == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.selector);
+
+        return query(source).then(chunk -> SelectMany.selectMany(chunk, selector));
+    }
+
+    public static <TSource, TCollection, TResult> IParallelEnumerable<TResult> selectMany(IParallelEnumerable<TSource> source, Func1<TSource, IEnumerable<TCollection>> collectionSelector, Func2<TSource, TCollection, TResult> resultSelector) {
+        if (collectionSelector == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.collectionSelector);
+        if (resultSelector == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.resultSelector);
+
+        return query(source).then(chunk -> SelectMany.selectMany(chunk, collectionSelector, resultSelector));
+    }
+
+    public static <TSource> TSource aggregate(IParallelEnumerable<TSource> source, Func2<TSource, TSource, TSource> func) {
+        if (func == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.func);
+
+        Object[] partials = query(source).execute(chunk -> {
+            try (IEnumerator<TSource> e = chunk.enumerator()) {
+                if (!e.moveNext())
+                    return None;
+
+                TSource result = e.current();
+                while (e.moveNext())
+                    result = func.apply(result, e.current());
+                return result;
+            }
+        });
+
+        Object result = None;
+        for (Object partial : partials) {
+            if (partial == None)
+                continue;
+            //noinspection unchecked
+            result = result == None ? partial : func.apply((TSource) result, (TSource) partial);
+        }
+        if (result == None)
+            ThrowHelper.throwNoElementsException();
+        //noinspection unchecked
+        return (TSource) result;
+    }
+
+    public static <TSource, TAccumulate> TAccumulate aggregate(IParallelEnumerable<TSource> source, Func0<TAccumulate> seedFactory, Func2<TAccumulate, TSource, TAccumulate> updateAccumulatorFunc, Func2<TAccumulate, TAccumulate, TAccumulate> combineAccumulatorsFunc) {
+        return aggregate(source, seedFactory, updateAccumulatorFunc, combineAccumulatorsFunc, accumulate -> accumulate);
+    }
+
+    public static <TSource, TAccumulate, TResult> TResult aggregate(IParallelEnumerable<TSource> source, Func0<TAccumulate> seedFactory, Func2<TAccumulate, TSource, TAccumulate> updateAccumulatorFunc, Func2<TAccumulate, TAccumulate, TAccumulate> combineAccumulatorsFunc, Func1<TAccumulate, TResult> resultSelector) {
+        if (seedFactory == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.seedFactory);
+        if (updateAccumulatorFunc == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.func);
+        if (combineAccumulatorsFunc == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.combineFunc);
+        if (resultSelector == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.resultSelector);
+
+        Object[] partials = query(source).execute(chunk -> Aggregate.aggregate(chunk, seedFactory.apply(), updateAccumulatorFunc));
+        //noinspection unchecked
+        TAccumulate result = (TAccumulate) partials[0];
+        for (int i = 1; i < partials.length; i++)
+            //noinspection unchecked
+            result = combineAccumulatorsFunc.apply(result, (TAccumulate) partials[i]);
+        return resultSelector.apply(result);
+    }
+
+    public static <TSource> int count(IParallelEnumerable<TSource> source) {
+        Object[] partials = query(source).execute(Count::count);
+        int count = 0;
+        for (Object partial : partials)
+            count = Math.addExact(count, (int) partial);
+        return count;
+    }
+
+    public static <TSource> int count(IParallelEnumerable<TSource> source, Predicate1<TSource> predicate) {
+        if (predicate == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.predicate);
+
+        Object[] partials = query(source).execute(chunk -> Count.count(chunk, predicate));
+        int count = 0;
+        for (Object partial : partials)
+            count = Math.addExact(count, (int) partial);
+        return count;
+    }
+
+    public static int sumInt(IParallelEnumerable<Integer> source) {
+        return sumInt(source, x -> x);
+    }
+
+    public static long sumLong(IParallelEnumerable<Long> source) {
+        return sumLong(source, x -> x);
+    }
+
+    public static double sumDouble(IParallelEnumerable<Double> source) {
+        return sumDouble(source, x -> x);
+    }
+
+    public static <TSource> int sumInt(IParallelEnumerable<TSource> source, IntFunc1<TSource> selector) {
+        if (selector == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.selector);
+
+        Object[] partials = query(source).execute(chunk -> Sum.sumInt(chunk, selector));
+        int sum = 0;
+        for (Object partial : partials)
+            sum = Math.addExact(sum, (int) partial);
+        return sum;
+    }
+
+    public static <TSource> long sumLong(IParallelEnumerable<TSource> source, LongFunc1<TSource> selector) {
+        if (selector == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.selector);
+
+        Object[] partials = query(source).execute(chunk -> Sum.sumLong(chunk, selector));
+        long sum = 0;
+        for (Object partial : partials)
+            sum = Math.addExact(sum, (long) partial);
+        return sum;
+    }
+
+    public static <TSource> double sumDouble(IParallelEnumerable<TSource> source, DoubleFunc1<TSource> selector) {
+        if (selector == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.selector);
+
+        Object[] partials = query(source).execute(chunk -> Sum.sumDouble(chunk, selector));
+        double sum = 0;
+        for (Object partial : partials)
+            sum += (double) partial;
+        return sum;
+    }
+
+    public static int minInt(IParallelEnumerable<Integer> source) {
+        return minInt(source, x -> x);
+    }
+
+    public static long minLong(IParallelEnumerable<Long> source) {
+        return minLong(source, x -> x);
+    }
+
+    public static double minDouble(IParallelEnumerable<Double> source) {
+        return minDouble(source, x -> x);
+    }
+
+    // Empty chunks yield null, and the null variants already skip them when the partials are combined.
+    public static <TSource> int minInt(IParallelEnumerable<TSource> source, IntFunc1<TSource> selector) {
+        if (selector == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.selector);
+
+        Object[] partials = query(source).execute(chunk -> Min.minIntNull(chunk, selector::apply));
+        Integer value = Min.minIntNull(new Array<>(partials));
+        if (value == null)
+            ThrowHelper.throwNoElementsException();
+        return value;
+    }
+
+    public static <TSource> long minLong(IParallelEnumerable<TSource> source, LongFunc1<TSource> selector) {
+        if (selector == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.selector);
+
+        Object[] partials = query(source).execute(chunk -> Min.minLongNull(chunk, selector::apply));
+        Long value = Min.minLongNull(new Array<>(partials));
+        if (value == null)
+            ThrowHelper.throwNoElementsException();
+        return value;
+    }
+
+    public static <TSource> double minDouble(IParallelEnumerable<TSource> source, DoubleFunc1<TSource> selector) {
+        if (selector == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.selector);
+
+        Object[] partials = query(source).execute(chunk -> Min.minDoubleNull(chunk, selector::apply));
+        Double value = Min.minDoubleNull(new Array<>(partials));
+        if (value == null)
+            ThrowHelper.throwNoElementsException();
+        return value;
+    }
+
+    public static int maxInt(IParallelEnumerable<Integer> source) {
+        return maxInt(source, x -> x);
+    }
+
+    public static long maxLong(IParallelEnumerable<Long> source) {
+        return maxLong(source, x -> x);
+    }
+
+    public static double maxDouble(IParallelEnumerable<Double> source) {
+        return maxDouble(source, x -> x);
+    }
+
+    public static <TSource> int maxInt(IParallelEnumerable<TSource> source, IntFunc1<TSource> selector) {
+        if (selector == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.selector);
+
+        Object[] partials = query(source).execute(chunk -> Max.maxIntNull(chunk, selector::apply));
+        Integer value = Max.maxIntNull(new Array<>(partials));
+        if (value == null)
+            ThrowHelper.throwNoElementsException();
+        return value;
+    }
+
+    public static <TSource> long maxLong(IParallelEnumerable<TSource> source, LongFunc1<TSource> selector) {
+        if (selector == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.selector);
+
+        Object[] partials = query(source).execute(chunk -> Max.maxLongNull(chunk, selector::apply));
+        Long value = Max.maxLongNull(new Array<>(partials));
+        if (value == null)
+            ThrowHelper.throwNoElementsException();
+        return value;
+    }
+
+    public static <TSource> double maxDouble(IParallelEnumerable<TSource> source, DoubleFunc1<TSource> selector) {
+        if (selector == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.selector);
+
+        Object[] partials = query(source).execute(chunk -> Max.maxDoubleNull(chunk, selector::apply));
+        Double value = Max.maxDoubleNull(new Array<>(partials));
+        if (value == null)
+            ThrowHelper.throwNoElementsException();
+        return value;
+    }
+
+    public static <TSource, TKey> IEnumerable<IGrouping<TKey, TSource>> groupBy(IParallelEnumerable<TSource> source, Func1<TSource, TKey> keySelector) {
+        return groupBy(source, keySelector, (IEqualityComparer<TKey>) null);
+    }
+
+    public static <TSource, TKey> IEnumerable<IGrouping<TKey, TSource>> groupBy(IParallelEnumerable<TSource> source, Func1<TSource, TKey> keySelector, IEqualityComparer<TKey> comparer) {
+        if (keySelector == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.keySelector);
+
+        return new ParallelGroupedEnumerable<>(query(source), chunk -> Lookup.create(chunk, keySelector, comparer));
+    }
+
+    public static <TSource, TKey, TElement> IEnumerable<IGrouping<TKey, TElement>> groupBy(IParallelEnumerable<TSource> source, Func1<TSource, TKey> keySelector, Func1<TSource, TElement> elementSelector) {
+        return groupBy(source, keySelector, elementSelector, null);
+    }
+
+    public static <TSource, TKey, TElement> IEnumerable<IGrouping<TKey, TElement>> groupBy(IParallelEnumerable<TSource> source, Func1<TSource, TKey> keySelector, Func1<TSource, TElement> elementSelector, IEqualityComparer<TKey> comparer) {
+        if (keySelector == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.keySelector);
+        if (elementSelector == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.elementSelector);
+
+        return new ParallelGroupedEnumerable<>(query(source), chunk -> Lookup.create(chunk, keySelector, elementSelector, comparer));
+    }
+
+    public static <TOuter, TInner, TKey, TResult> IEnumerable<TResult> groupJoin(IParallelEnumerable<TOuter> outer, IEnumerable<TInner> inner, Func1<TOuter, TKey> outerKeySelector, Func1<TInner, TKey> innerKeySelector, Func2<TOuter, IEnumerable<TInner>, TResult> resultSelector) {
+        return groupJoin(outer, inner, outerKeySelector, innerKeySelector, resultSelector, null);
+    }
+
+    public static <TOuter, TInner, TKey, TResult> IEnumerable<TResult> groupJoin(IParallelEnumerable<TOuter> outer, IEnumerable<TInner> inner, Func1<TOuter, TKey> outerKeySelector, Func1<TInner, TKey> innerKeySelector, Func2<TOuter, IEnumerable<TInner>, TResult> resultSelector, IEqualityComparer<TKey> comparer) {
+        if (outer == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.outer);
+        if (inner == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.inner);
+        if (outerKeySelector == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.outerKeySelector);
+        if (innerKeySelector == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.innerKeySelector);
+        if (resultSelector == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.resultSelector);
+
+        return new ParallelGroupJoinEnumerable<>(query(outer), inner, outerKeySelector, innerKeySelector, resultSelector, comparer);
+    }
+
+    public static <TOuter, TInner, TKey, TResult> IEnumerable<TResult> join(IParallelEnumerable<TOuter> outer, IEnumerable<TInner> inner, Func1<TOuter, TKey> outerKeySelector, Func1<TInner, TKey> innerKeySelector, Func2<TOuter, TInner, TResult> resultSelector) {
+        return join(outer, inner, outerKeySelector, innerKeySelector, resultSelector, null);
+    }
+
+    public static <TOuter, TInner, TKey, TResult> IEnumerable<TResult> join(IParallelEnumerable<TOuter> outer, IEnumerable<TInner> inner, Func1<TOuter, TKey> outerKeySelector, Func1<TInner, TKey> innerKeySelector, Func2<TOuter, TInner, TResult> resultSelector, IEqualityComparer<TKey> comparer) {
+        if (outer == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.outer);
+        if (inner == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.inner);
+        if (outerKeySelector == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.outerKeySelector);
+        if (innerKeySelector == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.innerKeySelector);
+        if (resultSelector == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.resultSelector);
+
+        return new ParallelJoinEnumerable<>(query(outer), inner, outerKeySelector, innerKeySelector, false, null, resultSelector, comparer);
+    }
+
+    public static <TOuter, TInner, TKey, TResult> IEnumerable<TResult> leftJoin(IParallelEnumerable<TOuter> outer, IEnumerable<TInner> inner, Func1<TOuter, TKey> outerKeySelector, Func1<TInner, TKey> innerKeySelector, Func2<TOuter, TInner, TResult> resultSelector) {
+        return leftJoin(outer, inner, outerKeySelector, innerKeySelector, null, resultSelector, null);
+    }
+
+    public static <TOuter, TInner, TKey, TResult> IEnumerable<TResult> leftJoin(IParallelEnumerable<TOuter> outer, IEnumerable<TInner> inner, Func1<TOuter, TKey> outerKeySelector, Func1<TInner, TKey> innerKeySelector, TInner defaultInner, Func2<TOuter, TInner, TResult> resultSelector) {
+        return leftJoin(outer, inner, outerKeySelector, innerKeySelector, defaultInner, resultSelector, null);
+    }
+
+    public static <TOuter, TInner, TKey, TResult> IEnumerable<TResult> leftJoin(IParallelEnumerable<TOuter> outer, IEnumerable<TInner> inner, Func1<TOuter, TKey> outerKeySelector, Func1<TInner, TKey> innerKeySelector, Func2<TOuter, TInner, TResult> resultSelector, IEqualityComparer<TKey> comparer) {
+        return leftJoin(outer, inner, outerKeySelector, innerKeySelector, null, resultSelector, comparer);
+    }
+
+    public static <TOuter, TInner, TKey, TResult> IEnumerable<TResult> leftJoin(IParallelEnumerable<TOuter> outer, IEnumerable<TInner> inner, Func1<TOuter, TKey> outerKeySelector, Func1<TInner, TKey> innerKeySelector, TInner defaultInner, Func2<TOuter, TInner, TResult> resultSelector, IEqualityComparer<TKey> comparer) {
+        if (outer == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.outer);
+        if (inner == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.inner);
+        if (outerKeySelector == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.outerKeySelector);
+        if (innerKeySelector == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.innerKeySelector);
+        if (resultSelector == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.resultSelector);
+
+        return new ParallelJoinEnumerable<>(query(outer), inner, outerKeySelector, innerKeySelector, true, defaultInner, resultSelector, comparer);
+    }
+
+    public static <TSource, TKey> IOrderedEnumerable<TSource> orderBy(IParallelEnumerable<TSource> source, Func1<TSource, TKey> keySelector) {
+        return parallel(new OrderedEnumerable<>(sortQuery(source), keySelector, null, false, null));
+    }
+
+    public static <TSource, TKey> IOrderedEnumerable<TSource> orderBy(IParallelEnumerable<TSource> source, Func1<TSource, TKey> keySelector, Comparator<TKey> comparer) {
+        return parallel(new OrderedEnumerable<>(sortQuery(source), keySelector, comparer, false, null));
+    }
+
+    public static <TSource, TKey> IOrderedEnumerable<TSource> orderByDescending(IParallelEnumerable<TSource> source, Func1<TSource, TKey> keySelector) {
+        return parallel(new OrderedEnumerable<>(sortQuery(source), keySelector, null, true, null));
+    }
+
+    public static <TSource, TKey> IOrderedEnumerable<TSource> orderByDescending(IParallelEnumerable<TSource> source, Func1<TSource, TKey> keySelector, Comparator<TKey> comparer) {
+        return parallel(new OrderedEnumerable<>(sortQuery(source), keySelector, comparer, true, null));
+    }
+
+    public static <TSource> IOrderedEnumerable<TSource> orderByInt(IParallelEnumerable<TSource> source, IntFunc1<TSource> keySelector) {
+        return parallel(new IntOrderedEnumerable<>(sortQuery(source), keySelector, false, null));
+    }
+
+    public static <TSource> IOrderedEnumerable<TSource> orderByIntDescending(IParallelEnumerable<TSource> source, IntFunc1<TSource> keySelector) {
+        return parallel(new IntOrderedEnumerable<>(sortQuery(source), keySelector, true, null));
+    }
+
+    public static <TSource> IOrderedEnumerable<TSource> orderByLong(IParallelEnumerable<TSource> source, LongFunc1<TSource> keySelector) {
+        return parallel(new LongOrderedEnumerable<>(sortQuery(source), keySelector, false, null));
+    }
+
+    public static <TSource> IOrderedEnumerable<TSource> orderByLongDescending(IParallelEnumerable<TSource> source, LongFunc1<TSource> keySelector) {
+        return parallel(new LongOrderedEnumerable<>(sortQuery(source), keySelector, true, null));
+    }
+
+    public static <TSource> IOrderedEnumerable<TSource> orderByDouble(IParallelEnumerable<TSource> source, DoubleFunc1<TSource> keySelector) {
+        return parallel(new DoubleOrderedEnumerable<>(sortQuery(source), keySelector, false, null));
+    }
+
+    public static <TSource> IOrderedEnumerable<TSource> orderByDoubleDescending(IParallelEnumerable<TSource> source, DoubleFunc1<TSource> keySelector) {
+        return parallel(new DoubleOrderedEnumerable<>(sortQuery(source), keySelector, true, null));
+    }
+
+    public static <TSource> Array<TSource> toArray(IParallelEnumerable<TSource> source) {
+        return new Array<>(query(source)._toArray());
+    }
+
+    public static <TSource> TSource[] toArray(IParallelEnumerable<TSource> source, Class<TSource> clazz) {
+        if (clazz == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.clazz);
+
+        return query(source)._toArray(clazz);
+    }
+
+    public static <TSource, TKey> ILookup<TKey, TSource> toLookup(IParallelEnumerable<TSource> source, Func1<TSource, TKey> keySelector) {
+        return toLookup(source, keySelector, (IEqualityComparer<TKey>) null);
+    }
+
+    public static <TSource, TKey> ILookup<TKey, TSource> toLookup(IParallelEnumerable<TSource> source, Func1<TSource, TKey> keySelector, IEqualityComparer<TKey> comparer) {
+        if (keySelector == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.keySelector);
+
+        return new ParallelGroupedEnumerable<>(query(source), chunk -> Lookup.create(chunk, keySelector, comparer)).createLookup();
+    }
+
+    public static <TSource, TKey, TElement> ILookup<TKey, TElement> toLookup(IParallelEnumerable<TSource> source, Func1<TSource, TKey> keySelector, Func1<TSource, TElement> elementSelector) {
+        return toLookup(source, keySelector, elementSelector, null);
+    }
+
+    public static <TSource, TKey, TElement> ILookup<TKey, TElement> toLookup(IParallelEnumerable<TSource> source, Func1<TSource, TKey> keySelector, Func1<TSource, TElement> elementSelector, IEqualityComparer<TKey> comparer) {
+        if (keySelector == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.keySelector);
+        if (elementSelector == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.elementSelector);
+
+        return new ParallelGroupedEnumerable<>(query(source), chunk -> Lookup.create(chunk, keySelector, elementSelector, comparer)).createLookup();
+    }
+
+    // Keys are computed and sorted on the pool of the query, thenBy levels inherit it.
+    private static <TSource> IOrderedEnumerable<TSource> parallel(AbstractOrderedEnumerable<TSource> ordered) {
+        ordered.degreeOfParallelism = ((ParallelQuery<?, TSource>) ordered.source).degreeOfParallelism;
+        return ordered;
+    }
+
+    // The sort buffers the whole source anyway, so buffering chunks in source order costs nothing and keeps equal keys stable.
+    private static <TSource> ParallelQuery<?, TSource> sortQuery(IParallelEnumerable<TSource> source) {
+        ParallelQuery<?, TSource> query = query(source);
+        return query.ordered ? query : query.with(query.degreeOfParallelism, true);
+    }
+
+    private static <TSource> ParallelQuery<?, TSource> query(IParallelEnumerable<TSource> source) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+
+        return source instanceof ParallelQuery
+                ? (ParallelQuery<?, TSource>) source
+                : new ParallelQuery<TSource, TSource>(source, chunk -> chunk, 0, false);
+    }
+}
+
+
+final class ParallelQuery<TSource, TResult> implements IParallelEnumerable<TResult>, IIListProvider<TResult> {
+    static final int ChunksPerThread = 4;
+    private final IEnumerable<TSource> source;
+    private final Func1<IEnumerable<TSource>, IEnumerable<TResult>> pipeline;
+    final int degreeOfParallelism;
+    final boolean ordered;
+
+    ParallelQuery(IEnumerable<TSource> source, Func1<IEnumerable<TSource>, IEnumerable<TResult>> pipeline, int degreeOfParallelism, boolean ordered) {
+        this.source = source;
+        this.pipeline = pipeline;
+        this.degreeOfParallelism = degreeOfParallelism;
+        this.ordered = ordered;
+    }
+
+    ParallelQuery<TSource, TResult> with(int degreeOfParallelism, boolean ordered) {
+        return new ParallelQuery<>(this.source, this.pipeline, degreeOfParallelism, ordered);
+    }
+
+    <TNext> ParallelQuery<TSource, TNext> then(Func1<IEnumerable<TResult>, IEnumerable<TNext>> stage) {
+        Func1<IEnumerable<TSource>, IEnumerable<TResult>> pipeline = this.pipeline;
+        return new ParallelQuery<>(this.source, chunk -> stage.apply(pipeline.apply(chunk)), this.degreeOfParallelism, this.ordered);
+    }
+
+    // Runs func over the pipeline of every chunk, returns the partials in chunk order if ordered, otherwise in completion order.
+    <TPartial> Object[] execute(Func1<IEnumerable<TResult>, TPartial> func) {
+        ForkJoinPool pool = pool(this.degreeOfParallelism);
+        try {
+            return this.execute(pool, func);
+        } finally {
+            release(pool);
+        }
+    }
+
+    <TPartial> Object[] execute(ForkJoinPool pool, Func1<IEnumerable<TResult>, TPartial> func) {
+        IEnumerable<TSource> source = this.getPartitionableSource();
+        int count = count(source);
+        int chunkCount = Math.max(1, Math.min(count, this.getDegree() * ChunksPerThread));
+        Object[] partials = new Object[chunkCount];
+        int[] order = this.ordered ? null : new int[chunkCount];
+        AtomicInteger completed = new AtomicInteger();
+        invoke(pool, chunkCount, i -> {
+            int lo = (int) ((long) count * i / chunkCount);
+            int hi = (int) ((long) count * (i + 1) / chunkCount);
+            partials[i] = func.apply(this.chunk(source, lo, hi));
+            if (order != null)
+                order[completed.getAndIncrement()] = i;
+        });
+        if (order == null)
+            return partials;
+
+        Object[] result = new Object[chunkCount];
+        for (int i = 0; i < chunkCount; i++)
+            result[i] = partials[order[i]];
+        return result;
+    }
+
+    int getDegree() {
+        return this.degreeOfParallelism == 0 ? ForkJoinPool.getCommonPoolParallelism() : this.degreeOfParallelism;
+    }
+
+    // The pipeline over the elements lo to hi of a partitionable source.
+    IEnumerable<TResult> chunk(IEnumerable<TSource> source, int lo, int hi) {
+        return this.pipeline.apply(Take.take(Skip.skip(source, lo), hi - lo));
+    }
+
+    static <TSource> int count(IEnumerable<TSource> source) {
+        return source instanceof IList ? ((IList<TSource>) source)._getCount() : ((IPartition<TSource>) source)._getCount(true);
+    }
+
+    // Sources which can be split by index without enumerating, others are buffered once.
+    IEnumerable<TSource> getPartitionableSource() {
+        IEnumerable<TSource> source = this.source;
+        if (source instanceof IList
+                || source instanceof ListPartition
+                || source instanceof RangeIterator
+                || source instanceof RepeatIterator
+                || source instanceof SelectArrayIterator
+                || source instanceof SelectRangeIterator
+                || source instanceof SelectRepeatIterator
+                || source instanceof SelectIListIterator
+                || source instanceof SelectListPartitionIterator)
+            return source;
+        // Files are mapped and indexed once here, so every chunk reads the same snapshot.
+        if (source instanceof FileLinesPartition)
+            return (IEnumerable<TSource>) ((FileLinesPartition) source).pin();
+        if (source instanceof FileRecordsPartition)
+            return ((FileRecordsPartition<TSource>) source).pin();
+        return new Array<>(ToCollection.toArray(source));
+    }
+
+    private static void invoke(ForkJoinPool pool, int chunkCount, Action1<Integer> action) {
+        if (chunkCount == 1) {
+            action.apply(0);
+            return;
+        }
+
+        pool.invoke(new ChunkTask(action, 0, chunkCount));
+    }
+
+    // The common pool when degreeOfParallelism is 0, otherwise a pool of its own for one execution, shut down by release.
+    static ForkJoinPool pool(int degreeOfParallelism) {
+        return degreeOfParallelism == 0 ? ForkJoinPool.commonPool() : new ForkJoinPool(degreeOfParallelism);
+    }
+
+    static void release(ForkJoinPool pool) {
+        if (pool != ForkJoinPool.commonPool())
+            pool.shutdown();
+    }
+
+    // Runs a single task, on a pool of its own when degreeOfParallelism is not 0.
+    static void invoke(int degreeOfParallelism, ForkJoinTask<?> task) {
+        ForkJoinPool pool = pool(degreeOfParallelism);
+        try {
+            pool.invoke(task);
+        } finally {
+            release(pool);
+        }
+    }
+
+    private LargeArrayBuilder<TResult>[] build(ForkJoinPool pool, out<int[]> offsets) {
+        Object[] partials = this.execute(pool, chunk -> {
+            LargeArrayBuilder<TResult> builder = new LargeArrayBuilder<>();
+            builder.addRange(chunk);
+            return builder;
+        });
+        @SuppressWarnings("unchecked")
+        LargeArrayBuilder<TResult>[] builders = (LargeArrayBuilder<TResult>[]) new LargeArrayBuilder<?>[partials.length];
+        int[] starts = new int[partials.length + 1];
+        for (int i = 0; i < partials.length; i++) {
+            //noinspection unchecked
+            builders[i] = (LargeArrayBuilder<TResult>) partials[i];
+            starts[i + 1] = Math.addExact(starts[i], builders[i].getCount());
+        }
+        offsets.value = starts;
+        return builders;
+    }
+
+    // Copies every chunk builder straight to its offset, so each element is copied once.
+    private static <TResult> void copyTo(ForkJoinPool pool, LargeArrayBuilder<TResult>[] builders, int[] offsets, Object[] array) {
+        invoke(pool, builders.length, i -> {
+            LargeArrayBuilder<TResult> builder = builders[i];
+            builder.copyTo(array, offsets[i], builder.getCount());
+        });
+    }
+
+    @Override
+    public IEnumerator<TResult> enumerator() {
+        return new ParallelQueryEnumerator<>(this);
+    }
+
+    // Both passes run on one pool.
+    @Override
+    public TResult[] _toArray(Class<TResult> clazz) {
+        ForkJoinPool pool = pool(this.degreeOfParallelism);
+        try {
+            out<int[]> offsetsRef = out.init();
+            LargeArrayBuilder<TResult>[] builders = this.build(pool, offsetsRef);
+            if (builders.length == 1)
+                return builders[0].toArray(clazz);
+
+            int[] offsets = offsetsRef.value;
+            TResult[] array = ArrayUtils.newInstance(clazz, offsets[builders.length]);
+            copyTo(pool, builders, offsets, array);
+            return array;
+        } finally {
+            release(pool);
+        }
+    }
+
+    @Override
+    public Object[] _toArray() {
+        ForkJoinPool pool = pool(this.degreeOfParallelism);
+        try {
+            out<int[]> offsetsRef = out.init();
+            LargeArrayBuilder<TResult>[] builders = this.build(pool, offsetsRef);
+            if (builders.length == 1)
+                return builders[0].toArray();
+
+            int[] offsets = offsetsRef.value;
+            Object[] array = new Object[offsets[builders.length]];
+            copyTo(pool, builders, offsets, array);
+            return array;
+        } finally {
+            release(pool);
+        }
+    }
+
+    @Override
+    public List<TResult> _toList() {
+        return ArrayUtils.toList(this._toArray());
+    }
+
+    @Override
+    public int _getCount(boolean onlyIfCheap) {
+        return onlyIfCheap ? -1 : ParallelEnumerable.count(this);
+    }
+}
+
+
+// Runs a window of chunks ahead of the consumer and yields their results in chunk order. Chunks start small and double,
+// so first, any or take stop after little work, and closing the enumerator stops the chunks still running.
+final class ParallelQueryEnumerator<TSource, TResult> extends AbstractEnumerator<TResult> {
+    private static final int MinChunkSize = 64;
+    private final ParallelQuery<TSource, TResult> query;
+    private final ArrayDeque<ForkJoinTask<Object[]>> pending = new ArrayDeque<>();
+    private volatile boolean cancelled;
+    private ForkJoinPool pool;
+    private IEnumerable<TSource> source;
+    private int count;
+    private int window;
+    private int chunkSize;
+    private int maxChunkSize;
+    private int next;
+    private Object[] chunk;
+    private int index;
+
+    ParallelQueryEnumerator(ParallelQuery<TSource, TResult> query) {
+        this.query = query;
+    }
+
+    @Override
+    public boolean moveNext() {
+        switch (this.state) {
+            case 0:
+                this.source = this.query.getPartitionableSource();
+                this.count = ParallelQuery.count(this.source);
+                this.window = this.query.getDegree();
+                this.maxChunkSize = Math.max(1, this.count / (this.window * ParallelQuery.ChunksPerThread));
+                this.chunkSize = Math.min(MinChunkSize, this.maxChunkSize);
+                this.pool = ParallelQuery.pool(this.query.degreeOfParallelism);
+                this.chunk = ArrayUtils.empty();
+                this.state = 1;
+            case 1:
+                do {
+                    if (this.index < this.chunk.length) {
+                        //noinspection unchecked
+                        this.current = (TResult) this.chunk[this.index++];
+                        return true;
+                    }
+                    while (this.pending.size() < this.window && this.next < this.count)
+                        this.submit();
+                    ForkJoinTask<Object[]> task = this.pending.poll();
+                    if (task == null) {
+                        this.close();
+                        return false;
+                    }
+                    try {
+                        this.chunk = task.join();
+                    } catch (Throwable e) {
+                        this.close();
+                        throw e;
+                    }
+                    this.index = 0;
+                } while (true);
+            default:
+                return false;
+        }
+    }
+
+    private void submit() {
+        IEnumerable<TSource> source = this.source;
+        int lo = this.next;
+        int hi = (int) Math.min(this.count, (long) lo + this.chunkSize);
+        this.next = hi;
+        this.chunkSize = Math.min(this.maxChunkSize, this.chunkSize << 1);
+        this.pending.add(this.pool.submit(() -> {
+            LargeArrayBuilder<TResult> builder = new LargeArrayBuilder<>();
+            try (IEnumerator<TResult> e = this.query.chunk(source, lo, hi).enumerator()) {
+                while (!this.cancelled && e.moveNext())
+                    builder.add(e.current());
+            }
+            return builder.toArray();
+        }));
+    }
+
+    @Override
+    public void close() {
+        if (this.pool != null) {
+            this.cancelled = true;
+            for (ForkJoinTask<Object[]> task : this.pending)
+                task.cancel(false);
+            this.pending.clear();
+            ParallelQuery.release(this.pool);
+            this.pool = null;
+            this.source = null;
+            this.chunk = null;
+        }
+        super.close();
+    }
+}
+
+
+final class ChunkTask extends RecursiveAction {
+    private static final long serialVersionUID = 1L;
+    private final Action1<Integer> action;
+    private final int lo;
+    private final int hi;
+
+    ChunkTask(Action1<Integer> action, int lo, int hi) {
+        this.action = action;
+        this.lo = lo;
+        this.hi = hi;
+    }
+
+    @Override
+    protected void compute() {
+        if (this.hi - this.lo == 1) {
+            this.action.apply(this.lo);
+            return;
+        }
+
+        int mid = (this.lo + this.hi) >>> 1;
+        invokeAll(new ChunkTask(this.action, this.lo, mid), new ChunkTask(this.action, mid, this.hi));
+    }
+}
+
+
+final class ParallelGroupedEnumerable<TSource, TKey, TElement> implements IIListProvider<IGrouping<TKey, TElement>> {
+    private final ParallelQuery<?, TSource> query;
+    private final Func1<IEnumerable<TSource>, Lookup<TKey, TElement>> lookupFactory;
+
+    ParallelGroupedEnumerable(ParallelQuery<?, TSource> query, Func1<IEnumerable<TSource>, Lookup<TKey, TElement>> lookupFactory) {
+        this.query = query;
+        this.lookupFactory = lookupFactory;
+    }
+
+    // Each chunk builds its own lookup, then they are merged by key shards so that keys and elements keep the source order.
+    Lookup<TKey, TElement> createLookup() {
+        ForkJoinPool pool = ParallelQuery.pool(this.query.degreeOfParallelism);
+        try {
+            return Lookup.combine(this.query.execute(pool, this.lookupFactory), pool);
+        } finally {
+            ParallelQuery.release(pool);
+        }
+    }
+
+    @Override
+    public IEnumerator<IGrouping<TKey, TElement>> enumerator() {
+        return this.createLookup().enumerator();
+    }
+
+    @Override
+    public IGrouping<TKey, TElement>[] _toArray(Class<IGrouping<TKey, TElement>> clazz) {
+        return this.createLookup()._toArray(clazz);
+    }
+
+    @Override
+    public Object[] _toArray() {
+        return this.createLookup()._toArray();
+    }
+
+    @Override
+    public List<IGrouping<TKey, TElement>> _toList() {
+        return this.createLookup()._toList();
+    }
+
+    @Override
+    public int _getCount(boolean onlyIfCheap) {
+        return onlyIfCheap ? -1 : this.createLookup().getCount();
+    }
+}
+
+
+final class ParallelGroupJoinEnumerable<TOuter, TInner, TKey, TResult> implements IIListProvider<TResult> {
+    private final ParallelQuery<?, TOuter> outer;
+    private final IEnumerable<TInner> inner;
+    private final Func1<TOuter, TKey> outerKeySelector;
+    private final Func1<TInner, TKey> innerKeySelector;
+    private final Func2<TOuter, IEnumerable<TInner>, TResult> resultSelector;
+    private final IEqualityComparer<TKey> comparer;
+
+    ParallelGroupJoinEnumerable(ParallelQuery<?, TOuter> outer, IEnumerable<TInner> inner, Func1<TOuter, TKey> outerKeySelector, Func1<TInner, TKey> innerKeySelector, Func2<TOuter, IEnumerable<TInner>, TResult> resultSelector, IEqualityComparer<TKey> comparer) {
+        this.outer = outer;
+        this.inner = inner;
+        this.outerKeySelector = outerKeySelector;
+        this.innerKeySelector = innerKeySelector;
+        this.resultSelector = resultSelector;
+        this.comparer = comparer;
+    }
+
+    // Builds the lookup of inner in parallel keeping inner order.
+    static <TKey, TInner> Lookup<TKey, TInner> createForJoin(IEnumerable<TInner> source, Func1<TInner, TKey> keySelector, IEqualityComparer<TKey> comparer, int degreeOfParallelism) {
+        ParallelQuery<TInner, TInner> query = new ParallelQuery<>(source, chunk -> chunk, degreeOfParallelism, true);
+        return new ParallelGroupedEnumerable<>(query, chunk -> Lookup.createForJoin(chunk, keySelector, comparer)).createLookup();
+    }
+
+    // The inner lookup is built once, then outer chunks probe it concurrently without writing to it.
+    private ParallelQuery<?, TResult> join() {
+        Lookup<TKey, TInner> lookup = createForJoin(this.inner, this.innerKeySelector, this.comparer, this.outer.degreeOfParallelism);
+        return this.outer.then(chunk -> Select.select(chunk, item -> {
+            TKey key = this.outerKeySelector.apply(item);
+            return this.resultSelector.apply(item, key == null ? EmptyPartition.instance() : lookup.get(key));
+        }));
+    }
+
+    @Override
+    public IEnumerator<TResult> enumerator() {
+        return this.join().enumerator();
+    }
+
+    @Override
+    public TResult[] _toArray(Class<TResult> clazz) {
+        return this.join()._toArray(clazz);
+    }
+
+    @Override
+    public Object[] _toArray() {
+        return this.join()._toArray();
+    }
+
+    @Override
+    public List<TResult> _toList() {
+        return this.join()._toList();
+    }
+
+    @Override
+    public int _getCount(boolean onlyIfCheap) {
+        return onlyIfCheap ? -1 : this.join()._getCount(false);
+    }
+}
+
+
+final class ParallelJoinEnumerable<TOuter, TInner, TKey, TResult> implements IIListProvider<TResult> {
+    private final ParallelQuery<?, TOuter> outer;
+    private final IEnumerable<TInner> inner;
+    private final Func1<TOuter, TKey> outerKeySelector;
+    private final Func1<TInner, TKey> innerKeySelector;
+    private final boolean left;
+    private final TInner defaultInner;
+    private final Func2<TOuter, TInner, TResult> resultSelector;
+    private final IEqualityComparer<TKey> comparer;
+
+    ParallelJoinEnumerable(ParallelQuery<?, TOuter> outer, IEnumerable<TInner> inner, Func1<TOuter, TKey> outerKeySelector, Func1<TInner, TKey> innerKeySelector, boolean left, TInner defaultInner, Func2<TOuter, TInner, TResult> resultSelector, IEqualityComparer<TKey> comparer) {
+        this.outer = outer;
+        this.inner = inner;
+        this.outerKeySelector = outerKeySelector;
+        this.innerKeySelector = innerKeySelector;
+        this.left = left;
+        this.defaultInner = defaultInner;
+        this.resultSelector = resultSelector;
+        this.comparer = comparer;
+    }
+
+    // Chunks keep outer order when the query is ordered, within a chunk each outer yields its inners in inner order like join.
+    private ParallelQuery<?, TResult> join() {
+        Lookup<TKey, TInner> lookup = ParallelGroupJoinEnumerable.createForJoin(this.inner, this.innerKeySelector, this.comparer, this.outer.degreeOfParallelism);
+        return this.outer.then(chunk -> new ProbeJoinIterator<>(chunk, lookup, this.outerKeySelector, this.left, this.defaultInner, this.resultSelector));
+    }
+
+    @Override
+    public IEnumerator<TResult> enumerator() {
+        return this.join().enumerator();
+    }
+
+    @Override
+    public TResult[] _toArray(Class<TResult> clazz) {
+        return this.join()._toArray(clazz);
+    }
+
+    @Override
+    public Object[] _toArray() {
+        return this.join()._toArray();
+    }
+
+    @Override
+    public List<TResult> _toList() {
+        return this.join()._toList();
+    }
+
+    @Override
+    public int _getCount(boolean onlyIfCheap) {
+        return onlyIfCheap ? -1 : this.join()._getCount(false);
+    }
+}
+
+
+final class ProbeJoinIterator<TOuter, TInner, TKey, TResult> extends AbstractIterator<TResult> {
+    private final IEnumerable<TOuter> outer;
+    private final Lookup<TKey, TInner> lookup;
+    private final Func1<TOuter, TKey> outerKeySelector;
+    private final boolean left;
+    private final TInner defaultInner;
+    private final Func2<TOuter, TInner, TResult> resultSelector;
+    private IEnumerator<TOuter> outerEnumerator;
+    private TOuter item;
+    private Grouping<TKey, TInner> g;
+    private int index;
+
+    ProbeJoinIterator(IEnumerable<TOuter> outer, Lookup<TKey, TInner> lookup, Func1<TOuter, TKey> outerKeySelector, boolean left, TInner defaultInner, Func2<TOuter, TInner, TResult> resultSelector) {
+        this.outer = outer;
+        this.lookup = lookup;
+        this.outerKeySelector = outerKeySelector;
+        this.left = left;
+        this.defaultInner = defaultInner;
+        this.resultSelector = resultSelector;
+    }
+
+    @Override
+    public AbstractIterator<TResult> clone() {
+        return new ProbeJoinIterator<>(this.outer, this.lookup, this.outerKeySelector, this.left, this.defaultInner, this.resultSelector);
+    }
+
+    @Override
+    public boolean moveNext() {
+        do {
+            switch (this.state) {
+                case 1:
+                    this.outerEnumerator = this.outer.enumerator();
+                    this.state = 2;
+                case 2:
+                    if (!this.outerEnumerator.moveNext()) {
+                        this.close();
+                        return false;
+                    }
+                    this.item = this.outerEnumerator.current();
+                    this.g = this.lookup.probeGrouping(this.outerKeySelector.apply(this.item));
+                    if (this.g == null) {
+                        if (this.left) {
+                            this.current = this.resultSelector.apply(this.item, this.defaultInner);
+                            return true;
+                        }
+                        break;
+                    }
+                    this.index = -1;
+                    this.state = 3;
+                case 3:
+                    this.index++;
+                    if (this.index < this.g._getCount()) {
+                        this.current = this.resultSelector.apply(this.item, this.g.get(this.index));
+                        return true;
+                    }
+                    this.state = 2;
+                    break;
+                default:
+                    return false;
+            }
+        } while (true);
+    }
+
+    @Override
+    public void close() {
+        if (this.outerEnumerator != null) {
+            this.outerEnumerator.close();
+            this.outerEnumerator = null;
+            this.item = null;
+            this.g = null;
+        }
+        super.close();
+    }
+}
@@ -15,6 +15,7 @@ import com.bestvike.out;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Spliterator;
 
 /**
  * Created by 许崇雷 on 2018-05-03.
@@ -115,7 +116,7 @@ final class SelectIterator<TSource, TResult> extends AbstractIterator<TResult> {
 }
 
 
-final class SelectEnumerableIterator<TSource, TResult> extends Iterator<TResult> implements IIListProvider<TResult> {
+final class SelectEnumerableIterator<TSource, TResult> extends Iterator<TResult> implements IIListProvider<TResult>, ISpliteratorProvider<TResult> {
     private final IEnumerable<TSource> source;
     private final Func1<TSource, TResult> selector;
     private IEnumerator<TSource> enumerator;
@@ -214,6 +215,11 @@ final class SelectEnumerableIterator<TSource, TResult> extends Iterator<TResult>
 
         return count;
     }
+
+    @Override
+    public Spliterator<TResult> _spliterator() {
+        return new SelectSpliterator<>(ToSpliterator.spliterator(this.source), this.selector);
+    }
 }
 
 
@@ -0,0 +1,147 @@
+package com.bestvike.linq.enumerable;
+
+import com.bestvike.collections.generic.IEqualityComparer;
+import com.bestvike.function.Func1;
+import com.bestvike.linq.IEnumerable;
+import com.bestvike.linq.IEnumerator;
+import com.bestvike.linq.exception.ExceptionArgument;
+import com.bestvike.linq.exception.ThrowHelper;
+
+/**
+ * Created by 许崇雷 on 2026-10-17.
+ */
+public final class SemiJoin {
+    private SemiJoin() {
+    }
+
+    public static <TOuter, TInner, TKey> IEnumerable<TOuter> semiJoin(IEnumerable<TOuter> outer, IEnumerable<TInner> inner, Func1<TOuter, TKey> outerKeySelector, Func1<TInner, TKey> innerKeySelector) {
+        return semiJoin(outer, inner, outerKeySelector, innerKeySelector, null);
+    }
+
+    public static <TOuter, TInner, TKey> IEnumerable<TOuter> semiJoin(IEnumerable<TOuter> outer, IEnumerable<TInner> inner, Func1<TOuter, TKey> outerKeySelector, Func1<TInner, TKey> innerKeySelector, IEqualityComparer<TKey> comparer) {
+        checkArguments(outer, inner, outerKeySelector, innerKeySelector);
+        return new SemiJoinIterator<>(outer, inner, outerKeySelector, innerKeySelector, false, 0, comparer);
+    }
+
+    public static <TOuter, TInner, TKey> IEnumerable<TOuter> semiJoin(IEnumerable<TOuter> outer, IEnumerable<TInner> inner, Func1<TOuter, TKey> outerKeySelector, Func1<TInner, TKey> innerKeySelector, double falsePositiveRate) {
+        return semiJoin(outer, inner, outerKeySelector, innerKeySelector, falsePositiveRate, null);
+    }
+
+    public static <TOuter, TInner, TKey> IEnumerable<TOuter> semiJoin(IEnumerable<TOuter> outer, IEnumerable<TInner> inner, Func1<TOuter, TKey> outerKeySelector, Func1<TInner, TKey> innerKeySelector, double falsePositiveRate, IEqualityComparer<TKey> comparer) {
+        checkArguments(outer, inner, outerKeySelector, innerKeySelector);
+        checkFalsePositiveRate(falsePositiveRate);
+        return new SemiJoinIterator<>(outer, inner, outerKeySelector, innerKeySelector, false, falsePositiveRate, comparer);
+    }
+
+    public static <TOuter, TInner, TKey> IEnumerable<TOuter> antiJoin(IEnumerable<TOuter> outer, IEnumerable<TInner> inner, Func1<TOuter, TKey> outerKeySelector, Func1<TInner, TKey> innerKeySelector) {
+        return antiJoin(outer, inner, outerKeySelector, innerKeySelector, null);
+    }
+
+    public static <TOuter, TInner, TKey> IEnumerable<TOuter> antiJoin(IEnumerable<TOuter> outer, IEnumerable<TInner> inner, Func1<TOuter, TKey> outerKeySelector, Func1<TInner, TKey> innerKeySelector, IEqualityComparer<TKey> comparer) {
+        checkArguments(outer, inner, outerKeySelector, innerKeySelector);
+        return new SemiJoinIterator<>(outer, inner, outerKeySelector, innerKeySelector, true, 0, comparer);
+    }
+
+    public static <TOuter, TInner, TKey> IEnumerable<TOuter> antiJoin(IEnumerable<TOuter> outer, IEnumerable<TInner> inner, Func1<TOuter, TKey> outerKeySelector, Func1<TInner, TKey> innerKeySelector, double falsePositiveRate) {
+        return antiJoin(outer, inner, outerKeySelector, innerKeySelector, falsePositiveRate, null);
+    }
+
+    public static <TOuter, TInner, TKey> IEnumerable<TOuter> antiJoin(IEnumerable<TOuter> outer, IEnumerable<TInner> inner, Func1<TOuter, TKey> outerKeySelector, Func1<TInner, TKey> innerKeySelector, double falsePositiveRate, IEqualityComparer<TKey> comparer) {
+        checkArguments(outer, inner, outerKeySelector, innerKeySelector);
+        checkFalsePositiveRate(falsePositiveRate);
+        return new SemiJoinIterator<>(outer, inner, outerKeySelector, innerKeySelector, true, falsePositiveRate, comparer);
+    }
+
+    private static void checkArguments(IEnumerable<?> outer, IEnumerable<?> inner, Func1<?, ?> outerKeySelector, Func1<?, ?> innerKeySelector) {
+        if (outer == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.outer);
+        if (inner == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.inner);
+        if (outerKeySelector == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.outerKeySelector);
+        if (innerKeySelector == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.innerKeySelector);
+    }
+
+    static void checkFalsePositiveRate(double falsePositiveRate) {
+        if (!(falsePositiveRate > 0 && falsePositiveRate < 1))
+            ThrowHelper.throwArgumentOutOfRangeException(ExceptionArgument.falsePositiveRate);
+    }
+}
+
+
+// Yields outer rows whose key occurs in inner, or does not when anti. Null keys never match, like join.
+// A positive falsePositiveRate puts a Bloom filter in front of the set, rows it rejects skip the exact probe.
+final class SemiJoinIterator<TOuter, TInner, TKey> extends AbstractIterator<TOuter> {
+    private final IEnumerable<TOuter> outer;
+    private final IEnumerable<TInner> inner;
+    private final Func1<TOuter, TKey> outerKeySelector;
+    private final Func1<TInner, TKey> innerKeySelector;
+    private final boolean anti;
+    private final double falsePositiveRate;
+    private final IEqualityComparer<TKey> comparer;
+    private Set<TKey> set;
+    private BloomFilter<TKey> filter;
+    private IEnumerator<TOuter> enumerator;
+
+    SemiJoinIterator(IEnumerable<TOuter> outer, IEnumerable<TInner> inner, Func1<TOuter, TKey> outerKeySelector, Func1<TInner, TKey> innerKeySelector, boolean anti, double falsePositiveRate, IEqualityComparer<TKey> comparer) {
+        this.outer = outer;
+        this.inner = inner;
+        this.outerKeySelector = outerKeySelector;
+        this.innerKeySelector = innerKeySelector;
+        this.anti = anti;
+        this.falsePositiveRate = falsePositiveRate;
+        this.comparer = comparer;
+    }
+
+    @Override
+    public AbstractIterator<TOuter> clone() {
+        return new SemiJoinIterator<>(this.outer, this.inner, this.outerKeySelector, this.innerKeySelector, this.anti, this.falsePositiveRate, this.comparer);
+    }
+
+    @Override
+    public boolean moveNext() {
+        switch (this.state) {
+            case 1:
+                this.set = new Set<>(this.comparer, Set.capacityOf(this.inner));
+                try (IEnumerator<TInner> e = this.inner.enumerator()) {
+                    while (e.moveNext()) {
+                        TKey key = this.innerKeySelector.apply(e.current());
+                        if (key != null)
+                            this.set.add(key);
+                    }
+                }
+                if (this.falsePositiveRate > 0)
+                    this.filter = BloomFilter.of(this.set, this.comparer, this.falsePositiveRate);
+                this.enumerator = this.outer.enumerator();
+                this.state = 2;
+            case 2:
+                while (this.enumerator.moveNext()) {
+                    TOuter item = this.enumerator.current();
+                    if (this.matches(this.outerKeySelector.apply(item)) != this.anti) {
+                        this.current = item;
+                        return true;
+                    }
+                }
+                this.close();
+                return false;
+            default:
+                return false;
+        }
+    }
+
+    private boolean matches(TKey key) {
+        return key != null && (this.filter == null || this.filter.mightContain(key)) && this.set.contains(key);
+    }
+
+    @Override
+    public void close() {
+        if (this.enumerator != null) {
+            this.enumerator.close();
+            this.enumerator = null;
+            this.set = null;
+            this.filter = null;
+        }
+        super.close();
+    }
+}
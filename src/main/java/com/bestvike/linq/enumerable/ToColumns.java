@@ -0,0 +1,705 @@
+package com.bestvike.linq.enumerable;
+
+import com.bestvike.function.DoubleFunc1;
+import com.bestvike.function.Func1;
+import com.bestvike.function.IntFunc1;
+import com.bestvike.function.LongFunc1;
+import com.bestvike.linq.IColumnRow;
+import com.bestvike.linq.IColumnTable;
+import com.bestvike.linq.IDoubleEnumerable;
+import com.bestvike.linq.IEnumerable;
+import com.bestvike.linq.IEnumerator;
+import com.bestvike.linq.IIntEnumerable;
+import com.bestvike.linq.ILongEnumerable;
+import com.bestvike.linq.exception.ExceptionArgument;
+import com.bestvike.linq.exception.ThrowHelper;
+import com.bestvike.linq.util.ArrayUtils;
+import com.bestvike.out;
+
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Created by 许崇雷 on 2026-10-17.
+ */
+public final class ToColumns {
+    private static final int MaxCapacityHint = 1 << 20;
+
+    private ToColumns() {
+    }
+
+    @SafeVarargs
+    public static <TSource> IColumnTable toColumns(IEnumerable<TSource> source, Column<TSource>... columns) {
+        return toColumns(source, columns == null ? null : Arrays.asList(columns));
+    }
+
+    // Each column is one direct buffer, which holds at most Integer.MAX_VALUE bytes. That is 2GB of UTF-8 for a string column
+    // and 2GB of values for the others, 4 bytes a row for int, 8 for long, double and the start and length of a string.
+    // A column which outgrows it throws InvalidOperationException.
+    public static <TSource> IColumnTable toColumns(IEnumerable<TSource> source, List<Column<TSource>> columns) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+        if (columns == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.columns);
+        //noinspection unchecked
+        Column<TSource>[] array = columns.toArray(new Column[0]);
+        Map<String, Integer> indexes = new HashMap<>(array.length * 2);
+        for (int i = 0; i < array.length; i++) {
+            if (array[i] == null)
+                ThrowHelper.throwArgumentNullException(ExceptionArgument.columns);
+            if (indexes.put(array[i].name, i) != null)
+                ThrowHelper.throwDuplicateColumnException(array[i].name);
+        }
+
+        // The count only presizes the columns. Capped since lazy sources like repeat may report counts no column can hold.
+        out<Integer> countRef = out.init();
+        int capacity = EnumerableHelpers.tryGetCount(source, countRef) ? Math.min(countRef.value, MaxCapacityHint) : 0;
+        ColumnStore[] stores = new ColumnStore[array.length];
+        for (int i = 0; i < array.length; i++)
+            stores[i] = new ColumnStore(array[i].name, array[i].type, capacity);
+        int rowCount = 0;
+        try (IEnumerator<TSource> e = source.enumerator()) {
+            while (e.moveNext()) {
+                TSource item = e.current();
+                for (int i = 0; i < array.length; i++)
+                    stores[i].add(array[i], item);
+                rowCount++;
+            }
+        }
+        return new ColumnTable(stores, indexes, rowCount);
+    }
+}
+
+
+// One column in direct memory, so the rows are neither objects nor scanned by the gc.
+// Fixed width columns store the values in native order, string columns store a start and a byte length per row and the UTF-8 bytes apart, a length of -1 is null.
+final class ColumnStore {
+    private static final int DefaultCapacity = 16;
+    private static final int DefaultBytesCapacity = 256;
+    final String name;
+    final int type;
+    private ByteBuffer data;
+    private int size;
+    private ByteBuffer bytes;
+    private int bytesSize;
+
+    ColumnStore(String name, int type, int capacity) {
+        this.name = name;
+        this.type = type;
+        // A counted source presizes the values, the UTF-8 bytes of a string column start small since their size is unknown.
+        this.data = allocate(Math.min((long) Math.max(capacity, DefaultCapacity) * this.width(), Integer.MAX_VALUE));
+        if (type == Column.StringType)
+            this.bytes = allocate(DefaultBytesCapacity);
+    }
+
+    private int width() {
+        return this.type == Column.IntType ? Integer.BYTES : Long.BYTES;
+    }
+
+    private static ByteBuffer allocate(long capacity) {
+        assert capacity <= Integer.MAX_VALUE;
+        return ByteBuffer.allocateDirect((int) capacity).order(ByteOrder.nativeOrder());
+    }
+
+    // Doubles the capacity until required bytes fit and copies the used bytes.
+    private ByteBuffer ensureCapacity(ByteBuffer buffer, int size, long required) {
+        if (required <= buffer.capacity())
+            return buffer;
+        if (required > Integer.MAX_VALUE)
+            ThrowHelper.throwColumnTooLargeException(this.name);
+        ByteBuffer newBuffer = allocate(Math.max(required, Math.min((long) buffer.capacity() << 1, Integer.MAX_VALUE)));
+        ByteBuffer used = buffer.duplicate();
+        ((Buffer) used).limit(size);
+        newBuffer.put(used);
+        ((Buffer) newBuffer).clear();
+        return newBuffer;
+    }
+
+    @SuppressWarnings("unchecked")
+    <TSource> void add(Column<TSource> column, TSource item) {
+        this.data = this.ensureCapacity(this.data, this.size, (long) this.size + this.width());
+        switch (this.type) {
+            case Column.IntType:
+                this.data.putInt(this.size, ((IntFunc1<TSource>) column.selector).apply(item));
+                break;
+            case Column.LongType:
+                this.data.putLong(this.size, ((LongFunc1<TSource>) column.selector).apply(item));
+                break;
+            case Column.DoubleType:
+                this.data.putDouble(this.size, ((DoubleFunc1<TSource>) column.selector).apply(item));
+                break;
+            default:
+                String value = ((Func1<TSource, String>) column.selector).apply(item);
+                if (value == null) {
+                    this.data.putInt(this.size, 0);
+                    this.data.putInt(this.size + Integer.BYTES, -1);
+                    break;
+                }
+                byte[] encoded = value.getBytes(StandardCharsets.UTF_8);
+                this.bytes = this.ensureCapacity(this.bytes, this.bytesSize, (long) this.bytesSize + encoded.length);
+                ByteBuffer target = this.bytes.duplicate();
+                ((Buffer) target).position(this.bytesSize);
+                target.put(encoded);
+                this.data.putInt(this.size, this.bytesSize);
+                this.data.putInt(this.size + Integer.BYTES, encoded.length);
+                this.bytesSize += encoded.length;
+                break;
+        }
+        this.size += this.width();
+    }
+
+    int getInt(int row) {
+        return this.data.getInt(row << 2);
+    }
+
+    long getLong(int row) {
+        return this.data.getLong(row << 3);
+    }
+
+    double getDouble(int row) {
+        return this.data.getDouble(row << 3);
+    }
+
+    String getString(int row) {
+        int length = this.data.getInt((row << 3) + Integer.BYTES);
+        if (length == -1)
+            return null;
+        byte[] encoded = new byte[length];
+        ByteBuffer source = this.bytes.duplicate();
+        ((Buffer) source).position(this.data.getInt(row << 3));
+        source.get(encoded);
+        return new String(encoded, StandardCharsets.UTF_8);
+    }
+}
+
+
+final class ColumnTable implements IColumnTable, IIListProvider<IColumnRow> {
+    private final ColumnStore[] stores;
+    private final Map<String, Integer> indexes;
+    private final int rowCount;
+
+    ColumnTable(ColumnStore[] stores, Map<String, Integer> indexes, int rowCount) {
+        this.stores = stores;
+        this.indexes = indexes;
+        this.rowCount = rowCount;
+    }
+
+    @Override
+    public IEnumerator<IColumnRow> enumerator() {
+        return this.rows().enumerator();
+    }
+
+    private ColumnRowIterator rows() {
+        return new ColumnRowIterator(this, 0, this.rowCount);
+    }
+
+    @Override
+    public int getRowCount() {
+        return this.rowCount;
+    }
+
+    @Override
+    public int getColumnCount() {
+        return this.stores.length;
+    }
+
+    @Override
+    public String getColumnName(int column) {
+        return this.store(column).name;
+    }
+
+    @Override
+    public int getColumnIndex(String name) {
+        Integer index = this.indexes.get(name);
+        return index == null ? -1 : index;
+    }
+
+    ColumnStore store(int column) {
+        if (Integer.compareUnsigned(column, this.stores.length) >= 0)
+            ThrowHelper.throwArgumentOutOfRangeException(ExceptionArgument.column);
+        return this.stores[column];
+    }
+
+    ColumnStore store(int column, int type) {
+        ColumnStore store = this.store(column);
+        if (store.type != type)
+            ThrowHelper.throwColumnTypeMismatchException(store.name);
+        return store;
+    }
+
+    ColumnStore store(String name, int type) {
+        Integer index = this.indexes.get(name);
+        if (index == null)
+            ThrowHelper.throwColumnNotFoundException(name);
+        return this.store(index, type);
+    }
+
+    @Override
+    public IIntEnumerable intColumn(String name) {
+        return new IntColumnIterator(this.store(name, Column.IntType), 0, this.rowCount);
+    }
+
+    @Override
+    public ILongEnumerable longColumn(String name) {
+        return new LongColumnIterator(this.store(name, Column.LongType), 0, this.rowCount);
+    }
+
+    @Override
+    public IDoubleEnumerable doubleColumn(String name) {
+        return new DoubleColumnIterator(this.store(name, Column.DoubleType), 0, this.rowCount);
+    }
+
+    @Override
+    public IEnumerable<String> stringColumn(String name) {
+        return new StringColumnIterator(this.store(name, Column.StringType), 0, this.rowCount);
+    }
+
+    @Override
+    public IColumnRow[] _toArray(Class<IColumnRow> clazz) {
+        return this.rows()._toArray(clazz);
+    }
+
+    @Override
+    public Object[] _toArray() {
+        return this.rows()._toArray();
+    }
+
+    @Override
+    public List<IColumnRow> _toList() {
+        return this.rows()._toList();
+    }
+
+    @Override
+    public int _getCount(boolean onlyIfCheap) {
+        return this.rowCount;
+    }
+}
+
+
+// A row is a table and an index, values are read from the columns on each call.
+final class ColumnRow implements IColumnRow {
+    private final ColumnTable table;
+    private final int index;
+
+    ColumnRow(ColumnTable table, int index) {
+        this.table = table;
+        this.index = index;
+    }
+
+    @Override
+    public int getIndex() {
+        return this.index;
+    }
+
+    @Override
+    public int getInt(int column) {
+        return this.table.store(column, Column.IntType).getInt(this.index);
+    }
+
+    @Override
+    public int getInt(String name) {
+        return this.table.store(name, Column.IntType).getInt(this.index);
+    }
+
+    @Override
+    public long getLong(int column) {
+        return this.table.store(column, Column.LongType).getLong(this.index);
+    }
+
+    @Override
+    public long getLong(String name) {
+        return this.table.store(name, Column.LongType).getLong(this.index);
+    }
+
+    @Override
+    public double getDouble(int column) {
+        return this.table.store(column, Column.DoubleType).getDouble(this.index);
+    }
+
+    @Override
+    public double getDouble(String name) {
+        return this.table.store(name, Column.DoubleType).getDouble(this.index);
+    }
+
+    @Override
+    public String getString(int column) {
+        return this.table.store(column, Column.StringType).getString(this.index);
+    }
+
+    @Override
+    public String getString(String name) {
+        return this.table.store(name, Column.StringType).getString(this.index);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("[");
+        for (int i = 0; i < this.table.getColumnCount(); i++) {
+            if (i > 0)
+                builder.append(", ");
+            builder.append(this.table.getColumnName(i)).append('=');
+            ColumnStore store = this.table.store(i);
+            switch (store.type) {
+                case Column.IntType:
+                    builder.append(store.getInt(this.index));
+                    break;
+                case Column.LongType:
+                    builder.append(store.getLong(this.index));
+                    break;
+                case Column.DoubleType:
+                    builder.append(store.getDouble(this.index));
+                    break;
+                default:
+                    builder.append(store.getString(this.index));
+                    break;
+            }
+        }
+        return builder.append(']').toString();
+    }
+}
+
+
+// Rows start to end of one column, read on demand so nothing is copied back to the heap before it is used.
+abstract class ColumnIterator<TSource> extends Iterator<TSource> implements IPartition<TSource> {
+    final int start;
+    final int end;
+
+    ColumnIterator(int start, int end) {
+        assert 0 <= start && start <= end;
+        this.start = start;
+        this.end = end;
+    }
+
+    abstract TSource get(int row);
+
+    abstract ColumnIterator<TSource> slice(int start, int end);
+
+    @Override
+    public AbstractIterator<TSource> clone() {
+        return this.slice(this.start, this.end);
+    }
+
+    @Override
+    public boolean moveNext() {
+        // state - 1 represents the zero-based offset from start.
+        if (this.state == -1)
+            return false;
+        int row = this.start + this.state - 1;
+        if (row < this.end) {
+            this.current = this.get(row);
+            ++this.state;
+            return true;
+        }
+
+        this.close();
+        return false;
+    }
+
+    @Override
+    public TSource[] _toArray(Class<TSource> clazz) {
+        TSource[] array = ArrayUtils.newInstance(clazz, this.end - this.start);
+        for (int i = 0; i < array.length; i++)
+            array[i] = this.get(this.start + i);
+        return array;
+    }
+
+    @Override
+    public Object[] _toArray() {
+        Object[] array = new Object[this.end - this.start];
+        for (int i = 0; i < array.length; i++)
+            array[i] = this.get(this.start + i);
+        return array;
+    }
+
+    @Override
+    public List<TSource> _toList() {
+        List<TSource> list = new ArrayList<>(this.end - this.start);
+        for (int row = this.start; row < this.end; row++)
+            list.add(this.get(row));
+        return list;
+    }
+
+    @Override
+    public int _getCount(boolean onlyIfCheap) {
+        return this.end - this.start;
+    }
+
+    @Override
+    public IPartition<TSource> _skip(int count) {
+        assert count > 0;
+        return count >= this.end - this.start
+                ? EmptyPartition.instance()
+                : this.slice(this.start + count, this.end);
+    }
+
+    @Override
+    public IPartition<TSource> _take(int count) {
+        assert count > 0;
+        return count >= this.end - this.start
+                ? this
+                : this.slice(this.start, this.start + count);
+    }
+
+    @Override
+    public TSource _tryGetElementAt(int index, out<Boolean> found) {
+        if (Integer.compareUnsigned(index, this.end - this.start) < 0) {
+            found.value = true;
+            return this.get(this.start + index);
+        }
+        found.value = false;
+        return null;
+    }
+
+    @Override
+    public TSource _tryGetFirst(out<Boolean> found) {
+        if (this.end > this.start) {
+            found.value = true;
+            return this.get(this.start);
+        }
+        found.value = false;
+        return null;
+    }
+
+    @Override
+    public TSource _tryGetLast(out<Boolean> found) {
+        if (this.end > this.start) {
+            found.value = true;
+            return this.get(this.end - 1);
+        }
+        found.value = false;
+        return null;
+    }
+}
+
+
+final class ColumnRowIterator extends ColumnIterator<IColumnRow> {
+    private final ColumnTable table;
+
+    ColumnRowIterator(ColumnTable table, int start, int end) {
+        super(start, end);
+        this.table = table;
+    }
+
+    @Override
+    IColumnRow get(int row) {
+        return new ColumnRow(this.table, row);
+    }
+
+    @Override
+    ColumnIterator<IColumnRow> slice(int start, int end) {
+        return new ColumnRowIterator(this.table, start, end);
+    }
+}
+
+
+final class StringColumnIterator extends ColumnIterator<String> {
+    private final ColumnStore store;
+
+    StringColumnIterator(ColumnStore store, int start, int end) {
+        super(start, end);
+        this.store = store;
+    }
+
+    @Override
+    String get(int row) {
+        return this.store.getString(row);
+    }
+
+    @Override
+    ColumnIterator<String> slice(int start, int end) {
+        return new StringColumnIterator(this.store, start, end);
+    }
+}
+
+
+final class IntColumnIterator extends AbstractIntIterator implements IIntPartition {
+    private final ColumnStore store;
+    private final int start;
+    private final int end;
+
+    IntColumnIterator(ColumnStore store, int start, int end) {
+        assert 0 <= start && start <= end;
+        this.store = store;
+        this.start = start;
+        this.end = end;
+    }
+
+    @Override
+    public AbstractIntIterator clone() {
+        return new IntColumnIterator(this.store, this.start, this.end);
+    }
+
+    @Override
+    public boolean moveNext() {
+        // state - 1 represents the zero-based offset from start.
+        if (this.state == -1)
+            return false;
+        int row = this.start + this.state - 1;
+        if (row < this.end) {
+            this.current = this.store.getInt(row);
+            ++this.state;
+            return true;
+        }
+
+        this.close();
+        return false;
+    }
+
+    @Override
+    public IIntEnumerable _skip(int count) {
+        return count >= this.end - this.start
+                ? IntEnumerable.empty()
+                : new IntColumnIterator(this.store, this.start + count, this.end);
+    }
+
+    @Override
+    public IIntEnumerable _take(int count) {
+        return count >= this.end - this.start
+                ? this
+                : new IntColumnIterator(this.store, this.start, this.start + count);
+    }
+
+    @Override
+    public int _getCount() {
+        return this.end - this.start;
+    }
+
+    @Override
+    public int[] _toArray() {
+        int[] array = new int[this.end - this.start];
+        for (int i = 0; i < array.length; i++)
+            array[i] = this.store.getInt(this.start + i);
+        return array;
+    }
+}
+
+
+final class LongColumnIterator extends AbstractLongIterator implements ILongPartition {
+    private final ColumnStore store;
+    private final int start;
+    private final int end;
+
+    LongColumnIterator(ColumnStore store, int start, int end) {
+        assert 0 <= start && start <= end;
+        this.store = store;
+        this.start = start;
+        this.end = end;
+    }
+
+    @Override
+    public AbstractLongIterator clone() {
+        return new LongColumnIterator(this.store, this.start, this.end);
+    }
+
+    @Override
+    public boolean moveNext() {
+        // state - 1 represents the zero-based offset from start.
+        if (this.state == -1)
+            return false;
+        int row = this.start + this.state - 1;
+        if (row < this.end) {
+            this.current = this.store.getLong(row);
+            ++this.state;
+            return true;
+        }
+
+        this.close();
+        return false;
+    }
+
+    @Override
+    public ILongEnumerable _skip(int count) {
+        return count >= this.end - this.start
+                ? LongEnumerable.empty()
+                : new LongColumnIterator(this.store, this.start + count, this.end);
+    }
+
+    @Override
+    public ILongEnumerable _take(int count) {
+        return count >= this.end - this.start
+                ? this
+                : new LongColumnIterator(this.store, this.start, this.start + count);
+    }
+
+    @Override
+    public int _getCount() {
+        return this.end - this.start;
+    }
+
+    @Override
+    public long[] _toArray() {
+        long[] array = new long[this.end - this.start];
+        for (int i = 0; i < array.length; i++)
+            array[i] = this.store.getLong(this.start + i);
+        return array;
+    }
+}
+
+
+final class DoubleColumnIterator extends AbstractDoubleIterator implements IDoublePartition {
+    private final ColumnStore store;
+    private final int start;
+    private final int end;
+
+    DoubleColumnIterator(ColumnStore store, int start, int end) {
+        assert 0 <= start && start <= end;
+        this.store = store;
+        this.start = start;
+        this.end = end;
+    }
+
+    @Override
+    public AbstractDoubleIterator clone() {
+        return new DoubleColumnIterator(this.store, this.start, this.end);
+    }
+
+    @Override
+    public boolean moveNext() {
+        // state - 1 represents the zero-based offset from start.
+        if (this.state == -1)
+            return false;
+        int row = this.start + this.state - 1;
+        if (row < this.end) {
+            this.current = this.store.getDouble(row);
+            ++this.state;
+            return true;
+        }
+
+        this.close();
+        return false;
+    }
+
+    @Override
+    public IDoubleEnumerable _skip(int count) {
+        return count >= this.end - this.start
+                ? DoubleEnumerable.empty()
+                : new DoubleColumnIterator(this.store, this.start + count, this.end);
+    }
+
+    @Override
+    public IDoubleEnumerable _take(int count) {
+        return count >= this.end - this.start
+                ? this
+                : new DoubleColumnIterator(this.store, this.start, this.start + count);
+    }
+
+    @Override
+    public int _getCount() {
+        return this.end - this.start;
+    }
+
+    @Override
+    public double[] _toArray() {
+        double[] array = new double[this.end - this.start];
+        for (int i = 0; i < array.length; i++)
+            array[i] = this.store.getDouble(this.start + i);
+        return array;
+    }
+}
@@ -27,6 +27,19 @@ public final class ToLookup {
         return Lookup.create(source, keySelector, comparer);
     }
 
+    public static <TSource, TKey> ILookup<TKey, TSource> toLookup(IEnumerable<TSource> source, Func1<TSource, TKey> keySelector, IEqualityComparer<TKey> comparer, int expectedKeyCount, int expectedGroupSize) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+        if (keySelector == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.keySelector);
+        if (expectedKeyCount < 0)
+            ThrowHelper.throwArgumentOutOfRangeException(ExceptionArgument.expectedKeyCount);
+        if (expectedGroupSize < 0)
+            ThrowHelper.throwArgumentOutOfRangeException(ExceptionArgument.expectedGroupSize);
+
+        return Lookup.create(source, keySelector, comparer, expectedKeyCount, expectedGroupSize);
+    }
+
     public static <TSource, TKey, TElement> ILookup<TKey, TElement> toLookup(IEnumerable<TSource> source, Func1<TSource, TKey> keySelector, Func1<TSource, TElement> elementSelector) {
         return toLookup(source, keySelector, elementSelector, null);
     }
@@ -41,4 +54,19 @@ public final class ToLookup {
 
         return Lookup.create(source, keySelector, elementSelector, comparer);
     }
+
+    public static <TSource, TKey, TElement> ILookup<TKey, TElement> toLookup(IEnumerable<TSource> source, Func1<TSource, TKey> keySelector, Func1<TSource, TElement> elementSelector, IEqualityComparer<TKey> comparer, int expectedKeyCount, int expectedGroupSize) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+        if (keySelector == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.keySelector);
+        if (elementSelector == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.elementSelector);
+        if (expectedKeyCount < 0)
+            ThrowHelper.throwArgumentOutOfRangeException(ExceptionArgument.expectedKeyCount);
+        if (expectedGroupSize < 0)
+            ThrowHelper.throwArgumentOutOfRangeException(ExceptionArgument.expectedGroupSize);
+
+        return Lookup.create(source, keySelector, elementSelector, comparer, expectedKeyCount, expectedGroupSize);
+    }
 }
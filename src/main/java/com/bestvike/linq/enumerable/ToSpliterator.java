@@ -2,12 +2,16 @@ package com.bestvike.linq.enumerable;
 
 import com.bestvike.collections.generic.IArray;
 import com.bestvike.collections.generic.ICollection;
+import com.bestvike.function.Func1;
+import com.bestvike.function.Predicate1;
 import com.bestvike.linq.IEnumerable;
+import com.bestvike.linq.IEnumerator;
 import com.bestvike.linq.exception.ExceptionArgument;
 import com.bestvike.linq.exception.ThrowHelper;
 
 import java.util.Spliterator;
 import java.util.Spliterators;
+import java.util.function.Consumer;
 
 /**
  * Created by 许崇雷 on 2019-04-25.
@@ -44,13 +48,319 @@ public final class ToSpliterator {
             return Spliterators.spliterator(collection.getCollection(), Spliterator.IMMUTABLE);
         }
 
+        if (source instanceof ISpliteratorProvider) {
+            ISpliteratorProvider<TSource> provider = (ISpliteratorProvider<TSource>) source;
+            return provider._spliterator();
+        }
+
         if (source instanceof IIListProvider) {
             IIListProvider<TSource> listProv = (IIListProvider<TSource>) source;
             int count = listProv._getCount(true);
-            if (count != -1)
+            if (count != -1) {
+                // Ordered sources sort once on first use, slicing them would sort every slice again.
+                if (source instanceof AbstractOrderedEnumerable || source instanceof OrderedPartition)
+                    return new BufferedSpliterator<>(listProv, count);
+                if (source instanceof IPartition)
+                    return new PartitionSpliterator<>((IPartition<TSource>) source, count);
                 return Spliterators.spliterator(source.enumerator(), count, Spliterator.IMMUTABLE);
+            }
         }
 
         return Spliterators.spliteratorUnknownSize(source.enumerator(), Spliterator.IMMUTABLE);
     }
 }
+
+
+interface ISpliteratorProvider<TElement> extends IEnumerable<TElement> {
+    Spliterator<TElement> _spliterator();
+}
+
+
+final class PartitionSpliterator<TSource> implements Spliterator<TSource> {
+    private IPartition<TSource> partition;
+    private IEnumerator<TSource> enumerator;
+    private int count;
+
+    PartitionSpliterator(IPartition<TSource> partition, int count) {
+        assert partition != null;
+        assert count >= 0;
+
+        this.partition = partition;
+        this.count = count;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super TSource> action) {
+        if (action == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.action);
+
+        if (this.enumerator == null) {
+            if (this.count == 0)
+                return false;
+            this.enumerator = this.partition.enumerator();
+        }
+        if (this.enumerator.moveNext()) {
+            this.count--;
+            action.accept(this.enumerator.current());
+            return true;
+        }
+        this.count = 0;
+        this.enumerator.close();
+        return false;
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super TSource> action) {
+        if (action == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.action);
+
+        if (this.enumerator == null) {
+            if (this.count == 0)
+                return;
+            this.enumerator = this.partition.enumerator();
+        }
+        try (IEnumerator<TSource> e = this.enumerator) {
+            while (e.moveNext())
+                action.accept(e.current());
+        }
+        this.count = 0;
+    }
+
+    // Splits off the first half before traversal starts, both halves keep their own index range.
+    @Override
+    public Spliterator<TSource> trySplit() {
+        if (this.enumerator != null || this.count < 2)
+            return null;
+
+        int half = this.count >>> 1;
+        Spliterator<TSource> prefix = new PartitionSpliterator<>(this.partition._take(half), half);
+        this.partition = this.partition._skip(half);
+        this.count -= half;
+        return prefix;
+    }
+
+    @Override
+    public long estimateSize() {
+        return this.count;
+    }
+
+    @Override
+    public int characteristics() {
+        return Spliterator.ORDERED | Spliterator.IMMUTABLE | Spliterator.SIZED | Spliterator.SUBSIZED;
+    }
+}
+
+
+final class BufferedSpliterator<TSource> implements Spliterator<TSource> {
+    private final IIListProvider<TSource> source;
+    private final int count;
+    private Spliterator<TSource> spliterator;
+
+    BufferedSpliterator(IIListProvider<TSource> source, int count) {
+        assert source != null;
+        assert count >= 0;
+
+        this.source = source;
+        this.count = count;
+    }
+
+    private Spliterator<TSource> getSpliterator() {
+        if (this.spliterator == null)
+            this.spliterator = Spliterators.spliterator(this.source._toArray(), this.characteristics());
+        return this.spliterator;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super TSource> action) {
+        return this.getSpliterator().tryAdvance(action);
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super TSource> action) {
+        this.getSpliterator().forEachRemaining(action);
+    }
+
+    @Override
+    public Spliterator<TSource> trySplit() {
+        return this.getSpliterator().trySplit();
+    }
+
+    @Override
+    public long estimateSize() {
+        return this.spliterator == null ? this.count : this.spliterator.estimateSize();
+    }
+
+    @Override
+    public int characteristics() {
+        return Spliterator.ORDERED | Spliterator.IMMUTABLE | Spliterator.SIZED | Spliterator.SUBSIZED;
+    }
+}
+
+
+final class WhereSpliterator<TSource> implements Spliterator<TSource>, Consumer<TSource> {
+    private final Spliterator<TSource> source;
+    private final Predicate1<TSource> predicate;
+    private TSource current;
+    private boolean found;
+
+    WhereSpliterator(Spliterator<TSource> source, Predicate1<TSource> predicate) {
+        assert source != null;
+        assert predicate != null;
+
+        this.source = source;
+        this.predicate = predicate;
+    }
+
+    @Override
+    public void accept(TSource item) {
+        if (this.predicate.apply(item)) {
+            this.current = item;
+            this.found = true;
+        }
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super TSource> action) {
+        if (action == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.action);
+
+        this.found = false;
+        while (this.source.tryAdvance(this)) {
+            if (this.found) {
+                TSource item = this.current;
+                this.current = null;
+                action.accept(item);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super TSource> action) {
+        if (action == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.action);
+
+        this.source.forEachRemaining(item -> {
+            if (this.predicate.apply(item))
+                action.accept(item);
+        });
+    }
+
+    @Override
+    public Spliterator<TSource> trySplit() {
+        Spliterator<TSource> prefix = this.source.trySplit();
+        return prefix == null ? null : new WhereSpliterator<>(prefix, this.predicate);
+    }
+
+    @Override
+    public long estimateSize() {
+        return this.source.estimateSize();
+    }
+
+    @Override
+    public int characteristics() {
+        return this.source.characteristics() & (Spliterator.ORDERED | Spliterator.IMMUTABLE);
+    }
+}
+
+
+final class SelectSpliterator<TSource, TResult> implements Spliterator<TResult> {
+    private final Spliterator<TSource> source;
+    private final Func1<TSource, TResult> selector;
+
+    SelectSpliterator(Spliterator<TSource> source, Func1<TSource, TResult> selector) {
+        assert source != null;
+        assert selector != null;
+
+        this.source = source;
+        this.selector = selector;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super TResult> action) {
+        if (action == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.action);
+
+        return this.source.tryAdvance(item -> action.accept(this.selector.apply(item)));
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super TResult> action) {
+        if (action == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.action);
+
+        this.source.forEachRemaining(item -> action.accept(this.selector.apply(item)));
+    }
+
+    @Override
+    public Spliterator<TResult> trySplit() {
+        Spliterator<TSource> prefix = this.source.trySplit();
+        return prefix == null ? null : new SelectSpliterator<>(prefix, this.selector);
+    }
+
+    @Override
+    public long estimateSize() {
+        return this.source.estimateSize();
+    }
+
+    @Override
+    public int characteristics() {
+        return this.source.characteristics() & (Spliterator.ORDERED | Spliterator.IMMUTABLE | Spliterator.SIZED | Spliterator.SUBSIZED);
+    }
+}
+
+
+final class ConcatSpliterator<TSource> implements Spliterator<TSource> {
+    private final Spliterator<TSource> first;
+    private final Spliterator<TSource> second;
+    private boolean beforeSplit = true;
+
+    ConcatSpliterator(Spliterator<TSource> first, Spliterator<TSource> second) {
+        assert first != null;
+        assert second != null;
+
+        this.first = first;
+        this.second = second;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super TSource> action) {
+        if (this.beforeSplit) {
+            if (this.first.tryAdvance(action))
+                return true;
+            this.beforeSplit = false;
+        }
+        return this.second.tryAdvance(action);
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super TSource> action) {
+        if (this.beforeSplit)
+            this.first.forEachRemaining(action);
+        this.second.forEachRemaining(action);
+    }
+
+    @Override
+    public Spliterator<TSource> trySplit() {
+        Spliterator<TSource> prefix = this.beforeSplit ? this.first : this.second.trySplit();
+        this.beforeSplit = false;
+        return prefix;
+    }
+
+    @Override
+    public long estimateSize() {
+        if (!this.beforeSplit)
+            return this.second.estimateSize();
+        long size = this.first.estimateSize() + this.second.estimateSize();
+        return size >= 0 ? size : Long.MAX_VALUE;
+    }
+
+    @Override
+    public int characteristics() {
+        if (!this.beforeSplit)
+            return this.second.characteristics();
+        int characteristics = this.first.characteristics() & this.second.characteristics() & (Spliterator.ORDERED | Spliterator.IMMUTABLE | Spliterator.SIZED | Spliterator.SUBSIZED);
+        return this.first.estimateSize() + this.second.estimateSize() >= 0 ? characteristics : characteristics & ~(Spliterator.SIZED | Spliterator.SUBSIZED);
+    }
+}
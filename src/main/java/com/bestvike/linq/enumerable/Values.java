@@ -1,5 +1,6 @@
 package com.bestvike.linq.enumerable;
 
+import com.bestvike.ImmutableValueType;
 import com.bestvike.collections.generic.Comparer;
 import com.bestvike.collections.generic.ICollection;
 import com.bestvike.linq.IEnumerable;
@@ -8,6 +9,7 @@ import com.bestvike.linq.exception.ThrowHelper;
 import com.bestvike.linq.util.Formatter;
 import com.bestvike.linq.util.ReflectionUtils;
 
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.Field;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
@@ -76,18 +78,59 @@ public final class Values {
         }
         if (x instanceof Map)
             return equals((Map<?, ?>) x, y);
+        if (x instanceof ImmutableValueType)
+            return x.equals(y);
         Class<?> clazz = x.getClass();
         if (clazz.getName().startsWith(JDK_PREFIX))
             return x.equals(y);
         if (clazz != y.getClass())
             return false;
+        return fieldsEquals(clazz, x, y);
+    }
+
+    // Compares the fields of x and y only, for a ValueType that keeps state of its own such as ImmutableValueType.
+    public static boolean fieldsEquals(Object x, Object y) {
+        if (x == y)
+            return true;
+        if (x == null || y == null)
+            return false;
+        Class<?> clazz = x.getClass();
+        return clazz == y.getClass() && fieldsEquals(clazz, x, y);
+    }
+
+    // Reads fields through cached getters, primitive fields compare unboxed with the same result as their boxed equals.
+    private static boolean fieldsEquals(Class<?> clazz, Object x, Object y) {
         Field[] fields = ReflectionUtils.getFields(clazz);
+        MethodHandle[] getters = ReflectionUtils.getGetters(clazz);
         try {
-            for (Field field : fields) {
-                if (!equals(field.get(x), field.get(y)))
-                    return false;
-            }
-        } catch (IllegalAccessException e) {
+            for (int i = 0; i < getters.length; i++) {
+                MethodHandle getter = getters[i];
+                Class<?> type = fields[i].getType();
+                boolean equals;
+                if (!type.isPrimitive())
+                    equals = equals((Object) getter.invokeExact(x), (Object) getter.invokeExact(y));
+                else if (type == int.class)
+                    equals = (int) getter.invokeExact(x) == (int) getter.invokeExact(y);
+                else if (type == long.class)
+                    equals = (long) getter.invokeExact(x) == (long) getter.invokeExact(y);
+                else if (type == double.class)
+                    equals = Double.doubleToLongBits((double) getter.invokeExact(x)) == Double.doubleToLongBits((double) getter.invokeExact(y));
+                else if (type == boolean.class)
+                    equals = (boolean) getter.invokeExact(x) == (boolean) getter.invokeExact(y);
+                else if (type == char.class)
+                    equals = (char) getter.invokeExact(x) == (char) getter.invokeExact(y);
+                else if (type == float.class)
+                    equals = Float.floatToIntBits((float) getter.invokeExact(x)) == Float.floatToIntBits((float) getter.invokeExact(y));
+                else if (type == byte.class)
+                    equals = (byte) getter.invokeExact(x) == (byte) getter.invokeExact(y);
+                else
+                    equals = (short) getter.invokeExact(x) == (short) getter.invokeExact(y);
+                if (!equals)
+                    return false;
+            }
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
             ThrowHelper.throwRuntimeException(e);
         }
         return true;
@@ -1000,15 +1043,55 @@ public final class Values {
             return hashCode((Iterable<?>) obj);
         if (obj instanceof Map)
             return hashCode((Map<?, ?>) obj);
+        if (obj instanceof ImmutableValueType)
+            return obj.hashCode();
         Class<?> clazz = obj.getClass();
         if (clazz.getName().startsWith(JDK_PREFIX))
             return obj.hashCode();
+        return fieldsHashCode(clazz, obj);
+    }
+
+    // Hashes the fields of obj only, for a ValueType that keeps state of its own such as ImmutableValueType.
+    public static int fieldsHashCode(Object obj) {
+        return obj == null ? HASH_NULL : fieldsHashCode(obj.getClass(), obj);
+    }
+
+    // Primitive fields hash unboxed with the same result as their boxed hashCode.
+    private static int fieldsHashCode(Class<?> clazz, Object obj) {
         int result = HASH_EMPTY;
         Field[] fields = ReflectionUtils.getFields(clazz);
+        MethodHandle[] getters = ReflectionUtils.getGetters(clazz);
         try {
-            for (Field field : fields)
-                result = HASH_PRIME * result + hashCode(field.get(obj));
-        } catch (IllegalAccessException e) {
+            for (int i = 0; i < getters.length; i++) {
+                MethodHandle getter = getters[i];
+                Class<?> type = fields[i].getType();
+                int hash;
+                if (!type.isPrimitive()) {
+                    hash = hashCode((Object) getter.invokeExact(obj));
+                } else if (type == int.class) {
+                    hash = (int) getter.invokeExact(obj);
+                } else if (type == long.class) {
+                    long value = (long) getter.invokeExact(obj);
+                    hash = (int) (value ^ (value >>> 32));
+                } else if (type == double.class) {
+                    long bits = Double.doubleToLongBits((double) getter.invokeExact(obj));
+                    hash = (int) (bits ^ (bits >>> 32));
+                } else if (type == boolean.class) {
+                    hash = (boolean) getter.invokeExact(obj) ? HASH_TRUE : HASH_FALSE;
+                } else if (type == char.class) {
+                    hash = (char) getter.invokeExact(obj);
+                } else if (type == float.class) {
+                    hash = Float.floatToIntBits((float) getter.invokeExact(obj));
+                } else if (type == byte.class) {
+                    hash = (byte) getter.invokeExact(obj);
+                } else {
+                    hash = (short) getter.invokeExact(obj);
+                }
+                result = HASH_PRIME * result + hash;
+            }
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
             ThrowHelper.throwRuntimeException(e);
         }
         return result;
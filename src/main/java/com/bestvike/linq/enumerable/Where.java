@@ -13,6 +13,7 @@ import com.bestvike.linq.util.Utilities;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Spliterator;
 
 /**
  * Created by 许崇雷 on 2018-05-08.
@@ -112,7 +113,7 @@ final class WhereIterator<TSource> extends AbstractIterator<TSource> {
 }
 
 
-final class WhereEnumerableIterator<TSource> extends Iterator<TSource> implements IIListProvider<TSource> {
+final class WhereEnumerableIterator<TSource> extends Iterator<TSource> implements IIListProvider<TSource>, ISpliteratorProvider<TSource> {
     private final IEnumerable<TSource> source;
     private final Predicate1<TSource> predicate;
     private IEnumerator<TSource> enumerator;
@@ -226,10 +227,15 @@ final class WhereEnumerableIterator<TSource> extends Iterator<TSource> implement
 
         return count;
     }
+
+    @Override
+    public Spliterator<TSource> _spliterator() {
+        return new WhereSpliterator<>(ToSpliterator.spliterator(this.source), this.predicate);
+    }
 }
 
 
-final class WhereArrayIterator<TSource> extends Iterator<TSource> implements IIListProvider<TSource> {
+final class WhereArrayIterator<TSource> extends Iterator<TSource> implements IIListProvider<TSource>, ISpliteratorProvider<TSource> {
     private final IArray<TSource> source;
     private final Predicate1<TSource> predicate;
 
@@ -330,10 +336,15 @@ final class WhereArrayIterator<TSource> extends Iterator<TSource> implements IIL
 
         return count;
     }
+
+    @Override
+    public Spliterator<TSource> _spliterator() {
+        return new WhereSpliterator<>(ToSpliterator.spliterator(this.source), this.predicate);
+    }
 }
 
 
-final class WhereListIterator<TSource> extends Iterator<TSource> implements IIListProvider<TSource> {
+final class WhereListIterator<TSource> extends Iterator<TSource> implements IIListProvider<TSource>, ISpliteratorProvider<TSource> {
     private final ICollection<TSource> source;
     private final Predicate1<TSource> predicate;
     private IEnumerator<TSource> enumerator;
@@ -447,10 +458,15 @@ final class WhereListIterator<TSource> extends Iterator<TSource> implements IILi
 
         return count;
     }
+
+    @Override
+    public Spliterator<TSource> _spliterator() {
+        return new WhereSpliterator<>(ToSpliterator.spliterator(this.source), this.predicate);
+    }
 }
 
 
-final class WhereSelectArrayIterator<TSource, TResult> extends Iterator<TResult> implements IIListProvider<TResult> {
+final class WhereSelectArrayIterator<TSource, TResult> extends Iterator<TResult> implements IIListProvider<TResult>, ISpliteratorProvider<TResult> {
     private final IArray<TSource> source;
     private final Predicate1<TSource> predicate;
     private final Func1<TSource, TResult> selector;
@@ -554,10 +570,15 @@ final class WhereSelectArrayIterator<TSource, TResult> extends Iterator<TResult>
 
         return count;
     }
+
+    @Override
+    public Spliterator<TResult> _spliterator() {
+        return new SelectSpliterator<>(new WhereSpliterator<>(ToSpliterator.spliterator(this.source), this.predicate), this.selector);
+    }
 }
 
 
-final class WhereSelectListIterator<TSource, TResult> extends Iterator<TResult> implements IIListProvider<TResult> {
+final class WhereSelectListIterator<TSource, TResult> extends Iterator<TResult> implements IIListProvider<TResult>, ISpliteratorProvider<TResult> {
     private final ICollection<TSource> source;
     private final Predicate1<TSource> predicate;
     private final Func1<TSource, TResult> selector;
@@ -674,10 +695,15 @@ final class WhereSelectListIterator<TSource, TResult> extends Iterator<TResult>
 
         return count;
     }
+
+    @Override
+    public Spliterator<TResult> _spliterator() {
+        return new SelectSpliterator<>(new WhereSpliterator<>(ToSpliterator.spliterator(this.source), this.predicate), this.selector);
+    }
 }
 
 
-final class WhereSelectEnumerableIterator<TSource, TResult> extends Iterator<TResult> implements IIListProvider<TResult> {
+final class WhereSelectEnumerableIterator<TSource, TResult> extends Iterator<TResult> implements IIListProvider<TResult>, ISpliteratorProvider<TResult> {
     private final IEnumerable<TSource> source;
     private final Predicate1<TSource> predicate;
     private final Func1<TSource, TResult> selector;
@@ -794,4 +820,9 @@ final class WhereSelectEnumerableIterator<TSource, TResult> extends Iterator<TRe
 
         return count;
     }
+
+    @Override
+    public Spliterator<TResult> _spliterator() {
+        return new SelectSpliterator<>(new WhereSpliterator<>(ToSpliterator.spliterator(this.source), this.predicate), this.selector);
+    }
 }
@@ -0,0 +1,108 @@
+package com.bestvike.linq.enumerable;
+
+import com.bestvike.collections.generic.EqualityComparer;
+import com.bestvike.collections.generic.IEqualityComparer;
+
+/**
+ * Created by 许崇雷 on 2026-10-17.
+ */
+final class BloomFilter<TElement> {
+    private static final int BlockBits = 512;
+    private static final int WordsPerBlock = BlockBits / Long.SIZE;
+    private static final int MaxBlocks = 1 << 21;
+    private static final int MaxHashCount = 16;
+    private static final double MaxBitsPerValue = 64;
+    private static final double Ln2 = Math.log(2);
+    private final IEqualityComparer<TElement> comparer;
+    private final long[] words;     // Blocked filter, all bits of a value are in one 512 bit block so a probe touches one cache line. The block count is a power of two.
+    private final int blockMask;
+    private final int hashCount;
+
+    // Constructs a filter for count values with at most about the given false positive rate.
+    // The classic formula assumes the bits of a value spread over the whole filter. A block holds a varying number of values,
+    // and the fuller blocks answer true more often, so bits per value grow until the blocked rate meets the requested one.
+    BloomFilter(IEqualityComparer<TElement> comparer, int count, double falsePositiveRate) {
+        assert falsePositiveRate > 0 && falsePositiveRate < 1;
+        this.comparer = comparer == null ? EqualityComparer.Default() : comparer;
+        double bitsPerValue = -Math.log(falsePositiveRate) / (Ln2 * Ln2);
+        int hashCount = hashCount(bitsPerValue);
+        while (bitsPerValue < MaxBitsPerValue && blockedFalsePositiveRate(bitsPerValue, hashCount) > falsePositiveRate) {
+            bitsPerValue *= 1.05;
+            hashCount = hashCount(bitsPerValue);
+        }
+        long blocks = Math.max((long) Math.ceil(Math.max(count, 1) * bitsPerValue / BlockBits), 1L);
+        int blockCount = blocks >= MaxBlocks ? MaxBlocks : blocks == 1 ? 1 : Integer.highestOneBit((int) blocks - 1) << 1;
+        this.words = new long[blockCount * WordsPerBlock];
+        this.blockMask = blockCount - 1;
+        this.hashCount = hashCount;
+    }
+
+    private static int hashCount(double bitsPerValue) {
+        return (int) Math.min(Math.max(Math.round(bitsPerValue * Ln2), 1L), MaxHashCount);
+    }
+
+    // The values in a block are about Poisson distributed, a block holding i values answers like a classic filter of BlockBits bits.
+    private static double blockedFalsePositiveRate(double bitsPerValue, int hashCount) {
+        double mean = BlockBits / bitsPerValue;
+        if (mean > 700)     // e^-mean underflows, and blocks this full behave like one large filter.
+            return Math.pow(1 - Math.exp(-hashCount / bitsPerValue), hashCount);
+        double probability = Math.exp(-mean);
+        double rate = 0;
+        for (int i = 0, limit = (int) (mean + 10 * Math.sqrt(mean) + 10); i <= limit; i++) {
+            rate += probability * Math.pow(1 - Math.exp(-(double) hashCount * i / BlockBits), hashCount);
+            probability *= mean / (i + 1);
+        }
+        return rate;
+    }
+
+    // Adds every value of set.
+    static <T> BloomFilter<T> of(Set<T> set, IEqualityComparer<T> comparer, double falsePositiveRate) {
+        BloomFilter<T> filter = new BloomFilter<>(comparer, set.getCount(), falsePositiveRate);
+        for (Object value : set.toArray())
+            //noinspection unchecked
+            filter.add((T) value);
+        return filter;
+    }
+
+    void add(TElement value) {
+        long h = this.hash(value);
+        int block = this.blockOf(h);
+        for (int i = 0; i < this.hashCount; i++) {
+            h = next(h);
+            int bit = (int) (h >>> 55);
+            this.words[block + (bit >>> 6)] |= 1L << bit;
+        }
+    }
+
+    // False means value was never added, true means it may have been.
+    boolean mightContain(TElement value) {
+        long h = this.hash(value);
+        int block = this.blockOf(h);
+        for (int i = 0; i < this.hashCount; i++) {
+            h = next(h);
+            int bit = (int) (h >>> 55);
+            if ((this.words[block + (bit >>> 6)] & (1L << bit)) == 0)
+                return false;
+        }
+        return true;
+    }
+
+    private int blockOf(long h) {
+        return ((int) (h >>> 32) & this.blockMask) * WordsPerBlock;
+    }
+
+    // Each probe takes the top nine bits of the next step of a 64 bit linear congruential generator seeded by the hash.
+    // Deriving all probes from fewer bits, as double hashing within a block does, limits the distinct probe patterns,
+    // which bounds the rate from below.
+    private static long next(long h) {
+        return h * 0x5851F42D4C957F2DL + 0x14057B7EF767814FL;
+    }
+
+    // The murmur3 finalizer, so that every bit of h depends on every bit of the hash code.
+    private long hash(TElement value) {
+        long h = value == null ? 0 : this.comparer.hashCode(value);
+        h = (h ^ (h >>> 33)) * 0xFF51AFD7ED558CCDL;
+        h = (h ^ (h >>> 33)) * 0xC4CEB9FE1A85EC53L;
+        return h ^ (h >>> 33);
+    }
+}
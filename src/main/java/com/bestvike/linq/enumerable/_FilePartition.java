@@ -0,0 +1,423 @@
+package com.bestvike.linq.enumerable;
+
+import com.bestvike.function.Func1;
+import com.bestvike.linq.IEnumerable;
+import com.bestvike.linq.IEnumerator;
+import com.bestvike.linq.exception.ThrowHelper;
+import com.bestvike.linq.util.ArrayUtils;
+import com.bestvike.linq.util.ListUtils;
+import com.bestvike.out;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Created by 许崇雷 on 2026-10-17.
+ */
+final class FileLinesPartition extends Iterator<String> implements IPartition<String> {
+    private final Path path;
+    private final Charset charset;
+    private final MappedFile file;      // Null until pinned. A pinned partition reads this mapping and index every time.
+    private final long[] starts;        // Start of every line and the start a next line would have, null until pinned.
+    private final int minIndexInclusive;
+    private final int maxIndexInclusive;
+    private MappedFile mapped;
+    private long position;
+    private int index;
+
+    FileLinesPartition(Path path, Charset charset) {
+        this(path, charset, null, null, 0, Integer.MAX_VALUE);
+    }
+
+    private FileLinesPartition(Path path, Charset charset, MappedFile file, long[] starts, int minIndexInclusive, int maxIndexInclusive) {
+        assert path != null;
+        assert charset != null;
+        assert minIndexInclusive >= 0;
+        assert minIndexInclusive <= maxIndexInclusive;
+
+        this.path = path;
+        this.charset = charset;
+        this.file = file;
+        this.starts = starts;
+        this.minIndexInclusive = minIndexInclusive;
+        this.maxIndexInclusive = maxIndexInclusive;
+    }
+
+    // One pass over the bytes without decoding, so count, elementAt, last and parallel chunks start at a line boundary.
+    private static long[] index(MappedFile file) {
+        long size = file.size();
+        long[] starts = new long[16];
+        int count = 0;
+        long position = 0;
+        while (position < size) {
+            if (count + 1 == starts.length)
+                starts = Arrays.copyOf(starts, starts.length << 1);
+            starts[count++] = position;
+            long end = file.indexOf((byte) '\n', position);
+            position = end == -1 ? size + 1 : end + 1;
+        }
+        starts[count] = position;
+        return Arrays.copyOf(starts, count + 1);
+    }
+
+    // Maps and indexes the file as it is now. Enumerations, chunks and partitions of the result all read this snapshot.
+    FileLinesPartition pin() {
+        if (this.file != null)
+            return this;
+        MappedFile file = MappedFile.map(this.path, 1);
+        return new FileLinesPartition(this.path, this.charset, file, index(file), this.minIndexInclusive, this.maxIndexInclusive);
+    }
+
+    @Override
+    public Iterator<String> clone() {
+        return new FileLinesPartition(this.path, this.charset, this.file, this.starts, this.minIndexInclusive, this.maxIndexInclusive);
+    }
+
+    @Override
+    public boolean moveNext() {
+        switch (this.state) {
+            case 1:
+                // Unless pinned, every enumeration maps the file again, so it reads the file as it is when enumerated.
+                if (this.file == null) {
+                    this.mapped = MappedFile.map(this.path, 1);
+                    this.position = this.skipLines(0, this.minIndexInclusive);
+                } else {
+                    this.mapped = this.file;
+                    this.position = this.starts[Math.min(this.minIndexInclusive, this.starts.length - 1)];
+                }
+                this.state = 2;
+            case 2:
+                long size = this.mapped.size();
+                if (this.position < size && Integer.compareUnsigned(this.index, this.maxIndexInclusive - this.minIndexInclusive) <= 0) {
+                    long end = this.mapped.indexOf((byte) '\n', this.position);
+                    long next = end == -1 ? size : end + 1;
+                    this.current = this.decode(this.mapped, this.position, end == -1 ? size : end);
+                    this.position = next;
+                    this.index++;
+                    return true;
+                }
+                this.close();
+                return false;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    public void close() {
+        this.mapped = null;
+        super.close();
+    }
+
+    private long skipLines(long position, int count) {
+        long size = this.mapped.size();
+        for (int i = 0; i < count && position < size; i++) {
+            long end = this.mapped.indexOf((byte) '\n', position);
+            position = end == -1 ? size : end + 1;
+        }
+        return position;
+    }
+
+    // Decodes the bytes from start to end, a trailing "\r" is dropped.
+    private String decode(MappedFile file, long start, long end) {
+        if (end > start && file.get(end - 1) == '\r')
+            end--;
+        return file.decode(start, end, this.charset);
+    }
+
+    private String line(int index) {
+        assert this.file != null;
+        return this.decode(this.file, this.starts[index], this.starts[index + 1] - 1);
+    }
+
+    @Override
+    public <TResult> IEnumerable<TResult> _select(Func1<String, TResult> selector) {
+        return new SelectIPartitionIterator<>(this, selector);
+    }
+
+    @Override
+    public IPartition<String> _skip(int count) {
+        int minIndex = this.minIndexInclusive + count;
+        return Integer.compareUnsigned(minIndex, this.maxIndexInclusive) > 0 ? EmptyPartition.instance() : new FileLinesPartition(this.path, this.charset, this.file, this.starts, minIndex, this.maxIndexInclusive);
+    }
+
+    @Override
+    public IPartition<String> _take(int count) {
+        int maxIndex = this.minIndexInclusive + count - 1;
+        return Integer.compareUnsigned(maxIndex, this.maxIndexInclusive) >= 0 ? this : new FileLinesPartition(this.path, this.charset, this.file, this.starts, this.minIndexInclusive, maxIndex);
+    }
+
+    @Override
+    public String _tryGetElementAt(int index, out<Boolean> found) {
+        if (Integer.compareUnsigned(index, this.maxIndexInclusive - this.minIndexInclusive) <= 0) {
+            if (this.file != null) {
+                if (index < this.starts.length - 1 - this.minIndexInclusive) {
+                    found.value = true;
+                    return this.line(this.minIndexInclusive + index);
+                }
+            } else {
+                // Streams up to the line instead of indexing the whole file.
+                int lineIndex = this.minIndexInclusive + index;
+                try (IEnumerator<String> e = new FileLinesPartition(this.path, this.charset, null, null, lineIndex, lineIndex).enumerator()) {
+                    if (e.moveNext()) {
+                        found.value = true;
+                        return e.current();
+                    }
+                }
+            }
+        }
+
+        found.value = false;
+        return null;
+    }
+
+    @Override
+    public String _tryGetFirst(out<Boolean> found) {
+        return this._tryGetElementAt(0, found);
+    }
+
+    @Override
+    public String _tryGetLast(out<Boolean> found) {
+        FileLinesPartition pinned = this.pin();
+        int lastIndex = pinned.starts.length - 2;
+        if (lastIndex >= this.minIndexInclusive) {
+            found.value = true;
+            return pinned.line(Math.min(lastIndex, this.maxIndexInclusive));
+        }
+
+        found.value = false;
+        return null;
+    }
+
+    private int getCount() {
+        assert this.file != null;
+        int count = this.starts.length - 1;
+        if (count <= this.minIndexInclusive)
+            return 0;
+
+        return Math.min(count - 1, this.maxIndexInclusive) - this.minIndexInclusive + 1;
+    }
+
+    @Override
+    public String[] _toArray(Class<String> clazz) {
+        FileLinesPartition pinned = this.pin();
+        String[] array = ArrayUtils.newInstance(clazz, pinned.getCount());
+        for (int i = 0, curIdx = this.minIndexInclusive; i != array.length; ++i, ++curIdx)
+            array[i] = pinned.line(curIdx);
+        return array;
+    }
+
+    @Override
+    public Object[] _toArray() {
+        FileLinesPartition pinned = this.pin();
+        Object[] array = new Object[pinned.getCount()];
+        for (int i = 0, curIdx = this.minIndexInclusive; i != array.length; ++i, ++curIdx)
+            array[i] = pinned.line(curIdx);
+        return array;
+    }
+
+    @Override
+    public List<String> _toList() {
+        FileLinesPartition pinned = this.pin();
+        int count = pinned.getCount();
+        if (count == 0)
+            return ListUtils.empty();
+
+        List<String> list = new ArrayList<>(count);
+        int end = this.minIndexInclusive + count;
+        for (int i = this.minIndexInclusive; i != end; ++i)
+            list.add(pinned.line(i));
+        return list;
+    }
+
+    // Counting needs the index, which is only cheap once pinned. So building a query reads nothing.
+    @Override
+    public int _getCount(boolean onlyIfCheap) {
+        if (this.file == null && onlyIfCheap)
+            return -1;
+        return this.pin().getCount();
+    }
+}
+
+
+final class FileRecordsPartition<TSource> extends Iterator<TSource> implements IPartition<TSource> {
+    private final Path path;
+    private final int recordLength;
+    private final Func1<ByteBuffer, TSource> decoder;
+    private final MappedFile file;      // Null until pinned. A pinned partition reads this mapping every time.
+    private final int minIndexInclusive;
+    private final int maxIndexInclusive;
+    private MappedFile mapped;
+    private int recordCount;
+
+    FileRecordsPartition(Path path, int recordLength, Func1<ByteBuffer, TSource> decoder) {
+        this(path, recordLength, decoder, null, 0, Integer.MAX_VALUE);
+    }
+
+    private FileRecordsPartition(Path path, int recordLength, Func1<ByteBuffer, TSource> decoder, MappedFile file, int minIndexInclusive, int maxIndexInclusive) {
+        assert path != null;
+        assert recordLength > 0;
+        assert decoder != null;
+        assert minIndexInclusive >= 0;
+        assert minIndexInclusive <= maxIndexInclusive;
+
+        this.path = path;
+        this.recordLength = recordLength;
+        this.decoder = decoder;
+        this.file = file;
+        this.minIndexInclusive = minIndexInclusive;
+        this.maxIndexInclusive = maxIndexInclusive;
+    }
+
+    // Maps the file as it is now. Enumerations, chunks and partitions of the result all read this snapshot.
+    FileRecordsPartition<TSource> pin() {
+        if (this.file != null)
+            return this;
+        return new FileRecordsPartition<>(this.path, this.recordLength, this.decoder, MappedFile.map(this.path, this.recordLength), this.minIndexInclusive, this.maxIndexInclusive);
+    }
+
+    // Trailing bytes shorter than a record are ignored.
+    private static int recordCount(MappedFile file, int recordLength) {
+        long count = file.size() / recordLength;
+        if (count > Integer.MAX_VALUE)
+            ThrowHelper.throwNotSupportedException();
+        return (int) count;
+    }
+
+    private TSource record(MappedFile file, int index) {
+        return this.decoder.apply(file.slice((long) index * this.recordLength, this.recordLength));
+    }
+
+    @Override
+    public Iterator<TSource> clone() {
+        return new FileRecordsPartition<>(this.path, this.recordLength, this.decoder, this.file, this.minIndexInclusive, this.maxIndexInclusive);
+    }
+
+    @Override
+    public boolean moveNext() {
+        // state - 1 is the index into the partition, as in ListPartition.
+        if (this.state == -1)
+            return false;
+        if (this.state == 1) {
+            // Unless pinned, every enumeration maps the file again, so it reads the file as it is when enumerated.
+            this.mapped = this.file == null ? MappedFile.map(this.path, this.recordLength) : this.file;
+            this.recordCount = recordCount(this.mapped, this.recordLength);
+        }
+        int index = this.state - 1;
+        if (Integer.compareUnsigned(index, this.maxIndexInclusive - this.minIndexInclusive) <= 0 && index < this.recordCount - this.minIndexInclusive) {
+            this.current = this.record(this.mapped, this.minIndexInclusive + index);
+            ++this.state;
+            return true;
+        }
+
+        this.close();
+        return false;
+    }
+
+    @Override
+    public void close() {
+        this.mapped = null;
+        super.close();
+    }
+
+    @Override
+    public <TResult> IEnumerable<TResult> _select(Func1<TSource, TResult> selector) {
+        return new SelectIPartitionIterator<>(this, selector);
+    }
+
+    @Override
+    public IPartition<TSource> _skip(int count) {
+        int minIndex = this.minIndexInclusive + count;
+        return Integer.compareUnsigned(minIndex, this.maxIndexInclusive) > 0 ? EmptyPartition.instance() : new FileRecordsPartition<>(this.path, this.recordLength, this.decoder, this.file, minIndex, this.maxIndexInclusive);
+    }
+
+    @Override
+    public IPartition<TSource> _take(int count) {
+        int maxIndex = this.minIndexInclusive + count - 1;
+        return Integer.compareUnsigned(maxIndex, this.maxIndexInclusive) >= 0 ? this : new FileRecordsPartition<>(this.path, this.recordLength, this.decoder, this.file, this.minIndexInclusive, maxIndex);
+    }
+
+    @Override
+    public TSource _tryGetElementAt(int index, out<Boolean> found) {
+        if (Integer.compareUnsigned(index, this.maxIndexInclusive - this.minIndexInclusive) <= 0) {
+            MappedFile file = this.pin().file;
+            if (index < recordCount(file, this.recordLength) - this.minIndexInclusive) {
+                found.value = true;
+                return this.record(file, this.minIndexInclusive + index);
+            }
+        }
+
+        found.value = false;
+        return null;
+    }
+
+    @Override
+    public TSource _tryGetFirst(out<Boolean> found) {
+        return this._tryGetElementAt(0, found);
+    }
+
+    @Override
+    public TSource _tryGetLast(out<Boolean> found) {
+        MappedFile file = this.pin().file;
+        int lastIndex = recordCount(file, this.recordLength) - 1;
+        if (lastIndex >= this.minIndexInclusive) {
+            found.value = true;
+            return this.record(file, Math.min(lastIndex, this.maxIndexInclusive));
+        }
+
+        found.value = false;
+        return null;
+    }
+
+    private int getCount(MappedFile file) {
+        int count = recordCount(file, this.recordLength);
+        if (count <= this.minIndexInclusive)
+            return 0;
+
+        return Math.min(count - 1, this.maxIndexInclusive) - this.minIndexInclusive + 1;
+    }
+
+    @Override
+    public TSource[] _toArray(Class<TSource> clazz) {
+        MappedFile file = this.pin().file;
+        TSource[] array = ArrayUtils.newInstance(clazz, this.getCount(file));
+        for (int i = 0, curIdx = this.minIndexInclusive; i != array.length; ++i, ++curIdx)
+            array[i] = this.record(file, curIdx);
+        return array;
+    }
+
+    @Override
+    public Object[] _toArray() {
+        MappedFile file = this.pin().file;
+        Object[] array = new Object[this.getCount(file)];
+        for (int i = 0, curIdx = this.minIndexInclusive; i != array.length; ++i, ++curIdx)
+            array[i] = this.record(file, curIdx);
+        return array;
+    }
+
+    @Override
+    public List<TSource> _toList() {
+        MappedFile file = this.pin().file;
+        int count = this.getCount(file);
+        if (count == 0)
+            return ListUtils.empty();
+
+        List<TSource> list = new ArrayList<>(count);
+        int end = this.minIndexInclusive + count;
+        for (int i = this.minIndexInclusive; i != end; ++i)
+            list.add(this.record(file, i));
+        return list;
+    }
+
+    // Counting needs the file size, which is only cheap once pinned. So building a query reads nothing.
+    @Override
+    public int _getCount(boolean onlyIfCheap) {
+        if (this.file == null && onlyIfCheap)
+            return -1;
+        return this.getCount(this.pin().file);
+    }
+}
@@ -1,6 +1,7 @@
 package com.bestvike.linq.enumerable;
 
 import com.bestvike.collections.generic.IArray;
+import com.bestvike.linq.IEnumerable;
 import com.bestvike.linq.IEnumerator;
 import com.bestvike.linq.IGrouping;
 import com.bestvike.linq.adapter.enumerator.ArrayEnumerator;
@@ -8,6 +9,7 @@ import com.bestvike.linq.exception.ExceptionArgument;
 import com.bestvike.linq.exception.ThrowHelper;
 import com.bestvike.linq.util.ArrayUtils;
 
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
 
@@ -26,11 +28,17 @@ final class Grouping<TKey, TElement> implements IGrouping<TKey, TElement>, IArra
     Grouping() {
     }
 
-    void add(TElement element) {
-        if (this.elements.length == this.count)
-            this.elements = ArrayUtils.resize(this.elements, Math.multiplyExact(this.count, 2));
-        this.elements[this.count] = element;
-        this.count++;
+    void addRange(Grouping<TKey, TElement> other) {
+        if (this.count == 0) {
+            this.elements = other.elements;
+            this.count = other.count;
+            return;
+        }
+        int newCount = Math.addExact(this.count, other.count);
+        if (this.elements.length < newCount)
+            this.elements = ArrayUtils.resize(this.elements, Math.max(newCount, Math.multiplyExact(this.count, 2)));
+        System.arraycopy(other.elements, 0, this.elements, this.count, other.count);
+        this.count = newCount;
     }
 
     public void trim() {
@@ -106,3 +114,58 @@ final class Grouping<TKey, TElement> implements IGrouping<TKey, TElement>, IArra
         return ArrayUtils.toList(this.elements, 0, this.count);
     }
 }
+
+
+// Collects the elements of many groupings in shared chunks while a lookup is built, so no grouping grows its own array.
+final class GroupingArena {//struct
+    private static final int MinChunkSize = 16;
+    private static final int MaxChunkSize = 1 << 16;
+    private Object[][] chunks = new Object[4][];    // Pairs of grouping and element in arrival order.
+    private int chunkCount;
+    private Object[] current;
+    private int index;
+
+    GroupingArena(int capacity) {
+        this.current = new Object[Math.min(Math.max(capacity, MinChunkSize), MaxChunkSize) << 1];
+        this.chunks[this.chunkCount++] = this.current;
+    }
+
+    // Gets the expected row count from the sizing hints, otherwise the count of source if it is cheap.
+    static int capacityOf(IEnumerable<?> source, int expectedKeyCount, int expectedGroupSize) {
+        return expectedKeyCount > 0 && expectedGroupSize > 0
+                ? (int) Math.min((long) expectedKeyCount * expectedGroupSize, MaxChunkSize)
+                : Set.capacityOf(source);
+    }
+
+    void add(Grouping<?, ?> grouping, Object element) {
+        if (this.index == this.current.length) {
+            if (this.chunkCount == this.chunks.length)
+                this.chunks = Arrays.copyOf(this.chunks, this.chunkCount * 2);
+            this.current = new Object[Math.min(this.current.length, MaxChunkSize) << 1];
+            this.chunks[this.chunkCount++] = this.current;
+            this.index = 0;
+        }
+        this.current[this.index] = grouping;
+        this.current[this.index + 1] = element;
+        this.index += 2;
+        grouping.count++;
+    }
+
+    // Gives every grouping an array of its exact size and moves the elements there in arrival order.
+    void copyToGroupings() {
+        for (int c = 0; c < this.chunkCount; c++) {
+            Object[] chunk = this.chunks[c];
+            int end = c == this.chunkCount - 1 ? this.index : chunk.length;
+            for (int i = 0; i < end; i += 2) {
+                Grouping<?, ?> grouping = (Grouping<?, ?>) chunk[i];
+                if (grouping.elements == null) {
+                    grouping.elements = new Object[grouping.count];
+                    grouping.count = 0;
+                }
+                grouping.elements[grouping.count++] = chunk[i + 1];
+            }
+            this.chunks[c] = null;
+        }
+        this.current = null;
+    }
+}
@@ -0,0 +1,105 @@
+package com.bestvike.linq.enumerable;
+
+/**
+ * Created by 许崇雷 on 2026-10-17.
+ */
+final class IntSet {
+    private static final int MIN_CAPACITY = 8;
+    private int[] slots;
+    private int mask;
+    private int threshold;
+    private int used;
+    private boolean hasZero;
+
+    // Constructs an open addressing set, zero is the empty marker and tracked separately.
+    IntSet() {
+        this(0);
+    }
+
+    // Constructs a set which can hold capacity values without resizing.
+    IntSet(int capacity) {
+        int size = tableSize(capacity);
+        this.slots = new int[size];
+        this.mask = size - 1;
+        this.threshold = size >> 1;
+    }
+
+    // Returns the power of two table size that keeps the load factor below one half.
+    static int tableSize(int capacity) {
+        if (capacity <= MIN_CAPACITY >> 1)
+            return MIN_CAPACITY;
+        if (capacity >= 1 << 29)
+            return 1 << 30;
+        return Integer.highestOneBit((capacity << 1) - 1) << 1;
+    }
+
+    // Spreads the bits so that sequential values do not cluster under the mask.
+    static int hash(int value) {
+        int h = value * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    // If value is not in set, add it and return true; otherwise return false
+    public boolean add(int value) {
+        if (value == 0) {
+            if (this.hasZero)
+                return false;
+            this.hasZero = true;
+            return true;
+        }
+
+        int[] slots = this.slots;
+        int mask = this.mask;
+        for (int i = hash(value) & mask; ; i = (i + 1) & mask) {
+            int slot = slots[i];
+            if (slot == 0) {
+                slots[i] = value;
+                if (++this.used > this.threshold)
+                    this.resize();
+                return true;
+            }
+            if (slot == value)
+                return false;
+        }
+    }
+
+    // Determines whether the set contains the value.
+    public boolean contains(int value) {
+        if (value == 0)
+            return this.hasZero;
+
+        int[] slots = this.slots;
+        int mask = this.mask;
+        for (int i = hash(value) & mask; ; i = (i + 1) & mask) {
+            int slot = slots[i];
+            if (slot == 0)
+                return false;
+            if (slot == value)
+                return true;
+        }
+    }
+
+    // The number of items in this set.
+    public int getCount() {
+        return this.hasZero ? this.used + 1 : this.used;
+    }
+
+    // Doubles the table and rehashes every value.
+    private void resize() {
+        int[] oldSlots = this.slots;
+        int newSize = Math.multiplyExact(oldSlots.length, 2);
+        int[] newSlots = new int[newSize];
+        int newMask = newSize - 1;
+        for (int value : oldSlots) {
+            if (value == 0)
+                continue;
+            int i = hash(value) & newMask;
+            while (newSlots[i] != 0)
+                i = (i + 1) & newMask;
+            newSlots[i] = value;
+        }
+        this.slots = newSlots;
+        this.mask = newMask;
+        this.threshold = newSize >> 1;
+    }
+}
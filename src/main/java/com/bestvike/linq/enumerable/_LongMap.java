@@ -0,0 +1,90 @@
+package com.bestvike.linq.enumerable;
+
+/**
+ * Created by 许崇雷 on 2026-10-17.
+ */
+final class LongMap<TValue> {
+    private long[] keys;
+    private Object[] values;
+    private int mask;
+    private int threshold;
+    private int used;
+    private TValue zeroValue;
+
+    // Constructs an open addressing map, zero is the empty marker and its value is kept separately.
+    LongMap() {
+        this(0);
+    }
+
+    // Constructs a map which can hold capacity keys without resizing.
+    LongMap(int capacity) {
+        int size = IntSet.tableSize(capacity);
+        this.keys = new long[size];
+        this.values = new Object[size];
+        this.mask = size - 1;
+        this.threshold = size >> 1;
+    }
+
+    // Returns the value of key, or null if the key is absent.
+    public TValue get(long key) {
+        if (key == 0)
+            return this.zeroValue;
+
+        long[] keys = this.keys;
+        int mask = this.mask;
+        for (int i = LongSet.hash(key) & mask; ; i = (i + 1) & mask) {
+            long slot = keys[i];
+            if (slot == key)
+                //noinspection unchecked
+                return (TValue) this.values[i];
+            if (slot == 0)
+                return null;
+        }
+    }
+
+    // Adds a key which is not in the map yet, value must not be null.
+    public void add(long key, TValue value) {
+        assert value != null && this.get(key) == null;
+        if (key == 0) {
+            this.zeroValue = value;
+            return;
+        }
+
+        int i = LongSet.hash(key) & this.mask;
+        while (this.keys[i] != 0)
+            i = (i + 1) & this.mask;
+        this.keys[i] = key;
+        this.values[i] = value;
+        if (++this.used > this.threshold)
+            this.resize();
+    }
+
+    // The number of keys in this map.
+    public int getCount() {
+        return this.zeroValue == null ? this.used : this.used + 1;
+    }
+
+    // Doubles the table and rehashes every key.
+    private void resize() {
+        long[] oldKeys = this.keys;
+        Object[] oldValues = this.values;
+        int newSize = Math.multiplyExact(oldKeys.length, 2);
+        long[] newKeys = new long[newSize];
+        Object[] newValues = new Object[newSize];
+        int newMask = newSize - 1;
+        for (int j = 0; j < oldKeys.length; j++) {
+            long key = oldKeys[j];
+            if (key == 0)
+                continue;
+            int i = LongSet.hash(key) & newMask;
+            while (newKeys[i] != 0)
+                i = (i + 1) & newMask;
+            newKeys[i] = key;
+            newValues[i] = oldValues[j];
+        }
+        this.keys = newKeys;
+        this.values = newValues;
+        this.mask = newMask;
+        this.threshold = newSize >> 1;
+    }
+}
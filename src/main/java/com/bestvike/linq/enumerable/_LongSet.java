@@ -0,0 +1,95 @@
+package com.bestvike.linq.enumerable;
+
+/**
+ * Created by 许崇雷 on 2026-10-17.
+ */
+final class LongSet {
+    private long[] slots;
+    private int mask;
+    private int threshold;
+    private int used;
+    private boolean hasZero;
+
+    // Constructs an open addressing set, zero is the empty marker and tracked separately.
+    LongSet() {
+        this(0);
+    }
+
+    // Constructs a set which can hold capacity values without resizing.
+    LongSet(int capacity) {
+        int size = IntSet.tableSize(capacity);
+        this.slots = new long[size];
+        this.mask = size - 1;
+        this.threshold = size >> 1;
+    }
+
+    // Spreads the bits so that sequential values do not cluster under the mask.
+    static int hash(long value) {
+        long h = value * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    // If value is not in set, add it and return true; otherwise return false
+    public boolean add(long value) {
+        if (value == 0) {
+            if (this.hasZero)
+                return false;
+            this.hasZero = true;
+            return true;
+        }
+
+        long[] slots = this.slots;
+        int mask = this.mask;
+        for (int i = hash(value) & mask; ; i = (i + 1) & mask) {
+            long slot = slots[i];
+            if (slot == 0) {
+                slots[i] = value;
+                if (++this.used > this.threshold)
+                    this.resize();
+                return true;
+            }
+            if (slot == value)
+                return false;
+        }
+    }
+
+    // Determines whether the set contains the value.
+    public boolean contains(long value) {
+        if (value == 0)
+            return this.hasZero;
+
+        long[] slots = this.slots;
+        int mask = this.mask;
+        for (int i = hash(value) & mask; ; i = (i + 1) & mask) {
+            long slot = slots[i];
+            if (slot == 0)
+                return false;
+            if (slot == value)
+                return true;
+        }
+    }
+
+    // The number of items in this set.
+    public int getCount() {
+        return this.hasZero ? this.used + 1 : this.used;
+    }
+
+    // Doubles the table and rehashes every value.
+    private void resize() {
+        long[] oldSlots = this.slots;
+        int newSize = Math.multiplyExact(oldSlots.length, 2);
+        long[] newSlots = new long[newSize];
+        int newMask = newSize - 1;
+        for (long value : oldSlots) {
+            if (value == 0)
+                continue;
+            int i = hash(value) & newMask;
+            while (newSlots[i] != 0)
+                i = (i + 1) & newMask;
+            newSlots[i] = value;
+        }
+        this.slots = newSlots;
+        this.mask = newMask;
+        this.threshold = newSize >> 1;
+    }
+}
@@ -5,6 +5,8 @@ import com.bestvike.collections.generic.EqualityComparer;
 import com.bestvike.collections.generic.IEqualityComparer;
 import com.bestvike.function.Func1;
 import com.bestvike.function.Func2;
+import com.bestvike.function.IntFunc1;
+import com.bestvike.function.LongFunc1;
 import com.bestvike.linq.IEnumerable;
 import com.bestvike.linq.IEnumerator;
 import com.bestvike.linq.IGrouping;
@@ -13,77 +15,149 @@ import com.bestvike.linq.util.ArrayUtils;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * Created by 许崇雷 on 2018-05-02.
  */
 final class Lookup<TKey, TElement> implements ILookup<TKey, TElement>, IIListProvider<IGrouping<TKey, TElement>> {
+    private static final int DefaultCapacity = 8;
+    private static final int MaxCapacity = 1 << 30;
     private final IEqualityComparer<TKey> comparer;
-    private Grouping<TKey, TElement>[] groupings;
+    private Grouping<TKey, TElement>[] groupings;   // The length is a power of two.
     private Grouping<TKey, TElement> lastGrouping;
     private Grouping<TKey, TElement> nullKeyGrouping;
     private int count;
 
     private Lookup(IEqualityComparer<TKey> comparer) {
+        this(comparer, DefaultCapacity);
+    }
+
+    // Constructs a lookup that can hold capacity keys without resizing.
+    private Lookup(IEqualityComparer<TKey> comparer, int capacity) {
         this.comparer = comparer == null ? EqualityComparer.Default() : comparer;
         //noinspection unchecked
-        this.groupings = new Grouping[7];
+        this.groupings = new Grouping[capacity >= MaxCapacity >> 1 ? MaxCapacity : Integer.highestOneBit(Math.max(capacity, DefaultCapacity) - 1) << 1];
     }
 
     static <TKey, TElement> Lookup<TKey, TElement> create(IEnumerable<TElement> source, Func1<TElement, TKey> keySelector, IEqualityComparer<TKey> comparer) {
+        return create(source, keySelector, comparer, 0, 0);
+    }
+
+    static <TKey, TElement> Lookup<TKey, TElement> create(IEnumerable<TElement> source, Func1<TElement, TKey> keySelector, IEqualityComparer<TKey> comparer, int expectedKeyCount, int expectedGroupSize) {
         assert source != null;
         assert keySelector != null;
 
-        Lookup<TKey, TElement> lookup = new Lookup<>(comparer);
+        Lookup<TKey, TElement> lookup = new Lookup<>(comparer, expectedKeyCount);
+        GroupingArena arena = new GroupingArena(GroupingArena.capacityOf(source, expectedKeyCount, expectedGroupSize));
         try (IEnumerator<TElement> e = source.enumerator()) {
             while (e.moveNext()) {
                 TElement item = e.current();
-                lookup.getGrouping(keySelector.apply(item), true).add(item);
+                arena.add(lookup.getGrouping(keySelector.apply(item), true), item);
             }
         }
+        arena.copyToGroupings();
         return lookup;
     }
 
     static <TSource, TKey, TElement> Lookup<TKey, TElement> create(IEnumerable<TSource> source, Func1<TSource, TKey> keySelector, Func1<TSource, TElement> elementSelector, IEqualityComparer<TKey> comparer) {
+        return create(source, keySelector, elementSelector, comparer, 0, 0);
+    }
+
+    static <TSource, TKey, TElement> Lookup<TKey, TElement> create(IEnumerable<TSource> source, Func1<TSource, TKey> keySelector, Func1<TSource, TElement> elementSelector, IEqualityComparer<TKey> comparer, int expectedKeyCount, int expectedGroupSize) {
         assert source != null;
         assert keySelector != null;
         assert elementSelector != null;
 
-        Lookup<TKey, TElement> lookup = new Lookup<>(comparer);
+        Lookup<TKey, TElement> lookup = new Lookup<>(comparer, expectedKeyCount);
+        GroupingArena arena = new GroupingArena(GroupingArena.capacityOf(source, expectedKeyCount, expectedGroupSize));
         try (IEnumerator<TSource> e = source.enumerator()) {
             while (e.moveNext()) {
                 TSource item = e.current();
-                lookup.getGrouping(keySelector.apply(item), true).add(elementSelector.apply(item));
+                arena.add(lookup.getGrouping(keySelector.apply(item), true), elementSelector.apply(item));
             }
         }
+        arena.copyToGroupings();
         return lookup;
     }
 
     static <TKey, TElement> Lookup<TKey, TElement> createForJoin(IEnumerable<TElement> source, Func1<TElement, TKey> keySelector, IEqualityComparer<TKey> comparer) {
-        Lookup<TKey, TElement> lookup = new Lookup<>(comparer);
+        return createForJoin(source, keySelector, comparer, null);
+    }
+
+    // Keeps only the elements whose keys are in probeKeys when it is not null, the probe side then decides the size of the lookup.
+    static <TKey, TElement> Lookup<TKey, TElement> createForJoin(IEnumerable<TElement> source, Func1<TElement, TKey> keySelector, IEqualityComparer<TKey> comparer, Set<TKey> probeKeys) {
+        Lookup<TKey, TElement> lookup = new Lookup<>(comparer, probeKeys == null ? DefaultCapacity : probeKeys.getCount());
+        GroupingArena arena = new GroupingArena(probeKeys == null ? GroupingArena.capacityOf(source, 0, 0) : 0);
         try (IEnumerator<TElement> e = source.enumerator()) {
             while (e.moveNext()) {
                 TElement item = e.current();
                 TKey key = keySelector.apply(item);
-                if (key != null)
-                    lookup.getGrouping(key, true).add(item);
+                if (key != null && (probeKeys == null || probeKeys.contains(key)))
+                    arena.add(lookup.getGrouping(key, true), item);
             }
         }
+        arena.copyToGroupings();
+        return lookup;
+    }
+
+    // Finds the groupings of int keys in an open addressing table, so each key is boxed and hashed once per grouping instead of once per element.
+    static <TSource, TElement> Lookup<Integer, TElement> createForInt(IEnumerable<TSource> source, IntFunc1<TSource> keySelector, Func1<TSource, TElement> elementSelector) {
+        Lookup<Integer, TElement> lookup = new Lookup<>(null);
+        IntMap<Grouping<Integer, TElement>> map = new IntMap<>();
+        GroupingArena arena = new GroupingArena(GroupingArena.capacityOf(source, 0, 0));
+        try (IEnumerator<TSource> e = source.enumerator()) {
+            while (e.moveNext()) {
+                TSource item = e.current();
+                int key = keySelector.apply(item);
+                Grouping<Integer, TElement> g = map.get(key);
+                if (g == null) {
+                    Integer boxed = key;
+                    g = lookup.createGrouping(boxed, lookup.internalGetHashCode(boxed));
+                    map.add(key, g);
+                }
+                arena.add(g, elementSelector.apply(item));
+            }
+        }
+        arena.copyToGroupings();
+        return lookup;
+    }
+
+    static <TSource, TElement> Lookup<Long, TElement> createForLong(IEnumerable<TSource> source, LongFunc1<TSource> keySelector, Func1<TSource, TElement> elementSelector) {
+        Lookup<Long, TElement> lookup = new Lookup<>(null);
+        LongMap<Grouping<Long, TElement>> map = new LongMap<>();
+        GroupingArena arena = new GroupingArena(GroupingArena.capacityOf(source, 0, 0));
+        try (IEnumerator<TSource> e = source.enumerator()) {
+            while (e.moveNext()) {
+                TSource item = e.current();
+                long key = keySelector.apply(item);
+                Grouping<Long, TElement> g = map.get(key);
+                if (g == null) {
+                    Long boxed = key;
+                    g = lookup.createGrouping(boxed, lookup.internalGetHashCode(boxed));
+                    map.add(key, g);
+                }
+                arena.add(g, elementSelector.apply(item));
+            }
+        }
+        arena.copyToGroupings();
         return lookup;
     }
 
     static <TKey, TElement> Lookup<TKey, TElement> createForFullJoin(IEnumerable<TElement> source, Func1<TElement, TKey> keySelector, IEqualityComparer<TKey> comparer) {
         Lookup<TKey, TElement> lookup = new Lookup<>(comparer);
+        GroupingArena arena = new GroupingArena(GroupingArena.capacityOf(source, 0, 0));
         try (IEnumerator<TElement> e = source.enumerator()) {
             while (e.moveNext()) {
                 TElement item = e.current();
                 TKey key = keySelector.apply(item);
                 if (key == null)
-                    lookup.getNullKeyGrouping().add(item);
+                    arena.add(lookup.getNullKeyGrouping(), item);
                 else
-                    lookup.getGrouping(key, true).add(item);
+                    arena.add(lookup.getGrouping(key, true), item);
             }
         }
+        arena.copyToGroupings();
         return lookup;
     }
 
@@ -209,27 +283,112 @@ final class Lookup<TKey, TElement> implements ILookup<TKey, TElement>, IIListPro
         return new ApplyResultSelector<>(resultSelector);
     }
 
+    // Merges the lookups built over consecutive chunks, partials must not be used afterwards.
+    // Groupings are sharded by key hash bits, each shard is merged on its own thread in chunk order,
+    // then the merged groupings are linked in the order their keys were first seen.
+    static <TKey, TElement> Lookup<TKey, TElement> combine(Object[] partials, ForkJoinPool pool) {
+        //noinspection unchecked
+        Lookup<TKey, TElement> first = (Lookup<TKey, TElement>) partials[0];
+        if (partials.length == 1)
+            return first;
+
+        int chunkCount = partials.length;
+        int shardCount = Integer.highestOneBit(chunkCount - 1) << 1;
+        Object[][] orders = new Object[chunkCount][];
+        int[][][] shards = new int[chunkCount][][];
+        pool.invoke(new ChunkTask(c -> {
+            //noinspection unchecked
+            Lookup<TKey, TElement> partial = (Lookup<TKey, TElement>) partials[c];
+            assert partial.nullKeyGrouping == null;
+            Object[] order = partial._toArray();
+            int[] counts = new int[shardCount];
+            for (Object g : order)
+                counts[shardOf(((Grouping<?, ?>) g).hashCode, shardCount)]++;
+            int[][] positions = new int[shardCount][];
+            for (int s = 0; s < shardCount; s++)
+                positions[s] = new int[counts[s]];
+            int[] filled = new int[shardCount];
+            for (int i = 0; i < order.length; i++) {
+                int s = shardOf(((Grouping<?, ?>) order[i]).hashCode, shardCount);
+                positions[s][filled[s]++] = i;
+            }
+            orders[c] = order;
+            shards[c] = positions;
+        }, 0, chunkCount));
+
+        // firsts[c][i] is the merged grouping whose key was first seen at orders[c][i]
+        Object[][] firsts = new Object[chunkCount][];
+        for (int c = 0; c < chunkCount; c++)
+            firsts[c] = new Object[orders[c].length];
+        int[] counts = new int[shardCount];
+        pool.invoke(new ChunkTask(s -> {
+            Lookup<TKey, TElement> shard = new Lookup<>(first.comparer);
+            for (int c = 0; c < chunkCount; c++) {
+                int[] positions = shards[c][s];
+                for (int i : positions) {
+                    //noinspection unchecked
+                    Grouping<TKey, TElement> g = (Grouping<TKey, TElement>) orders[c][i];
+                    int count = shard.count;
+                    Grouping<TKey, TElement> merged = shard.getGrouping(g.key, g.hashCode, true);
+                    merged.addRange(g);
+                    if (shard.count != count)
+                        firsts[c][i] = merged;
+                }
+            }
+            counts[s] = shard.count;
+        }, 0, shardCount));
+
+        int total = 0;
+        for (int count : counts)
+            total = Math.addExact(total, count);
+        Lookup<TKey, TElement> lookup = new Lookup<>(first.comparer, total);
+        for (Object[] merged : firsts) {
+            for (Object g : merged) {
+                if (g != null)
+                    //noinspection unchecked
+                    lookup.link((Grouping<TKey, TElement>) g);
+            }
+        }
+        return lookup;
+    }
+
+    // Takes the high bits of a multiplicative hash, the shard tables index by the low bits.
+    private static int shardOf(int hashCode, int shardCount) {
+        return (hashCode * 0x9E3779B9) >>> Integer.numberOfLeadingZeros(shardCount - 1);
+    }
+
     private int internalGetHashCode(TKey key) {
         // Handle comparer implementations that throw when passed null
-        return key == null ? 0 : this.comparer.hashCode(key) & 0x7FFFFFFF;
+        if (key == null)
+            return 0;
+        int h = this.comparer.hashCode(key);
+        return h ^ (h >>> 16);
     }
 
     private Grouping<TKey, TElement> getGrouping(TKey key, boolean create) {
-        int hashCode = this.internalGetHashCode(key);
-        for (Grouping<TKey, TElement> g = this.groupings[hashCode % this.groupings.length]; g != null; g = g.hashNext)
+        return this.getGrouping(key, this.internalGetHashCode(key), create);
+    }
+
+    private Grouping<TKey, TElement> getGrouping(TKey key, int hashCode, boolean create) {
+        for (Grouping<TKey, TElement> g = this.groupings[hashCode & (this.groupings.length - 1)]; g != null; g = g.hashNext)
             if (g.hashCode == hashCode && this.comparer.equals(g.key, key) && g != this.nullKeyGrouping)
                 return g;
         return create ? this.createGrouping(key, hashCode) : null;
     }
 
     private Grouping<TKey, TElement> createGrouping(TKey key, int hashCode) {
-        if (this.count == this.groupings.length)
-            this.resize();
-        int index = hashCode % this.groupings.length;
         Grouping<TKey, TElement> g = new Grouping<>();
         g.key = key;
         g.hashCode = hashCode;
-        g.elements = new Object[1];
+        this.link(g);
+        return g;
+    }
+
+    // Links a grouping whose key is not in the lookup yet.
+    private void link(Grouping<TKey, TElement> g) {
+        if (this.count == this.groupings.length)
+            this.resize();
+        int index = g.hashCode & (this.groupings.length - 1);
         g.hashNext = this.groupings[index];
         this.groupings[index] = g;
         if (this.lastGrouping == null) {
@@ -240,17 +399,17 @@ final class Lookup<TKey, TElement> implements ILookup<TKey, TElement>, IIListPro
         }
         this.lastGrouping = g;
         this.count++;
-        return g;
     }
 
     private void resize() {
-        int newSize = Math.addExact(Math.multiplyExact(this.count, 2), 1);
+        int newSize = Math.multiplyExact(this.groupings.length, 2);
         //noinspection unchecked
         Grouping<TKey, TElement>[] newGroupings = new Grouping[newSize];
+        int mask = newSize - 1;
         Grouping<TKey, TElement> g = this.lastGrouping;
         do {
             g = g.next;
-            int index = g.hashCode % newSize;
+            int index = g.hashCode & mask;
             g.hashNext = newGroupings[index];
             newGroupings[index] = g;
         } while (g != this.lastGrouping);
@@ -272,6 +431,11 @@ final class Lookup<TKey, TElement> implements ILookup<TKey, TElement>, IIListPro
         return g;
     }
 
+    // Finds the grouping of key without marking it fetched, so concurrent probes of a built lookup only read it.
+    public Grouping<TKey, TElement> probeGrouping(TKey key) {
+        return key == null ? null : this.getGrouping(key, false);
+    }
+
     public IEnumerable<TElement> fetch(TKey key) {
         Grouping<TKey, TElement> grouping = this.fetchGrouping(key);
         return grouping == null ? EmptyPartition.instance() : grouping;
@@ -0,0 +1,91 @@
+package com.bestvike.linq.enumerable;
+
+import com.bestvike.linq.exception.ThrowHelper;
+
+import java.io.IOException;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Created by 许崇雷 on 2026-10-17.
+ */
+final class MappedFile {
+    public static final int MaxRegionSize = 1 << 30;
+    private final long size;
+    private final int regionSize;
+    private final MappedByteBuffer[] regions;
+
+    private MappedFile(long size, int regionSize, MappedByteBuffer[] regions) {
+        this.size = size;
+        this.regionSize = regionSize;
+        this.regions = regions;
+    }
+
+    // Maps the whole file read only, in regions of a multiple of alignment bytes so an aligned record never spans two regions.
+    // The channel is closed at once, the mapping stays valid until the buffers are collected.
+    public static MappedFile map(Path path, int alignment) {
+        assert alignment > 0 && alignment <= MaxRegionSize;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            int regionSize = MaxRegionSize / alignment * alignment;
+            MappedByteBuffer[] regions = new MappedByteBuffer[(int) ((size + regionSize - 1) / regionSize)];
+            for (int i = 0; i < regions.length; i++) {
+                long position = (long) i * regionSize;
+                regions[i] = channel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(regionSize, size - position));
+            }
+            return new MappedFile(size, regionSize, regions);
+        } catch (IOException e) {
+            ThrowHelper.throwRuntimeException(e);
+            return null;
+        }
+    }
+
+    public long size() {
+        return this.size;
+    }
+
+    public byte get(long position) {
+        return this.regions[(int) (position / this.regionSize)].get((int) (position % this.regionSize));
+    }
+
+    // Returns the position of the first value at or after from, or -1.
+    public long indexOf(byte value, long from) {
+        for (int region = (int) (from / this.regionSize); region < this.regions.length; region++) {
+            MappedByteBuffer buffer = this.regions[region];
+            for (int i = region == from / this.regionSize ? (int) (from % this.regionSize) : 0, limit = buffer.limit(); i < limit; i++) {
+                if (buffer.get(i) == value)
+                    return (long) region * this.regionSize + i;
+            }
+        }
+        return -1;
+    }
+
+    public String decode(long start, long end, Charset charset) {
+        assert 0 <= start && start <= end && end <= this.size && end - start <= Integer.MAX_VALUE;
+        byte[] bytes = new byte[(int) (end - start)];
+        int offset = 0;
+        while (offset < bytes.length) {
+            long position = start + offset;
+            ByteBuffer source = this.regions[(int) (position / this.regionSize)].duplicate();
+            ((Buffer) source).position((int) (position % this.regionSize));
+            int length = Math.min(source.remaining(), bytes.length - offset);
+            source.get(bytes, offset, length);
+            offset += length;
+        }
+        return new String(bytes, charset);
+    }
+
+    // Returns a read only view of length bytes at start, start must be aligned as mapped.
+    public ByteBuffer slice(long start, int length) {
+        ByteBuffer source = this.regions[(int) (start / this.regionSize)].asReadOnlyBuffer();
+        int offset = (int) (start % this.regionSize);
+        ((Buffer) source).limit(offset + length);
+        ((Buffer) source).position(offset);
+        return source.slice();
+    }
+}
@@ -1,8 +1,13 @@
 package com.bestvike.linq.enumerable;
 
 import com.bestvike.collections.generic.Comparer;
+import com.bestvike.collections.generic.ICollatorComparer;
 import com.bestvike.collections.generic.ICollection;
+import com.bestvike.collections.generic.StringComparer;
+import com.bestvike.function.DoubleFunc1;
 import com.bestvike.function.Func1;
+import com.bestvike.function.IntFunc1;
+import com.bestvike.function.LongFunc1;
 import com.bestvike.function.Predicate1;
 import com.bestvike.linq.IEnumerable;
 import com.bestvike.linq.IEnumerator;
@@ -13,23 +18,43 @@ import com.bestvike.linq.util.ArrayUtils;
 import com.bestvike.linq.util.ListUtils;
 import com.bestvike.out;
 
+import java.text.CollationKey;
+import java.text.Collator;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Comparator;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 
 /**
  * Created by 许崇雷 on 2018-05-07.
  */
 abstract class AbstractOrderedEnumerable<TElement> implements IOrderedEnumerable<TElement>, IPartition<TElement> {
+    static final int Sequential = -1;
+    private static final int TopThreshold = 1 << 12;
     IEnumerable<TElement> source;
+    int degreeOfParallelism; // Sequential, 0 for common pool, otherwise pool size
 
-    private Integer[] sortedMap(Buffer<TElement> buffer) {
-        return this.getEnumerableSorter().sort(buffer.items, buffer.count);
+    AbstractOrderedEnumerable(AbstractOrderedEnumerable<TElement> parent) {
+        this.degreeOfParallelism = parent == null ? Sequential : parent.degreeOfParallelism;
     }
 
-    private Integer[] sortedMap(Buffer<TElement> buffer, int minIdx, int maxIdx) {
-        return this.getEnumerableSorter().sort(buffer.items, buffer.count, minIdx, maxIdx);
+    private int[] sortedMap(Buffer<TElement> buffer) {
+        return this.getEnumerableSorter().sort(buffer.items, buffer.count, this.degreeOfParallelism);
+    }
+
+    private int[] sortedMap(Buffer<TElement> buffer, int minIdx, int maxIdx) {
+        return this.getEnumerableSorter().sort(buffer.items, buffer.count, minIdx, maxIdx, this.degreeOfParallelism);
+    }
+
+    // Small ranges from the start are served by a bounded heap instead of buffering and sorting the whole source.
+    private boolean isTop(int maxIdx) {
+        return maxIdx < TopThreshold && this.degreeOfParallelism == Sequential;
+    }
+
+    private Object[] top(int maxIdx) {
+        return this.getEnumerableSorter().top(this.source, maxIdx + 1);
     }
 
     @Override
@@ -41,7 +66,7 @@ abstract class AbstractOrderedEnumerable<TElement> implements IOrderedEnumerable
         return new OrderedEnumerableRangeEnumerator(minIdx, maxIdx);
     }
 
-    private AbstractEnumerableSorter<TElement> getEnumerableSorter() {
+    AbstractEnumerableSorter<TElement> getEnumerableSorter() {
         return this.getEnumerableSorter(null);
     }
 
@@ -114,7 +139,7 @@ abstract class AbstractOrderedEnumerable<TElement> implements IOrderedEnumerable
             return buffer.toArray(clazz);
 
         TElement[] array = ArrayUtils.newInstance(clazz, count);
-        Integer[] map = this.sortedMap(buffer);
+        int[] map = this.sortedMap(buffer);
         for (int i = 0; i != array.length; i++)
             //noinspection unchecked
             array[i] = (TElement) buffer.items[map[i]];
@@ -129,7 +154,7 @@ abstract class AbstractOrderedEnumerable<TElement> implements IOrderedEnumerable
             return buffer.items;
 
         Object[] array = new Object[count];
-        Integer[] map = this.sortedMap(buffer);
+        int[] map = this.sortedMap(buffer);
         for (int i = 0; i != array.length; i++)
             array[i] = buffer.items[map[i]];
         return array;
@@ -141,7 +166,7 @@ abstract class AbstractOrderedEnumerable<TElement> implements IOrderedEnumerable
         int count = buffer.count;
         List<TElement> list = new ArrayList<>(count);
         if (count > 0) {
-            Integer[] map = this.sortedMap(buffer);
+            int[] map = this.sortedMap(buffer);
             for (int i = 0; i != count; i++)
                 //noinspection unchecked
                 list.add((TElement) buffer.items[map[i]]);
@@ -159,6 +184,17 @@ abstract class AbstractOrderedEnumerable<TElement> implements IOrderedEnumerable
     }
 
     public TElement[] _toArray(Class<TElement> clazz, int minIdx, int maxIdx) {
+        if (this.isTop(maxIdx)) {
+            Object[] top = this.top(maxIdx);
+            if (top.length <= minIdx)
+                return ArrayUtils.empty(clazz);
+
+            TElement[] array = ArrayUtils.newInstance(clazz, top.length - minIdx);
+            //noinspection SuspiciousSystemArraycopy
+            System.arraycopy(top, minIdx, array, 0, array.length);
+            return array;
+        }
+
         Buffer<TElement> buffer = new Buffer<>(this.source);
         int count = buffer.count;
         if (count <= minIdx)
@@ -170,7 +206,7 @@ abstract class AbstractOrderedEnumerable<TElement> implements IOrderedEnumerable
         if (minIdx == maxIdx)
             return ArrayUtils.singleton(clazz, this.getEnumerableSorter().elementAt(buffer.items, count, minIdx));
 
-        Integer[] map = this.sortedMap(buffer, minIdx, maxIdx);
+        int[] map = this.sortedMap(buffer, minIdx, maxIdx);
         TElement[] array = ArrayUtils.newInstance(clazz, maxIdx - minIdx + 1);
         int idx = 0;
         while (minIdx <= maxIdx) {
@@ -184,6 +220,11 @@ abstract class AbstractOrderedEnumerable<TElement> implements IOrderedEnumerable
     }
 
     public Object[] _toArray(int minIdx, int maxIdx) {
+        if (this.isTop(maxIdx)) {
+            Object[] top = this.top(maxIdx);
+            return top.length <= minIdx ? ArrayUtils.empty() : Arrays.copyOfRange(top, minIdx, top.length);
+        }
+
         Buffer<TElement> buffer = new Buffer<>(this.source);
         int count = buffer.count;
         if (count <= minIdx)
@@ -195,7 +236,7 @@ abstract class AbstractOrderedEnumerable<TElement> implements IOrderedEnumerable
         if (minIdx == maxIdx)
             return ArrayUtils.singleton(this.getEnumerableSorter().elementAt(buffer.items, count, minIdx));
 
-        Integer[] map = this.sortedMap(buffer, minIdx, maxIdx);
+        int[] map = this.sortedMap(buffer, minIdx, maxIdx);
         Object[] array = new Object[maxIdx - minIdx + 1];
         int idx = 0;
         while (minIdx <= maxIdx) {
@@ -208,6 +249,18 @@ abstract class AbstractOrderedEnumerable<TElement> implements IOrderedEnumerable
     }
 
     public List<TElement> _toList(int minIdx, int maxIdx) {
+        if (this.isTop(maxIdx)) {
+            Object[] top = this.top(maxIdx);
+            if (top.length <= minIdx)
+                return ListUtils.empty();
+
+            List<TElement> list = new ArrayList<>(top.length - minIdx);
+            for (int i = minIdx; i < top.length; i++)
+                //noinspection unchecked
+                list.add((TElement) top[i]);
+            return list;
+        }
+
         Buffer<TElement> buffer = new Buffer<>(this.source);
         int count = buffer.count;
         if (count <= minIdx)
@@ -219,7 +272,7 @@ abstract class AbstractOrderedEnumerable<TElement> implements IOrderedEnumerable
         if (minIdx == maxIdx)
             return ListUtils.singleton(this.getEnumerableSorter().elementAt(buffer.items, count, minIdx));
 
-        Integer[] map = this.sortedMap(buffer, minIdx, maxIdx);
+        int[] map = this.sortedMap(buffer, minIdx, maxIdx);
         List<TElement> list = new ArrayList<>(maxIdx - minIdx + 1);
         while (minIdx <= maxIdx) {
             //noinspection unchecked
@@ -345,7 +398,7 @@ abstract class AbstractOrderedEnumerable<TElement> implements IOrderedEnumerable
 
     private class OrderedEnumerableEnumerator extends AbstractEnumerator<TElement> {
         private Buffer<TElement> buffer;
-        private Integer[] map;
+        private int[] map;
         private int index;
 
         @Override
@@ -386,7 +439,8 @@ abstract class AbstractOrderedEnumerable<TElement> implements IOrderedEnumerable
         private int minIdx;
         private int maxIdx;
         private Buffer<TElement> buffer;
-        private Integer[] map;
+        private int[] map;
+        private Object[] top;
 
         private OrderedEnumerableRangeEnumerator(int minIdx, int maxIdx) {
             this.minIdx = minIdx;
@@ -397,6 +451,12 @@ abstract class AbstractOrderedEnumerable<TElement> implements IOrderedEnumerable
         public boolean moveNext() {
             switch (this.state) {
                 case 0:
+                    if (AbstractOrderedEnumerable.this.isTop(this.maxIdx)) {
+                        this.top = AbstractOrderedEnumerable.this.top(this.maxIdx);
+                        this.maxIdx = this.top.length - 1;
+                        this.state = 3;
+                        return this.moveNext();
+                    }
                     this.buffer = new Buffer<>(AbstractOrderedEnumerable.this.source);
                     int count = this.buffer.count;
                     if (count < this.minIdx) {
@@ -425,6 +485,15 @@ abstract class AbstractOrderedEnumerable<TElement> implements IOrderedEnumerable
                 case 2:
                     this.close();
                     return false;
+                case 3:
+                    if (this.minIdx <= this.maxIdx) {
+                        //noinspection unchecked
+                        this.current = (TElement) this.top[this.minIdx];
+                        ++this.minIdx;
+                        return true;
+                    }
+                    this.close();
+                    return false;
                 default:
                     return false;
             }
@@ -434,6 +503,7 @@ abstract class AbstractOrderedEnumerable<TElement> implements IOrderedEnumerable
         public void close() {
             this.buffer = null;
             this.map = null;
+            this.top = null;
             super.close();
         }
     }
@@ -447,6 +517,7 @@ final class OrderedEnumerable<TElement, TKey> extends AbstractOrderedEnumerable<
     private final boolean descending;
 
     OrderedEnumerable(IEnumerable<TElement> source, Func1<TElement, TKey> keySelector, Comparator<TKey> comparer, boolean descending, AbstractOrderedEnumerable<TElement> parent) {
+        super(parent);
         if (source == null)
             ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
         if (keySelector == null)
@@ -477,6 +548,117 @@ final class OrderedEnumerable<TElement, TKey> extends AbstractOrderedEnumerable<
 }
 
 
+final class IntOrderedEnumerable<TElement> extends AbstractOrderedEnumerable<TElement> {
+    private final AbstractOrderedEnumerable<TElement> parent;
+    private final IntFunc1<TElement> keySelector;
+    private final boolean descending;
+
+    IntOrderedEnumerable(IEnumerable<TElement> source, IntFunc1<TElement> keySelector, boolean descending, AbstractOrderedEnumerable<TElement> parent) {
+        super(parent);
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+        if (keySelector == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.keySelector);
+
+        this.source = source;
+        this.parent = parent;
+        this.keySelector = keySelector;
+        this.descending = descending;
+    }
+
+    @Override
+    protected AbstractEnumerableSorter<TElement> getEnumerableSorter(AbstractEnumerableSorter<TElement> next) {
+        AbstractEnumerableSorter<TElement> sorter = new IntEnumerableSorter<>(this.keySelector, this.descending, next);
+        if (this.parent != null)
+            sorter = this.parent.getEnumerableSorter(sorter);
+        return sorter;
+    }
+
+    @Override
+    protected AbstractCachingComparer<TElement> getComparer(AbstractCachingComparer<TElement> childComparer) {
+        Func1<TElement, Integer> keySelector = this.keySelector::apply;
+        AbstractCachingComparer<TElement> cmp = childComparer == null
+                ? new CachingComparer<>(keySelector, Integer::compare, this.descending)
+                : new CachingComparerWithChild<>(keySelector, Integer::compare, this.descending, childComparer);
+        return this.parent != null ? this.parent.getComparer(cmp) : cmp;
+    }
+}
+
+
+final class LongOrderedEnumerable<TElement> extends AbstractOrderedEnumerable<TElement> {
+    private final AbstractOrderedEnumerable<TElement> parent;
+    private final LongFunc1<TElement> keySelector;
+    private final boolean descending;
+
+    LongOrderedEnumerable(IEnumerable<TElement> source, LongFunc1<TElement> keySelector, boolean descending, AbstractOrderedEnumerable<TElement> parent) {
+        super(parent);
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+        if (keySelector == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.keySelector);
+
+        this.source = source;
+        this.parent = parent;
+        this.keySelector = keySelector;
+        this.descending = descending;
+    }
+
+    @Override
+    protected AbstractEnumerableSorter<TElement> getEnumerableSorter(AbstractEnumerableSorter<TElement> next) {
+        AbstractEnumerableSorter<TElement> sorter = new LongEnumerableSorter<>(this.keySelector, this.descending, next);
+        if (this.parent != null)
+            sorter = this.parent.getEnumerableSorter(sorter);
+        return sorter;
+    }
+
+    @Override
+    protected AbstractCachingComparer<TElement> getComparer(AbstractCachingComparer<TElement> childComparer) {
+        Func1<TElement, Long> keySelector = this.keySelector::apply;
+        AbstractCachingComparer<TElement> cmp = childComparer == null
+                ? new CachingComparer<>(keySelector, Long::compare, this.descending)
+                : new CachingComparerWithChild<>(keySelector, Long::compare, this.descending, childComparer);
+        return this.parent != null ? this.parent.getComparer(cmp) : cmp;
+    }
+}
+
+
+final class DoubleOrderedEnumerable<TElement> extends AbstractOrderedEnumerable<TElement> {
+    private final AbstractOrderedEnumerable<TElement> parent;
+    private final DoubleFunc1<TElement> keySelector;
+    private final boolean descending;
+
+    DoubleOrderedEnumerable(IEnumerable<TElement> source, DoubleFunc1<TElement> keySelector, boolean descending, AbstractOrderedEnumerable<TElement> parent) {
+        super(parent);
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+        if (keySelector == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.keySelector);
+
+        this.source = source;
+        this.parent = parent;
+        this.keySelector = keySelector;
+        this.descending = descending;
+    }
+
+    @Override
+    protected AbstractEnumerableSorter<TElement> getEnumerableSorter(AbstractEnumerableSorter<TElement> next) {
+        AbstractEnumerableSorter<TElement> sorter = new DoubleEnumerableSorter<>(this.keySelector, this.descending, next);
+        if (this.parent != null)
+            sorter = this.parent.getEnumerableSorter(sorter);
+        return sorter;
+    }
+
+    @Override
+    protected AbstractCachingComparer<TElement> getComparer(AbstractCachingComparer<TElement> childComparer) {
+        Func1<TElement, Double> keySelector = this.keySelector::apply;
+        AbstractCachingComparer<TElement> cmp = childComparer == null
+                ? new CachingComparer<>(keySelector, Double::compare, this.descending)
+                : new CachingComparerWithChild<>(keySelector, Double::compare, this.descending, childComparer);
+        return this.parent != null ? this.parent.getComparer(cmp) : cmp;
+    }
+}
+
+
 abstract class AbstractCachingComparer<TElement> {
     abstract int compare(TElement element, boolean cacheLower);
 
@@ -543,104 +725,370 @@ final class CachingComparerWithChild<TElement, TKey> extends CachingComparer<TEl
 
 @SuppressWarnings("SameParameterValue")
 abstract class AbstractEnumerableSorter<TElement> {
-    protected abstract void computeKeys(Object[] elements, int count);
+    private static final int IntrosortSizeThreshold = 16;
+    static final int RadixSortThreshold = 1 << 10;
+    static final int ParallelSortThreshold = 1 << 13;
+    private static final int ChunksPerThread = 4;
+
+    protected abstract void allocateKeys(int count);
+
+    // Fills the keys of elements[from, to), chunks may run concurrently after allocateKeys.
+    protected abstract void computeKeys(Object[] elements, int from, int to);
+
+    protected abstract void copyKeys(int from, int to);
 
     protected abstract int compareAnyKeys(int index1, int index2);
 
-    private Integer[] computeMap(Object[] elements, int count) {
-        this.computeKeys(elements, count);
-        Integer[] map = new Integer[count];
+    private int[] computeMap(Object[] elements, int count) {
+        this.allocateKeys(count);
+        this.computeKeys(elements, 0, count);
+        int[] map = new int[count];
         for (int i = 0; i < map.length; i++)
             map[i] = i;
         return map;
     }
 
-    protected Integer[] sort(Object[] elements, int count) {
-        Integer[] map = this.computeMap(elements, count);
+    protected int[] sort(Object[] elements, int count, int degreeOfParallelism) {
+        return degreeOfParallelism == AbstractOrderedEnumerable.Sequential || count < ParallelSortThreshold
+                ? this.sort(elements, count)
+                : this.parallelSort(elements, count, count, degreeOfParallelism);
+    }
+
+    protected int[] sort(Object[] elements, int count, int minIdx, int maxIdx, int degreeOfParallelism) {
+        return degreeOfParallelism == AbstractOrderedEnumerable.Sequential || count < ParallelSortThreshold
+                ? this.sort(elements, count, minIdx, maxIdx)
+                : this.parallelSort(elements, count, maxIdx < count - 1 ? maxIdx + 1 : count, degreeOfParallelism);
+    }
+
+    // Each chunk computes its keys and sorts its first limit indices, then chunks are merged pairwise keeping the first limit.
+    private int[] parallelSort(Object[] elements, int count, int limit, int degreeOfParallelism) {
+        this.allocateKeys(count);
+        int[] map = new int[count];
+        int degree = degreeOfParallelism == 0 ? ForkJoinPool.getCommonPoolParallelism() : degreeOfParallelism;
+        int leafSize = Math.max(ParallelSortThreshold >> 2, (count - 1) / (degree * ChunksPerThread) + 1);
+        ParallelQuery.invoke(degreeOfParallelism, new SortTask<>(this, elements, map, new int[count], 0, count, leafSize, limit));
+        return map;
+    }
+
+    protected int[] sort(Object[] elements, int count) {
+        int[] map = this.computeMap(elements, count);
         this.quickSort(map, 0, count - 1);
         return map;
     }
 
-    protected Integer[] sort(Object[] elements, int count, int minIdx, int maxIdx) {
-        Integer[] map = this.computeMap(elements, count);
+    protected int[] sort(Object[] elements, int count, int minIdx, int maxIdx) {
+        int[] map = this.computeMap(elements, count);
         this.partialQuickSort(map, 0, count - 1, minIdx, maxIdx);
         return map;
     }
 
     protected TElement elementAt(Object[] elements, int count, int idx) {
-        Integer[] map = this.computeMap(elements, count);
+        int[] map = this.computeMap(elements, count);
         //noinspection unchecked
         return (TElement) (idx == 0 ? elements[this.min(map, count)] : elements[this.quickSelect(map, count - 1, idx)]);
     }
 
-    protected abstract void quickSort(Integer[] map, int left, int right);
+    private int compareKeys(int index1, int index2) {
+        return index1 == index2 ? 0 : this.compareAnyKeys(index1, index2);
+    }
 
-    // Sorts the k elements between minIdx and maxIdx without sorting all elements
-    // Time complexity: O(n + k log k) best and average case. O(n^2) worse case.
-    protected abstract void partialQuickSort(Integer[] map, int left, int right, int minIdx, int maxIdx);
+    private static void swap(int[] map, int i, int j) {
+        int temp = map[i];
+        map[i] = map[j];
+        map[j] = temp;
+    }
 
-    // Finds the element that would be at idx if the collection was sorted.
-    // Time complexity: O(n) best and average case. O(n^2) worse case.
-    protected abstract int quickSelect(Integer[] map, int right, int idx);
+    // Introspective sort on primitive indices. compareAnyKeys breaks ties by index, so the result is stable.
+    protected void quickSort(int[] map, int lo, int hi) {
+        this.introSort(map, lo, hi);
+    }
 
-    protected abstract int min(Integer[] map, int count);
-}
+    protected final void introSort(int[] map, int lo, int hi) {
+        if (hi - lo < 1)
+            return;
+        this.introSort(map, lo, hi, 2 * (31 - Integer.numberOfLeadingZeros(hi - lo + 1) + 1));
+    }
 
+    private void introSort(int[] map, int lo, int hi, int depthLimit) {
+        while (hi > lo) {
+            int partitionSize = hi - lo + 1;
+            if (partitionSize <= IntrosortSizeThreshold) {
+                this.insertionSort(map, lo, hi);
+                return;
+            }
 
-final class EnumerableSorter<TElement, TKey> extends AbstractEnumerableSorter<TElement> {
-    private final Func1<TElement, TKey> keySelector;
-    private final Comparator<TKey> comparer;
-    private final boolean descending;
-    private final AbstractEnumerableSorter<TElement> next;
-    private Object[] keys;
+            if (depthLimit == 0) {
+                this.heapSort(map, lo, hi);
+                return;
+            }
+            depthLimit--;
 
-    EnumerableSorter(Func1<TElement, TKey> keySelector, Comparator<TKey> comparer, boolean descending, AbstractEnumerableSorter<TElement> next) {
-        this.keySelector = keySelector;
-        this.comparer = comparer;
-        this.descending = descending;
-        this.next = next;
+            int p = this.pickPivotAndPartition(map, lo, hi);
+            this.introSort(map, p + 1, hi, depthLimit);
+            hi = p - 1;
+        }
     }
 
-    @Override
-    protected void computeKeys(Object[] elements, int count) {
-        this.keys = new Object[count];
-        for (int i = 0; i < count; i++)
-            //noinspection unchecked
-            this.keys[i] = this.keySelector.apply((TElement) elements[i]);
-        if (this.next == null)
+    private void swapIfGreater(int[] map, int i, int j) {
+        if (this.compareKeys(map[i], map[j]) > 0)
+            swap(map, i, j);
+    }
+
+    private int pickPivotAndPartition(int[] map, int lo, int hi) {
+        // median of three, then the pivot is parked at hi - 1
+        int middle = lo + ((hi - lo) >> 1);
+        this.swapIfGreater(map, lo, middle);
+        this.swapIfGreater(map, lo, hi);
+        this.swapIfGreater(map, middle, hi);
+
+        int pivot = map[middle];
+        swap(map, middle, hi - 1);
+        int left = lo;
+        int right = hi - 1;
+        while (left < right) {
+            //noinspection StatementWithEmptyBody
+            while (left < hi - 1 && this.compareKeys(map[++left], pivot) < 0) ;
+            //noinspection StatementWithEmptyBody
+            while (right > lo && this.compareKeys(pivot, map[--right]) < 0) ;
+
+            if (left >= right)
+                break;
+
+            swap(map, left, right);
+        }
+
+        if (left != hi - 1)
+            swap(map, left, hi - 1);
+        return left;
+    }
+
+    private void heapSort(int[] map, int lo, int hi) {
+        int n = hi - lo + 1;
+        for (int i = n >> 1; i >= 1; i--)
+            this.downHeap(map, i, n, lo);
+
+        for (int i = n; i > 1; i--) {
+            swap(map, lo, lo + i - 1);
+            this.downHeap(map, 1, i - 1, lo);
+        }
+    }
+
+    private void downHeap(int[] map, int i, int n, int lo) {
+        int d = map[lo + i - 1];
+        while (i <= n >> 1) {
+            int child = 2 * i;
+            if (child < n && this.compareKeys(map[lo + child - 1], map[lo + child]) < 0)
+                child++;
+
+            if (this.compareKeys(d, map[lo + child - 1]) >= 0)
+                break;
+
+            map[lo + i - 1] = map[lo + child - 1];
+            i = child;
+        }
+        map[lo + i - 1] = d;
+    }
+
+    private void insertionSort(int[] map, int lo, int hi) {
+        for (int i = lo; i < hi; i++) {
+            int j = i;
+            int t = map[i + 1];
+            while (j >= lo && this.compareKeys(t, map[j]) < 0) {
+                map[j + 1] = map[j];
+                j--;
+            }
+            map[j + 1] = t;
+        }
+    }
+
+    // LSD radix sort of map by unsigned keys, keys[i] belongs to map[i]. Each pass is stable, so equal keys keep index order.
+    // Runs of equal keys are then ordered by the next sorter.
+    protected void radixSort(int[] map, int[] keys, boolean hasNext) {
+        int count = map.length;
+        int[] srcMap = map;
+        int[] srcKeys = keys;
+        int[] dstMap = new int[count];
+        int[] dstKeys = new int[count];
+        int[] offsets = new int[256];
+        for (int shift = 0; shift < 32; shift += 8) {
+            if (!countDigits(offsets, srcKeys, shift))
+                continue;
+            for (int i = 0; i < count; i++) {
+                int key = srcKeys[i];
+                int pos = offsets[(key >>> shift) & 0xFF]++;
+                dstMap[pos] = srcMap[i];
+                dstKeys[pos] = key;
+            }
+            int[] temp = srcMap;
+            srcMap = dstMap;
+            dstMap = temp;
+            temp = srcKeys;
+            srcKeys = dstKeys;
+            dstKeys = temp;
+        }
+        if (srcMap != map)
+            System.arraycopy(srcMap, 0, map, 0, count);
+        if (!hasNext)
             return;
-        this.next.computeKeys(elements, count);
+
+        int lo = 0;
+        for (int i = 1; i <= count; i++) {
+            if (i == count || srcKeys[i] != srcKeys[lo]) {
+                this.introSort(map, lo, i - 1);
+                lo = i;
+            }
+        }
     }
 
-    @Override
-    protected int compareAnyKeys(int index1, int index2) {
-        //noinspection unchecked
-        int c = this.comparer.compare((TKey) this.keys[index1], (TKey) this.keys[index2]);
-        if (c == 0) {
-            if (this.next == null)
-                return index1 - index2; // ensure stability of sort
-            return this.next.compareAnyKeys(index1, index2);
+    protected void radixSort(int[] map, long[] keys, boolean hasNext) {
+        int count = map.length;
+        int[] srcMap = map;
+        long[] srcKeys = keys;
+        int[] dstMap = new int[count];
+        long[] dstKeys = new long[count];
+        int[] offsets = new int[256];
+        for (int shift = 0; shift < 64; shift += 8) {
+            if (!countDigits(offsets, srcKeys, shift))
+                continue;
+            for (int i = 0; i < count; i++) {
+                long key = srcKeys[i];
+                int pos = offsets[(int) (key >>> shift) & 0xFF]++;
+                dstMap[pos] = srcMap[i];
+                dstKeys[pos] = key;
+            }
+            int[] temp = srcMap;
+            srcMap = dstMap;
+            dstMap = temp;
+            long[] tempKeys = srcKeys;
+            srcKeys = dstKeys;
+            dstKeys = tempKeys;
         }
+        if (srcMap != map)
+            System.arraycopy(srcMap, 0, map, 0, count);
+        if (!hasNext)
+            return;
 
-        // -c will result in a negative value for int.MinValue (-int.MinValue == int.MinValue).
-        // Flipping keys earlier is more likely to trigger something strange in a comparer,
-        // particularly as it comes to the sort being stable.
-        return this.descending != (c > 0) ? 1 : -1;
+        int lo = 0;
+        for (int i = 1; i <= count; i++) {
+            if (i == count || srcKeys[i] != srcKeys[lo]) {
+                this.introSort(map, lo, i - 1);
+                lo = i;
+            }
+        }
     }
 
-    private int compareKeys(int index1, int index2) {
-        return index1 == index2 ? 0 : this.compareAnyKeys(index1, index2);
+    // Fills offsets with the start of each digit bucket, false if every key has the same digit and the pass can be skipped.
+    private static boolean countDigits(int[] offsets, int[] keys, int shift) {
+        Arrays.fill(offsets, 0);
+        for (int key : keys)
+            offsets[(key >>> shift) & 0xFF]++;
+        return toOffsets(offsets, keys.length);
     }
 
-    @Override
-    protected void quickSort(Integer[] keys, int lo, int hi) {
-        Arrays.sort(keys, lo, hi - lo + 1, Comparer.create(this::compareAnyKeys)); // TODO #24115: Remove Create call when delegate-based overload is available
+    private static boolean countDigits(int[] offsets, long[] keys, int shift) {
+        Arrays.fill(offsets, 0);
+        for (long key : keys)
+            offsets[(int) (key >>> shift) & 0xFF]++;
+        return toOffsets(offsets, keys.length);
+    }
+
+    private static boolean toOffsets(int[] offsets, int count) {
+        int sum = 0;
+        for (int i = 0; i < offsets.length; i++) {
+            int c = offsets[i];
+            if (c == count)
+                return false;
+            offsets[i] = sum;
+            sum += c;
+        }
+        return true;
+    }
+
+    // Streams source through a max heap of the k least elements, so only k elements and their keys are held.
+    // Slots are handed out in arrival order and compareAnyKeys breaks ties by slot, which keeps the result stable.
+    // Time complexity: O(n log k).
+    protected Object[] top(IEnumerable<TElement> source, int k) {
+        int capacity = k << 1;
+        Object[] slots = new Object[capacity];
+        int[] heap = new int[k];
+        int size = 0;
+        int next = 0;
+        this.allocateKeys(capacity);
+        try (IEnumerator<TElement> e = source.enumerator()) {
+            while (e.moveNext()) {
+                if (next == capacity)
+                    next = this.compact(slots, heap, size);
+                slots[next] = e.current();
+                this.computeKeys(slots, next, next + 1);
+                if (size < k) {
+                    heap[size] = next++;
+                    this.siftUp(heap, size++);
+                } else if (this.compareAnyKeys(next, heap[0]) < 0) {
+                    slots[heap[0]] = null;
+                    heap[0] = next++;
+                    this.siftDown(heap, size);
+                }
+            }
+        }
+
+        this.introSort(heap, 0, size - 1);
+        Object[] result = new Object[size];
+        for (int i = 0; i < size; i++)
+            result[i] = slots[heap[i]];
+        return result;
+    }
+
+    // Moves the live slots down to [0, size) keeping their order, returns the next free slot.
+    private int compact(Object[] slots, int[] heap, int size) {
+        int[] live = Arrays.copyOf(heap, size);
+        Arrays.sort(live);
+        int[] remap = new int[slots.length];
+        for (int i = 0; i < size; i++) {
+            int from = live[i];
+            remap[from] = i;
+            if (from == i)
+                continue;
+            slots[i] = slots[from];
+            this.copyKeys(from, i);
+        }
+        for (int i = size; i < slots.length; i++)
+            slots[i] = null;
+        for (int i = 0; i < size; i++)
+            heap[i] = remap[heap[i]];
+        return size;
+    }
+
+    private void siftUp(int[] heap, int i) {
+        int slot = heap[i];
+        while (i > 0) {
+            int parent = (i - 1) >> 1;
+            if (this.compareAnyKeys(heap[parent], slot) >= 0)
+                break;
+            heap[i] = heap[parent];
+            i = parent;
+        }
+        heap[i] = slot;
+    }
+
+    private void siftDown(int[] heap, int size) {
+        int i = 0;
+        int slot = heap[0];
+        int half = size >> 1;
+        while (i < half) {
+            int child = 2 * i + 1;
+            if (child + 1 < size && this.compareAnyKeys(heap[child + 1], heap[child]) > 0)
+                child++;
+            if (this.compareAnyKeys(slot, heap[child]) >= 0)
+                break;
+            heap[i] = heap[child];
+            i = child;
+        }
+        heap[i] = slot;
     }
 
     // Sorts the k elements between minIdx and maxIdx without sorting all elements
     // Time complexity: O(n + k log k) best and average case. O(n^2) worse case.
-    @Override
-    protected void partialQuickSort(Integer[] map, int left, int right, int minIdx, int maxIdx) {
+    protected void partialQuickSort(int[] map, int left, int right, int minIdx, int maxIdx) {
         do {
             int i = left;
             int j = right;
@@ -686,8 +1134,7 @@ final class EnumerableSorter<TElement, TKey> extends AbstractEnumerableSorter<TE
 
     // Finds the element that would be at idx if the collection was sorted.
     // Time complexity: O(n) best and average case. O(n^2) worse case.
-    @Override
-    protected int quickSelect(Integer[] map, int right, int idx) {
+    protected int quickSelect(int[] map, int right, int idx) {
         int left = 0;
         do {
             int i = left;
@@ -734,8 +1181,7 @@ final class EnumerableSorter<TElement, TKey> extends AbstractEnumerableSorter<TE
         return map[idx];
     }
 
-    @Override
-    protected int min(Integer[] map, int count) {
+    protected int min(int[] map, int count) {
         int index = 0;
         for (int i = 1; i < count; i++) {
             if (this.compareKeys(map[i], map[index]) < 0)
@@ -744,3 +1190,377 @@ final class EnumerableSorter<TElement, TKey> extends AbstractEnumerableSorter<TE
         return map[index];
     }
 }
+
+
+// A collator comparer gets a CollationKey per string key once, the sort then compares keys bit by bit instead of collating every pair.
+// A culture StringComparer always collates. The default comparer only collates a chunk of keys whose first non null key is a string,
+// so numbers, dates and other keys keep the pairwise path. Keys which mix strings and other types compare as they would pairwise.
+final class EnumerableSorter<TElement, TKey> extends AbstractEnumerableSorter<TElement> {
+    private final Func1<TElement, TKey> keySelector;
+    private final Comparator<TKey> comparer;
+    private final boolean descending;
+    private final AbstractEnumerableSorter<TElement> next;
+    private final ICollatorComparer collatorComparer;
+    private Collator culture;
+    private Collator collator;
+    private boolean collated;
+    private Object[] keys;
+
+    EnumerableSorter(Func1<TElement, TKey> keySelector, Comparator<TKey> comparer, boolean descending, AbstractEnumerableSorter<TElement> next) {
+        this.keySelector = keySelector;
+        this.comparer = comparer;
+        this.descending = descending;
+        this.next = next;
+        this.collatorComparer = comparer instanceof ICollatorComparer ? (ICollatorComparer) comparer : null;
+    }
+
+    @Override
+    protected void allocateKeys(int count) {
+        this.keys = new Object[count];
+        // The current culture is resolved here on the calling thread, not in the chunks.
+        this.culture = this.collatorComparer == null ? null : this.collatorComparer.getCollator();
+        this.collator = null;
+        this.collated = false;
+        if (this.next == null)
+            return;
+        this.next.allocateKeys(count);
+    }
+
+    @Override
+    protected void copyKeys(int from, int to) {
+        this.keys[to] = this.keys[from];
+        if (this.next == null)
+            return;
+        this.next.copyKeys(from, to);
+    }
+
+    @Override
+    protected void computeKeys(Object[] elements, int from, int to) {
+        Object[] keys = this.keys;
+        for (int i = from; i < to; i++)
+            //noinspection unchecked
+            keys[i] = this.keySelector.apply((TElement) elements[i]);
+        if (this.culture != null && this.collates(keys, from, to)) {
+            // Collators synchronize, chunks of a parallel sort collate with a copy of their own.
+            // Single keys come from top and the spill merge, which are sequential and share one copy.
+            Collator collator;
+            if (to - from > 1) {
+                collator = (Collator) this.culture.clone();
+            } else {
+                if (this.collator == null)
+                    this.collator = (Collator) this.culture.clone();
+                collator = this.collator;
+            }
+            boolean ignoreCase = this.collatorComparer.isIgnoreCase();
+            for (int i = from; i < to; i++) {
+                Object key = keys[i];
+                if (key instanceof String)
+                    keys[i] = collator.getCollationKey(ignoreCase ? ((String) key).toUpperCase() : (String) key);
+            }
+            // Set by the chunk before it compares its own keys, other chunks read it after they are joined.
+            this.collated = true;
+        }
+        if (this.next == null)
+            return;
+        this.next.computeKeys(elements, from, to);
+    }
+
+    private boolean collates(Object[] keys, int from, int to) {
+        if (this.comparer instanceof StringComparer)
+            return true;
+        for (int i = from; i < to; i++) {
+            if (keys[i] != null)
+                return keys[i] instanceof String;
+        }
+        return false;
+    }
+
+    @SuppressWarnings("unchecked")
+    private int compare(Object x, Object y) {
+        if (this.collated) {
+            if (x instanceof CollationKey) {
+                if (y instanceof CollationKey)
+                    return ((CollationKey) x).compareTo((CollationKey) y);
+                x = ((CollationKey) x).getSourceString();
+            } else if (y instanceof CollationKey) {
+                y = ((CollationKey) y).getSourceString();
+            }
+        }
+        return this.comparer.compare((TKey) x, (TKey) y);
+    }
+
+    @Override
+    protected int compareAnyKeys(int index1, int index2) {
+        int c = this.compare(this.keys[index1], this.keys[index2]);
+        if (c == 0) {
+            if (this.next == null)
+                return index1 - index2; // ensure stability of sort
+            return this.next.compareAnyKeys(index1, index2);
+        }
+
+        // -c will result in a negative value for int.MinValue (-int.MinValue == int.MinValue).
+        // Flipping keys earlier is more likely to trigger something strange in a comparer,
+        // particularly as it comes to the sort being stable.
+        return this.descending != (c > 0) ? 1 : -1;
+    }
+}
+
+
+final class IntEnumerableSorter<TElement> extends AbstractEnumerableSorter<TElement> {
+    private final IntFunc1<TElement> keySelector;
+    private final boolean descending;
+    private final AbstractEnumerableSorter<TElement> next;
+    private int[] keys;
+
+    IntEnumerableSorter(IntFunc1<TElement> keySelector, boolean descending, AbstractEnumerableSorter<TElement> next) {
+        this.keySelector = keySelector;
+        this.descending = descending;
+        this.next = next;
+    }
+
+    @Override
+    protected void allocateKeys(int count) {
+        this.keys = new int[count];
+        if (this.next == null)
+            return;
+        this.next.allocateKeys(count);
+    }
+
+    @Override
+    protected void copyKeys(int from, int to) {
+        this.keys[to] = this.keys[from];
+        if (this.next == null)
+            return;
+        this.next.copyKeys(from, to);
+    }
+
+    @Override
+    protected void computeKeys(Object[] elements, int from, int to) {
+        for (int i = from; i < to; i++)
+            //noinspection unchecked
+            this.keys[i] = this.keySelector.apply((TElement) elements[i]);
+        if (this.next == null)
+            return;
+        this.next.computeKeys(elements, from, to);
+    }
+
+    @Override
+    protected int compareAnyKeys(int index1, int index2) {
+        int c = Integer.compare(this.keys[index1], this.keys[index2]);
+        if (c == 0) {
+            if (this.next == null)
+                return index1 - index2; // ensure stability of sort
+            return this.next.compareAnyKeys(index1, index2);
+        }
+        return this.descending != (c > 0) ? 1 : -1;
+    }
+
+    @Override
+    protected void quickSort(int[] map, int lo, int hi) {
+        int count = hi - lo + 1;
+        if (count < RadixSortThreshold || count != map.length) {
+            this.introSort(map, lo, hi);
+            return;
+        }
+
+        // flip the sign bit to sort as unsigned, flip all the other bits too for descending
+        int flip = this.descending ? Integer.MAX_VALUE : Integer.MIN_VALUE;
+        int[] keys = new int[count];
+        for (int i = 0; i < count; i++)
+            keys[i] = this.keys[i] ^ flip;
+        this.radixSort(map, keys, this.next != null);
+    }
+}
+
+
+final class LongEnumerableSorter<TElement> extends AbstractEnumerableSorter<TElement> {
+    private final LongFunc1<TElement> keySelector;
+    private final boolean descending;
+    private final AbstractEnumerableSorter<TElement> next;
+    private long[] keys;
+
+    LongEnumerableSorter(LongFunc1<TElement> keySelector, boolean descending, AbstractEnumerableSorter<TElement> next) {
+        this.keySelector = keySelector;
+        this.descending = descending;
+        this.next = next;
+    }
+
+    @Override
+    protected void allocateKeys(int count) {
+        this.keys = new long[count];
+        if (this.next == null)
+            return;
+        this.next.allocateKeys(count);
+    }
+
+    @Override
+    protected void copyKeys(int from, int to) {
+        this.keys[to] = this.keys[from];
+        if (this.next == null)
+            return;
+        this.next.copyKeys(from, to);
+    }
+
+    @Override
+    protected void computeKeys(Object[] elements, int from, int to) {
+        for (int i = from; i < to; i++)
+            //noinspection unchecked
+            this.keys[i] = this.keySelector.apply((TElement) elements[i]);
+        if (this.next == null)
+            return;
+        this.next.computeKeys(elements, from, to);
+    }
+
+    @Override
+    protected int compareAnyKeys(int index1, int index2) {
+        int c = Long.compare(this.keys[index1], this.keys[index2]);
+        if (c == 0) {
+            if (this.next == null)
+                return index1 - index2; // ensure stability of sort
+            return this.next.compareAnyKeys(index1, index2);
+        }
+        return this.descending != (c > 0) ? 1 : -1;
+    }
+
+    @Override
+    protected void quickSort(int[] map, int lo, int hi) {
+        int count = hi - lo + 1;
+        if (count < RadixSortThreshold || count != map.length) {
+            this.introSort(map, lo, hi);
+            return;
+        }
+
+        // flip the sign bit to sort as unsigned, flip all the other bits too for descending
+        long flip = this.descending ? Long.MAX_VALUE : Long.MIN_VALUE;
+        long[] keys = new long[count];
+        for (int i = 0; i < count; i++)
+            keys[i] = this.keys[i] ^ flip;
+        this.radixSort(map, keys, this.next != null);
+    }
+}
+
+
+final class DoubleEnumerableSorter<TElement> extends AbstractEnumerableSorter<TElement> {
+    private final DoubleFunc1<TElement> keySelector;
+    private final boolean descending;
+    private final AbstractEnumerableSorter<TElement> next;
+    private double[] keys;
+
+    DoubleEnumerableSorter(DoubleFunc1<TElement> keySelector, boolean descending, AbstractEnumerableSorter<TElement> next) {
+        this.keySelector = keySelector;
+        this.descending = descending;
+        this.next = next;
+    }
+
+    @Override
+    protected void allocateKeys(int count) {
+        this.keys = new double[count];
+        if (this.next == null)
+            return;
+        this.next.allocateKeys(count);
+    }
+
+    @Override
+    protected void copyKeys(int from, int to) {
+        this.keys[to] = this.keys[from];
+        if (this.next == null)
+            return;
+        this.next.copyKeys(from, to);
+    }
+
+    @Override
+    protected void computeKeys(Object[] elements, int from, int to) {
+        for (int i = from; i < to; i++)
+            //noinspection unchecked
+            this.keys[i] = this.keySelector.apply((TElement) elements[i]);
+        if (this.next == null)
+            return;
+        this.next.computeKeys(elements, from, to);
+    }
+
+    // Same order as Double.compareTo: -0.0 before 0.0 and NaN after everything.
+    @Override
+    protected int compareAnyKeys(int index1, int index2) {
+        int c = Double.compare(this.keys[index1], this.keys[index2]);
+        if (c == 0) {
+            if (this.next == null)
+                return index1 - index2; // ensure stability of sort
+            return this.next.compareAnyKeys(index1, index2);
+        }
+        return this.descending != (c > 0) ? 1 : -1;
+    }
+
+    @Override
+    protected void quickSort(int[] map, int lo, int hi) {
+        int count = hi - lo + 1;
+        if (count < RadixSortThreshold || count != map.length) {
+            this.introSort(map, lo, hi);
+            return;
+        }
+
+        // doubleToLongBits collapses NaN, then negative values get all bits flipped and positive ones only the sign bit
+        long[] keys = new long[count];
+        for (int i = 0; i < count; i++) {
+            long bits = Double.doubleToLongBits(this.keys[i]);
+            bits ^= (bits >> 63) | Long.MIN_VALUE;
+            keys[i] = this.descending ? ~bits : bits;
+        }
+        this.radixSort(map, keys, this.next != null);
+    }
+}
+
+
+final class SortTask<TElement> extends RecursiveAction {
+    private static final long serialVersionUID = 1L;
+    private final AbstractEnumerableSorter<TElement> sorter;
+    private final Object[] elements;
+    private final int[] map;
+    private final int[] buffer;
+    private final int lo;
+    private final int hi;
+    private final int leafSize;
+    private final int limit;
+
+    SortTask(AbstractEnumerableSorter<TElement> sorter, Object[] elements, int[] map, int[] buffer, int lo, int hi, int leafSize, int limit) {
+        this.sorter = sorter;
+        this.elements = elements;
+        this.map = map;
+        this.buffer = buffer;
+        this.lo = lo;
+        this.hi = hi;
+        this.leafSize = leafSize;
+        this.limit = limit;
+    }
+
+    @Override
+    protected void compute() {
+        int lo = this.lo;
+        int hi = this.hi;
+        int[] map = this.map;
+        if (hi - lo <= this.leafSize) {
+            this.sorter.computeKeys(this.elements, lo, hi);
+            for (int i = lo; i < hi; i++)
+                map[i] = i;
+            if (this.limit >= hi - lo)
+                this.sorter.introSort(map, lo, hi - 1);
+            else
+                this.sorter.partialQuickSort(map, lo, hi - 1, lo, lo + this.limit - 1);
+            return;
+        }
+
+        int mid = (lo + hi) >>> 1;
+        invokeAll(new SortTask<>(this.sorter, this.elements, map, this.buffer, lo, mid, this.leafSize, this.limit),
+                new SortTask<>(this.sorter, this.elements, map, this.buffer, mid, hi, this.leafSize, this.limit));
+
+        // both halves are sorted up to limit, take the lower one on ties so equal keys keep index order
+        int leftEnd = Math.min(mid, lo + this.limit);
+        int rightEnd = Math.min(hi, mid + this.limit);
+        int total = Math.min(this.limit, leftEnd - lo + rightEnd - mid);
+        int[] buffer = this.buffer;
+        int i = lo;
+        int j = mid;
+        for (int k = lo, end = lo + total; k < end; k++)
+            buffer[k] = j >= rightEnd || (i < leftEnd && this.sorter.compareAnyKeys(map[i], map[j]) <= 0) ? map[i++] : map[j++];
+        System.arraycopy(buffer, lo, map, lo, total);
+    }
+}
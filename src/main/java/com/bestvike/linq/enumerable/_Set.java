@@ -6,6 +6,7 @@ import com.bestvike.function.Func1;
 import com.bestvike.linq.IEnumerable;
 import com.bestvike.linq.IEnumerator;
 import com.bestvike.linq.util.ArrayUtils;
+import com.bestvike.out;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -14,57 +15,97 @@ import java.util.List;
  * Created by 许崇雷 on 2018-05-07.
  */
 final class Set<TElement> {
+    private static final int DefaultCapacity = 8;
+    private static final int MaxCapacity = 1 << 30;
+    private static final int MaxCapacityHint = 1 << 20;
+    private static final int Removed = -2;
     private final IEqualityComparer<TElement> comparer;
-    private int[] buckets;
-    private Slot[] slots;
+    private int[] buckets;      // 1-based index into the slot arrays, 0 means empty. The length is a power of two.
+    private int[] hashCodes;    // Slot arrays, indexed in insertion order.
+    private int[] next;
+    private Object[] values;
     private int count;
 
     // Constructs a set that compares items with the specified comparer.
     Set(IEqualityComparer<TElement> comparer) {
+        this(comparer, DefaultCapacity);
+    }
+
+    // Constructs a set that can hold capacity items without resizing.
+    Set(IEqualityComparer<TElement> comparer, int capacity) {
         this.comparer = comparer == null ? EqualityComparer.Default() : comparer;
-        this.buckets = new int[7];
-        //noinspection unchecked
-        this.slots = new Set.Slot[7];
-        for (int i = 0; i < 7; i++)
-            this.slots[i] = new Slot();
+        this.allocate(Math.max(capacity, DefaultCapacity));
+    }
+
+    // Gets the count of source if it is cheap, otherwise 0. Capped since lazy sources like repeat may report huge counts of duplicates.
+    static <T> int capacityOf(IEnumerable<T> source) {
+        out<Integer> countRef = out.init();
+        return EnumerableHelpers.tryGetCount(source, countRef) ? Math.min(countRef.value, MaxCapacityHint) : 0;
+    }
+
+    // Returns the power of two bucket count, at least twice the capacity to keep the chains short.
+    private static int bucketsSize(int capacity) {
+        return capacity >= MaxCapacity >> 1 ? MaxCapacity : Integer.highestOneBit(Math.max(capacity, DefaultCapacity) - 1) << 2;
     }
 
     // If value is not in set, add it and return true; otherwise return false
     public boolean add(TElement value) {
+        int count = this.count;
+        return this.addOrGetIndex(value) == count;
+    }
+
+    // Returns the slot of value, adding it as slot getCount() if absent. Slots follow insertion order while nothing is removed.
+    public int addOrGetIndex(TElement value) {
         int hashCode = this.internalGetHashCode(value);
-        for (int i = this.buckets[hashCode % this.buckets.length] - 1; i >= 0; i = this.slots[i].next) {
-            if (this.slots[i].hashCode == hashCode && this.comparer.equals(this.slots[i].value, value))
-                return false;
+        int[] hashCodes = this.hashCodes;
+        int[] next = this.next;
+        Object[] values = this.values;
+        for (int i = this.buckets[hashCode & (this.buckets.length - 1)] - 1; i >= 0; i = next[i]) {
+            //noinspection unchecked
+            if (hashCodes[i] == hashCode && this.comparer.equals((TElement) values[i], value))
+                return i;
         }
 
-        if (this.count == this.slots.length)
+        if (this.count == this.values.length)
             this.resize();
 
         int index = this.count;
         this.count++;
-        int bucket = hashCode % this.buckets.length;
-        this.slots[index].hashCode = hashCode;
-        this.slots[index].value = value;
-        this.slots[index].next = this.buckets[bucket] - 1;
+        int bucket = hashCode & (this.buckets.length - 1);
+        this.hashCodes[index] = hashCode;
+        this.values[index] = value;
+        this.next[index] = this.buckets[bucket] - 1;
         this.buckets[bucket] = index + 1;
-        return true;
+        return index;
+    }
+
+    // Determines whether value is in set.
+    public boolean contains(TElement value) {
+        int hashCode = this.internalGetHashCode(value);
+        for (int i = this.buckets[hashCode & (this.buckets.length - 1)] - 1; i >= 0; i = this.next[i]) {
+            //noinspection unchecked
+            if (this.hashCodes[i] == hashCode && this.comparer.equals((TElement) this.values[i], value))
+                return true;
+        }
+        return false;
     }
 
     // Attempts to remove an item from this set.
     public boolean remove(TElement value) {
         int hashCode = this.internalGetHashCode(value);
-        int bucket = hashCode % this.buckets.length;
+        int bucket = hashCode & (this.buckets.length - 1);
         int last = -1;
-        for (int i = this.buckets[bucket] - 1; i >= 0; last = i, i = this.slots[i].next) {
-            if (this.slots[i].hashCode == hashCode && this.comparer.equals(this.slots[i].value, value)) {
+        for (int i = this.buckets[bucket] - 1; i >= 0; last = i, i = this.next[i]) {
+            //noinspection unchecked
+            if (this.hashCodes[i] == hashCode && this.comparer.equals((TElement) this.values[i], value)) {
                 if (last < 0)
-                    this.buckets[bucket] = this.slots[i].next + 1;
+                    this.buckets[bucket] = this.next[i] + 1;
                 else
-                    this.slots[last].next = this.slots[i].next;
+                    this.next[last] = this.next[i];
 
-                this.slots[i].hashCode = -1;
-                this.slots[i].value = null;
-                this.slots[i].next = -1;
+                this.hashCodes[i] = -1;
+                this.values[i] = null;
+                this.next[i] = Removed;
                 return true;
             }
         }
@@ -72,29 +113,50 @@ final class Set<TElement> {
         return false;
     }
 
-    // Expands the capacity of this set to double the current capacity, plus one.
+    // Makes room for capacity items in total.
+    private void ensureCapacity(int capacity) {
+        if (capacity > this.values.length)
+            this.resize(capacity);
+    }
+
+    // Expands the capacity of this set to double the current capacity.
     private void resize() {
-        int newSize = Math.addExact(Math.multiplyExact(this.count, 2), 1);
-        int[] newBuckets = new int[newSize];
-        //noinspection unchecked
-        Slot[] newSlots = new Set.Slot[newSize];
-        System.arraycopy(this.slots, 0, newSlots, 0, this.count);
-        for (int i = this.count; i < newSize; i++)
-            newSlots[i] = new Slot();
+        this.resize(Math.multiplyExact(this.count, 2));
+    }
+
+    private void resize(int newSize) {
+        int[] oldHashCodes = this.hashCodes;
+        int[] oldNext = this.next;
+        Object[] oldValues = this.values;
+        this.allocate(newSize);
+        System.arraycopy(oldHashCodes, 0, this.hashCodes, 0, this.count);
+        System.arraycopy(oldValues, 0, this.values, 0, this.count);
+        int[] buckets = this.buckets;
+        int mask = buckets.length - 1;
         for (int i = 0; i < this.count; i++) {
-            int bucket = newSlots[i].hashCode % newSize;
-            newSlots[i].next = newBuckets[bucket] - 1;
-            newBuckets[bucket] = i + 1;
+            if (oldNext[i] == Removed) {
+                this.next[i] = Removed;
+                continue;
+            }
+            int bucket = this.hashCodes[i] & mask;
+            this.next[i] = buckets[bucket] - 1;
+            buckets[bucket] = i + 1;
         }
-        this.buckets = newBuckets;
-        this.slots = newSlots;
+    }
+
+    private void allocate(int capacity) {
+        this.buckets = new int[bucketsSize(capacity)];
+        this.hashCodes = new int[capacity];
+        this.next = new int[capacity];
+        this.values = new Object[capacity];
     }
 
     // Creates an array from the items in this set.
     public TElement[] toArray(Class<TElement> clazz) {
         TElement[] array = ArrayUtils.newInstance(clazz, this.count);
         for (int i = 0; i != array.length; ++i)
-            array[i] = this.slots[i].value;
+            //noinspection unchecked
+            array[i] = (TElement) this.values[i];
         return array;
     }
 
@@ -102,7 +164,7 @@ final class Set<TElement> {
     public Object[] toArray() {
         Object[] array = new Object[this.count];
         for (int i = 0; i != array.length; ++i)
-            array[i] = this.slots[i].value;
+            array[i] = this.values[i];
         return array;
     }
 
@@ -111,7 +173,8 @@ final class Set<TElement> {
         int count = this.count;
         List<TElement> list = new ArrayList<>(count);
         for (int i = 0; i != count; ++i)
-            list.add(this.slots[i].value);
+            //noinspection unchecked
+            list.add((TElement) this.values[i]);
         return list;
     }
 
@@ -124,6 +187,7 @@ final class Set<TElement> {
     public void unionWith(IEnumerable<TElement> other) {
         assert other != null;
 
+        this.ensureCapacity(this.count + capacityOf(other));
         try (IEnumerator<TElement> enumerator = other.enumerator()) {
             while (enumerator.moveNext())
                 this.add(enumerator.current());
@@ -135,22 +199,18 @@ final class Set<TElement> {
         assert other != null;
         assert selector != null;
 
+        this.ensureCapacity(this.count + capacityOf(other));
         try (IEnumerator<TSource> enumerator = other.enumerator()) {
             while (enumerator.moveNext())
                 this.add(selector.apply(enumerator.current()));
         }
     }
 
-    // Gets the hash code of the provided value with its sign bit zeroed out, so that modulo has a positive result.
+    // Gets the hash code of the provided value with the high bits spread down, so that the power of two mask sees all of them.
     private int internalGetHashCode(TElement value) {
-        return value == null ? 0 : this.comparer.hashCode(value) & 0x7FFFFFFF;
-    }
-
-
-    // An entry in the hash set.
-    private final class Slot {//struct
-        private int hashCode;
-        private int next;
-        private TElement value;
+        if (value == null)
+            return 0;
+        int h = this.comparer.hashCode(value);
+        return h ^ (h >>> 16);
     }
 }
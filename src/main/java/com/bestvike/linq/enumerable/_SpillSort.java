@@ -0,0 +1,225 @@
+package com.bestvike.linq.enumerable;
+
+import com.bestvike.linq.IEnumerator;
+import com.bestvike.linq.ISerializer;
+import com.bestvike.linq.exception.ThrowHelper;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Created by 许崇雷 on 2026-10-17.
+ */
+final class SpillSortIterator<TElement> extends Iterator<TElement> {
+    private static final int BufferSize = 1 << 16;
+    private final AbstractOrderedEnumerable<TElement> source;
+    private final ISerializer<TElement> serializer;
+    private final Path tempDir;
+    private final int maxInMemoryRows;
+    private List<Path> runs;
+    private int[] runCounts;
+    private Object[] items;
+    private int[] map;
+    private int count;
+    private int index;
+    private AbstractEnumerableSorter<TElement> sorter;
+    private DataInputStream[] inputs;
+    private Object[] heads;
+    private int[] heap;
+    private int heapSize;
+
+    SpillSortIterator(AbstractOrderedEnumerable<TElement> source, ISerializer<TElement> serializer, Path tempDir, int maxInMemoryRows) {
+        assert source != null;
+        assert serializer != null;
+        assert maxInMemoryRows > 0;
+        this.source = source;
+        this.serializer = serializer;
+        this.tempDir = tempDir;
+        this.maxInMemoryRows = maxInMemoryRows;
+    }
+
+    @Override
+    public AbstractIterator<TElement> clone() {
+        return new SpillSortIterator<>(this.source, this.serializer, this.tempDir, this.maxInMemoryRows);
+    }
+
+    @Override
+    public boolean moveNext() {
+        try {
+            switch (this.state) {
+                case 1:
+                    this.spill();
+                    this.state = this.runs.isEmpty() ? 2 : 3;
+                    return this.moveNext();
+                case 2:
+                    if (this.index < this.count) {
+                        //noinspection unchecked
+                        this.current = (TElement) this.items[this.map[this.index++]];
+                        return true;
+                    }
+                    this.close();
+                    return false;
+                case 3:
+                    if (this.heapSize > 0) {
+                        int run = this.heap[0];
+                        //noinspection unchecked
+                        this.current = (TElement) this.heads[run];
+                        if (this.read(run))
+                            this.siftDown(0);
+                        else if (--this.heapSize > 0) {
+                            this.heap[0] = this.heap[this.heapSize];
+                            this.siftDown(0);
+                        }
+                        return true;
+                    }
+                    this.close();
+                    return false;
+                default:
+                    return false;
+            }
+        } catch (IOException e) {
+            this.close();
+            ThrowHelper.throwRuntimeException(e);
+            return false;
+        } catch (RuntimeException e) {
+            this.close();
+            throw e;
+        }
+    }
+
+    // Sorts runs of maxInMemoryRows with the sorter of the source and writes each to a temp file.
+    // A source which fits in one run is never written.
+    private void spill() throws IOException {
+        this.runs = new ArrayList<>();
+        this.runCounts = new int[4];
+        Object[] chunk = new Object[Math.min(this.maxInMemoryRows, 16)];
+        int count = 0;
+        try (IEnumerator<TElement> e = this.source.source.enumerator()) {
+            while (e.moveNext()) {
+                if (count == chunk.length) {
+                    if (count == this.maxInMemoryRows) {
+                        this.writeRun(chunk, count);
+                        count = 0;
+                    } else {
+                        chunk = Arrays.copyOf(chunk, (int) Math.min((long) count << 1, this.maxInMemoryRows));
+                    }
+                }
+                chunk[count++] = e.current();
+            }
+        }
+
+        if (this.runs.isEmpty()) {
+            this.items = chunk;
+            this.map = this.source.getEnumerableSorter().sort(chunk, count);
+            this.count = count;
+            return;
+        }
+        if (count > 0)
+            this.writeRun(chunk, count);
+        this.openRuns();
+    }
+
+    private void writeRun(Object[] chunk, int count) throws IOException {
+        int[] map = this.source.getEnumerableSorter().sort(chunk, count);
+        Path path = this.tempDir == null ? Files.createTempFile("linq", ".run") : Files.createTempFile(this.tempDir, "linq", ".run");
+        int run = this.runs.size();
+        this.runs.add(path);
+        if (run == this.runCounts.length)
+            this.runCounts = Arrays.copyOf(this.runCounts, run << 1);
+        this.runCounts[run] = count;
+        try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(path), BufferSize))) {
+            for (int i = 0; i < count; i++)
+                //noinspection unchecked
+                this.serializer.write(output, (TElement) chunk[map[i]]);
+        }
+        Arrays.fill(chunk, 0, count, null);
+    }
+
+    // Every run is a slot of the sorter holding its head. compareAnyKeys breaks ties by slot, earlier runs win and the merge is stable.
+    private void openRuns() throws IOException {
+        int runCount = this.runs.size();
+        this.sorter = this.source.getEnumerableSorter();
+        this.sorter.allocateKeys(runCount);
+        this.inputs = new DataInputStream[runCount];
+        this.heads = new Object[runCount];
+        this.heap = new int[runCount];
+        for (int run = 0; run < runCount; run++) {
+            this.inputs[run] = new DataInputStream(new BufferedInputStream(Files.newInputStream(this.runs.get(run)), BufferSize));
+            this.read(run);
+            this.heap[run] = run;
+        }
+        this.heapSize = runCount;
+        for (int i = (runCount >> 1) - 1; i >= 0; i--)
+            this.siftDown(i);
+    }
+
+    private boolean read(int run) throws IOException {
+        if (this.runCounts[run] == 0) {
+            this.heads[run] = null;
+            this.inputs[run].close();
+            return false;
+        }
+        this.runCounts[run]--;
+        this.heads[run] = this.serializer.read(this.inputs[run]);
+        this.sorter.computeKeys(this.heads, run, run + 1);
+        return true;
+    }
+
+    private void siftDown(int i) {
+        int[] heap = this.heap;
+        int size = this.heapSize;
+        int run = heap[i];
+        int half = size >> 1;
+        while (i < half) {
+            int child = 2 * i + 1;
+            if (child + 1 < size && this.sorter.compareAnyKeys(heap[child + 1], heap[child]) < 0)
+                child++;
+            if (this.sorter.compareAnyKeys(run, heap[child]) <= 0)
+                break;
+            heap[i] = heap[child];
+            i = child;
+        }
+        heap[i] = run;
+    }
+
+    @Override
+    public void close() {
+        if (this.inputs != null) {
+            for (DataInputStream input : this.inputs) {
+                if (input == null)
+                    continue;
+                try {
+                    input.close();
+                } catch (IOException ignored) {
+                    // best effort, the file is deleted below
+                }
+            }
+            this.inputs = null;
+        }
+        if (this.runs != null) {
+            for (Path run : this.runs) {
+                try {
+                    Files.deleteIfExists(run);
+                } catch (IOException ignored) {
+                    // best effort, the file stays in the temp dir
+                }
+            }
+            this.runs = null;
+        }
+        this.runCounts = null;
+        this.items = null;
+        this.map = null;
+        this.sorter = null;
+        this.heads = null;
+        this.heap = null;
+        super.close();
+    }
+}
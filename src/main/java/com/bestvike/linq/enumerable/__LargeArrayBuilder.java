@@ -135,7 +135,7 @@ final class LargeArrayBuilder<T> {//struct
         this.current[index.value] = item;
     }
 
-    private void copyTo(Object[] array, int arrayIndex, int count) {
+    public void copyTo(Object[] array, int arrayIndex, int count) {
         assert arrayIndex >= 0;
         assert count >= 0 && count <= this.getCount();
         assert array != null && array.length - arrayIndex >= count;
@@ -24,15 +24,33 @@ public enum ExceptionArgument {
     //extension
     action,
     array,
+    charset,
     clazz,
     collator,
+    column,
+    columns,
+    combineFunc,
     comparison,
+    decoder,
+    degreeOfParallelism,
     elements,
+    expectedGroupSize,
+    expectedKeyCount,
+    falsePositiveRate,
     formatter,
+    innerSerializer,
     iterable,
     list,
     locale,
+    maxInMemoryRows,
+    name,
     newSize,
     other,
+    outerSerializer,
+    partitionCount,
+    path,
+    recordLength,
+    seedFactory,
+    serializer,
     startIndex,
 }
@@ -2,6 +2,7 @@ package com.bestvike.linq.exception;
 
 import com.bestvike.linq.resources.SR;
 
+import java.nio.charset.Charset;
 import java.util.NoSuchElementException;
 
 /**
@@ -35,6 +36,10 @@ public final class ThrowHelper {
         throw new InvalidOperationException(SR.NoMatch);
     }
 
+    public static void throwNotSortedByKeyException() {
+        throw new InvalidOperationException(SR.NotSortedByKey);
+    }
+
     public static void throwNotSupportedException() {
         throw new NotSupportedException();
     }
@@ -59,6 +64,26 @@ public final class ThrowHelper {
         throw new ArgumentException(SR.ArgumentException_TupleLastArgumentNotATuple);
     }
 
+    public static void throwDuplicateColumnException(String name) {
+        throw new ArgumentException(String.format(SR.Argument_DuplicateColumn, name), ExceptionArgument.columns.name());
+    }
+
+    public static void throwColumnNotFoundException(String name) {
+        throw new ArgumentException(String.format(SR.Argument_ColumnNotFound, name), ExceptionArgument.name.name());
+    }
+
+    public static void throwColumnTooLargeException(String name) {
+        throw new InvalidOperationException(String.format(SR.ColumnTooLarge, name, Integer.MAX_VALUE));
+    }
+
+    public static void throwColumnTypeMismatchException(String name) {
+        throw new InvalidOperationException(String.format(SR.ColumnTypeMismatch, name));
+    }
+
+    public static void throwLineFeedNotSingleByteException(Charset charset) {
+        throw new ArgumentException(String.format(SR.Argument_LineFeedNotSingleByte, charset), ExceptionArgument.charset.name());
+    }
+
     public static void throwRuntimeException(Throwable cause) {
         throw new RuntimeException(cause);
     }
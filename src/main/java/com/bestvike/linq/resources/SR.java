@@ -14,15 +14,22 @@ public final class SR {
 
     public static final String EmptyIterable = "Iteration yielded no results.";
     public static final String EmptyEnumerable = "Enumeration yielded no results.";
+    public static final String MoreElementsNotShown = "More elements are not shown.";
     public static final String MoreThanOneElement = "Sequence contains more than one element.";
     public static final String MoreThanOneMatch = "Sequence contains more than one matching element.";
     public static final String NoElements = "Sequence contains no elements.";
     public static final String NoMatch = "Sequence contains no matching element.";
     public static final String NoSuchElement = "Sequence contains no such element.";
+    public static final String NotSortedByKey = "Sequence is not sorted by key.";
     public static final String Arg_IndexOutOfRangeException = "Index was outside the bounds of the array.";
     public static final String Argument_ImplementComparable = "At least one object must implement Comparable.";
     public static final String ArgumentException_TupleIncorrectType = "Argument must be of type %s.";
     public static final String ArgumentException_TupleLastArgumentNotATuple = "The last element of an eight element tuple must be a Tuple.";
+    public static final String Argument_DuplicateColumn = "A column named '%s' was already added.";
+    public static final String Argument_ColumnNotFound = "The column '%s' does not exist.";
+    public static final String Argument_LineFeedNotSingleByte = "The charset %s does not encode a line feed as the single byte 0x0A.";
+    public static final String ColumnTooLarge = "The column '%s' needs more than %d bytes, the most one column can hold.";
+    public static final String ColumnTypeMismatch = "The column '%s' does not hold values of the requested type.";
 
     private SR() {
     }
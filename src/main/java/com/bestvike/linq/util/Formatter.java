@@ -5,6 +5,7 @@ import com.bestvike.linq.IEnumerable;
 import com.bestvike.linq.IEnumerator;
 import com.bestvike.linq.exception.ThrowHelper;
 
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.Field;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
@@ -301,17 +302,18 @@ public final class Formatter {
             sb.append(this.objectEmpty);
             return;
         }
+        MethodHandle[] getters = ReflectionUtils.getGetters(clazz);
         sb.append(this.objectPrefix);
         try {
-            Field field = fields[0];
-            sb.append(field.getName()).append(this.objectFieldValueSeparator);
-            this.format(field.get(obj), sb);
+            sb.append(fields[0].getName()).append(this.objectFieldValueSeparator);
+            this.format(getters[0].invoke(obj), sb);
             for (int i = 1; i < fields.length; i++) {
-                field = fields[i];
-                sb.append(this.objectFieldSeparator).append(field.getName()).append(this.objectFieldValueSeparator);
-                this.format(field.get(obj), sb);
+                sb.append(this.objectFieldSeparator).append(fields[i].getName()).append(this.objectFieldValueSeparator);
+                this.format(getters[i].invoke(obj), sb);
             }
-        } catch (IllegalAccessException e) {
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
             ThrowHelper.throwRuntimeException(e);
         }
         sb.append(this.objectSuffix);
@@ -1,8 +1,12 @@
 package com.bestvike.linq.util;
 
+import com.bestvike.ImmutableValueType;
 import com.bestvike.linq.exception.ExceptionArgument;
 import com.bestvike.linq.exception.ThrowHelper;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
 import java.util.ArrayList;
@@ -15,6 +19,7 @@ import java.util.concurrent.ConcurrentHashMap;
  */
 public final class ReflectionUtils {
     private static final Map<Class<?>, Field[]> CLASS_FIELDS_MAP = new ConcurrentHashMap<>();
+    private static final Map<Class<?>, MethodHandle[]> CLASS_GETTERS_MAP = new ConcurrentHashMap<>();
 
     private ReflectionUtils() {
     }
@@ -26,7 +31,8 @@ public final class ReflectionUtils {
 
         return CLASS_FIELDS_MAP.computeIfAbsent(clazz, cls -> {
             List<Field> fields = new ArrayList<>();
-            while (cls != Object.class) {
+            // the hash kept by ImmutableValueType is not a field of the value.
+            while (cls != Object.class && cls != ImmutableValueType.class) {
                 Field[] declaredFields = cls.getDeclaredFields();
                 for (Field field : declaredFields) {
                     if (Modifier.isStatic(field.getModifiers()))
@@ -39,4 +45,25 @@ public final class ReflectionUtils {
             return fields.toArray(new Field[fields.size()]);
         });
     }
+
+    // get getters of all instance fields, in the order of getFields. type of a getter is (Object)Object, or (Object)primitive for a primitive field.
+    public static MethodHandle[] getGetters(Class<?> clazz) {
+        if (clazz == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.clazz);
+
+        return CLASS_GETTERS_MAP.computeIfAbsent(clazz, cls -> {
+            Field[] fields = getFields(cls);
+            MethodHandle[] getters = new MethodHandle[fields.length];
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            try {
+                for (int i = 0; i < fields.length; i++) {
+                    Class<?> type = fields[i].getType();
+                    getters[i] = lookup.unreflectGetter(fields[i]).asType(MethodType.methodType(type.isPrimitive() ? type : Object.class, Object.class));
+                }
+            } catch (IllegalAccessException e) {
+                ThrowHelper.throwRuntimeException(e);
+            }
+            return getters;
+        });
+    }
 }
@@ -3,6 +3,8 @@ package com.bestvike;
 import com.bestvike.collections.generic.ICollection;
 import com.bestvike.linq.IEnumerable;
 import com.bestvike.linq.Linq;
+import com.bestvike.linq.enumerable.Values;
+import com.bestvike.linq.util.ReflectionUtils;
 import org.junit.Before;
 import org.junit.Test;
 
@@ -184,6 +186,52 @@ public class ValueTypeTest extends TestCase {
         assertEquals("MoreFieldBean{nullField=null, decimal=123.456000, boolArr=[true, false, true], byteArr=[-128, 2, 126, 127], shortArr=[-32768, 2, 3, 32767], intArr=[-2147483648, 2, 3, 2147483647], longArr=[-9223372036854775808, 2, 3, 9223372036854775807], charArr=[\u0000, #, !, $, a], floatArr=[-Infinity, Infinity, 1.4E-45, 3.4028235E38], doubleArr=[-Infinity, Infinity, 4.9E-324, 1.7976931348623157E308], objArr=[null, '!@#$%^&*()_+', 123.456000, 9999999.100000, NoFieldBean{}], objArr2=[null, 355.990000], iCollection=[null, '', '', '你好世界'], listProvider=['null_suffix', '_suffix', '_suffix', '你好世界_suffix'], enumerable=['', '', '你好世界'], collection=[null, '', '', '你好世界'], iterable=[null, '', '', '你好世界'], map=HashMap{null='hello', ''=OneFieldBean{Name='世界'}, 'a'=1, 'key'=123.000000}, bean=TwoFieldBean{Name='Tim', Score=1239}}", this.moreFieldBean.toString());
     }
 
+    @Test
+    public void testImmutable() {
+        ImmutableBean bean = new ImmutableBean("Robert", new int[]{1, 2}, m("1.5"));
+        ImmutableBean other = new ImmutableBean("Robert", new int[]{1, 2}, m("1.50"));
+        assertEquals("ImmutableBean{name='Robert', scores=[1, 2], amount=1.500000}", bean.toString());
+        assertTrue(bean.equals(other));
+        assertEquals(Values.hashCode(new MutableBean("Robert", new int[]{1, 2}, m("1.5"))), bean.hashCode());
+        assertEquals(bean.hashCode(), bean.hashCode());
+        assertTrue(bean.equals(other));
+        assertEquals(bean.hashCode(), other.hashCode());
+        assertTrue(other.equals(bean));
+        assertEquals(0, ReflectionUtils.getFields(NoFieldImmutableBean.class).length);
+        assertEquals(new NoFieldImmutableBean(), new NoFieldImmutableBean());
+
+        ImmutableBean different = new ImmutableBean("Robert", new int[]{1, 3}, m("1.5"));
+        assertFalse(bean.equals(different));
+        assertNotEquals(bean.hashCode(), different.hashCode());
+        assertFalse(bean.equals(different));
+        assertFalse(bean.equals(new MutableBean("Robert", new int[]{1, 2}, m("1.5"))));
+        assertEquals(2, Linq.of(bean, different, other).distinct().count());
+    }
+
+
+    @Test
+    public void testImmutableNested() {
+        ImmutableBean inner = new ImmutableBean("Robert", new int[]{1, 2}, m("1.5"));
+        NestedBean key = new NestedBean(inner, 7);
+        NestedBean same = new NestedBean(new ImmutableBean("Robert", new int[]{1, 2}, m("1.50")), 7);
+        int hash = key.hashCode();
+        assertEquals(hash, same.hashCode());
+        assertTrue(key.equals(same));
+        assertEquals(1, Linq.of(key, same).distinct().count());
+
+        // The nested key is hashed through its kept hash, so changing the state it must not change goes unnoticed.
+        inner.scores[0] = 99;
+        assertEquals(hash, key.hashCode());
+        assertNotEquals(Values.fieldsHashCode(inner), Values.hashCode(inner));
+        assertEquals(inner.hashCode(), Values.hashCode(inner));
+        assertEquals(hash, Values.hashCode(key));
+
+        // Kept hashes that differ decide equality without comparing fields.
+        assertFalse(new ImmutableBean("Robert", new int[]{1, 3}, m("1.5")).equals(same.inner));
+        assertFalse(key.equals(new NestedBean(inner, 8)));
+        assertFalse(inner.equals(null));
+        assertFalse(inner.equals(new MutableBean("Robert", new int[]{99, 2}, m("1.5"))));
+    }
 
     private static class NoFieldBean extends ValueType {
     }
@@ -227,4 +275,41 @@ public class ValueTypeTest extends TestCase {
         private Map<?, ?> map;
         private TwoFieldBean bean;
     }
+
+    private static class ImmutableBean extends ImmutableValueType {
+        final String name;
+        final int[] scores;
+        final BigDecimal amount;
+
+        private ImmutableBean(String name, int[] scores, BigDecimal amount) {
+            this.name = name;
+            this.scores = scores;
+            this.amount = amount;
+        }
+    }
+
+    private static class MutableBean extends ValueType {
+        final String name;
+        final int[] scores;
+        final BigDecimal amount;
+
+        private MutableBean(String name, int[] scores, BigDecimal amount) {
+            this.name = name;
+            this.scores = scores;
+            this.amount = amount;
+        }
+    }
+
+    private static class NestedBean extends ValueType {
+        final ImmutableBean inner;
+        final int count;
+
+        private NestedBean(ImmutableBean inner, int count) {
+            this.inner = inner;
+            this.count = count;
+        }
+    }
+
+    private static class NoFieldImmutableBean extends ImmutableValueType {
+    }
 }
@@ -0,0 +1,62 @@
+package com.bestvike.collections.generic;
+
+import com.bestvike.TestCase;
+import com.bestvike.linq.IEnumerable;
+import com.bestvike.linq.Linq;
+import com.bestvike.linq.enumerable.Values;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+
+/**
+ * Created by 许崇雷 on 2026-10-17.
+ */
+public class HashedKeyTest extends TestCase {
+    @Test
+    public void testEqualsAndHashCode() {
+        HashedKey<String> a = HashedKey.of("abc", StringComparer.OrdinalIgnoreCase);
+        HashedKey<String> b = HashedKey.of("ABC", StringComparer.OrdinalIgnoreCase);
+        assertTrue(a.equals(b));
+        assertEquals(a.hashCode(), b.hashCode());
+        assertEquals(StringComparer.OrdinalIgnoreCase.hashCode("abc"), a.hashCode());
+        assertFalse(a.equals(HashedKey.of("abd", StringComparer.OrdinalIgnoreCase)));
+        assertFalse(a.equals("abc"));
+        assertFalse(a.equals(null));
+        assertFalse(HashedKey.of("abc").equals(HashedKey.of("ABC")));
+        assertTrue(HashedKey.of("abc", null).equals(HashedKey.of("abc")));
+
+        HashedKey<String> nullKey = HashedKey.of(null, StringComparer.OrdinalIgnoreCase);
+        assertEquals(0, nullKey.hashCode());
+        assertTrue(nullKey.equals(HashedKey.of(null, StringComparer.OrdinalIgnoreCase)));
+        assertFalse(nullKey.equals(HashedKey.of("", StringComparer.OrdinalIgnoreCase)));
+        assertNull(nullKey.getValue());
+        assertEquals("null", nullKey.toString());
+        assertEquals("ABC", b.toString());
+        assertEquals("ABC", b.getValue());
+    }
+
+    @Test
+    public void testAsKeys() {
+        IEnumerable<String> source = Linq.of("a", "B", "b", "A", "c", null, "C", "a");
+        IEnumerable<HashedKey<String>> keys = Linq.of(source.select(s -> HashedKey.of(s, StringComparer.OrdinalIgnoreCase)).toList());
+        assertEquals(Linq.of("a", "B", "c", null), keys.distinct().select(HashedKey::getValue));
+        assertEquals(Linq.of(3, 2, 2, 1), keys.groupBy(k -> k).select(g -> g.count()));
+        assertTrue(keys.contains(HashedKey.of("C", StringComparer.OrdinalIgnoreCase)));
+        assertFalse(keys.contains(HashedKey.of("d", StringComparer.OrdinalIgnoreCase)));
+        assertEquals(Linq.of("a", "A", "a"), keys.join(Linq.singleton(HashedKey.of("A", StringComparer.OrdinalIgnoreCase)), k -> k, k -> k, (x, y) -> x.getValue()));
+    }
+
+    @Test
+    public void testOfValue() {
+        HashedKey<int[]> a = HashedKey.ofValue(new int[]{1, 2, 3});
+        assertTrue(a.equals(HashedKey.ofValue(new int[]{1, 2, 3})));
+        assertFalse(a.equals(HashedKey.ofValue(new int[]{1, 2})));
+        assertFalse(HashedKey.of(new int[]{1, 2, 3}).equals(HashedKey.of(new int[]{1, 2, 3})));
+        assertEquals(Values.hashCode(new int[]{1, 2, 3}), a.hashCode());
+        assertTrue(HashedKey.ofValue(new BigDecimal("1.5")).equals(HashedKey.ofValue(new BigDecimal("1.500"))));
+        assertEquals(HashedKey.ofValue(new BigDecimal("1.5")).hashCode(), HashedKey.ofValue(new BigDecimal("1.500")).hashCode());
+
+        IEnumerable<HashedKey<BigDecimal>> keys = Linq.of(new BigDecimal("1"), new BigDecimal("1.0"), new BigDecimal("2"), null, new BigDecimal("1.00")).select(HashedKey::ofValue);
+        assertEquals(Linq.of(3, 1, 1), keys.groupBy(k -> k).select(g -> g.count()));
+    }
+}
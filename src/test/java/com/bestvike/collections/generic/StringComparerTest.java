@@ -100,6 +100,27 @@ public class StringComparerTest extends TestCase {
         assertEquals(StringComparer.OrdinalIgnoreCase.hashCode(a), StringComparer.OrdinalIgnoreCase.hashCode(b));
     }
 
+    @Test
+    public void testHashCodeIgnoreCaseFollowsEquals() {
+        String[] strings = {"", "a", "A", "abc123你好", "AbC123你好", "i", "I", "ı", "İ", "k", "K", "\u212A", "s", "S", "ſ", "ß", "SS", "é", "É", "\uD801\uDC00", "\uD801\uDC28", "σ", "Σ", "ς"};
+        Locale current = Locale.getDefault();
+        try {
+            Locale.setDefault(new Locale("tr", "TR"));
+            for (StringComparer comparer : new StringComparer[]{StringComparer.OrdinalIgnoreCase, StringComparer.CurrentCultureIgnoreCase, StringComparer.InvariantCultureIgnoreCase}) {
+                for (String x : strings) {
+                    for (String y : strings) {
+                        if (comparer.equals(x, y))
+                            assertEquals(comparer.hashCode(x), comparer.hashCode(y));
+                    }
+                }
+            }
+        } finally {
+            Locale.setDefault(current);
+        }
+        assertEquals(StringComparer.OrdinalIgnoreCase.hashCode("hello world"), StringComparer.OrdinalIgnoreCase.hashCode("HELLO World"));
+        assertNotEquals(StringComparer.OrdinalIgnoreCase.hashCode("hello"), StringComparer.OrdinalIgnoreCase.hashCode("hallo"));
+    }
+
     @Test
     public void testCompare() {
         String a = "abc123你好";
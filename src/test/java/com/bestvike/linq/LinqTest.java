@@ -1,11 +1,19 @@
 package com.bestvike.linq;
 
 import com.bestvike.TestCase;
+import com.bestvike.linq.exception.ArgumentException;
 import com.bestvike.linq.exception.ArgumentNullException;
+import com.bestvike.linq.exception.ArgumentOutOfRangeException;
 import com.bestvike.linq.exception.NotSupportedException;
 import com.bestvike.linq.util.ArrayUtils;
 import org.junit.Test;
 
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Enumeration;
@@ -305,4 +313,97 @@ public class LinqTest extends TestCase {
         assertEquals(0, integers.count());
         assertTrue(Linq.of(array).sequenceEqual(integers));
     }
+
+    @Test
+    public void testLines() throws IOException {
+        Path file = Files.createTempFile("linq", ".txt");
+        try {
+            List<String> lines = Linq.range(0, 3000).select(x -> x % 7 == 0 ? "" : "行" + x).toList();
+            Files.write(file, Linq.of(lines).select(x -> x.endsWith("1") ? x + "\r" : x).toList(), StandardCharsets.UTF_8);
+            IEnumerable<String> source = Linq.ofLines(file);
+
+            assertEquals(Linq.of(lines), source);
+            assertEquals(3000, source.count());
+            assertEquals("行2999", source.last());
+            assertEquals("行1002", source.elementAt(1002));
+            assertEquals(Linq.of(lines).skip(1500).take(5), source.skip(1500).take(5));
+            assertEquals(Linq.of(lines).where(x -> x.length() > 4), Linq.of(source.asParallel().withDegreeOfParallelism(3).asOrdered().where(x -> x.length() > 4).toList()));
+            assertThrows(ArgumentOutOfRangeException.class, () -> source.elementAt(3000));
+
+            Files.write(file, "a\n\nb".getBytes(StandardCharsets.UTF_8));
+            assertEquals(Linq.of("a", "", "b"), Linq.ofLines(file));
+            assertEquals(Linq.of("b", ""), Linq.ofLines(file).reverse().take(2));
+            Files.write(file, new byte[0]);
+            assertEmpty(Linq.ofLines(file));
+            assertEquals(0, Linq.ofLines(file).count());
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    public void testRecords() throws IOException {
+        Path file = Files.createTempFile("linq", ".dat");
+        try {
+            Files.write(file, Arrays.asList("1,a,", ",b,x", "3"), StandardCharsets.UTF_8);
+            IEnumerable<String[]> delimited = Linq.ofRecords(file, ',');
+
+            assertEquals(3, delimited.count());
+            assertEquals(Linq.of("1", "a", ""), Linq.of(delimited.first()));
+            assertEquals(Linq.of("", "b", "x"), Linq.of(delimited.elementAt(1)));
+            assertEquals(Linq.singleton("3"), Linq.of(delimited.last()));
+
+            ByteBuffer buffer = ByteBuffer.allocate(12 * 1000 + 5);
+            for (int i = 0; i < 1000; i++)
+                buffer.putInt(i).putLong(i * 3L);
+            Files.write(file, buffer.array());
+            IEnumerable<Long> fixed = Linq.ofRecords(file, 12, record -> record.getInt(0) + record.getLong(4));
+
+            assertEquals(1000, fixed.count());
+            assertEquals(Linq.range(0, 1000).select(x -> x * 4L), fixed);
+            assertEquals(2000L, fixed.elementAt(500));
+            assertEquals(Linq.of(3996L), fixed.skip(999));
+            assertEquals(Linq.range(0, 1000).sumLong(x -> x * 4L), (long) fixed.asParallel().withDegreeOfParallelism(4).aggregate((a, b) -> a + b));
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    public void testFilesThrows() {
+        assertThrows(ArgumentNullException.class, () -> Linq.ofLines(null));
+        assertThrows(ArgumentNullException.class, () -> Linq.ofLines(Paths.get("a"), null));
+        assertThrows(ArgumentException.class, () -> Linq.ofLines(Paths.get("a"), StandardCharsets.UTF_16));
+        assertThrows(ArgumentOutOfRangeException.class, () -> Linq.ofRecords(Paths.get("a"), 0, record -> record.get(0)));
+        assertThrows(ArgumentOutOfRangeException.class, () -> Linq.ofRecords(Paths.get("a"), (1 << 30) + 1, record -> record.get(0)));
+        assertThrows(ArgumentNullException.class, () -> Linq.ofRecords(Paths.get("a"), 4, null));
+        assertThrows(RuntimeException.class, () -> Linq.ofLines(Paths.get("no such file")).count());
+    }
+
+    @Test
+    public void testFilesLazy() throws IOException {
+        Path missing = Paths.get("no such file");
+        IEnumerable<String> lines = Linq.ofLines(missing).where(x -> !x.isEmpty()).select(String::trim).skip(1).take(2);
+        IEnumerable<String[]> delimited = Linq.ofRecords(missing, ',');
+        IEnumerable<Integer> fixed = Linq.ofRecords(missing, 4, ByteBuffer::getInt).select(x -> x + 1).skip(1).take(2);
+        assertThrows(RuntimeException.class, () -> lines.enumerator().moveNext());
+        assertThrows(RuntimeException.class, () -> delimited.enumerator().moveNext());
+        assertThrows(RuntimeException.class, () -> fixed.enumerator().moveNext());
+
+        Path file = Files.createTempFile("linq", ".txt");
+        try {
+            IEnumerable<String> source = Linq.ofLines(file);
+            IEnumerable<String> skipped = source.skip(1);
+            Files.write(file, Arrays.asList("a", "b", "c"), StandardCharsets.UTF_8);
+            assertEquals(Linq.of("a", "b", "c"), source);
+            assertEquals(Linq.of("b", "c"), skipped);
+            Files.write(file, Arrays.asList("x", "y"), StandardCharsets.UTF_8);
+            assertEquals(Linq.of("x", "y"), source);
+            assertEquals(2, source.count());
+            assertEquals("y", skipped.single());
+            assertEquals("y", source.last());
+        } finally {
+            Files.delete(file);
+        }
+    }
 }
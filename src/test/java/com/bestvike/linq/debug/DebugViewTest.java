@@ -0,0 +1,91 @@
+package com.bestvike.linq.debug;
+
+import com.bestvike.TestCase;
+import com.bestvike.linq.IEnumerable;
+import com.bestvike.linq.Linq;
+import com.bestvike.linq.resources.SR;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Created by 许崇雷 on 2026-10-17.
+ */
+public class DebugViewTest extends TestCase {
+    @Test
+    public void CachedByIdentity() {
+        List<Integer> first = new ArrayList<>(Arrays.asList(1, 2, 3));
+        List<Integer> second = new ArrayList<>(Arrays.asList(1, 2, 3));
+        assertEquals(first, second);
+        Object firstProxy = DebugView.getDebuggerTypeProxy(first);
+        Object secondProxy = DebugView.getDebuggerTypeProxy(second);
+        assertNotSame(firstProxy, secondProxy);
+        assertSame(firstProxy, DebugView.getDebuggerTypeProxy(first));
+        assertSame(secondProxy, DebugView.getDebuggerTypeProxy(second));
+    }
+
+    @Test
+    public void LeastRecentlyUsedEvicted() {
+        IEnumerable<Integer> source = Linq.range(0, 3);
+        Object proxy = DebugView.getDebuggerTypeProxy(source);
+        for (int i = 0; i < DebugView.MaxCacheSize; i++)
+            DebugView.getDebuggerTypeProxy(Linq.range(i, 2));
+        Object recomputed = DebugView.getDebuggerTypeProxy(source);
+        assertNotSame(proxy, recomputed);
+        assertEquals(Linq.of((Object[]) proxy), Linq.of((Object[]) recomputed));
+    }
+
+    @Test
+    public void DisplayDoesNotMaterialize() {
+        Iterable<Integer> untouched = () -> new Iterator<Integer>() {
+            @Override
+            public boolean hasNext() {
+                throw new AssertionError("enumerated");
+            }
+
+            @Override
+            public Integer next() {
+                throw new AssertionError("enumerated");
+            }
+        };
+        assertEquals(untouched.getClass().getName(), DebugView.getDebuggerDisplay(untouched));
+    }
+
+    @Test
+    public void SnapshotCapped() {
+        Object[] values = (Object[]) DebugView.getDebuggerTypeProxy(Linq.range(0, DebugView.MaxElementCount * 10));
+        assertEquals(DebugView.MaxElementCount + 1, values.length);
+        assertEquals(DebugView.MaxElementCount - 1, values[DebugView.MaxElementCount - 1]);
+        assertEquals(SR.MoreElementsNotShown, values[DebugView.MaxElementCount]);
+
+        values = (Object[]) DebugView.getDebuggerTypeProxy(Linq.range(0, DebugView.MaxElementCount));
+        assertEquals(DebugView.MaxElementCount, values.length);
+        assertEquals(DebugView.MaxElementCount - 1, values[DebugView.MaxElementCount - 1]);
+
+        Iterable<Integer> infinite = () -> new Iterator<Integer>() {
+            private int next;
+
+            @Override
+            public boolean hasNext() {
+                return true;
+            }
+
+            @Override
+            public Integer next() {
+                return this.next++;
+            }
+        };
+        values = (Object[]) DebugView.getDebuggerTypeProxy(infinite);
+        assertEquals(DebugView.MaxElementCount + 1, values.length);
+        assertEquals(SR.MoreElementsNotShown, values[DebugView.MaxElementCount]);
+
+        values = (Object[]) DebugView.getDebuggerTypeProxy(Linq.range(0, DebugView.MaxElementCount * 2).groupBy(x -> 0).first());
+        assertEquals(DebugView.MaxElementCount + 1, values.length);
+        values = (Object[]) DebugView.getDebuggerTypeProxy(Linq.range(0, DebugView.MaxElementCount * 2).toLookup(x -> x));
+        assertEquals(DebugView.MaxElementCount + 1, values.length);
+        assertEquals(SR.MoreElementsNotShown, values[DebugView.MaxElementCount]);
+    }
+}
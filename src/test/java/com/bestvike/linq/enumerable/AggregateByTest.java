@@ -0,0 +1,87 @@
+package com.bestvike.linq.enumerable;
+
+import com.bestvike.TestCase;
+import com.bestvike.collections.generic.StringComparer;
+import com.bestvike.function.DoubleFunc1;
+import com.bestvike.function.Func0;
+import com.bestvike.function.Func1;
+import com.bestvike.function.Func2;
+import com.bestvike.function.IntFunc1;
+import com.bestvike.function.LongFunc1;
+import com.bestvike.linq.IEnumerable;
+import com.bestvike.linq.Linq;
+import com.bestvike.linq.exception.ArgumentNullException;
+import com.bestvike.tuple.Tuple;
+import com.bestvike.tuple.Tuple2;
+import org.junit.Test;
+
+/**
+ * Created by 许崇雷 on 2026-10-17.
+ */
+public class AggregateByTest extends TestCase {
+    private static final IEnumerable<Integer> Source = ScrambleFixture.scrambled(10000, 10007).select(x -> x - 5000);
+
+    @Test
+    public void SameResultsAsGroupBy() {
+        Func1<Integer, Integer> keySelector = x -> x % 17;
+
+        assertEquals(Source.groupBy(keySelector).select(g -> Tuple.create(g.getKey(), g.count())), Source.countBy(keySelector));
+        assertEquals(Source.groupBy(keySelector).select(g -> Tuple.create(g.getKey(), g.sumInt())), Source.sumIntBy(keySelector, x -> x));
+        assertEquals(Source.groupBy(keySelector).select(g -> Tuple.create(g.getKey(), g.minInt())), Source.minIntBy(keySelector, x -> x));
+        assertEquals(Source.groupBy(keySelector).select(g -> Tuple.create(g.getKey(), g.maxInt())), Source.maxIntBy(keySelector, x -> x));
+        assertEquals(Source.groupBy(keySelector).select(g -> Tuple.create(g.getKey(), g.sumLong(x -> x * 3L))), Source.sumLongBy(keySelector, x -> x * 3L));
+        assertEquals(Source.groupBy(keySelector).select(g -> Tuple.create(g.getKey(), g.minLong(x -> x * 3L))), Source.minLongBy(keySelector, x -> x * 3L));
+        assertEquals(Source.groupBy(keySelector).select(g -> Tuple.create(g.getKey(), g.maxLong(x -> x * 3L))), Source.maxLongBy(keySelector, x -> x * 3L));
+        assertEquals(Source.groupBy(keySelector).select(g -> Tuple.create(g.getKey(), g.sumDouble(x -> x / 4.0))), Source.sumDoubleBy(keySelector, x -> x / 4.0));
+        assertEquals(Source.groupBy(keySelector).select(g -> Tuple.create(g.getKey(), g.minDouble(x -> x / 4.0))), Source.minDoubleBy(keySelector, x -> x / 4.0));
+        assertEquals(Source.groupBy(keySelector).select(g -> Tuple.create(g.getKey(), g.maxDouble(x -> x / 4.0))), Source.maxDoubleBy(keySelector, x -> x / 4.0));
+        assertEquals(Source.groupBy(keySelector).select(g -> Tuple.create(g.getKey(), g.aggregate("", (s, x) -> s + x))), Source.aggregateBy(keySelector, () -> "", (s, x) -> s + x));
+    }
+
+    @Test
+    public void KeysInFirstSeenOrder() {
+        IEnumerable<String> source = Linq.of("b", "a", "B", "c", "a", null, "b", null);
+
+        assertEquals(Linq.of(Tuple.create("b", 2), Tuple.create("a", 2), Tuple.create("B", 1), Tuple.create("c", 1), Tuple.create((String) null, 2)), source.countBy(x -> x));
+        assertEquals(Linq.of(Tuple.create("b", 3), Tuple.create("a", 2), Tuple.create("c", 1), Tuple.create((String) null, 2)), source.countBy(x -> x, StringComparer.OrdinalIgnoreCase));
+        assertEquals(Linq.of(Tuple.create("b", "bBb"), Tuple.create("a", "aa"), Tuple.create("c", "c")), source.where(x -> x != null).aggregateBy(x -> x, () -> "", (s, x) -> s + x, StringComparer.OrdinalIgnoreCase));
+    }
+
+    @Test
+    public void SeedPerKey() {
+        IEnumerable<Tuple2<Integer, StringBuilder>> q = Linq.range(0, 6).aggregateBy(x -> x % 2, StringBuilder::new, StringBuilder::append);
+
+        assertEquals(Linq.of("024", "135"), q.select(t -> t.getItem2().toString()));
+        assertEquals(Linq.of("024", "135"), q.select(t -> t.getItem2().toString()));
+    }
+
+    @Test
+    public void DoubleNaN() {
+        IEnumerable<Double> source = Linq.of(5.58, Double.NaN, 30.0, Double.NaN, 4.55, 19.38, Double.NaN, 1.0);
+        Func1<Double, Integer> keySelector = x -> Double.isNaN(x) ? 0 : (int) (x % 2);
+
+        assertEquals(source.groupBy(keySelector).select(g -> Tuple.create(g.getKey(), g.minDouble())), source.minDoubleBy(keySelector, x -> x));
+        assertEquals(source.groupBy(keySelector).select(g -> Tuple.create(g.getKey(), g.maxDouble())), source.maxDoubleBy(keySelector, x -> x));
+        assertEquals(Linq.of(Tuple.create(1, 30.0)), Linq.of(Double.NaN, 30.0, Double.NaN).maxDoubleBy(x -> 1, x -> x));
+        assertEquals(Linq.of(Tuple.create(1, Double.NaN)), Linq.of(1.0, Double.NaN, 30.0).minDoubleBy(x -> 1, x -> x));
+    }
+
+    @Test
+    public void EmptyAndOverflow() {
+        assertEmpty(Linq.<Integer>empty().countBy(x -> x));
+        assertEmpty(Linq.<Integer>empty().sumLongBy(x -> x, x -> x));
+        assertThrows(ArithmeticException.class, () -> Linq.of(Integer.MAX_VALUE, 1).sumIntBy(x -> 0, x -> x).toList());
+        assertThrows(ArithmeticException.class, () -> Linq.of(Long.MAX_VALUE, 1L).sumLongBy(x -> 0, x -> x).toList());
+    }
+
+    @Test
+    public void ThrowsOnNull() {
+        assertThrows(ArgumentNullException.class, () -> AggregateBy.countBy(null, x -> x));
+        assertThrows(ArgumentNullException.class, () -> Linq.range(0, 1).countBy(null));
+        assertThrows(ArgumentNullException.class, () -> Linq.range(0, 1).sumIntBy(x -> x, (IntFunc1<Integer>) null));
+        assertThrows(ArgumentNullException.class, () -> Linq.range(0, 1).maxLongBy(x -> x, (LongFunc1<Integer>) null));
+        assertThrows(ArgumentNullException.class, () -> Linq.range(0, 1).minDoubleBy(null, (DoubleFunc1<Integer>) x -> x));
+        assertThrows(ArgumentNullException.class, () -> Linq.range(0, 1).aggregateBy(x -> x, (Func0<Integer>) null, (a, x) -> a + x));
+        assertThrows(ArgumentNullException.class, () -> Linq.range(0, 1).aggregateBy(x -> x, () -> 0, (Func2<Integer, Integer, Integer>) null));
+    }
+}
@@ -59,4 +59,13 @@ public class DistinctByTest extends TestCase {
         assertEquals(1, distinctIterator._getCount(false));
         assertEquals(1, enumerable.count());
     }
+
+    @Test
+    public void testDistinctByPrimitiveKeys() {
+        IEnumerable<Integer> source = ScrambleFixture.scrambled(5000, 301).select(x -> x - 150).concat(Linq.of(Integer.MIN_VALUE, 0, Integer.MIN_VALUE));
+
+        assertEquals(source.distinctBy(x -> x), source.distinctByInt(x -> x));
+        assertEquals(source.distinctBy(x -> x / 3L), source.distinctByLong(x -> x / 3L));
+        assertEquals(Linq.of("a", "bb"), Linq.of("a", "bb", "c", "dd", "").distinctByInt(String::length).take(2));
+    }
 }
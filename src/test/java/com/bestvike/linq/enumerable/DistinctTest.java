@@ -287,4 +287,14 @@ public class DistinctTest extends TestCase {
         };
         assertEquals(2, Linq.of(emps2).distinct(comparer).count());
     }
+
+    @Test
+    public void HashCodesDifferInHighBitsOnly() {
+        IEnumerable<Integer> source = Linq.range(0, 5000).select(x -> x << 16);
+
+        assertEquals(source, source.concat(source).distinct());
+        assertEquals(source, source.toArray().concat(source).distinct().toArray());
+        assertEquals(source.skip(100), source.except(source.take(100)));
+        assertEquals(source.take(100), source.intersect(source.take(100).toArray()));
+    }
 }
@@ -0,0 +1,60 @@
+package com.bestvike.linq.enumerable;
+
+import com.bestvike.TestCase;
+import com.bestvike.linq.IDoubleEnumerable;
+import com.bestvike.linq.Linq;
+import com.bestvike.linq.exception.ArgumentNullException;
+import com.bestvike.linq.exception.InvalidOperationException;
+import org.junit.Test;
+
+/**
+ * Created by 许崇雷 on 2026-10-17.
+ */
+public class DoubleEnumerableTest extends TestCase {
+    @Test
+    public void WhereSelectSum() {
+        double[] source = {1, 2, 3, 4, 5, 6, 7, 8, 9, 10};
+        IDoubleEnumerable q = Linq.ofDouble(source).where(x -> x > 5).select(x -> x / 2);
+
+        assertEquals(Linq.of(new double[]{3, 3.5, 4, 4.5, 5}), Linq.of(q.toArray()));
+        assertEquals(20.0, q.sum());
+        assertEquals(5, q.count());
+        assertEquals(3.0, q.min());
+        assertEquals(5.0, q.max());
+        assertEquals(4.0, q.average());
+    }
+
+    @Test
+    public void NaN() {
+        double[] source = {5.58, Double.NaN, 30, 4.55, 19.38};
+
+        assertEquals(Linq.of(source).minDouble(), Linq.ofDouble(source).min());
+        assertEquals(Linq.of(source).maxDouble(), Linq.ofDouble(source).max());
+        assertTrue(Double.isNaN(Linq.ofDouble(new double[]{Double.NaN, Double.NaN}).max()));
+        assertTrue(Double.isNaN(Linq.ofDouble(source).sum()));
+    }
+
+    @Test
+    public void SkipTakeDistinct() {
+        double[] source = {0.0, -0.0, Double.NaN, 1.5, Double.NaN, 1.5, 2.5};
+
+        assertEquals(Linq.of(source).distinct(), Linq.ofDouble(source).distinct().boxed());
+        assertEquals(Linq.of(new double[]{1.5, 2.5}), Linq.of(Linq.ofDouble(source).skip(5).take(5).toArray()));
+    }
+
+    @Test
+    public void SelectDouble() {
+        assertEquals(3.0, Linq.of("a", "bb", "ccc").selectDouble(x -> x.length() / 2.0).sum());
+    }
+
+    @Test
+    public void Empty() {
+        IDoubleEnumerable empty = Linq.ofDouble(new double[0]);
+
+        assertEquals(0.0, empty.sum());
+        assertThrows(InvalidOperationException.class, () -> empty.min());
+        assertThrows(InvalidOperationException.class, () -> empty.max());
+        assertThrows(InvalidOperationException.class, () -> empty.average());
+        assertThrows(ArgumentNullException.class, () -> Linq.ofDouble(null));
+    }
+}
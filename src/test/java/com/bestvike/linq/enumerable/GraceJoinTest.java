@@ -0,0 +1,94 @@
+package com.bestvike.linq.enumerable;
+
+import com.bestvike.TestCase;
+import com.bestvike.collections.generic.StringComparer;
+import com.bestvike.linq.IEnumerable;
+import com.bestvike.linq.IEnumerator;
+import com.bestvike.linq.Linq;
+import com.bestvike.linq.exception.ArgumentNullException;
+import com.bestvike.linq.exception.ArgumentOutOfRangeException;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Created by 许崇雷 on 2026-10-17.
+ */
+public class GraceJoinTest extends TestCase {
+    @Test
+    public void SameRowsAsJoin() throws IOException {
+        Path dir = Files.createTempDirectory("linq");
+        IEnumerable<Integer> outer = ScrambleFixture.scrambled(3000, 10007);
+        IEnumerable<String> inner = Linq.range(0, 2000).select(x -> x % 13 == 0 ? "" : String.valueOf(x % 700));
+
+        assertEquals(outer.join(inner, x -> x % 1000, y -> y.isEmpty() ? null : Integer.parseInt(y), (x, y) -> x + "-" + y).orderBy(x -> x),
+                outer.graceJoin(inner, x -> x % 1000, y -> y.isEmpty() ? null : Integer.parseInt(y), (x, y) -> x + "-" + y, SpillFixture.IntSerializer, SpillFixture.StringSerializer, dir, 7).orderBy(x -> x));
+        assertEquals(outer.join(inner, x -> x % 1000, y -> y.isEmpty() ? null : Integer.parseInt(y), (x, y) -> x + "-" + y),
+                outer.graceJoin(inner, x -> x % 1000, y -> y.isEmpty() ? null : Integer.parseInt(y), (x, y) -> x + "-" + y, SpillFixture.IntSerializer, SpillFixture.StringSerializer, dir, 1));
+        assertEquals(0, SpillFixture.fileCount(dir));
+        Files.delete(dir);
+    }
+
+    @Test
+    public void OrderWithinPartition() {
+        IEnumerable<String> q = Linq.of(1, 2, 1, 3).graceJoin(Linq.of("1a", "3a", "1b"), x -> x, y -> Integer.parseInt(y.substring(0, 1)), (x, y) -> x + y, SpillFixture.IntSerializer, SpillFixture.StringSerializer, 4);
+        IEnumerable<String> rows = q.where(x -> x.startsWith("1"));
+
+        assertEquals(Linq.of("11a", "11b", "11a", "11b"), rows);
+        assertEquals(5, q.count());
+    }
+
+    @Test
+    public void CustomComparer() {
+        IEnumerable<String> q = Linq.of("a", "B", "c").graceJoin(Linq.of("A", "b", "b"), x -> x, y -> y, (x, y) -> x + y, SpillFixture.StringSerializer, SpillFixture.StringSerializer, 3, StringComparer.OrdinalIgnoreCase);
+
+        assertEquals(Linq.of("Bb", "Bb", "aA"), q.orderBy(x -> x, StringComparer.Ordinal));
+    }
+
+    @Test
+    public void EmptyAndEarlyClose() throws IOException {
+        Path dir = Files.createTempDirectory("linq");
+
+        assertEmpty(Linq.<Integer>empty().graceJoin(Linq.of(1, 2), x -> x, y -> y, (x, y) -> x + y, SpillFixture.IntSerializer, SpillFixture.IntSerializer, dir, 4));
+        assertEmpty(Linq.of(1, 2).graceJoin(Linq.<Integer>empty(), x -> x, y -> y, (x, y) -> x + y, SpillFixture.IntSerializer, SpillFixture.IntSerializer, dir, 4));
+        try (IEnumerator<Integer> e = Linq.range(0, 100).graceJoin(Linq.range(0, 100), x -> x, y -> y, (x, y) -> x + y, SpillFixture.IntSerializer, SpillFixture.IntSerializer, dir, 4).enumerator()) {
+            assertTrue(e.moveNext());
+        }
+        assertEquals(0, SpillFixture.fileCount(dir));
+        Files.delete(dir);
+    }
+
+    @Test
+    public void DeletesSkippedPartitions() throws IOException {
+        Path dir = Files.createTempDirectory("linq");
+        int key = Linq.range(0, 100).first(x -> GraceJoinIterator.partitionOf(x, 4) == 3);
+
+        try (IEnumerator<Integer> e = Linq.of(key).graceJoin(Linq.range(0, 100), x -> x, y -> y, (x, y) -> x + y, SpillFixture.IntSerializer, SpillFixture.IntSerializer, dir, 4).enumerator()) {
+            assertTrue(e.moveNext());
+            assertEquals(2, SpillFixture.fileCount(dir));
+        }
+        assertEquals(0, SpillFixture.fileCount(dir));
+        Files.delete(dir);
+    }
+
+    @Test
+    public void KeepsSourceFailure() throws IOException {
+        Path dir = Files.createTempDirectory("linq");
+        IEnumerable<Integer> failing = Linq.range(0, 100).select(x -> x == 50 ? 1 / (x - 50) : x);
+
+        assertThrows(ArithmeticException.class, () -> Linq.range(0, 100).graceJoin(failing, x -> x, y -> y, (x, y) -> x + y, SpillFixture.IntSerializer, SpillFixture.IntSerializer, dir, 4).toList());
+        assertThrows(ArithmeticException.class, () -> failing.graceJoin(Linq.range(0, 100), x -> x, y -> y, (x, y) -> x + y, SpillFixture.IntSerializer, SpillFixture.IntSerializer, dir, 4).toList());
+        assertEquals(0, SpillFixture.fileCount(dir));
+        Files.delete(dir);
+    }
+
+    @Test
+    public void ThrowsOnInvalidArguments() {
+        assertThrows(ArgumentNullException.class, () -> GraceJoin.graceJoin(null, Linq.of(1), x -> x, y -> y, (x, y) -> x + y, SpillFixture.IntSerializer, SpillFixture.IntSerializer, 4));
+        assertThrows(ArgumentNullException.class, () -> Linq.of(1).graceJoin(Linq.of(1), x -> x, y -> y, (x, y) -> x + y, null, SpillFixture.IntSerializer, 4));
+        assertThrows(ArgumentNullException.class, () -> Linq.of(1).graceJoin(Linq.of(1), x -> x, y -> y, (x, y) -> x + y, SpillFixture.IntSerializer, null, 4));
+        assertThrows(ArgumentOutOfRangeException.class, () -> Linq.of(1).graceJoin(Linq.of(1), x -> x, y -> y, (x, y) -> x + y, SpillFixture.IntSerializer, SpillFixture.IntSerializer, 0));
+    }
+}
@@ -867,6 +867,45 @@ public class GroupByTest extends TestCase {
         assertEquals("[10: Fred+Bill+Eric+Janet]", s);
     }
 
+    @Test
+    public void GroupingSizeHintsSameResult() {
+        IEnumerable<Integer> source = ScrambleFixture.scrambled(20000, 20011);
+        IEnumerable<IGrouping<Integer, Integer>> expected = source.groupBy(x -> x % 1009);
+
+        for (int keys : new int[]{0, 1, 1009, 100000}) {
+            for (int size : new int[]{0, 1, 20, 1000}) {
+                IEnumerable<IGrouping<Integer, Integer>> actual = source.groupBy(x -> x % 1009, null, keys, size);
+                assertEquals(expected.select(IGrouping::getKey), actual.select(IGrouping::getKey));
+                assertEquals(expected.selectMany(g -> g), actual.selectMany(g -> g));
+                assertEquals(expected.selectMany(g -> g).select(x -> -x), source.groupBy(x -> x % 1009, x -> -x, null, keys, size).selectMany(g -> g));
+            }
+        }
+        assertThrows(ArgumentOutOfRangeException.class, () -> source.groupBy(x -> x, null, -1, 0));
+        assertThrows(ArgumentOutOfRangeException.class, () -> source.groupBy(x -> x, x -> x, null, 0, -1));
+    }
+
+    @Test
+    public void GroupsWithCollidingLowBits() {
+        IEnumerable<Integer> source = Linq.range(0, 4096).select(x -> x << 16);
+        IEnumerable<IGrouping<Integer, Integer>> groups = source.concat(source).groupBy(x -> x);
+
+        assertEquals(4096, groups.count());
+        assertEquals(source, groups.select(IGrouping::getKey));
+        assertTrue(groups.all(g -> g.count() == 2));
+    }
+
+    @Test
+    public void GroupByPrimitiveKeys() {
+        IEnumerable<Integer> source = ScrambleFixture.scrambled(20000, 1009).select(x -> x - 500).concat(Linq.of(Integer.MIN_VALUE, 0, Integer.MAX_VALUE, 0));
+
+        assertEquals(source.groupBy(x -> x).select(g -> g.getKey() + ":" + g.count() + ":" + g.sumInt()), source.groupByInt(x -> x).select(g -> g.getKey() + ":" + g.count() + ":" + g.sumInt()));
+        assertEquals(source.groupBy(x -> x * 7L, x -> -x).select(g -> g.getKey() + ":" + g.count() + ":" + g.first()), source.groupByLong(x -> x * 7L, x -> -x).select(g -> g.getKey() + ":" + g.count() + ":" + g.first()));
+        assertEquals(1009 + 2, source.groupByInt(x -> x).count());
+        assertEquals(Linq.of(2, 1), Linq.of(0, 3, 0).groupByLong(x -> x).select(g -> g.count()));
+        assertThrows(ArgumentNullException.class, () -> Linq.of(1).groupByInt(null));
+        assertThrows(ArgumentNullException.class, () -> Linq.of(1).groupByLong(x -> x, null));
+    }
+
     //struct
     private static final class Record extends ValueType {
         final String Name;
@@ -0,0 +1,116 @@
+package com.bestvike.linq.enumerable;
+
+import com.bestvike.TestCase;
+import com.bestvike.linq.IIntEnumerable;
+import com.bestvike.linq.IIntEnumerator;
+import com.bestvike.linq.Linq;
+import com.bestvike.linq.exception.ArgumentNullException;
+import com.bestvike.linq.exception.ArgumentOutOfRangeException;
+import com.bestvike.linq.exception.InvalidOperationException;
+import org.junit.Test;
+
+import java.util.NoSuchElementException;
+
+/**
+ * Created by 许崇雷 on 2026-10-17.
+ */
+public class IntEnumerableTest extends TestCase {
+    @Test
+    public void SameResultsRepeatCalls() {
+        IIntEnumerable q = Linq.ofInt(new int[]{9999, 0, 888, -1, 66, -777, 1, 2, -12345})
+                .where(x -> x > Integer.MIN_VALUE);
+
+        assertEquals(Linq.of(q.toArray()), Linq.of(q.toArray()));
+        assertEquals(q.sum(), q.sum());
+    }
+
+    @Test
+    public void WhereSelectSum() {
+        int[] source = {1, 2, 3, 4, 5, 6, 7, 8, 9, 10};
+        IIntEnumerable q = Linq.ofInt(source).where(x -> x % 2 == 0).select(x -> x * 10);
+
+        assertEquals(Linq.of(new int[]{20, 40, 60, 80, 100}), Linq.of(q.toArray()));
+        assertEquals(300, q.sum());
+        assertEquals(5, q.count());
+        assertEquals(20, q.min());
+        assertEquals(100, q.max());
+        assertEquals(60.0, q.average());
+    }
+
+    @Test
+    public void ChainedWhereAndSelect() {
+        IIntEnumerable q = Linq.rangeInt(1, 100).where(x -> x > 10).where(x -> x < 20).select(x -> x + 1).select(x -> x * 2);
+
+        assertEquals(Linq.range(11, 9).select(x -> (x + 1) * 2), q.boxed());
+    }
+
+    @Test
+    public void SkipTake() {
+        int[] source = {1, 2, 3, 4, 5, 6, 7, 8, 9, 10};
+
+        assertEquals(Linq.of(new int[]{4, 5, 6}), Linq.of(Linq.ofInt(source).skip(3).take(3).toArray()));
+        assertEquals(Linq.of(new int[]{4, 5, 6}), Linq.of(Linq.rangeInt(1, 10).skip(3).take(3).toArray()));
+        assertEquals(Linq.of(new int[]{4, 6}), Linq.of(Linq.ofInt(source).where(x -> x % 2 == 0).skip(1).take(2).toArray()));
+        assertEquals(3, Linq.ofInt(source).skip(3).take(3).count());
+        assertEquals(10, Linq.ofInt(source).skip(-1).count());
+        assertEquals(0, Linq.ofInt(source).skip(10).count());
+        assertEquals(0, Linq.ofInt(source).take(0).count());
+        assertEquals(10, Linq.ofInt(source).take(100).count());
+        assertEquals(0, Linq.ofInt(source).where(x -> true).skip(100).count());
+    }
+
+    @Test
+    public void Distinct() {
+        int[] source = {0, 9999, 0, 888, -1, 66, -1, -777, 1, 2, -12345, 66, 66, -1, -1};
+
+        assertEquals(Linq.of(source).distinct(), Linq.ofInt(source).distinct().boxed());
+        assertEquals(1000, Linq.rangeInt(0, 1000).select(x -> x * 7).distinct().count());
+    }
+
+    @Test
+    public void SelectInt() {
+        assertEquals(6, Linq.of("a", "bb", "ccc").selectInt(String::length).sum());
+        assertEquals(Linq.of(new int[]{1, 2, 3}), Linq.of(Linq.of("a", "bb", "ccc").selectInt(String::length).toArray()));
+    }
+
+    @Test
+    public void Empty() {
+        IIntEnumerable empty = Linq.ofInt(new int[0]);
+
+        assertEquals(0, empty.sum());
+        assertEquals(0, empty.count());
+        assertEquals(0, empty.toArray().length);
+        assertThrows(InvalidOperationException.class, () -> empty.min());
+        assertThrows(InvalidOperationException.class, () -> empty.max());
+        assertThrows(InvalidOperationException.class, () -> empty.average());
+        assertEquals(0, Linq.rangeInt(5, 0).count());
+    }
+
+    @Test
+    public void Overflow() {
+        assertThrows(ArithmeticException.class, () -> Linq.ofInt(new int[]{Integer.MAX_VALUE, 1}).sum());
+        assertEquals((double) Integer.MAX_VALUE, Linq.ofInt(new int[]{Integer.MAX_VALUE, Integer.MAX_VALUE}).average());
+    }
+
+    @Test
+    public void Enumerator() {
+        IIntEnumerable source = Linq.ofInt(new int[]{1, 2});
+        IIntEnumerator e = source.enumerator();
+        assertTrue(e.hasNext());
+        assertEquals(1, e.nextInt());
+        assertEquals(2, e.nextInt());
+        assertFalse(e.hasNext());
+        assertThrows(NoSuchElementException.class, () -> e.nextInt());
+        assertEquals(3, source.sum());
+    }
+
+    @Test
+    public void ThrowsOnNullOrOutOfRange() {
+        assertThrows(ArgumentNullException.class, () -> Linq.ofInt(null));
+        assertThrows(ArgumentNullException.class, () -> Linq.rangeInt(1, 2).where(null));
+        assertThrows(ArgumentNullException.class, () -> Linq.rangeInt(1, 2).select(null));
+        assertThrows(ArgumentNullException.class, () -> Linq.of(1, 2).selectInt(null));
+        assertThrows(ArgumentOutOfRangeException.class, () -> Linq.rangeInt(1, -1));
+        assertThrows(ArgumentOutOfRangeException.class, () -> Linq.rangeInt(Integer.MAX_VALUE, 2));
+    }
+}
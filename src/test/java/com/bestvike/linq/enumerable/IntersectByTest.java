@@ -2,8 +2,10 @@ package com.bestvike.linq.enumerable;
 
 import com.bestvike.TestCase;
 import com.bestvike.collections.generic.IEqualityComparer;
+import com.bestvike.linq.IEnumerable;
 import com.bestvike.linq.Linq;
 import com.bestvike.linq.entity.Employee;
+import com.bestvike.linq.exception.ArgumentOutOfRangeException;
 import org.junit.Test;
 
 /**
@@ -42,4 +44,16 @@ public class IntersectByTest extends TestCase {
                 .intersectBy(Linq.of(emps2), emp -> emp.deptno, comparer)
                 .count());
     }
+
+    @Test
+    public void testIntersectByWithBloomFilter() {
+        IEnumerable<Integer> first = ScrambleFixture.scrambled(20000, 100003);
+        IEnumerable<Integer> second = Linq.range(0, 3000).select(x -> x * 7);
+
+        assertEquals(first.intersectBy(second, x -> x % 50000), first.intersectBy(second, x -> x % 50000, 0.01));
+        assertEquals(first.intersectBy(second, x -> x % 50000), first.intersectBy(second, x -> x % 50000, 0.5, null));
+        assertThrows(ArgumentOutOfRangeException.class, () -> first.intersectBy(second, x -> x, 0));
+        assertThrows(ArgumentOutOfRangeException.class, () -> first.intersectBy(second, x -> x, 1));
+        assertThrows(ArgumentOutOfRangeException.class, () -> first.intersectBy(second, x -> x, Double.NaN));
+    }
 }
@@ -4,6 +4,7 @@ import com.bestvike.TestCase;
 import com.bestvike.ValueType;
 import com.bestvike.collections.generic.EqualityComparer;
 import com.bestvike.collections.generic.IEqualityComparer;
+import com.bestvike.function.Func1;
 import com.bestvike.function.Func2;
 import com.bestvike.linq.IEnumerable;
 import com.bestvike.linq.IEnumerator;
@@ -13,7 +14,9 @@ import com.bestvike.linq.entity.Employee;
 import com.bestvike.linq.exception.ArgumentNullException;
 import org.junit.Test;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
 
 /**
  * Created by 许崇雷 on 2018-05-10.
@@ -771,6 +774,61 @@ public class JoinTest extends TestCase {
         assertEquals("[Fred works in Sales, Bill works in Sales, Eric works in Sales, Janet works in Sales, Cedric works in Sales, Gates works in Sales, Fred works in HR, Bill works in HR, Eric works in HR, Janet works in HR, Cedric works in HR, Gates works in HR, Fred works in Marketing, Bill works in Marketing, Eric works in Marketing, Janet works in Marketing, Cedric works in Marketing, Gates works in Marketing, Fred works in Manager, Bill works in Manager, Eric works in Manager, Janet works in Manager, Cedric works in Manager, Gates works in Manager]", ss);
     }
 
+    @Test
+    public void SmallOuterCollection() {
+        IEnumerable<Integer> outer = Linq.of(7, null, 3, 7, 4000, 3);
+        IEnumerable<Integer> inner = Linq.range(0, 1000).select(x -> x % 10 == 9 ? null : x % 50).toArray();
+        IEnumerable<String> expected = outer.selectMany(x -> inner.where(y -> x != null && x.equals(y)).select(y -> x + "-" + y));
+        int[] calls = {0};
+
+        assertEquals(expected, outer.join(inner, x -> {
+            calls[0]++;
+            return x;
+        }, y -> y, (x, y) -> x + "-" + y));
+        assertEquals(6, calls[0]);
+        assertEquals(Linq.of("7-7", "null-null", "3-3"), Linq.of(7, null, 3).leftJoin(inner, x -> x, y -> y, (x, y) -> x + "-" + y).distinct());
+        assertEquals(Linq.singleton("4000-null"), Linq.of(4000).leftJoin(inner, x -> x, y -> y, (x, y) -> x + "-" + y));
+    }
+
+    @Test
+    public void SmallOuterCollectionSelectorOrder() {
+        IEnumerable<Integer> inner = Linq.of(1, 2, 3, 4, 5, 6);
+        List<String> calls = new ArrayList<>();
+        Func1<Integer, Integer> outerKeySelector = x -> {
+            calls.add("o" + x);
+            return x;
+        };
+        Func1<Integer, Integer> innerKeySelector = y -> {
+            calls.add("i" + y);
+            return y;
+        };
+        Func2<Integer, Integer, Integer> resultSelector = (x, y) -> {
+            calls.add("r" + x);
+            return x;
+        };
+
+        Linq.of(1, 2).join(inner, outerKeySelector, innerKeySelector, resultSelector).toList();
+        assertEquals(Linq.of("o1", "o2", "i1", "i2", "i3", "i4", "i5", "i6", "r1", "r2"), Linq.of(calls));
+        calls.clear();
+        Linq.of(1, 2).where(x -> true).join(inner, outerKeySelector, innerKeySelector, resultSelector).toList();
+        assertEquals(Linq.of("i1", "i2", "i3", "i4", "i5", "i6", "o1", "r1", "o2", "r2"), Linq.of(calls));
+        calls.clear();
+        Linq.of(1, 2).leftJoin(inner, outerKeySelector, innerKeySelector, resultSelector).toList();
+        assertEquals(Linq.of("o1", "o2", "i1", "i2", "i3", "i4", "i5", "i6", "r1", "r2"), Linq.of(calls));
+    }
+
+    @Test
+    public void JoinPrimitiveKeys() {
+        IEnumerable<Integer> outer = ScrambleFixture.scrambled(-50, 3000, 1000);
+        IEnumerable<String> inner = Linq.range(0, 2000).select(x -> String.valueOf(x % 700 - 10));
+
+        assertEquals(outer.join(inner, x -> x, Integer::parseInt, (x, y) -> x + "-" + y), outer.joinInt(inner, x -> x, Integer::parseInt, (x, y) -> x + "-" + y));
+        assertEquals(outer.join(inner, x -> x * 3L, y -> Long.parseLong(y) * 3L, (x, y) -> x + "-" + y), outer.joinLong(inner, x -> x * 3L, y -> Long.parseLong(y) * 3L, (x, y) -> x + "-" + y));
+        assertEmpty(outer.joinInt(Linq.<String>empty(), x -> x, Integer::parseInt, (x, y) -> x + y));
+        assertThrows(ArgumentNullException.class, () -> outer.joinInt((IEnumerable<String>) null, x -> x, Integer::parseInt, (x, y) -> x + y));
+        assertThrows(ArgumentNullException.class, () -> outer.joinLong(inner, x -> x, y -> 0L, (Func2<Integer, String, String>) null));
+    }
+
     //struct
     private static final class CustomerRec extends ValueType {
         final String name;
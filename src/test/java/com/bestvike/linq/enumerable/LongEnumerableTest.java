@@ -0,0 +1,53 @@
+package com.bestvike.linq.enumerable;
+
+import com.bestvike.TestCase;
+import com.bestvike.linq.ILongEnumerable;
+import com.bestvike.linq.Linq;
+import com.bestvike.linq.exception.ArgumentNullException;
+import com.bestvike.linq.exception.InvalidOperationException;
+import org.junit.Test;
+
+/**
+ * Created by 许崇雷 on 2026-10-17.
+ */
+public class LongEnumerableTest extends TestCase {
+    @Test
+    public void WhereSelectSum() {
+        long[] source = {1, 2, 3, 4, 5, 6, 7, 8, 9, 10};
+        ILongEnumerable q = Linq.ofLong(source).where(x -> x % 2 == 0).select(x -> x * 10);
+
+        assertEquals(Linq.of(new long[]{20, 40, 60, 80, 100}), Linq.of(q.toArray()));
+        assertEquals(300L, q.sum());
+        assertEquals(5, q.count());
+        assertEquals(20L, q.min());
+        assertEquals(100L, q.max());
+        assertEquals(60.0, q.average());
+    }
+
+    @Test
+    public void SkipTakeDistinct() {
+        long[] source = {0, Long.MAX_VALUE, 0, 888, -1, 66, -1, Long.MIN_VALUE, 66};
+
+        assertEquals(Linq.of(source).distinct(), Linq.ofLong(source).distinct().boxed());
+        assertEquals(Linq.of(new long[]{888, -1}), Linq.of(Linq.ofLong(source).skip(3).take(2).toArray()));
+        assertEquals(Linq.of(new long[]{888, -1}), Linq.of(Linq.ofLong(source).where(x -> true).skip(3).take(2).toArray()));
+    }
+
+    @Test
+    public void SelectLong() {
+        assertEquals(6L, Linq.of("a", "bb", "ccc").selectLong(String::length).sum());
+    }
+
+    @Test
+    public void Empty() {
+        ILongEnumerable empty = Linq.ofLong(new long[0]);
+
+        assertEquals(0L, empty.sum());
+        assertEquals(0, empty.toArray().length);
+        assertThrows(InvalidOperationException.class, () -> empty.min());
+        assertThrows(InvalidOperationException.class, () -> empty.max());
+        assertThrows(InvalidOperationException.class, () -> empty.average());
+        assertThrows(ArithmeticException.class, () -> Linq.ofLong(new long[]{Long.MAX_VALUE, 1}).sum());
+        assertThrows(ArgumentNullException.class, () -> Linq.ofLong(null));
+    }
+}
@@ -0,0 +1,84 @@
+package com.bestvike.linq.enumerable;
+
+import com.bestvike.TestCase;
+import com.bestvike.function.Func1;
+import com.bestvike.function.Func2;
+import com.bestvike.linq.IEnumerable;
+import com.bestvike.linq.Linq;
+import com.bestvike.linq.exception.ArgumentNullException;
+import com.bestvike.linq.exception.InvalidOperationException;
+import org.junit.Test;
+
+import java.util.Comparator;
+
+/**
+ * Created by 许崇雷 on 2026-10-17.
+ */
+public class MergeJoinTest extends TestCase {
+    private static final IEnumerable<Integer> Outer = Linq.range(0, 3000).select(x -> x % 7 == 0 ? null : x / 3).orderBy(x -> x == null ? -1 : x).toArray();
+    private static final IEnumerable<String> Inner = Linq.range(0, 2000).select(x -> x % 11 == 0 ? null : String.valueOf(x / 2 + 500)).orderBy(x -> x == null ? -1 : Integer.parseInt(x)).toArray();
+    private static final Func1<String, Integer> InnerKeySelector = x -> x == null ? null : Integer.parseInt(x);
+    private static final Func2<Integer, String, String> ResultSelector = (x, y) -> x + "-" + y;
+
+    @Test
+    public void SameResultsAsHashJoin() {
+        assertEquals(Outer.join(Inner, x -> x, InnerKeySelector, ResultSelector), Outer.mergeJoin(Inner, x -> x, InnerKeySelector, ResultSelector));
+        assertEquals(Outer.leftJoin(Inner, x -> x, InnerKeySelector, ResultSelector), Outer.mergeLeftJoin(Inner, x -> x, InnerKeySelector, ResultSelector));
+        assertEquals(Outer.leftJoin(Inner, x -> x, InnerKeySelector, "none", ResultSelector), Outer.mergeLeftJoin(Inner, x -> x, InnerKeySelector, "none", ResultSelector));
+        assertEquals(Outer.fullJoin(Inner, x -> x, InnerKeySelector, ResultSelector).orderBy(x -> x), Outer.mergeFullJoin(Inner, x -> x, InnerKeySelector, ResultSelector).orderBy(x -> x));
+        assertEquals(Outer.fullJoin(Inner, x -> x, InnerKeySelector, -1, "none", ResultSelector).orderBy(x -> x), Outer.mergeFullJoin(Inner, x -> x, InnerKeySelector, -1, "none", ResultSelector).orderBy(x -> x));
+    }
+
+    @Test
+    public void ManyToMany() {
+        IEnumerable<Integer> outer = Linq.of(1, 1, 2, 3, 3, 3, 5);
+        IEnumerable<Integer> inner = Linq.of(0, 1, 1, 3, 4, 5, 5, 6);
+
+        assertEquals(Linq.of("1-1", "1-1", "1-1", "1-1", "3-3", "3-3", "3-3", "5-5", "5-5"), outer.mergeJoin(inner, x -> x, y -> y, (x, y) -> x + "-" + y));
+        assertEquals(Linq.of("1-1", "1-1", "1-1", "1-1", "2-null", "3-3", "3-3", "3-3", "5-5", "5-5"), outer.mergeLeftJoin(inner, x -> x, y -> y, (x, y) -> x + "-" + y));
+        assertEquals(Linq.of("null-0", "1-1", "1-1", "1-1", "1-1", "2-null", "3-3", "3-3", "3-3", "null-4", "5-5", "5-5", "null-6"), outer.mergeFullJoin(inner, x -> x, y -> y, (x, y) -> x + "-" + y));
+    }
+
+    @Test
+    public void CustomComparer() {
+        Comparator<Integer> descending = Comparator.reverseOrder();
+        IEnumerable<Integer> outer = Linq.of(9, 7, 7, 4, 2);
+        IEnumerable<Integer> inner = Linq.of(8, 7, 4, 4, 1);
+
+        assertEquals(Linq.of("7-7", "7-7", "4-4", "4-4"), outer.mergeJoin(inner, x -> x, y -> y, (x, y) -> x + "-" + y, descending));
+        assertEquals(Linq.of("9-0", "7-7", "7-7", "4-4", "4-4", "2-0"), outer.mergeLeftJoin(inner, x -> x, y -> y, 0, (x, y) -> x + "-" + y, descending));
+        assertEquals(Linq.of("9-0", "0-8", "7-7", "7-7", "4-4", "4-4", "2-0", "0-1"), outer.mergeFullJoin(inner, x -> x, y -> y, 0, 0, (x, y) -> x + "-" + y, descending));
+    }
+
+    @Test
+    public void Empty() {
+        assertEmpty(Linq.<Integer>empty().mergeJoin(Linq.of(1, 2), x -> x, y -> y, (x, y) -> x + y));
+        assertEmpty(Linq.of(1, 2).mergeJoin(Linq.<Integer>empty(), x -> x, y -> y, (x, y) -> x + y));
+        assertEquals(Linq.of(1, 2), Linq.of(1, 2).mergeLeftJoin(Linq.<Integer>empty(), x -> x, y -> y, 0, (x, y) -> x + y));
+        assertEquals(Linq.of(1, 2), Linq.<Integer>empty().mergeFullJoin(Linq.of(1, 2), x -> x, y -> y, 0, 0, (x, y) -> x + y));
+    }
+
+    @Test
+    public void NotSortedThrows() {
+        assertThrows(InvalidOperationException.class, () -> Linq.of(1, 3, 2).mergeJoin(Linq.of(1, 2, 3), x -> x, y -> y, (x, y) -> x + y).toList());
+        assertThrows(InvalidOperationException.class, () -> Linq.of(1, 2, 3).mergeJoin(Linq.of(1, 3, 2), x -> x, y -> y, (x, y) -> x + y).toList());
+        assertThrows(InvalidOperationException.class, () -> Linq.of(1, 2).mergeFullJoin(Linq.of(5, 4), x -> x, y -> y, (x, y) -> x + "-" + y).toList());
+    }
+
+    @Test
+    public void Reenumerate() {
+        IEnumerable<String> q = Linq.of(1, 2, 2).mergeJoin(Linq.of(2, 2), x -> x, y -> y, (x, y) -> x + "-" + y);
+
+        assertEquals(Linq.of("2-2", "2-2", "2-2", "2-2"), q);
+        assertEquals(4, q.count());
+    }
+
+    @Test
+    public void ThrowsOnNull() {
+        assertThrows(ArgumentNullException.class, () -> MergeJoin.mergeJoin(null, Inner, x -> x, InnerKeySelector, ResultSelector));
+        assertThrows(ArgumentNullException.class, () -> Outer.mergeJoin(null, x -> x, InnerKeySelector, ResultSelector));
+        assertThrows(ArgumentNullException.class, () -> Outer.mergeLeftJoin(Inner, null, InnerKeySelector, ResultSelector));
+        assertThrows(ArgumentNullException.class, () -> Outer.mergeFullJoin(Inner, x -> x, null, ResultSelector));
+        assertThrows(ArgumentNullException.class, () -> Outer.mergeJoin(Inner, x -> x, InnerKeySelector, (Func2<Integer, String, String>) null));
+    }
+}
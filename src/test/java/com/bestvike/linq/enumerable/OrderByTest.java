@@ -151,6 +151,16 @@ public class OrderByTest extends TestCase {
         assertEquals(Linq.of(expected), Linq.of(source).orderBy(e -> e.Score));
     }
 
+    @Test
+    public void ManyDuplicateKeysVerifySortStable() {
+        IEnumerable<Integer> source = Linq.range(0, 10000).select(i -> (i * 7919) % 10000);
+        IEnumerable<Integer> expected = Linq.range(0, 7).selectMany(k -> source.where(x -> x % 7 == k));
+
+        assertEquals(expected, source.orderBy(x -> x % 7));
+        assertEquals(expected, source.reverse().orderByDescending(x -> x % 7).reverse());
+        assertEquals(expected.skip(100).take(2000), source.orderBy(x -> x % 7).skip(100).take(2000));
+    }
+
     @Test
     public void OrderedToArray() {
         NameScore[] source = new NameScore[]{
@@ -231,6 +241,72 @@ public class OrderByTest extends TestCase {
         assertThrows(ArgumentNullException.class, () -> Linq.<Date>empty().orderBy(keySelector));
     }
 
+    @Test
+    public void OrderByPrimitiveKeysSameAsOrderBy() {
+        for (int count : new int[]{0, 1, 100, 5000}) {
+            Random r = new Random(count);
+            int[] ints = new int[count];
+            long[] longs = new long[count];
+            double[] doubles = new double[count];
+            double[] specials = {Double.NaN, -0.0, 0.0, Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY, Double.MIN_VALUE, -Double.MAX_VALUE};
+            for (int i = 0; i < count; i++) {
+                ints[i] = i % 3 == 0 ? r.nextInt() : r.nextInt(50) - 25;
+                longs[i] = i % 5 == 0 ? (i % 2 == 0 ? Long.MIN_VALUE : Long.MAX_VALUE) : r.nextLong() >> r.nextInt(64);
+                doubles[i] = i % 4 == 0 ? specials[r.nextInt(specials.length)] : r.nextInt(100) - 50.5;
+            }
+            IEnumerable<Integer> source = Linq.range(0, count);
+
+            assertEquals(source.orderBy(i -> ints[i]), source.orderByInt(i -> ints[i]));
+            assertEquals(source.orderByDescending(i -> ints[i]), source.orderByIntDescending(i -> ints[i]));
+            assertEquals(source.orderBy(i -> longs[i]), source.orderByLong(i -> longs[i]));
+            assertEquals(source.orderByDescending(i -> longs[i]), source.orderByLongDescending(i -> longs[i]));
+            assertEquals(source.orderBy(i -> doubles[i]), source.orderByDouble(i -> doubles[i]));
+            assertEquals(source.orderByDescending(i -> doubles[i]), source.orderByDoubleDescending(i -> doubles[i]));
+            assertEquals(source.orderBy(i -> ints[i]).thenByDescending(i -> doubles[i]), source.orderByInt(i -> ints[i]).thenByDoubleDescending(i -> doubles[i]));
+            assertEquals(source.orderBy(i -> ints[i] & 7).thenBy(i -> longs[i]), source.orderByInt(i -> ints[i] & 7).thenBy(i -> longs[i]));
+            assertEquals(source.orderBy(i -> ints[i]).skip(10).take(20), source.orderByInt(i -> ints[i]).skip(10).take(20));
+            assertEquals(source.orderBy(i -> doubles[i]).firstOrDefault(), source.orderByDouble(i -> doubles[i]).firstOrDefault());
+            assertEquals(source.orderByDescending(i -> longs[i]).lastOrDefault(), source.orderByLongDescending(i -> longs[i]).lastOrDefault());
+            assertEquals(source.orderBy(i -> ints[i]).elementAtOrDefault(count / 2), source.orderByInt(i -> ints[i]).elementAtOrDefault(count / 2));
+        }
+    }
+
+    @Test
+    public void OrderByCollatorComparerSameAsPairwise() {
+        String[] words = {"b", "B", "a", "À", "à", "A", "ab", "Ab", "aB", "résumé", "resume", "Resume", "", "z", "Z", "é", "e", "E"};
+        Random r = new Random(21);
+        String[] strings = new String[20000];
+        for (int i = 0; i < strings.length; i++)
+            strings[i] = i % 101 == 0 ? null : words[r.nextInt(words.length)] + (i % 3 == 0 ? "" : words[r.nextInt(words.length)]);
+        IEnumerable<Integer> source = Linq.range(0, strings.length);
+        Comparator<String> defaultPairwise = (x, y) -> Comparer.<String>Default().compare(x, y);
+        Comparator<String> ignoreCasePairwise = (x, y) -> StringComparer.InvariantCultureIgnoreCase.compare(x, y);
+
+        assertEquals(source.orderBy(i -> strings[i], defaultPairwise), source.orderBy(i -> strings[i]));
+        assertEquals(source.orderByDescending(i -> strings[i], defaultPairwise), source.orderByDescending(i -> strings[i], Comparer.Default()));
+        assertEquals(source.orderBy(i -> strings[i], ignoreCasePairwise), source.orderBy(i -> strings[i], StringComparer.InvariantCultureIgnoreCase));
+        assertEquals(source.orderBy(i -> i & 3).thenBy(i -> strings[i], ignoreCasePairwise), source.orderBy(i -> i & 3).thenBy(i -> strings[i], StringComparer.InvariantCultureIgnoreCase));
+        assertEquals(source.orderBy(i -> strings[i], defaultPairwise).take(50), source.orderBy(i -> strings[i], StringComparer.CurrentCulture).take(50));
+        assertEquals(source.orderBy(i -> strings[i], defaultPairwise), Linq.of(source.asParallel().asOrdered().orderBy(i -> strings[i]).toList()));
+    }
+
+    @Test
+    public void OrderByCollatorComparerMixedKeys() {
+        assertEquals(Linq.of(null, null, "a", "b"), Linq.<Object>of(null, "b", null, "a").orderBy(x -> x));
+        assertEquals(Linq.of(null, null), Linq.<Object>of("b", null, "a", null).orderBy(x -> x).take(2));
+        assertEquals(Linq.of(null, 1, 2, 3), Linq.<Object>of(3, null, 1, 2).orderBy(x -> x, Comparer.Default()));
+        assertThrows(ClassCastException.class, () -> Linq.<Object>of("b", 1, "a").orderBy(x -> x).toList());
+        assertThrows(ClassCastException.class, () -> Linq.<Object>of(1, "b", "a").orderBy(x -> x).toList());
+        assertThrows(ClassCastException.class, () -> Linq.<Object>of("b", 1, "a").orderBy(x -> x).take(1).toList());
+    }
+
+    @Test
+    public void OrderByPrimitiveNullKeySelector() {
+        assertThrows(ArgumentNullException.class, () -> Linq.<Date>empty().orderByInt(null));
+        assertThrows(ArgumentNullException.class, () -> Linq.<Date>empty().orderByLongDescending(null));
+        assertThrows(ArgumentNullException.class, () -> Linq.<Date>empty().orderByDouble(null));
+    }
+
     @Test
     public void FirstOnOrdered() {
         assertEquals(0, Linq.range(0, 10).shuffle().orderBy(i -> i).first());
@@ -237,6 +237,27 @@ public class OrderedSubsettingTest extends TestCase {
         assertEquals(79, ordered.skip(20).take(60).lastOrDefault());
     }
 
+    @Test
+    public void TopOfLargeSourceMatchesFullSort() {
+        IEnumerable<Integer> source = ScrambleFixture.scrambled(50000, 50021);
+        IEnumerable<Integer> sorted = Linq.of(source.orderBy(x -> x % 100).thenByDescending(x -> x % 7).toArray());
+        IEnumerable<Integer> stable = Linq.of(source.orderBy(x -> x % 100).toArray());
+        int[] keySelectorCalls = {0};
+
+        assertEquals(sorted.take(50), source.orderBy(x -> x % 100).thenByDescending(x -> x % 7).take(50));
+        assertEquals(sorted.skip(10).take(40).toList(), source.orderBy(x -> x % 100).thenByDescending(x -> x % 7).skip(10).take(40).toList());
+        assertEquals(stable.take(1000).toArray(), source.orderBy(x -> x % 100).take(1000).toArray());
+        assertEquals(Linq.of(stable.skip(999).take(1).toArray(Integer.class)), Linq.of(source.orderBy(x -> x % 100).skip(999).take(1).toArray(Integer.class)));
+        assertEquals(Linq.of(source.orderByDescending(x -> x % 100).toArray()).take(3), source.orderByDescending(x -> x % 100).take(3));
+        assertEquals(Linq.range(0, 10), Linq.range(0, 10).orderByInt(x -> x).take(100));
+        assertEmpty(Linq.range(0, 10).orderBy(x -> x).skip(10).take(5));
+        assertEquals(10, source.orderBy(x -> {
+            keySelectorCalls[0]++;
+            return x;
+        }).take(10).toList().size());
+        assertEquals(50000, keySelectorCalls[0]);
+    }
+
     @Test
     public void ElementAt() {
         Array<Integer> source = Linq.range(0, 100).shuffle().toArray();
@@ -0,0 +1,250 @@
+package com.bestvike.linq.enumerable;
+
+import com.bestvike.TestCase;
+import com.bestvike.collections.generic.StringComparer;
+import com.bestvike.function.Func1;
+import com.bestvike.function.Func2;
+import com.bestvike.function.Predicate1;
+import com.bestvike.linq.IEnumerable;
+import com.bestvike.linq.IGrouping;
+import com.bestvike.linq.ILookup;
+import com.bestvike.linq.IParallelEnumerable;
+import com.bestvike.linq.Linq;
+import com.bestvike.linq.exception.ArgumentNullException;
+import com.bestvike.linq.exception.ArgumentOutOfRangeException;
+import com.bestvike.linq.exception.InvalidOperationException;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Created by 许崇雷 on 2026-10-17.
+ */
+public class ParallelEnumerableTest extends TestCase {
+    @Test
+    public void SameResultsAsSequential() {
+        IEnumerable<Integer> source = Linq.range(0, 10000);
+        IParallelEnumerable<Integer> q = source.asParallel().asOrdered().where(x -> x % 3 != 0).select(x -> x * 2);
+
+        assertEquals(source.where(x -> x % 3 != 0).select(x -> x * 2), q);
+        assertEquals(source.where(x -> x % 3 != 0).select(x -> x * 2).toArray(), q.toArray());
+        assertEquals(Linq.of(source.where(x -> x % 3 != 0).select(x -> x * 2).toArray(Integer.class)), Linq.of(q.toArray(Integer.class)));
+        assertEquals(source.where(x -> x % 3 != 0).select(x -> x * 2).toList(), q.toList());
+        assertEquals(6666, q.count());
+        assertEquals(3333, q.count(x -> x % 4 == 0));
+        assertEquals(source.where(x -> x % 3 != 0).sumLong(x -> x * 2L), q.sumLong(x -> (long) x));
+    }
+
+    @Test
+    public void Sources() {
+        List<Integer> list = new ArrayList<>();
+        for (int i = 0; i < 1000; i++)
+            list.add(i);
+        Integer[] array = list.toArray(new Integer[0]);
+        IEnumerable<Integer> expected = Linq.range(0, 1000).select(x -> x + 1);
+
+        assertEquals(expected, Linq.of(list).asParallel().asOrdered().select(x -> x + 1));
+        assertEquals(expected, Linq.of(array).asParallel().asOrdered().select(x -> x + 1));
+        assertEquals(expected, Linq.of(array).select(x -> x).asParallel().asOrdered().select(x -> x + 1));
+        assertEquals(expected, Linq.of(list).skip(0).take(1000).asParallel().asOrdered().select(x -> x + 1));
+        assertEquals(expected, Linq.range(1, 1000).asParallel().asOrdered());
+        assertEquals(expected, Linq.range(0, 1000).select(x -> x + 1).asParallel().asOrdered());
+        assertEquals(expected, Linq.range(0, 1000).where(x -> true).asParallel().asOrdered().select(x -> x + 1));
+        assertEquals(Linq.repeat(5, 100), Linq.repeat(5, 100).asParallel().asOrdered());
+    }
+
+    @Test
+    public void Unordered() {
+        IParallelEnumerable<Integer> q = Linq.range(0, 1000).asParallel().where(x -> x % 2 == 0);
+
+        assertFalse(q.isOrdered());
+        assertTrue(q.asOrdered().isOrdered());
+        assertEquals(Linq.range(0, 500).select(x -> x * 2), q.orderBy(x -> x));
+    }
+
+    @Test
+    public void SelectMany() {
+        IEnumerable<Integer> source = Linq.range(0, 100);
+
+        assertEquals(source.selectMany(x -> Linq.repeat(x, x % 5)), source.asParallel().asOrdered().selectMany(x -> Linq.repeat(x, x % 5)));
+        assertEquals(source.selectMany(x -> Linq.range(0, 3), (x, y) -> x * 10 + y), source.asParallel().asOrdered().selectMany(x -> Linq.range(0, 3), (x, y) -> x * 10 + y));
+    }
+
+    @Test
+    public void Aggregate() {
+        IEnumerable<Integer> source = Linq.range(1, 1000);
+
+        assertEquals(500500, source.asParallel().aggregate((x, y) -> x + y));
+        assertEquals("0123456789", Linq.range(0, 10).select(String::valueOf).asParallel().asOrdered().withDegreeOfParallelism(4).aggregate((x, y) -> x + y));
+        assertEquals(500500L, source.asParallel().aggregate(() -> 0L, (acc, x) -> acc + x, Long::sum));
+        assertEquals("500500", source.asParallel().aggregate(() -> 0L, (acc, x) -> acc + x, Long::sum, String::valueOf));
+        assertThrows(InvalidOperationException.class, () -> Linq.<Integer>empty().asParallel().aggregate((x, y) -> x + y));
+    }
+
+    @Test
+    public void SumMinMax() {
+        IEnumerable<Integer> source = Linq.of(9999, 0, 888, -1, 66, -777, 1, 2, -12345).select(x -> x);
+        IParallelEnumerable<Integer> q = source.asParallel().withDegreeOfParallelism(3);
+
+        assertEquals(source.sumInt(), q.sumInt());
+        assertEquals(source.minInt(), q.minInt());
+        assertEquals(source.maxInt(), q.maxInt());
+        assertEquals(source.sumLong(x -> x * 2L), q.sumLong(x -> x * 2L));
+        assertEquals(source.minLong(x -> (long) x), q.minLong(x -> (long) x));
+        assertEquals(source.maxLong(x -> (long) x), q.maxLong(x -> (long) x));
+        assertEquals(source.minDouble(x -> x / 2.0), q.minDouble(x -> x / 2.0));
+        assertEquals(source.maxDouble(x -> x / 2.0), q.maxDouble(x -> x / 2.0));
+        assertEquals(source.sumDouble(x -> x / 2.0), q.sumDouble(x -> x / 2.0));
+        assertThrows(ArithmeticException.class, () -> Linq.of(Integer.MAX_VALUE, 1).asParallel().sumInt());
+    }
+
+    @Test
+    public void MinMaxDoubleNaN() {
+        IEnumerable<Double> source = Linq.of(5.58, Double.NaN, 30.0, 4.55, 19.38, Double.NaN, 1.0, 2.0);
+
+        assertEquals(source.minDouble(), source.asParallel().minDouble());
+        assertEquals(source.maxDouble(), source.asParallel().maxDouble());
+        assertTrue(Double.isNaN(Linq.of(Double.NaN, Double.NaN, Double.NaN).asParallel().maxDouble()));
+        assertEquals(source.sumDouble(), source.asParallel().sumDouble());
+    }
+
+    @Test
+    public void Empty() {
+        IParallelEnumerable<Integer> empty = Linq.range(0, 100).asParallel().where(x -> x < 0);
+
+        assertEquals(0, empty.count());
+        assertEquals(0, empty.sumInt());
+        assertEquals(0, empty.toArray()._getCount());
+        assertThrows(InvalidOperationException.class, () -> empty.minInt());
+        assertThrows(InvalidOperationException.class, () -> empty.maxDouble(x -> x));
+        assertEquals(0, Linq.<Integer>empty().asParallel().count());
+    }
+
+    @Test
+    public void ShortCircuits() {
+        AtomicInteger calls = new AtomicInteger();
+        IParallelEnumerable<Integer> q = Linq.range(0, 1000000).asParallel().withDegreeOfParallelism(4).where(x -> {
+            calls.incrementAndGet();
+            return true;
+        });
+
+        assertTrue(q.any());
+        assertTrue(calls.get() < 100000);
+        calls.set(0);
+        assertEquals(0, (int) q.select(x -> x).first());
+        assertEquals(Linq.range(0, 10), q.asOrdered().take(10));
+        assertEquals(5, (int) q.asOrdered().elementAt(5));
+        assertTrue(q.contains(100));
+        assertTrue(calls.get() < 400000);
+        assertEquals(Linq.range(0, 100000), Linq.range(0, 100000).asParallel().asOrdered().where(x -> true));
+        assertThrows(ArithmeticException.class, () -> Linq.range(0, 10000).asParallel().select(x -> 1 / (x - 5000)).toList().size());
+        assertThrows(ArithmeticException.class, () -> Linq.range(0, 10000).asParallel().select(x -> 1 / (x - 5000)).last());
+    }
+
+    @Test
+    public void GroupBy() {
+        IEnumerable<String> source = Linq.range(0, 1000).select(x -> (x % 7 == 0 ? "K" : "k") + x % 13);
+        IEnumerable<IGrouping<String, String>> expected = source.groupBy(x -> x);
+        IEnumerable<IGrouping<String, String>> actual = source.asParallel().asOrdered().groupBy(x -> x);
+
+        assertEquals(expected.count(), actual.count());
+        assertEquals(expected.select(IGrouping::getKey), actual.select(IGrouping::getKey));
+        assertEquals(expected.selectMany(g -> g), actual.selectMany(g -> g));
+        assertEquals(source.groupBy(x -> x, StringComparer.OrdinalIgnoreCase).select(g -> g.count()),
+                source.asParallel().asOrdered().groupBy(x -> x, StringComparer.OrdinalIgnoreCase).select(g -> g.count()));
+        assertEquals(source.groupBy(x -> x, String::length).selectMany(g -> g),
+                source.asParallel().asOrdered().groupBy(x -> x, String::length).selectMany(g -> g));
+    }
+
+    @Test
+    public void GroupByManyKeys() {
+        IEnumerable<Integer> source = ScrambleFixture.scrambled(50000, 20011);
+        IEnumerable<IGrouping<Integer, Integer>> expected = source.groupBy(x -> x % 7919);
+        IEnumerable<IGrouping<Integer, Integer>> actual = source.asParallel().asOrdered().withDegreeOfParallelism(3).groupBy(x -> x % 7919);
+
+        assertEquals(expected.select(IGrouping::getKey), actual.select(IGrouping::getKey));
+        assertEquals(expected.selectMany(g -> g), actual.selectMany(g -> g));
+        assertEquals(expected.count(), source.asParallel().withDegreeOfParallelism(3).groupBy(x -> x % 7919).count());
+    }
+
+    @Test
+    public void ToLookup() {
+        IEnumerable<String> source = Linq.range(0, 5000).select(x -> (x % 7 == 0 ? "K" : "k") + x % 131);
+        ILookup<String, String> expected = source.toLookup(x -> x, StringComparer.OrdinalIgnoreCase);
+        ILookup<String, String> actual = source.asParallel().asOrdered().toLookup(x -> x, StringComparer.OrdinalIgnoreCase);
+
+        assertEquals(expected.getCount(), actual.getCount());
+        assertEquals(expected.select(IGrouping::getKey), actual.select(IGrouping::getKey));
+        assertEquals(expected.get("K7"), actual.get("k7"));
+        assertFalse(actual.containsKey("x"));
+        assertEquals(source.toLookup(x -> x, String::length).selectMany(g -> g), source.asParallel().asOrdered().toLookup(x -> x, String::length).selectMany(g -> g));
+    }
+
+    @Test
+    public void GroupJoin() {
+        IEnumerable<Integer> outer = Linq.range(0, 3000).select(x -> x % 11 == 0 ? null : x);
+        IEnumerable<String> inner = Linq.range(0, 5000).select(x -> x % 13 == 0 ? null : String.valueOf(x % 1500));
+        Func1<String, Integer> innerKeySelector = x -> x == null ? null : Integer.parseInt(x);
+
+        assertEquals(outer.groupJoin(inner, x -> x, innerKeySelector, (x, g) -> x + ":" + g.count() + ":" + g.firstOrDefault()),
+                outer.asParallel().asOrdered().withDegreeOfParallelism(3).groupJoin(inner, x -> x, innerKeySelector, (x, g) -> x + ":" + g.count() + ":" + g.firstOrDefault()));
+        assertThrows(ArgumentNullException.class, () -> outer.asParallel().groupJoin(null, x -> x, innerKeySelector, (x, g) -> x));
+    }
+
+    @Test
+    public void Join() {
+        IEnumerable<Integer> outer = Linq.range(0, 3000).select(x -> x % 11 == 0 ? null : x);
+        IEnumerable<String> inner = Linq.range(0, 5000).select(x -> x % 13 == 0 ? null : String.valueOf(x % 1500));
+        Func1<String, Integer> innerKeySelector = x -> x == null ? null : Integer.parseInt(x);
+        IParallelEnumerable<Integer> q = outer.asParallel().asOrdered().withDegreeOfParallelism(3);
+
+        assertEquals(outer.join(inner, x -> x, innerKeySelector, (x, y) -> x + "-" + y), q.join(inner, x -> x, innerKeySelector, (x, y) -> x + "-" + y));
+        assertEquals(outer.leftJoin(inner, x -> x, innerKeySelector, "none", (x, y) -> x + "-" + y), q.leftJoin(inner, x -> x, innerKeySelector, "none", (x, y) -> x + "-" + y));
+        assertEquals(outer.join(inner, x -> x, innerKeySelector, (x, y) -> x + "-" + y).orderBy(x -> x), outer.asParallel().join(inner, x -> x, innerKeySelector, (x, y) -> x + "-" + y).orderBy(x -> x));
+        assertEquals(outer.leftJoin(inner, x -> x, innerKeySelector, (x, y) -> x + "-" + y).count(), outer.asParallel().leftJoin(inner, x -> x, innerKeySelector, (x, y) -> x + "-" + y).count());
+        assertThrows(ArgumentNullException.class, () -> outer.asParallel().join(null, x -> x, innerKeySelector, (x, y) -> x));
+        assertThrows(ArgumentNullException.class, () -> outer.asParallel().leftJoin(inner, x -> x, innerKeySelector, (Func2<Integer, String, String>) null));
+    }
+
+    @Test
+    public void OrderBy() {
+        IEnumerable<Integer> source = ScrambleFixture.scrambled(100000, 100003);
+        IParallelEnumerable<Integer> q = source.asParallel().asOrdered().withDegreeOfParallelism(3);
+
+        assertEquals(source.orderBy(x -> x % 1000), q.orderBy(x -> x % 1000));
+        assertEquals(source.orderByDescending(x -> x % 1000).thenBy(x -> x), q.orderByDescending(x -> x % 1000).thenBy(x -> x));
+        assertEquals(source.orderBy(x -> x % 10).thenByDescending(x -> x % 7), source.asParallel().asOrdered().orderByInt(x -> x % 10).thenByIntDescending(x -> x % 7));
+        assertEquals(source.orderBy(x -> x % 1000).skip(5000).take(100), q.orderBy(x -> x % 1000).skip(5000).take(100));
+        assertEquals(source.orderBy(x -> x % 1000).take(20000).toList(), q.orderBy(x -> x % 1000).take(20000).toList());
+        assertEquals(source.orderByDescending(x -> x).first(), q.orderByDescending(x -> x).first());
+        assertEquals(Linq.range(0, 10).orderBy(x -> -x), Linq.range(0, 10).asParallel().orderBy(x -> -x));
+        assertThrows(ArgumentNullException.class, () -> Linq.range(0, 1).asParallel().orderBy((Func1<Integer, Integer>) null));
+    }
+
+    @Test
+    public void OrderByUnorderedIsStable() {
+        IEnumerable<Integer> source = ScrambleFixture.scrambled(20000, 10007);
+        for (int i = 0; i < 20; i++) {
+            IParallelEnumerable<Integer> q = source.asParallel().withDegreeOfParallelism(4);
+
+            assertEquals(source.orderBy(x -> x % 10), q.orderBy(x -> x % 10));
+            assertEquals(source.orderByDescending(x -> x % 10), q.orderByDescending(x -> x % 10));
+            assertEquals(source.orderBy(x -> x % 10).take(50), q.orderBy(x -> x % 10).take(50));
+            assertEquals(source.orderBy(x -> x % 10), q.orderByInt(x -> x % 10));
+            assertEquals(source.orderBy(x -> (long) (x % 10)), q.orderByLong(x -> x % 10));
+            assertEquals(source.orderBy(x -> (double) (x % 10)), q.orderByDouble(x -> x % 10));
+        }
+    }
+
+    @Test
+    public void ThrowsOnNullOrOutOfRange() {
+        assertThrows(ArgumentNullException.class, () -> ParallelEnumerable.asParallel(null));
+        assertThrows(ArgumentNullException.class, () -> Linq.range(0, 1).asParallel().where((Predicate1<Integer>) null));
+        assertThrows(ArgumentNullException.class, () -> Linq.range(0, 1).asParallel().select((Func1<Integer, Integer>) null));
+        assertThrows(ArgumentNullException.class, () -> Linq.range(0, 1).asParallel().groupBy(null));
+        assertThrows(ArgumentOutOfRangeException.class, () -> Linq.range(0, 1).asParallel().withDegreeOfParallelism(0));
+        assertThrows(ArgumentOutOfRangeException.class, () -> Linq.range(0, 1).asParallel().withDegreeOfParallelism(513));
+    }
+}
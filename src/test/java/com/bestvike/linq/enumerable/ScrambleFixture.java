@@ -0,0 +1,25 @@
+package com.bestvike.linq.enumerable;
+
+import com.bestvike.linq.IEnumerable;
+import com.bestvike.linq.Linq;
+
+/**
+ * Created by 许崇雷 on 2026-10-17.
+ */
+final class ScrambleFixture {
+    private ScrambleFixture() {
+    }
+
+    // A multiplicative hash spreads consecutive ints, so the remainder gives unsorted values with repeats when count > modulus.
+    static int scramble(int x, int modulus) {
+        return (int) ((x * 2654435761L) % modulus);
+    }
+
+    static IEnumerable<Integer> scrambled(int count, int modulus) {
+        return scrambled(0, count, modulus);
+    }
+
+    static IEnumerable<Integer> scrambled(int start, int count, int modulus) {
+        return Linq.range(start, count).select(x -> scramble(x, modulus));
+    }
+}
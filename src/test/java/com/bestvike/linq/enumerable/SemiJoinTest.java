@@ -0,0 +1,72 @@
+package com.bestvike.linq.enumerable;
+
+import com.bestvike.TestCase;
+import com.bestvike.collections.generic.StringComparer;
+import com.bestvike.function.Func1;
+import com.bestvike.linq.IEnumerable;
+import com.bestvike.linq.Linq;
+import com.bestvike.linq.exception.ArgumentNullException;
+import com.bestvike.linq.exception.ArgumentOutOfRangeException;
+import org.junit.Test;
+
+/**
+ * Created by 许崇雷 on 2026-10-17.
+ */
+public class SemiJoinTest extends TestCase {
+    private static final IEnumerable<Integer> Outer = Linq.range(0, 20000).select(x -> x % 17 == 0 ? null : ScrambleFixture.scramble(x, 100003));
+    private static final IEnumerable<String> Inner = Linq.range(0, 3000).select(x -> x % 19 == 0 ? null : String.valueOf(x * 11));
+    private static final Func1<String, Integer> InnerKeySelector = x -> x == null ? null : Integer.parseInt(x);
+
+    @Test
+    public void SameRowsAsWhere() {
+        java.util.Set<Integer> keys = Inner.where(x -> x != null).select(InnerKeySelector).toSet();
+
+        assertEquals(Outer.where(x -> x != null && keys.contains(x)), Outer.semiJoin(Inner, x -> x, InnerKeySelector));
+        assertEquals(Outer.where(x -> x != null && keys.contains(x)), Outer.semiJoin(Inner, x -> x, InnerKeySelector, 0.01));
+        assertEquals(Outer.where(x -> x == null || !keys.contains(x)), Outer.antiJoin(Inner, x -> x, InnerKeySelector));
+        assertEquals(Outer.where(x -> x == null || !keys.contains(x)), Outer.antiJoin(Inner, x -> x, InnerKeySelector, 0.3));
+    }
+
+    @Test
+    public void KeepsDuplicatesAndOrder() {
+        IEnumerable<String> outer = Linq.of("b", "A", "c", "a", null, "B");
+        IEnumerable<String> inner = Linq.of("a", "b", "b", null);
+
+        assertEquals(Linq.of("b", "a"), outer.semiJoin(inner, x -> x, y -> y));
+        assertEquals(Linq.of("b", "A", "a", "B"), outer.semiJoin(inner, x -> x, y -> y, 0.01, StringComparer.OrdinalIgnoreCase));
+        assertEquals(Linq.of("c", null), outer.antiJoin(inner, x -> x, y -> y, StringComparer.OrdinalIgnoreCase));
+        assertEquals(outer, outer.antiJoin(Linq.<String>empty(), x -> x, y -> y, 0.01));
+        assertEmpty(outer.semiJoin(Linq.<String>empty(), x -> x, y -> y, 0.01));
+    }
+
+    @Test
+    public void BloomFilterRate() {
+        for (double rate : new double[]{0.1, 0.01, 0.001}) {
+            for (int count : new int[]{1000, 100000}) {
+                BloomFilter<Integer> filter = new BloomFilter<>(null, count, rate);
+                for (int i = 0; i < count; i++)
+                    filter.add(i * 3);
+                for (int i = 0; i < count; i++)
+                    assertTrue(filter.mightContain(i * 3));
+                int probes = 200000;
+                int falsePositives = 0;
+                for (int i = 0; i < probes; i++) {
+                    if (filter.mightContain(i * 3 + 1 + i % 2))
+                        falsePositives++;
+                }
+
+                assertTrue(falsePositives <= probes * rate * 1.25);
+            }
+        }
+    }
+
+    @Test
+    public void ThrowsOnInvalidArguments() {
+        assertThrows(ArgumentNullException.class, () -> SemiJoin.semiJoin((IEnumerable<Integer>) null, Inner, x -> x, InnerKeySelector));
+        assertThrows(ArgumentNullException.class, () -> Outer.semiJoin(null, x -> x, InnerKeySelector));
+        assertThrows(ArgumentNullException.class, () -> Outer.antiJoin(Inner, null, InnerKeySelector));
+        assertThrows(ArgumentNullException.class, () -> Outer.antiJoin(Inner, x -> x, (Func1<String, Integer>) null, 0.01));
+        assertThrows(ArgumentOutOfRangeException.class, () -> Outer.semiJoin(Inner, x -> x, InnerKeySelector, 0));
+        assertThrows(ArgumentOutOfRangeException.class, () -> Outer.antiJoin(Inner, x -> x, InnerKeySelector, 1.5));
+    }
+}
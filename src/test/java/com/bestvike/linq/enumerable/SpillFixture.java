@@ -0,0 +1,48 @@
+package com.bestvike.linq.enumerable;
+
+import com.bestvike.linq.ISerializer;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+/**
+ * Created by 许崇雷 on 2026-10-17.
+ */
+final class SpillFixture {
+    static final ISerializer<Integer> IntSerializer = new ISerializer<Integer>() {
+        @Override
+        public void write(DataOutput output, Integer value) throws IOException {
+            output.writeInt(value);
+        }
+
+        @Override
+        public Integer read(DataInput input) throws IOException {
+            return input.readInt();
+        }
+    };
+
+    static final ISerializer<String> StringSerializer = new ISerializer<String>() {
+        @Override
+        public void write(DataOutput output, String value) throws IOException {
+            output.writeUTF(value);
+        }
+
+        @Override
+        public String read(DataInput input) throws IOException {
+            return input.readUTF();
+        }
+    };
+
+    private SpillFixture() {
+    }
+
+    static long fileCount(Path dir) throws IOException {
+        try (Stream<Path> files = Files.list(dir)) {
+            return files.count();
+        }
+    }
+}
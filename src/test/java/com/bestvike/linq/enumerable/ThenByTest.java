@@ -123,6 +123,17 @@ public class ThenByTest extends TestCase {
         assertEquals(Linq.of(expected), Linq.of(source).runOnce().orderBy(word -> Character.isUpperCase(word.charAt(0))).thenBy(word -> word.length()));
     }
 
+    @Test
+    public void ThenByPrimitiveKeys() {
+        IEnumerable<Integer> source = Linq.range(0, 3000).select(i -> (i * 7919) % 3000);
+
+        assertEquals(source.orderBy(x -> x % 10).thenBy(x -> x / 7), source.orderBy(x -> x % 10).thenByInt(x -> x / 7));
+        assertEquals(source.orderBy(x -> x % 10).thenByDescending(x -> (long) x / 7), source.orderBy(x -> x % 10).thenByLongDescending(x -> (long) x / 7));
+        assertEquals(source.orderBy(x -> x % 10).thenBy(x -> x / 7.0), source.orderByInt(x -> x % 10).thenByDouble(x -> x / 7.0));
+        assertEquals(source.orderBy(x -> x % 10).thenByDescending(x -> x % 7).thenBy(x -> x), source.orderByLong(x -> x % 10).thenByIntDescending(x -> x % 7).thenByInt(x -> x));
+        assertEquals(source.orderBy(x -> x % 10).thenBy(x -> x % 7).first(), source.orderByInt(x -> x % 10).thenByInt(x -> x % 7).first());
+    }
+
     @Test
     public void NullSource() {
         IOrderedEnumerable<Integer> source = null;
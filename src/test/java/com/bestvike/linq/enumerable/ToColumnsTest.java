@@ -0,0 +1,121 @@
+package com.bestvike.linq.enumerable;
+
+import com.bestvike.TestCase;
+import com.bestvike.linq.IColumnRow;
+import com.bestvike.linq.IColumnTable;
+import com.bestvike.linq.IEnumerable;
+import com.bestvike.linq.Linq;
+import com.bestvike.linq.exception.ArgumentException;
+import com.bestvike.linq.exception.ArgumentNullException;
+import com.bestvike.linq.exception.ArgumentOutOfRangeException;
+import com.bestvike.linq.exception.InvalidOperationException;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Created by 许崇雷 on 2026-10-17.
+ */
+public class ToColumnsTest extends TestCase {
+    private static final IEnumerable<Integer> Source = Linq.range(0, 1000);
+
+    private static IColumnTable table(IEnumerable<Integer> source) {
+        return source.toColumns(
+                Column.ofInt("id", x -> x),
+                Column.ofLong("big", x -> x * 10000000000L),
+                Column.ofDouble("half", x -> x / 2.0),
+                Column.ofString("name", x -> x % 10 == 0 ? null : "名" + x));
+    }
+
+    private static String text(int length) {
+        return new String(new char[length]).replace('\0', 'x');
+    }
+
+    @Test
+    public void SameValuesAsSource() {
+        IColumnTable table = table(Source);
+
+        assertEquals(1000, table.getRowCount());
+        assertEquals(4, table.getColumnCount());
+        assertEquals("half", table.getColumnName(2));
+        assertEquals(3, table.getColumnIndex("name"));
+        assertEquals(-1, table.getColumnIndex("none"));
+        assertEquals(Source, table.intColumn("id").boxed());
+        assertEquals(Source.select(x -> x * 10000000000L), table.longColumn("big").boxed());
+        assertEquals(Source.select(x -> x / 2.0), table.doubleColumn("half").boxed());
+        assertEquals(Source.select(x -> x % 10 == 0 ? null : "名" + x), table.stringColumn("name"));
+    }
+
+    @Test
+    public void QueryByColumn() {
+        IColumnTable table = table(Source);
+
+        assertEquals(Source.where(x -> x % 3 == 0).sumInt(x -> x), table.intColumn("id").where(x -> x % 3 == 0).sum());
+        assertEquals(Source.sumLong(x -> x * 10000000000L), table.longColumn("big").sum());
+        assertEquals(Source.sumDouble(x -> x / 2.0), table.doubleColumn("half").sum());
+        assertEquals(Linq.of(30, 31, 32), table.intColumn("id").skip(30).take(3).boxed());
+        assertEquals(Linq.of("名31", "名32"), table.stringColumn("name").skip(30).take(3).where(x -> x != null));
+        assertEquals(100, table.stringColumn("name").count(x -> x == null));
+        assertEquals("名999", table.stringColumn("name").last());
+    }
+
+    @Test
+    public void QueryByRow() {
+        IColumnTable table = table(Source);
+        IEnumerable<IColumnRow> rows = table.where(row -> row.getInt(0) > 990 && row.getString("name") != null);
+
+        assertEquals(9, rows.count());
+        assertEquals(Linq.of(991, 992, 993, 994, 995, 996, 997, 998, 999), rows.select(row -> row.getIndex()));
+        assertEquals(Linq.of("名991", "名999"), rows.select(row -> row.getString(3)).where(x -> x.endsWith("1") || x.endsWith("9")));
+        assertEquals(9990000000000L, table.elementAt(999).getLong("big"));
+        assertEquals(1000, table.count());
+        assertEquals("[id=5, big=50000000000, half=2.5, name=名5]", table.elementAt(5).toString());
+    }
+
+    @Test
+    public void Growth() {
+        IEnumerable<Integer> lazy = Linq.range(0, 5000).where(x -> true);
+        IColumnTable table = lazy.toColumns(Column.ofInt("id", x -> x), Column.ofString("text", x -> text(x % 50)));
+
+        assertEquals(5000, table.getRowCount());
+        assertEquals(lazy, table.intColumn("id").boxed());
+        assertEquals(lazy.select(x -> text(x % 50)), table.stringColumn("text"));
+        assertEquals(lazy.select(x -> text(x % 50)), Linq.range(0, 5000).toColumns(Column.ofString("text", x -> text(x % 50))).stringColumn("text"));
+        assertEquals(0, Linq.<Integer>empty().toColumns(Column.ofInt("id", x -> x)).intColumn("id").count());
+    }
+
+    @Test
+    public void ListOfColumns() {
+        List<Column<Integer>> columns = Arrays.asList(
+                Column.ofInt("id", x -> x),
+                Column.ofLong("big", x -> x * 10000000000L),
+                Column.ofDouble("half", x -> x / 2.0),
+                Column.ofString("name", x -> x % 10 == 0 ? null : "名" + x),
+                Column.ofInt("square", x -> x * x));
+        IColumnTable table = Source.toColumns(columns);
+
+        assertEquals(5, table.getColumnCount());
+        assertEquals(Source, table.intColumn("id").boxed());
+        assertEquals(Source.select(x -> x * x), table.intColumn("square").boxed());
+        assertEquals(table(Source).stringColumn("name"), table.stringColumn("name"));
+        assertEquals(0, Source.toColumns(new ArrayList<>()).getColumnCount());
+    }
+
+    @Test
+    public void ThrowsOnInvalidArguments() {
+        IColumnTable table = table(Source);
+
+        assertThrows(ArgumentNullException.class, () -> ToColumns.toColumns((IEnumerable<Integer>) null, Column.ofInt("id", x -> x)));
+        assertThrows(ArgumentNullException.class, () -> Source.toColumns((List<Column<Integer>>) null));
+        assertThrows(ArgumentNullException.class, () -> Source.toColumns(Arrays.asList(Column.ofInt("id", x -> x), null)));
+        assertThrows(ArgumentNullException.class, () -> Column.<Integer>ofInt(null, x -> x));
+        assertThrows(ArgumentNullException.class, () -> Column.<Integer>ofString("name", null));
+        assertThrows(ArgumentException.class, () -> Source.toColumns(Column.ofInt("id", x -> x), Column.ofLong("id", x -> x)));
+        assertThrows(ArgumentException.class, () -> table.intColumn("none"));
+        assertThrows(ArgumentOutOfRangeException.class, () -> table.getColumnName(4));
+        assertThrows(InvalidOperationException.class, () -> table.longColumn("id"));
+        assertThrows(InvalidOperationException.class, () -> table.first().getString("id"));
+    }
+}
@@ -4,6 +4,7 @@ import com.bestvike.TestCase;
 import com.bestvike.ValueType;
 import com.bestvike.collections.generic.EqualityComparer;
 import com.bestvike.collections.generic.IEqualityComparer;
+import com.bestvike.collections.generic.StringComparer;
 import com.bestvike.function.Func1;
 import com.bestvike.linq.IEnumerable;
 import com.bestvike.linq.IEnumerator;
@@ -12,6 +13,7 @@ import com.bestvike.linq.ILookup;
 import com.bestvike.linq.Linq;
 import com.bestvike.linq.entity.Employee;
 import com.bestvike.linq.exception.ArgumentNullException;
+import com.bestvike.linq.exception.ArgumentOutOfRangeException;
 import com.bestvike.tuple.Tuple;
 import com.bestvike.tuple.Tuple2;
 import org.junit.Test;
@@ -346,6 +348,20 @@ public class ToLookupTest extends TestCase {
         assertEquals(1, n2);
     }
 
+    @Test
+    public void LookupSizeHintsSameResult() {
+        IEnumerable<String> source = Linq.range(0, 5000).select(x -> (x % 3 == 0 ? "K" : "k") + x % 97);
+        ILookup<String, String> expected = source.toLookup(x -> x, StringComparer.OrdinalIgnoreCase);
+        ILookup<String, String> actual = source.toLookup(x -> x, StringComparer.OrdinalIgnoreCase, 97, 52);
+
+        assertEquals(expected.getCount(), actual.getCount());
+        assertEquals(expected.select(IGrouping::getKey), actual.select(IGrouping::getKey));
+        assertEquals(expected.get("K5"), actual.get("k5"));
+        assertEquals(source.toLookup(x -> x, String::length, null).get("k1"), source.toLookup(x -> x, String::length, null, 1, 1).get("k1"));
+        assertThrows(ArgumentOutOfRangeException.class, () -> source.toLookup(x -> x, null, -1, 0));
+        assertThrows(ArgumentOutOfRangeException.class, () -> source.toLookup(x -> x, x -> x, null, 0, -1));
+    }
+
     @Test
     public void testToLookupSelector() {
         ILookup<Integer, String> lookup = Linq.of(emps).toLookup(emp -> emp.deptno, emp -> emp.name);
@@ -10,6 +10,8 @@ import org.junit.Test;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 /**
@@ -256,4 +258,52 @@ public class ToSpliteratorTest extends TestCase {
         Object[] objects = stream.filter(a -> a % 2 == 0d).toArray();
         assertEquals(Linq.of(objects).cast(Double.class), Linq.of(2d, 4d, 6d));
     }
+
+    @Test
+    public void testPartitionSpliterator() {
+        Spliterator<Integer> spliterator = Linq.range(0, 1000).select(a -> a * 2).spliterator();
+        assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.ORDERED));
+        assertEquals(1000L, spliterator.getExactSizeIfKnown());
+        Spliterator<Integer> prefix = spliterator.trySplit();
+        assertEquals(500L, prefix.getExactSizeIfKnown());
+        assertEquals(500L, spliterator.getExactSizeIfKnown());
+        assertTrue(prefix.tryAdvance(a -> assertEquals(0, a)));
+        assertEquals(499L, prefix.estimateSize());
+        assertNull(prefix.trySplit());
+        assertTrue(spliterator.tryAdvance(a -> assertEquals(1000, a)));
+
+        assertEquals(Linq.range(0, 10000).select(a -> a * 2).toList(), Linq.range(0, 10000).select(a -> a * 2).parallelStream().collect(Collectors.toList()));
+        assertEquals(Linq.range(5, 100).toList(), Linq.range(0, 200).skip(5).take(100).parallelStream().collect(Collectors.toList()));
+        assertEquals(Linq.range(0, 100).toList(), Linq.range(0, 100).select(a -> a).toArray().select(a -> a).parallelStream().collect(Collectors.toList()));
+        assertEquals(0L, Linq.range(0, 0).select(a -> a).parallelStream().count());
+    }
+
+    @Test
+    public void testOrderedSpliterator() {
+        IEnumerable<Integer> source = Linq.range(0, 1000).orderByDescending(a -> a);
+        assertEquals(1000L, source.spliterator().getExactSizeIfKnown());
+        assertEquals(source.toList(), source.parallelStream().collect(Collectors.toList()));
+        assertEquals(source.skip(10).take(100).toList(), source.skip(10).take(100).parallelStream().collect(Collectors.toList()));
+    }
+
+    @Test
+    public void testWhereSpliterator() {
+        IEnumerable<Integer> source = Linq.range(0, 1000).toArray().where(a -> a % 3 == 0);
+        Spliterator<Integer> spliterator = source.spliterator();
+        assertFalse(spliterator.hasCharacteristics(Spliterator.SIZED));
+        assertNotNull(spliterator.trySplit());
+        assertEquals(source.toList(), source.parallelStream().collect(Collectors.toList()));
+        assertEquals(source.select(a -> a + 1).toList(), source.select(a -> a + 1).parallelStream().collect(Collectors.toList()));
+        assertEquals(334L, Linq.range(0, 1000).where(a -> a % 3 == 0).parallelStream().count());
+    }
+
+    @Test
+    public void testConcatSpliterator() {
+        IEnumerable<Integer> source = Linq.range(0, 100).concat(Linq.range(100, 100).toArray()).concat(Linq.range(200, 100).select(a -> a));
+        Spliterator<Integer> spliterator = source.spliterator();
+        assertEquals(300L, spliterator.getExactSizeIfKnown());
+        assertNotNull(spliterator.trySplit());
+        assertEquals(Linq.range(0, 300).toList(), source.parallelStream().collect(Collectors.toList()));
+        assertEquals(150L, Linq.range(0, 100).concat(Linq.range(0, 100).where(a -> a % 2 == 0)).parallelStream().count());
+    }
 }
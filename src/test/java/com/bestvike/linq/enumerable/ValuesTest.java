@@ -1254,6 +1254,21 @@ public class ValuesTest extends TestCase {
         assertTrue(Values.equals(this.moreFieldBeanExpected, this.moreFieldBean));
     }
 
+    @Test
+    public void testPrimitiveFields() {
+        PrimitiveFieldBean bean = new PrimitiveFieldBean(true, (byte) -1, (short) -2, 'x', -3, Long.MIN_VALUE + 5, Float.NaN, -0d);
+        BoxedFieldBean boxed = new BoxedFieldBean(true, (byte) -1, (short) -2, 'x', -3, Long.MIN_VALUE + 5, Float.NaN, -0d);
+        assertEquals(Values.hashCode(boxed), Values.hashCode(bean));
+        assertTrue(Values.equals(bean, new PrimitiveFieldBean(true, (byte) -1, (short) -2, 'x', -3, Long.MIN_VALUE + 5, Float.NaN, -0d)));
+        assertFalse(Values.equals(bean, new PrimitiveFieldBean(true, (byte) -1, (short) -2, 'x', -3, Long.MIN_VALUE + 5, Float.NaN, 0d)));
+        assertFalse(Values.equals(bean, new PrimitiveFieldBean(false, (byte) -1, (short) -2, 'x', -3, Long.MIN_VALUE + 5, Float.NaN, -0d)));
+        assertFalse(Values.equals(bean, new PrimitiveFieldBean(true, (byte) -1, (short) -2, 'y', -3, Long.MIN_VALUE + 5, Float.NaN, -0d)));
+        assertFalse(Values.equals(bean, new PrimitiveFieldBean(true, (byte) -1, (short) -2, 'x', -3, Long.MIN_VALUE + 6, Float.NaN, -0d)));
+        assertFalse(Values.equals(bean, boxed));
+        assertEquals(Values.toString(boxed).replace("BoxedFieldBean", "PrimitiveFieldBean"), Values.toString(bean));
+        assertEquals("PrimitiveFieldBean{z=true, b=-1, s=-2, c=x, i=-3, j=-9223372036854775803, f=NaN, d=-0.0}", Values.toString(bean));
+    }
+
     @Test
     public void testHashCode() {
         assertEquals(0, Values.hashCode(null));
@@ -1384,6 +1399,50 @@ public class ValuesTest extends TestCase {
         }
     }
 
+    private static class PrimitiveFieldBean {
+        final boolean z;
+        final byte b;
+        final short s;
+        final char c;
+        final int i;
+        final long j;
+        final float f;
+        final double d;
+
+        private PrimitiveFieldBean(boolean z, byte b, short s, char c, int i, long j, float f, double d) {
+            this.z = z;
+            this.b = b;
+            this.s = s;
+            this.c = c;
+            this.i = i;
+            this.j = j;
+            this.f = f;
+            this.d = d;
+        }
+    }
+
+    private static class BoxedFieldBean {
+        final Boolean z;
+        final Byte b;
+        final Short s;
+        final Character c;
+        final Integer i;
+        final Long j;
+        final Float f;
+        final Double d;
+
+        private BoxedFieldBean(Boolean z, Byte b, Short s, Character c, Integer i, Long j, Float f, Double d) {
+            this.z = z;
+            this.b = b;
+            this.s = s;
+            this.c = c;
+            this.i = i;
+            this.j = j;
+            this.f = f;
+            this.d = d;
+        }
+    }
+
     private static class MoreFieldBean {
         private NoFieldBean nullField;
         private BigDecimal decimal;
@@ -0,0 +1,92 @@
+package com.bestvike.linq.enumerable;
+
+import com.bestvike.TestCase;
+import com.bestvike.function.Func1;
+import com.bestvike.linq.IEnumerable;
+import com.bestvike.linq.IEnumerator;
+import com.bestvike.linq.IOrderedEnumerable;
+import com.bestvike.linq.Linq;
+import com.bestvike.linq.exception.ArgumentNullException;
+import com.bestvike.linq.exception.ArgumentOutOfRangeException;
+import com.bestvike.linq.exception.NotSupportedException;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+
+/**
+ * Created by 许崇雷 on 2026-10-17.
+ */
+public class WithSpillTest extends TestCase {
+    @Test
+    public void SameAsInMemorySort() throws IOException {
+        Path dir = Files.createTempDirectory("linq");
+        IEnumerable<Integer> source = ScrambleFixture.scrambled(10000, 10007);
+
+        assertEquals(source.orderBy(x -> x % 100), source.orderBy(x -> x % 100).withSpill(SpillFixture.IntSerializer, dir, 333));
+        assertEquals(source.orderByDescending(x -> x % 10).thenBy(x -> x % 7), source.orderByDescending(x -> x % 10).thenBy(x -> x % 7).withSpill(SpillFixture.IntSerializer, dir, 1000));
+        assertEquals(source.orderByInt(x -> x), source.orderByInt(x -> x).withSpill(SpillFixture.IntSerializer, dir, 64));
+        assertEquals(source.select(String::valueOf).orderBy(x -> x), source.select(String::valueOf).orderBy(x -> x).withSpill(SpillFixture.StringSerializer, 4096));
+        assertEquals(0, SpillFixture.fileCount(dir));
+        Files.delete(dir);
+    }
+
+    @Test
+    public void FitsInMemory() throws IOException {
+        Path dir = Files.createTempDirectory("linq");
+        IEnumerable<Integer> sorted = Linq.of(5, 3, 9, 1).orderBy(x -> x).withSpill(SpillFixture.IntSerializer, dir, 4);
+
+        try (IEnumerator<Integer> e = sorted.enumerator()) {
+            assertTrue(e.moveNext());
+            assertEquals(1, e.current());
+            assertEquals(0, SpillFixture.fileCount(dir));
+        }
+        assertEquals(Linq.of(1, 3, 5, 9), sorted);
+        assertEmpty(Linq.<Integer>empty().orderBy(x -> x).withSpill(SpillFixture.IntSerializer, dir, 4));
+        Files.delete(dir);
+    }
+
+    @Test
+    public void DeletesRunsOnClose() throws IOException {
+        Path dir = Files.createTempDirectory("linq");
+        IEnumerable<Integer> sorted = Linq.range(0, 100).orderByDescending(x -> x).withSpill(SpillFixture.IntSerializer, dir, 10);
+
+        try (IEnumerator<Integer> e = sorted.enumerator()) {
+            assertTrue(e.moveNext());
+            assertEquals(99, e.current());
+            assertEquals(10, SpillFixture.fileCount(dir));
+        }
+        assertEquals(0, SpillFixture.fileCount(dir));
+        assertEquals(99, sorted.first());
+        assertEquals(0, SpillFixture.fileCount(dir));
+        assertThrows(ArithmeticException.class, () -> Linq.range(0, 100).orderBy(x -> 10 / (x - 50)).withSpill(SpillFixture.IntSerializer, dir, 10).toList());
+        assertEquals(0, SpillFixture.fileCount(dir));
+        Files.delete(dir);
+    }
+
+    @Test
+    public void ThrowsOnNullOrOutOfRange() {
+        assertThrows(ArgumentNullException.class, () -> OrderBy.withSpill(null, SpillFixture.IntSerializer, null, 1));
+        assertThrows(ArgumentNullException.class, () -> Linq.range(0, 1).orderBy(x -> x).withSpill(null, 1));
+        assertThrows(ArgumentOutOfRangeException.class, () -> Linq.range(0, 1).orderBy(x -> x).withSpill(SpillFixture.IntSerializer, 0));
+    }
+
+    @Test
+    public void ThrowsOnOtherOrderedEnumerable() {
+        IOrderedEnumerable<Integer> source = new IOrderedEnumerable<Integer>() {
+            @Override
+            public <TKey> IOrderedEnumerable<Integer> createOrderedEnumerable(Func1<Integer, TKey> keySelector, Comparator<TKey> comparer, boolean descending) {
+                return this;
+            }
+
+            @Override
+            public IEnumerator<Integer> enumerator() {
+                return Linq.range(0, 3).enumerator();
+            }
+        };
+
+        assertThrows(NotSupportedException.class, () -> source.withSpill(SpillFixture.IntSerializer, 1));
+    }
+}
@@ -4,8 +4,10 @@ import com.bestvike.TestCase;
 import com.bestvike.ValueType;
 import com.bestvike.linq.IEnumerable;
 import com.bestvike.linq.Linq;
+import com.bestvike.linq.exception.ArgumentNullException;
 import org.junit.Test;
 
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.Field;
 
 /**
@@ -37,6 +39,21 @@ public class ReflectionUtilsTest extends TestCase {
     }
 
 
+    @Test
+    public void testGetGetters() throws Throwable {
+        Bean bean = new Bean("basePri", "basePro", 123, "Tim", "Andy", 456);
+        Field[] fields = ReflectionUtils.getFields(Bean.class);
+        MethodHandle[] getters = ReflectionUtils.getGetters(Bean.class);
+        assertSame(getters, ReflectionUtils.getGetters(Bean.class));
+        assertEquals(fields.length, getters.length);
+        for (int i = 0; i < fields.length; i++) {
+            Class<?> type = fields[i].getType();
+            assertEquals(type.isPrimitive() ? type : Object.class, getters[i].type().returnType());
+            assertEquals(fields[i].get(bean), getters[i].invoke((Object) bean));
+        }
+        assertThrows(ArgumentNullException.class, () -> ReflectionUtils.getGetters(null));
+    }
+
     private static class Base extends ValueType {
         private static final int STA = Integer.MAX_VALUE;
         public final int score;